@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.benchmark;
+
+/**
+ * Target class of the benchmarks
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class BenchmarkTarget implements Workload {
+    private static String staticName = "static";
+
+    private String name = "target";
+
+    private int count;
+
+    @Override
+    public int work(int value) {
+        return value * 31 + count;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public static String getStaticName() {
+        return staticName;
+    }
+}
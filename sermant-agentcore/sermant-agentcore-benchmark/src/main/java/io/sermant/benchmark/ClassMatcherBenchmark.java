@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.benchmark;
+
+import io.sermant.core.plugin.agent.matcher.ClassMatcher;
+
+import net.bytebuddy.description.type.TypeDescription;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the evaluation of {@link ClassMatcher}, compared with comparing the class name directly
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassMatcherBenchmark {
+    private static final int CANDIDATE_COUNT = 16;
+
+    private TypeDescription typeDescription;
+
+    private String typeName;
+
+    private ClassMatcher nameEquals;
+
+    private ClassMatcher nameContains;
+
+    private ClassMatcher namePrefixedWith;
+
+    private ClassMatcher nameMatches;
+
+    /**
+     * Create the matchers
+     */
+    @Setup
+    public void setUp() {
+        typeDescription = TypeDescription.ForLoadedType.of(BenchmarkTarget.class);
+        typeName = BenchmarkTarget.class.getName();
+        String[] candidates = new String[CANDIDATE_COUNT];
+        for (int i = 0; i < CANDIDATE_COUNT - 1; i++) {
+            candidates[i] = "io.sermant.benchmark.Candidate" + i;
+        }
+        candidates[CANDIDATE_COUNT - 1] = typeName;
+        nameEquals = ClassMatcher.nameEquals(typeName);
+        nameContains = ClassMatcher.nameContains(candidates);
+        namePrefixedWith = ClassMatcher.namePrefixedWith("io.sermant.benchmark.");
+        nameMatches = ClassMatcher.nameMatches("io\\.sermant\\.benchmark\\..*Target");
+    }
+
+    /**
+     * Baseline, compare the class name directly
+     *
+     * @return match result
+     */
+    @Benchmark
+    public boolean baseline() {
+        return typeName.equals(typeDescription.getActualName());
+    }
+
+    /**
+     * Evaluate {@link ClassMatcher#nameEquals}
+     *
+     * @return match result
+     */
+    @Benchmark
+    public boolean nameEquals() {
+        return nameEquals.matches(typeDescription);
+    }
+
+    /**
+     * Evaluate {@link ClassMatcher#nameContains(String...)}
+     *
+     * @return match result
+     */
+    @Benchmark
+    public boolean nameContains() {
+        return nameContains.matches(typeDescription);
+    }
+
+    /**
+     * Evaluate {@link ClassMatcher#namePrefixedWith}
+     *
+     * @return match result
+     */
+    @Benchmark
+    public boolean namePrefixedWith() {
+        return namePrefixedWith.matches(typeDescription);
+    }
+
+    /**
+     * Evaluate {@link ClassMatcher#nameMatches}
+     *
+     * @return match result
+     */
+    @Benchmark
+    public boolean nameMatches() {
+        return nameMatches.matches(typeDescription);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.benchmark;
+
+import io.sermant.core.plugin.Plugin;
+import io.sermant.core.plugin.agent.adviser.AdviserScheduler;
+import io.sermant.core.plugin.agent.cache.EnhancedClassCache;
+import io.sermant.core.plugin.agent.cache.InterceptDeclarerRegistry;
+import io.sermant.core.plugin.agent.config.AgentConfig;
+import io.sermant.core.plugin.agent.declarer.AbstractPluginDeclarer;
+import io.sermant.core.plugin.agent.declarer.InterceptDeclarer;
+import io.sermant.core.plugin.agent.matcher.ClassMatcher;
+import io.sermant.core.plugin.agent.matcher.MethodMatcher;
+import io.sermant.core.plugin.agent.template.DefaultAdviser;
+import io.sermant.core.plugin.agent.transformer.ReentrantTransformer;
+import io.sermant.core.utils.FileUtils;
+
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.agent.builder.ResettableClassFileTransformer;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.matcher.ElementMatchers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.instrument.IllegalClassFormatException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the startup cost of an enhanced class, that is transforming the class being loaded. The cold start
+ * matches and weaves the class by byte-buddy, the cached start serves the class from a warm
+ * {@link EnhancedClassCache}, which only creates and registers the interceptors
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnhancedClassCacheBenchmark {
+    private static final String CORE_VERSION = "benchmark";
+
+    static {
+        AdviserScheduler.registry(new DefaultAdviser());
+    }
+
+    private final String internalName = BenchmarkTarget.class.getName().replace('.', '/');
+
+    private final ClassLoader classLoader = BenchmarkTarget.class.getClassLoader();
+
+    private File cacheDir;
+
+    private byte[] classfileBuffer;
+
+    private ResettableClassFileTransformer coldTransformer;
+
+    private ResettableClassFileTransformer cachedTransformer;
+
+    /**
+     * Create the transformers, and warm the cache as if the class has been enhanced at last startup
+     *
+     * @throws IOException failed to read the target class or create the cache directory
+     * @throws IllegalClassFormatException failed to transform the target class
+     */
+    @Setup
+    public void setUp() throws IOException, IllegalClassFormatException {
+        Plugin plugin = new Plugin("benchmark-plugin", "", false, null);
+        BenchmarkDeclarer declarer = new BenchmarkDeclarer();
+        InterceptDeclarerRegistry.register(plugin, declarer, declarer::getInterceptDeclarers);
+        InterceptDeclarer[] interceptDeclarers = declarer.getInterceptDeclarers(classLoader);
+        coldTransformer = new AgentBuilder.Default().disableClassFormatChanges()
+                .type(ElementMatchers.named(BenchmarkTarget.class.getName()))
+                .transform(new ReentrantTransformer(interceptDeclarers,
+                        InterceptDeclarerRegistry.getInterceptSources(declarer, interceptDeclarers), plugin))
+                .makeRaw();
+        classfileBuffer = ClassFileLocator.ForClassLoader.read(BenchmarkTarget.class);
+        cacheDir = Files.createTempDirectory("sermant-enhanced-class-cache").toFile();
+        AgentConfig config = new AgentConfig();
+        config.setCacheEnhancedClasses(true);
+        config.setEnhancedClassesCachePath(cacheDir.getPath());
+
+        // Last startup, the class is woven and stored
+        EnhancedClassCache lastCache = createCache(config);
+        byte[] enhancedBytes = lastCache.decorate(coldTransformer)
+                .transform(classLoader, internalName, null, null, classfileBuffer);
+        lastCache.close();
+        if (enhancedBytes == null) {
+            throw new IllegalStateException("The benchmark target is not enhanced. ");
+        }
+        cachedTransformer = createCache(config).decorate(coldTransformer);
+    }
+
+    /**
+     * Delete the cache
+     */
+    @TearDown
+    public void tearDown() {
+        FileUtils.deleteDirs(cacheDir);
+    }
+
+    /**
+     * Transform the class by byte-buddy, as the cache is disabled or missed
+     *
+     * @return enhanced bytecode
+     * @throws IllegalClassFormatException failed to transform the target class
+     */
+    @Benchmark
+    public byte[] coldStart() throws IllegalClassFormatException {
+        return coldTransformer.transform(classLoader, internalName, null, null, classfileBuffer);
+    }
+
+    /**
+     * Serve the class from the cache
+     *
+     * @return enhanced bytecode
+     * @throws IllegalClassFormatException failed to transform the target class
+     */
+    @Benchmark
+    public byte[] cachedStart() throws IllegalClassFormatException {
+        return cachedTransformer.transform(classLoader, internalName, null, null, classfileBuffer);
+    }
+
+    private static EnhancedClassCache createCache(AgentConfig config) {
+        EnhancedClassCache cache = EnhancedClassCache.create(config, CORE_VERSION, Collections.emptyList());
+        if (cache == null) {
+            throw new IllegalStateException("Create enhanced class cache failed. ");
+        }
+        return cache;
+    }
+
+    /**
+     * Plugin declarer enhancing the work method of the benchmark target
+     *
+     * @since 2026-10-18
+     */
+    public static class BenchmarkDeclarer extends AbstractPluginDeclarer {
+        @Override
+        public ClassMatcher getClassMatcher() {
+            return ClassMatcher.nameEquals(BenchmarkTarget.class.getName());
+        }
+
+        @Override
+        public InterceptDeclarer[] getInterceptDeclarers(ClassLoader classLoader) {
+            return new InterceptDeclarer[]{
+                    InterceptDeclarer.build(MethodMatcher.nameEquals("work"),
+                            new EnhancedMethodBenchmark.EmptyInterceptor())
+            };
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.benchmark;
+
+import io.sermant.core.plugin.agent.adviser.AdviceSwitch;
+import io.sermant.core.plugin.agent.adviser.AdviserScheduler;
+import io.sermant.core.plugin.agent.entity.ExecuteContext;
+import io.sermant.core.plugin.agent.interceptor.AbstractInterceptor;
+import io.sermant.core.plugin.agent.interceptor.Interceptor;
+import io.sermant.core.plugin.agent.template.AdviceActive;
+import io.sermant.core.plugin.agent.template.AdviceSlot;
+import io.sermant.core.plugin.agent.template.BaseAdviseHandler;
+import io.sermant.core.plugin.agent.template.DefaultAdviser;
+import io.sermant.core.plugin.agent.template.TemplateForMember;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.utility.JavaConstant;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of a member method enhanced by {@link TemplateForMember}, woven the same way as the ReentrantTransformer
+ * does. With no interceptor the advice switch of the slot is off, which measures the cost of the disabled advice
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnhancedMethodBenchmark {
+    private static final MethodDescription.InDefinedShape SWITCH_BOOTSTRAP = TypeDescription.ForLoadedType
+            .of(AdviceSwitch.class).getDeclaredMethods().filter(ElementMatchers.named("bootstrap")).getOnly();
+
+    static {
+        AdviserScheduler.registry(new DefaultAdviser());
+    }
+
+    /**
+     * Number of the interceptors of the enhanced method
+     */
+    @Param({"0", "1", "5"})
+    public int interceptorCount;
+
+    private Workload plainTarget;
+
+    private Workload enhancedTarget;
+
+    private int value;
+
+    /**
+     * Weave the target class and add the interceptors
+     *
+     * @throws ReflectiveOperationException failed to create the enhanced target
+     */
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        int adviceSlot = AdviserScheduler.getAdviceSlot("EnhancedMethodBenchmark_" + interceptorCount);
+        List<Interceptor> interceptors = new ArrayList<>();
+        for (int i = 0; i < interceptorCount; i++) {
+            interceptors.add(new EmptyInterceptor());
+        }
+        if (!interceptors.isEmpty()) {
+            BaseAdviseHandler.addInterceptors(adviceSlot, interceptors);
+        }
+        plainTarget = new BenchmarkTarget();
+        enhancedTarget = (Workload) enhance(adviceSlot).getDeclaredConstructor().newInstance();
+    }
+
+    /**
+     * Baseline, the un-enhanced method
+     *
+     * @return result
+     */
+    @Benchmark
+    public int baseline() {
+        return plainTarget.work(value++);
+    }
+
+    /**
+     * The enhanced method
+     *
+     * @return result
+     */
+    @Benchmark
+    public int enhanced() {
+        return enhancedTarget.work(value++);
+    }
+
+    private static Class<?> enhance(int adviceSlot) {
+        StackManipulation adviceSwitch = MethodInvocation.invoke(SWITCH_BOOTSTRAP).dynamic("isActive",
+                TypeDescription.ForLoadedType.of(boolean.class), Collections.emptyList(),
+                Collections.singletonList(JavaConstant.Simple.ofLoaded(adviceSlot)));
+        return new ByteBuddy().redefine(BenchmarkTarget.class)
+                .name(BenchmarkTarget.class.getName() + "$Enhanced" + adviceSlot)
+                .visit(Advice.withCustomMapping()
+                        .bind(AdviceSlot.class, adviceSlot)
+                        .bind(AdviceActive.class, adviceSwitch, boolean.class)
+                        .to(TemplateForMember.class)
+                        .on(ElementMatchers.named("work")))
+                .make()
+                .load(BenchmarkTarget.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+    }
+
+    /**
+     * Interceptor doing nothing
+     *
+     * @since 2026-10-18
+     */
+    public static class EmptyInterceptor extends AbstractInterceptor {
+        @Override
+        public ExecuteContext before(ExecuteContext context) {
+            return context;
+        }
+
+        @Override
+        public ExecuteContext after(ExecuteContext context) {
+            return context;
+        }
+    }
+}
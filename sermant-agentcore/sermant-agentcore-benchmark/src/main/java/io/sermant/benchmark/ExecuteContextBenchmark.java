@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.benchmark;
+
+import io.sermant.core.plugin.agent.entity.ExecuteContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the field access of {@link ExecuteContext}, compared with the direct and the reflective access
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecuteContextBenchmark {
+    private static final String NAME_FIELD = "name";
+
+    private static final String COUNT_FIELD = "count";
+
+    private BenchmarkTarget target;
+
+    private ExecuteContext context;
+
+    private Field nameField;
+
+    private int value;
+
+    /**
+     * Create the context of the target
+     *
+     * @throws ReflectiveOperationException failed to find the member of the target
+     */
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        target = new BenchmarkTarget();
+        context = ExecuteContext.forMemberMethod(target, BenchmarkTarget.class.getMethod("work", int.class),
+                new Object[]{0}, null, null);
+        nameField = BenchmarkTarget.class.getDeclaredField(NAME_FIELD);
+        nameField.setAccessible(true);
+        context.setLocalFieldValue(NAME_FIELD, NAME_FIELD);
+    }
+
+    /**
+     * Baseline, read the field directly
+     *
+     * @return field value
+     */
+    @Benchmark
+    public Object baselineGetField() {
+        return target.getName();
+    }
+
+    /**
+     * Read the field through a cached {@link Field}
+     *
+     * @return field value
+     * @throws IllegalAccessException unable to access the field
+     */
+    @Benchmark
+    public Object reflectionGetField() throws IllegalAccessException {
+        return nameField.get(target);
+    }
+
+    /**
+     * Read the field through the context
+     *
+     * @return field value
+     */
+    @Benchmark
+    public Object getMemberField() {
+        return context.getMemberFieldValue(NAME_FIELD);
+    }
+
+    /**
+     * Baseline, write the field directly
+     */
+    @Benchmark
+    public void baselineSetField() {
+        target.setCount(value++);
+    }
+
+    /**
+     * Write the field through the context
+     */
+    @Benchmark
+    public void setMemberField() {
+        context.setMemberFieldValue(COUNT_FIELD, value++);
+    }
+
+    /**
+     * Read the static field through the context
+     *
+     * @return field value
+     */
+    @Benchmark
+    public Object getStaticField() {
+        return context.getStaticFieldValue("staticName");
+    }
+
+    /**
+     * Read the local field of the context
+     *
+     * @return field value
+     */
+    @Benchmark
+    public Object getLocalField() {
+        return context.getLocalFieldValue(NAME_FIELD);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.benchmark;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.sermant.core.common.BootArgsIndexer;
+import io.sermant.core.service.metric.api.Counter;
+import io.sermant.core.service.metric.api.Tags;
+import io.sermant.core.service.metric.config.MetricConfig;
+import io.sermant.core.utils.ReflectUtils;
+import io.sermant.implement.service.metric.MeterMetric;
+import io.sermant.implement.service.metric.MeterRegistryProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of looking up a counter by {@link MeterMetric#counter}, compared with incrementing a held counter
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MeterMetricBenchmark {
+    private static final String METRIC_NAME = "sermant.benchmark.counter";
+
+    private static final String DESCRIPTION = "counter of the benchmark";
+
+    private MeterMetric metric;
+
+    private Tags tags;
+
+    private Counter counter;
+
+    /**
+     * Create the metric on a simple registry
+     */
+    @Setup
+    public void setUp() {
+        // The common tags of the metric require the app name, which is set by the startup arguments of the agent
+        ReflectUtils.setStaticFieldValue(BootArgsIndexer.class, "appName", "benchmark");
+        metric = new MeterMetric(new SimpleMeterRegistryProvider(), new MetricConfig());
+        tags = Tags.of("service", "benchmark").add("method", "work");
+        counter = metric.counter(METRIC_NAME, tags, DESCRIPTION);
+    }
+
+    /**
+     * Baseline, increment the held counter
+     */
+    @Benchmark
+    public void baseline() {
+        counter.increment();
+    }
+
+    /**
+     * Look up the counter and increment it, as the callers not holding the counter do
+     */
+    @Benchmark
+    public void counterLookup() {
+        metric.counter(METRIC_NAME, tags, DESCRIPTION).increment();
+    }
+
+    /**
+     * Provider of a simple registry
+     *
+     * @since 2026-10-18
+     */
+    private static class SimpleMeterRegistryProvider implements MeterRegistryProvider {
+        private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        @Override
+        public String getType() {
+            return "simple";
+        }
+
+        @Override
+        public MeterRegistry getRegistry() {
+            return registry;
+        }
+
+        @Override
+        public String getScrape() {
+            return registry.getMetersAsString();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.benchmark;
+
+import io.sermant.core.utils.MethodAccessor;
+import io.sermant.core.utils.ReflectUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the reflective invocation of {@link ReflectUtils}, compared with the direct invocation, the cached
+ * {@link Method} and the cached {@link MethodAccessor}
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReflectUtilsBenchmark {
+    private static final String METHOD_NAME = "getName";
+
+    private static final Class<?>[] NO_PARAMETER_TYPES = new Class<?>[0];
+
+    private static final Object[] NO_PARAMETERS = new Object[0];
+
+    private BenchmarkTarget target;
+
+    private Method method;
+
+    private MethodAccessor<String> accessor;
+
+    /**
+     * Resolve the invoked method
+     *
+     * @throws NoSuchMethodException failed to find the method
+     */
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        target = new BenchmarkTarget();
+        method = BenchmarkTarget.class.getMethod(METHOD_NAME);
+        accessor = ReflectUtils.accessor(BenchmarkTarget.class, METHOD_NAME, String.class)
+                .orElseThrow(() -> new NoSuchMethodException(METHOD_NAME));
+    }
+
+    /**
+     * Baseline, invoke the method directly
+     *
+     * @return result
+     */
+    @Benchmark
+    public Object baseline() {
+        return target.getName();
+    }
+
+    /**
+     * Invoke the method through a cached {@link Method}
+     *
+     * @return result
+     * @throws InvocationTargetException the method throws an exception
+     * @throws IllegalAccessException unable to access the method
+     */
+    @Benchmark
+    public Object methodInvoke() throws InvocationTargetException, IllegalAccessException {
+        return method.invoke(target);
+    }
+
+    /**
+     * Find and invoke the method by {@link ReflectUtils#invokeMethod(Object, String, Class[], Object[])}
+     *
+     * @return result
+     */
+    @Benchmark
+    public Optional<Object> invokeMethod() {
+        return ReflectUtils.invokeMethod(target, METHOD_NAME, NO_PARAMETER_TYPES, NO_PARAMETERS);
+    }
+
+    /**
+     * Look up the accessor by {@link ReflectUtils#accessor} and invoke it
+     *
+     * @return result
+     */
+    @Benchmark
+    public Object accessorLookup() {
+        return ReflectUtils.accessor(BenchmarkTarget.class, METHOD_NAME, String.class)
+                .map(methodAccessor -> methodAccessor.invoke(target)).orElse(null);
+    }
+
+    /**
+     * Invoke a cached accessor
+     *
+     * @return result
+     */
+    @Benchmark
+    public Object cachedAccessor() {
+        return accessor.invoke(target);
+    }
+}
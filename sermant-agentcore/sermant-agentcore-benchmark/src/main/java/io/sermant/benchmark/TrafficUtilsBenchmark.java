@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.benchmark;
+
+import io.sermant.core.utils.tag.TrafficTag;
+import io.sermant.core.utils.tag.TrafficUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of setting and getting the traffic tag by {@link TrafficUtils}, compared with a plain {@link ThreadLocal}
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrafficUtilsBenchmark {
+    private final ThreadLocal<TrafficTag> threadLocal = new ThreadLocal<>();
+
+    private TrafficTag trafficTag;
+
+    private Map<String, List<String>> tagMap;
+
+    /**
+     * Create the traffic tag
+     */
+    @Setup
+    public void setUp() {
+        tagMap = new HashMap<>();
+        tagMap.put("x-sermant-version", Collections.singletonList("1.0.0"));
+        tagMap.put("x-sermant-group", Collections.singletonList("gray"));
+        trafficTag = new TrafficTag(new HashMap<>(tagMap));
+    }
+
+    /**
+     * Baseline, set and get a plain thread local
+     *
+     * @return traffic tag
+     */
+    @Benchmark
+    public TrafficTag baseline() {
+        threadLocal.set(trafficTag);
+        TrafficTag result = threadLocal.get();
+        threadLocal.remove();
+        return result;
+    }
+
+    /**
+     * Set and get the traffic tag
+     *
+     * @return traffic tag
+     */
+    @Benchmark
+    public TrafficTag setAndGet() {
+        TrafficUtils.setTrafficTag(trafficTag);
+        TrafficTag result = TrafficUtils.getTrafficTag();
+        TrafficUtils.removeTrafficTag();
+        return result;
+    }
+
+    /**
+     * Update the traffic tag by a tag map, which copies the tags
+     *
+     * @return traffic tag
+     */
+    @Benchmark
+    public TrafficTag updateAndGet() {
+        TrafficUtils.updateTrafficTag(tagMap);
+        TrafficTag result = TrafficUtils.getTrafficTag();
+        TrafficUtils.removeTrafficTag();
+        return result;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.benchmark;
+
+/**
+ * Workload of the benchmarks, implemented by both the un-enhanced and the enhanced target
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public interface Workload {
+    /**
+     * A cheap method, so that the cost of the enhancement dominates
+     *
+     * @param value input
+     * @return output
+     */
+    int work(int value);
+}
@@ -122,6 +122,11 @@ public class CommonConstant {
      */
     public static final String ENHANCED_CLASS_OUTPUT_PARENT_DIR = "enhancedClasses";
 
+    /**
+     * Default enhanced bytecode cache directory
+     */
+    public static final String ENHANCED_CLASS_CACHE_DIR = "enhancedClassesCache";
+
     /**
      * The key of artifact in agent arguments
      */
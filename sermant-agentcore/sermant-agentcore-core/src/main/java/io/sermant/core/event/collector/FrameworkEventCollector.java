@@ -20,6 +20,9 @@ import io.sermant.core.event.Event;
 import io.sermant.core.event.EventCollector;
 import io.sermant.core.event.EventInfo;
 
+import java.util.Map;
+import java.util.StringJoiner;
+
 /**
  * Framework event collector
  *
@@ -120,6 +123,27 @@ public class FrameworkEventCollector extends EventCollector {
                 new EventInfo(FrameworkEventDefinitions.SERMANT_PLUGIN_LOAD.getName(), eventDescription)));
     }
 
+    /**
+     * Collect the timing event of the phases of loading the plugin
+     *
+     * @param plugin plugin name
+     * @param phaseCosts cost of each phase in milliseconds, in the order of execution
+     */
+    public void collectPluginLoadTimingEvent(String plugin, Map<String, Long> phaseCosts) {
+        if (!eventConfig.isEnable()) {
+            return;
+        }
+        StringJoiner phases = new StringJoiner(", ");
+        for (Map.Entry<String, Long> entry : phaseCosts.entrySet()) {
+            phases.add(entry.getKey() + ": " + entry.getValue() + "ms");
+        }
+        String eventDescription = "Load plugin: [" + plugin + "] cost: [" + phases + "].";
+        offerEvent(new Event(FrameworkEventDefinitions.SERMANT_PLUGIN_LOAD_TIMING.getScope(),
+                FrameworkEventDefinitions.SERMANT_PLUGIN_LOAD_TIMING.getEventLevel(),
+                FrameworkEventDefinitions.SERMANT_PLUGIN_LOAD_TIMING.getEventType(),
+                new EventInfo(FrameworkEventDefinitions.SERMANT_PLUGIN_LOAD_TIMING.getName(), eventDescription)));
+    }
+
     /**
      * Collect bytecode enhancement success event
      *
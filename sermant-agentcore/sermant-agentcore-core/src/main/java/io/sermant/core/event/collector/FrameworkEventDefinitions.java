@@ -56,6 +56,11 @@ public enum FrameworkEventDefinitions {
      */
     SERMANT_PLUGIN_LOAD("SERMANT_PLUGIN_LOAD", EventType.OPERATION, EventLevel.NORMAL),
 
+    /**
+     * Sermant plugin load timing event definition
+     */
+    SERMANT_PLUGIN_LOAD_TIMING("SERMANT_PLUGIN_LOAD_TIMING", EventType.OPERATION, EventLevel.NORMAL),
+
     /**
      * Sermant stop event definition
      */
@@ -16,6 +16,7 @@
 
 package io.sermant.core.plugin;
 
+import io.sermant.core.plugin.agent.RetransformStrategy;
 import io.sermant.core.plugin.classloader.PluginClassLoader;
 import io.sermant.core.plugin.classloader.ServiceClassLoader;
 
@@ -90,6 +91,11 @@ public class Plugin {
      */
     private ResettableClassFileTransformer classFileTransformer;
 
+    /**
+     * Retransformation of the classes enhanced by the class file transformer
+     */
+    private RetransformStrategy retransformStrategy;
+
     /**
      * constructor
      *
@@ -192,4 +198,12 @@ public class Plugin {
     public void setClassFileTransformer(ResettableClassFileTransformer classFileTransformer) {
         this.classFileTransformer = classFileTransformer;
     }
+
+    public RetransformStrategy getRetransformStrategy() {
+        return retransformStrategy;
+    }
+
+    public void setRetransformStrategy(RetransformStrategy retransformStrategy) {
+        this.retransformStrategy = retransformStrategy;
+    }
 }
@@ -19,12 +19,13 @@ package io.sermant.core.plugin;
 import io.sermant.core.classloader.ClassLoaderManager;
 import io.sermant.core.common.BootArgsIndexer;
 import io.sermant.core.common.LoggerFactory;
+import io.sermant.core.config.ConfigManager;
 import io.sermant.core.event.collector.FrameworkEventCollector;
 import io.sermant.core.exception.SchemaException;
 import io.sermant.core.plugin.agent.ByteEnhanceManager;
 import io.sermant.core.plugin.agent.adviser.AdviserScheduler;
+import io.sermant.core.plugin.agent.config.AgentConfig;
 import io.sermant.core.plugin.agent.info.EnhancementManager;
-import io.sermant.core.plugin.agent.interceptor.Interceptor;
 import io.sermant.core.plugin.agent.template.BaseAdviseHandler;
 import io.sermant.core.plugin.classloader.PluginClassLoader;
 import io.sermant.core.plugin.classloader.ServiceClassLoader;
@@ -33,6 +34,7 @@ import io.sermant.core.plugin.common.PluginSchemaValidator;
 import io.sermant.core.plugin.config.PluginConfigManager;
 import io.sermant.core.plugin.service.PluginServiceManager;
 import io.sermant.core.utils.CollectionUtils;
+import io.sermant.core.utils.ThreadFactoryUtils;
 
 import java.io.File;
 import java.io.FileFilter;
@@ -44,11 +46,17 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.jar.JarFile;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -122,11 +130,7 @@ public class PluginManager {
             ClassLoaderManager.getPluginClassFinder().removePluginClassLoader(plugin);
 
             // Clean up the Interceptors created by the plugin
-            Map<String, List<Interceptor>> interceptorListMap = BaseAdviseHandler.getInterceptorListMap();
-            for (List<Interceptor> interceptors : interceptorListMap.values()) {
-                interceptors.removeIf(
-                        interceptor -> plugin.getPluginClassLoader().equals(interceptor.getClass().getClassLoader()));
-            }
+            BaseAdviseHandler.removeInterceptors(plugin.getPluginClassLoader());
 
             // Delete the plugin configuration in the cache
             PluginConfigManager.cleanPluginConfigs(plugin);
@@ -170,27 +174,102 @@ public class PluginManager {
             LOGGER.log(Level.SEVERE, "An exception occurred while parsing the plugin package.", ioException);
             return;
         }
+        List<String> uninstalledPlugins = new ArrayList<>();
         for (String pluginName : pluginNames) {
             if (PLUGIN_MAP.containsKey(pluginName)) {
                 LOGGER.log(Level.WARNING, "[INSTALL-PLUGINS] [{0}] Plugin: {0} has bean installed. "
                         + "It cannot be installed repeatedly.", pluginName);
                 continue;
             }
-            executeInit(isDynamic, pluginPackage, pluginName);
+            uninstalledPlugins.add(pluginName);
+        }
+
+        // The plugin packages are scanned in advance, while the plugins are registered in the configured order
+        for (ScannedPlugin scannedPlugin : scanPlugins(pluginPackage, uninstalledPlugins)) {
+            executeInit(isDynamic, scannedPlugin);
+        }
+    }
+
+    /**
+     * Scan the plugin packages and the plugin service packages, and validate the schema of the plugin packages. The
+     * plugins are scanned in parallel if configured, see {@link AgentConfig#isLoadPluginsInParallel()}
+     *
+     * @param pluginPackage plugin package directory
+     * @param pluginNames plugin names
+     * @return scanned plugins, in the order of the plugin names
+     */
+    private static List<ScannedPlugin> scanPlugins(String pluginPackage, List<String> pluginNames) {
+        List<ScannedPlugin> scannedPlugins = new ArrayList<>(pluginNames.size());
+        AgentConfig agentConfig = ConfigManager.getConfig(AgentConfig.class);
+        int threads = agentConfig == null || !agentConfig.isLoadPluginsInParallel() ? 1
+                : Math.min(agentConfig.getPluginLoadingThreads(), pluginNames.size());
+        if (threads <= 1) {
+            for (String pluginName : pluginNames) {
+                scannedPlugins.add(scanPlugin(pluginPackage, pluginName));
+            }
+            return scannedPlugins;
+        }
+        long startTime = System.nanoTime();
+        ExecutorService executorService = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryUtils("sermant-plugin-scan"));
+        try {
+            List<Future<ScannedPlugin>> futures = new ArrayList<>(pluginNames.size());
+            for (String pluginName : pluginNames) {
+                futures.add(executorService.submit(() -> scanPlugin(pluginPackage, pluginName)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                scannedPlugins.add(getScannedPlugin(futures.get(i), pluginNames.get(i)));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        LOGGER.log(Level.INFO, "[INSTALL-PLUGINS] Scan {0} plugins with {1} threads in {2} ms.",
+                new Object[]{pluginNames.size(), threads, toMillis(System.nanoTime() - startTime)});
+        return scannedPlugins;
+    }
+
+    private static ScannedPlugin getScannedPlugin(Future<ScannedPlugin> future, String pluginName) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            return new ScannedPlugin(pluginName, null, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new ScannedPlugin(pluginName, null, e);
+        }
+    }
+
+    private static ScannedPlugin scanPlugin(String pluginPackage, String pluginName) {
+        long startTime = System.nanoTime();
+
+        // Remove the copy tag of the plugin name to obtain the actual resource directory
+        final String pluginPath = pluginPackage + File.separatorChar + getRealPluginName(pluginName);
+        ScannedPlugin scannedPlugin = new ScannedPlugin(pluginName, pluginPath, null);
+        try {
+            if (new File(pluginPath).exists()) {
+                scanPluginLibs(scannedPlugin);
+                scannedPlugin.serviceUrls = toUrls(pluginName, listJars(getServiceDir(pluginPath)));
+            }
+        } catch (Exception ex) {
+            scannedPlugin = new ScannedPlugin(pluginName, pluginPath, ex);
         }
+        scannedPlugin.scanCost = toMillis(System.nanoTime() - startTime);
+        return scannedPlugin;
     }
 
-    private static void executeInit(boolean isDynamic, String pluginPackage, String pluginName) {
+    private static void executeInit(boolean isDynamic, ScannedPlugin scannedPlugin) {
+        String pluginName = scannedPlugin.name;
         try {
-            // Remove the copy tag of the plugin name to obtain the actual resource directory
-            final String pluginPath = pluginPackage + File.separatorChar + getRealPluginName(pluginName);
-            if (!new File(pluginPath).exists()) {
+            if (scannedPlugin.exception != null) {
+                throw scannedPlugin.exception;
+            }
+            if (!new File(scannedPlugin.path).exists()) {
                 LOGGER.log(Level.WARNING, "[INSTALL-PLUGINS] [{0}] Plugin directory {1} does not exist, so skip "
-                        + "initializing {0}. ", new String[]{pluginName, pluginPath});
+                        + "initializing {0}. ", new String[]{pluginName, scannedPlugin.path});
                 return;
             }
-            doInitPlugin(
-                    new Plugin(pluginName, pluginPath, isDynamic, ClassLoaderManager.createPluginClassLoader()));
+            doInitPlugin(new Plugin(pluginName, scannedPlugin.path, isDynamic,
+                    ClassLoaderManager.createPluginClassLoader()), scannedPlugin);
         } catch (Exception ex) {
             LOGGER.log(Level.SEVERE, "[INSTALL-PLUGINS] [{0}] Load plugin failed, plugin name: {0}.", pluginName);
             LOGGER.log(Level.SEVERE, "An exception occurred while loading plugin.", ex);
@@ -201,11 +280,21 @@ public class PluginManager {
         return PLUGIN_MAP;
     }
 
-    private static void doInitPlugin(Plugin plugin) {
-        loadPluginLibs(plugin);
-        loadServiceLibs(plugin);
+    private static void doInitPlugin(Plugin plugin, ScannedPlugin scannedPlugin) {
+        Map<String, Long> phaseCosts = new LinkedHashMap<>();
+        phaseCosts.put("scan", scannedPlugin.scanCost);
+        long startTime = System.nanoTime();
+        for (URL url : scannedPlugin.pluginUrls) {
+            plugin.getPluginClassLoader().appendUrl(url);
+        }
+        if (!scannedPlugin.serviceUrls.isEmpty()) {
+            plugin.setServiceClassLoader(new ServiceClassLoader(scannedPlugin.serviceUrls.toArray(new URL[0]),
+                    plugin.getPluginClassLoader()));
+        }
         PluginConfigManager.loadPluginConfigs(plugin);
+        startTime = putPhaseCost(phaseCosts, "config", startTime);
         PluginServiceManager.initPluginServices(plugin);
+        startTime = putPhaseCost(phaseCosts, "service", startTime);
 
         // For adaptation logic, the classloader needs to be added to the plugin class finder before bytecode
         // enhancement, otherwise the interceptor may not be found during bytecode enhancement
@@ -217,50 +306,38 @@ public class PluginManager {
         } else {
             ByteEnhanceManager.enhanceStaticPlugin(plugin);
         }
+        putPhaseCost(phaseCosts, "enhance", startTime);
 
         // Steps after the plugin is successfully loaded
         PLUGIN_MAP.put(plugin.getName(), plugin);
         PluginSchemaValidator.setDefaultVersion(plugin.getName());
         FrameworkEventCollector.getInstance().collectPluginsLoadEvent(plugin.getName());
-        LOGGER.log(Level.INFO, "Load plugin:{0} successful.", plugin.getName());
+        FrameworkEventCollector.getInstance().collectPluginLoadTimingEvent(plugin.getName(), phaseCosts);
+        LOGGER.log(Level.INFO, "Load plugin:{0} successful, cost: {1}.", new Object[]{plugin.getName(), phaseCosts});
     }
 
-    /**
-     * Construct ServiceClassLoader of plugin
-     *
-     * @param plugin plugin
-     */
-    private static void loadServiceLibs(Plugin plugin) {
-        URL[] urls = toUrls(plugin.getName(), listJars(getServiceDir(plugin.getPath())));
-        if (urls.length > 0) {
-            plugin.setServiceClassLoader(new ServiceClassLoader(urls, plugin.getPluginClassLoader()));
-        }
+    private static long putPhaseCost(Map<String, Long> phaseCosts, String phase, long startTime) {
+        long endTime = System.nanoTime();
+        phaseCosts.put(phase, toMillis(endTime - startTime));
+        return endTime;
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
     }
 
     /**
-     * Load all plugin packages
+     * Scan all plugin packages and validate their schemas
      *
-     * @param plugin plugin
+     * @param scannedPlugin scanned plugin
      */
-    private static void loadPluginLibs(Plugin plugin) {
-        for (File jar : listJars(getPluginDir(plugin.getPath()))) {
-            processByJarFile(plugin.getName(), jar, true, getJarFileConsumer(plugin));
+    private static void scanPluginLibs(ScannedPlugin scannedPlugin) {
+        for (File jar : listJars(getPluginDir(scannedPlugin.path))) {
+            processByJarFile(scannedPlugin.name, jar, true,
+                    jarFile -> toUrl(new File(jarFile.getName())).ifPresent(scannedPlugin.pluginUrls::add));
         }
     }
 
-    private static JarFileConsumer getJarFileConsumer(Plugin plugin) {
-        return new JarFileConsumer() {
-            @Override
-            public void consume(JarFile jarFile) {
-                try {
-                    plugin.getPluginClassLoader().appendUrl(new File(jarFile.getName()).toURI().toURL());
-                } catch (MalformedURLException e) {
-                    LOGGER.log(Level.SEVERE, "Add plugin path to pluginClassLoader fail, exception: ", e);
-                }
-            }
-        };
-    }
-
     /**
      * Obtain the URL of all jar packages of the plugin, and verify the jar package and version
      *
@@ -268,7 +345,7 @@ public class PluginManager {
      * @param jars jars
      * @return jar package URL set
      */
-    private static URL[] toUrls(String pluginName, File[] jars) {
+    private static List<URL> toUrls(String pluginName, File[] jars) {
         final List<URL> urls = new ArrayList<>();
         for (File jar : jars) {
             if (processByJarFile(pluginName, jar, false, null)) {
@@ -276,7 +353,7 @@ public class PluginManager {
                 url.ifPresent(urls::add);
             }
         }
-        return urls.toArray(new URL[0]);
+        return urls;
     }
 
     /**
@@ -401,6 +478,31 @@ public class PluginManager {
         }
     }
 
+    /**
+     * Plugin and plugin service packages scanned before the plugin is initialized
+     *
+     * @since 2026-10-18
+     */
+    private static class ScannedPlugin {
+        private final String name;
+
+        private final String path;
+
+        private final Exception exception;
+
+        private final List<URL> pluginUrls = new ArrayList<>();
+
+        private List<URL> serviceUrls = new ArrayList<>();
+
+        private long scanCost;
+
+        ScannedPlugin(String name, String path, Exception exception) {
+            this.name = name;
+            this.path = path;
+            this.exception = exception;
+        }
+    }
+
     /**
      * Jar file consumer
      *
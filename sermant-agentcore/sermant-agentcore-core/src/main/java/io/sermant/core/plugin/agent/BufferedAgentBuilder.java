@@ -22,11 +22,17 @@ import io.sermant.core.common.LoggerFactory;
 import io.sermant.core.config.ConfigManager;
 import io.sermant.core.event.collector.FrameworkEventCollector;
 import io.sermant.core.plugin.Plugin;
+import io.sermant.core.plugin.agent.cache.EnhanceSession;
+import io.sermant.core.plugin.agent.cache.InterceptDeclarerRegistry;
+import io.sermant.core.plugin.agent.cache.UnmatchedClassFilter;
 import io.sermant.core.plugin.agent.config.AgentConfig;
 import io.sermant.core.plugin.agent.declarer.AbstractPluginDeclarer;
-import io.sermant.core.plugin.agent.declarer.AbstractPluginDescription;
+import io.sermant.core.plugin.agent.declarer.IndexedPluginDescription;
+import io.sermant.core.plugin.agent.declarer.InterceptDeclarer;
 import io.sermant.core.plugin.agent.declarer.PluginDeclarer;
 import io.sermant.core.plugin.agent.declarer.PluginDescription;
+import io.sermant.core.plugin.agent.matcher.ClassMatcher;
+import io.sermant.core.plugin.agent.matcher.ClassTypeMatcher;
 import io.sermant.core.plugin.agent.transformer.ReentrantTransformer;
 import io.sermant.core.plugin.classloader.PluginClassLoader;
 import io.sermant.core.plugin.classloader.ServiceClassLoader;
@@ -55,6 +61,9 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -91,6 +100,33 @@ public class BufferedAgentBuilder {
      */
     private final Plugin virtualPlugin = new Plugin("virtual-plugin", null, false, null);
 
+    /**
+     * Combined plugin descriptions of the runs of indexed plugin descriptions, created when the builder is installed
+     */
+    private final List<CombinedPluginDescription> combinedDescriptions = new ArrayList<>();
+
+    /**
+     * Plugin descriptions added to the builder one by one
+     */
+    private final List<PluginDescription> unindexedDescriptions = new ArrayList<>();
+
+    /**
+     * Retransformation of the loaded classes matched by the plugin descriptions of the builder
+     */
+    private final RetransformStrategy retransformStrategy = new RetransformStrategy(config,
+            this::isRetransformCandidate);
+
+    /**
+     * Indexed plugin descriptions added since the last plugin description added one by one, which are combined when
+     * the builder is installed, null if a new run is to be started
+     */
+    private List<IndexedPluginDescription> indexedDescriptions;
+
+    /**
+     * Pre-filter of the unmatched classes, null if the pre-filter is disabled
+     */
+    private UnmatchedClassFilter unmatchedClassFilter;
+
     private BufferedAgentBuilder() {
     }
 
@@ -118,7 +154,8 @@ public class BufferedAgentBuilder {
      *     1.If don't enhance classes loaded by BootStrapClassLoader，use default strategy
      *     {@link AgentBuilder.RedefinitionStrategy#DISABLED}
      *     2.If need to enhance classes loaded by BootStrapClassLoader，use strategy
-     *     {@link AgentBuilder.RedefinitionStrategy#RETRANSFORMATION}
+     *     {@link AgentBuilder.RedefinitionStrategy#RETRANSFORMATION}, the loaded classes are retransformed in batches,
+     *     see {@link RetransformStrategy}
      * </pre>
      *
      * @return BufferedAgentBuilder
@@ -127,7 +164,7 @@ public class BufferedAgentBuilder {
         if (!config.isReTransformEnable()) {
             return this;
         }
-        return addAction(builder -> builder.with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION));
+        return addAction(retransformStrategy::apply);
     }
 
     /**
@@ -140,7 +177,28 @@ public class BufferedAgentBuilder {
      * @return BufferedAgentBuilder
      */
     private BufferedAgentBuilder setIgnoredRule() {
-        return addAction(builder -> builder.ignore(new IgnoredMatcher(config)));
+        return addAction(builder -> builder.ignore(new IgnoredMatcher(config, unmatchedClassFilter)));
+    }
+
+    /**
+     * Set the pre-filter of the unmatched classes. The classes known to be unmatched are ignored directly, and the
+     * classes not matched by any plugin are recorded into the pre-filter, except the ones loaded by the classloaders of
+     * sermant
+     *
+     * @param filter pre-filter of the unmatched classes
+     * @return BufferedAgentBuilder
+     */
+    public BufferedAgentBuilder setUnmatchedClassFilter(UnmatchedClassFilter filter) {
+        this.unmatchedClassFilter = filter;
+        return addAction(builder -> builder.with(new AgentBuilder.Listener.Adapter() {
+            @Override
+            public void onIgnored(TypeDescription typeDescription, ClassLoader classLoader, JavaModule module,
+                    boolean loaded) {
+                if (!(classLoader instanceof ServiceClassLoader) && !IgnoredMatcher.checkClassLoader(classLoader)) {
+                    filter.record(typeDescription.getActualName());
+                }
+            }
+        }));
     }
 
     /**
@@ -241,19 +299,55 @@ public class BufferedAgentBuilder {
 
     /**
      * Add plugin
+     * <p>The {@link IndexedPluginDescription} are not added to the builder one by one, but combined into a
+     * {@link CombinedPluginDescription} with the adjacent ones, see {@link #addIndexedDescription}
      *
      * @param plugins PluginDescription set
      * @return BufferedAgentBuilder Wrapper of AgentBuilder
      */
     public BufferedAgentBuilder addPlugins(Iterable<PluginDescription> plugins) {
-        return addAction(new BuilderAction() {
+        List<PluginDescription> rawDescriptions = new ArrayList<>();
+        for (PluginDescription plugin : plugins) {
+            if (!(plugin instanceof IndexedPluginDescription)) {
+                rawDescriptions.add(plugin);
+                continue;
+            }
+            if (!rawDescriptions.isEmpty()) {
+                addRawDescriptions(rawDescriptions);
+                rawDescriptions = new ArrayList<>();
+            }
+            addIndexedDescription((IndexedPluginDescription) plugin);
+        }
+        if (!rawDescriptions.isEmpty()) {
+            addRawDescriptions(rawDescriptions);
+        }
+        return this;
+    }
+
+    /**
+     * Add the plugin descriptions one by one, the indexed plugin descriptions added after them start a new
+     * {@link CombinedPluginDescription}, so that the descriptions transform in the order they are added
+     *
+     * @param rawDescriptions plugin descriptions
+     */
+    private void addRawDescriptions(List<PluginDescription> rawDescriptions) {
+        unindexedDescriptions.addAll(rawDescriptions);
+        indexedDescriptions = null;
+        addAction(new BuilderAction() {
             @Override
             public AgentBuilder process(AgentBuilder builder) {
                 AgentBuilder newBuilder = builder;
-                for (PluginDescription plugin : plugins) {
+                for (PluginDescription plugin : rawDescriptions) {
                     // This must be assigned to the newBuilder, and the operation cannot be repeated on the original
                     // builder, otherwise the operation in the last loop will not take effect
-                    newBuilder = newBuilder.type(plugin).transform(plugin);
+                    newBuilder = newBuilder.type(plugin).transform(
+                            (typeBuilder, typeDescription, classLoader, module, protectionDomain) -> {
+                                // The enhancements made by the description can not be registered again without
+                                // transforming the class, so the class is not served from the enhanced class cache
+                                EnhanceSession.markUncacheable();
+                                return plugin.transform(typeBuilder, typeDescription, classLoader, module,
+                                        protectionDomain);
+                            });
                 }
                 return newBuilder;
             }
@@ -266,28 +360,88 @@ public class BufferedAgentBuilder {
      * @param pluginDeclarer plugin declarer
      */
     public void addEnhance(AbstractPluginDeclarer pluginDeclarer) {
-        addAction(builder -> {
-            PluginDescription pluginDescription = new AbstractPluginDescription() {
-                final AbstractPluginDeclarer abstractPluginDeclarer = pluginDeclarer;
-
-                @Override
-                public Builder<?> transform(Builder<?> builder, TypeDescription typeDescription,
-                        ClassLoader classLoader,
-                        JavaModule module, ProtectionDomain protectionDomain) {
-                    return new ReentrantTransformer(abstractPluginDeclarer.getInterceptDeclarers(classLoader),
-                            virtualPlugin)
-                            .transform(builder, typeDescription, classLoader, module, protectionDomain);
-                }
+        final ClassMatcher classMatcher = pluginDeclarer.getClassMatcher();
+        final Set<String> typeNames = classMatcher instanceof ClassTypeMatcher
+                ? ((ClassTypeMatcher) classMatcher).getTypeNames() : Collections.emptySet();
+        InterceptDeclarerRegistry.register(virtualPlugin, pluginDeclarer, pluginDeclarer::getInterceptDeclarers);
+        addIndexedDescription(new IndexedPluginDescription() {
+            @Override
+            public Builder<?> transform(Builder<?> builder, TypeDescription typeDescription,
+                    ClassLoader classLoader,
+                    JavaModule module, ProtectionDomain protectionDomain) {
+                InterceptDeclarer[] interceptDeclarers = pluginDeclarer.getInterceptDeclarers(classLoader);
+                return new ReentrantTransformer(interceptDeclarers,
+                        InterceptDeclarerRegistry.getInterceptSources(pluginDeclarer, interceptDeclarers),
+                        virtualPlugin).transform(builder, typeDescription, classLoader, module, protectionDomain);
+            }
 
-                @Override
-                public boolean matches(TypeDescription target) {
-                    return abstractPluginDeclarer.getClassMatcher().matches(target);
-                }
-            };
-            return builder.type(pluginDescription).transform(pluginDescription);
+            @Override
+            public Set<String> getTypeNames() {
+                return typeNames;
+            }
+
+            @Override
+            public boolean isFuzzy() {
+                return !(classMatcher instanceof ClassTypeMatcher);
+            }
+
+            @Override
+            public boolean fuzzyMatches(TypeDescription target) {
+                return classMatcher.matches(target);
+            }
         });
     }
 
+    /**
+     * Add the indexed plugin description. The indexed plugin descriptions added in a row, without any plugin
+     * description added one by one between them, are matched by one {@link CombinedPluginDescription}, which is added
+     * to the builder along with the first of them
+     *
+     * @param description indexed plugin description
+     */
+    private void addIndexedDescription(IndexedPluginDescription description) {
+        if (indexedDescriptions == null) {
+            final List<IndexedPluginDescription> descriptions = new ArrayList<>();
+            indexedDescriptions = descriptions;
+            addAction(builder -> {
+                final CombinedPluginDescription combinedDescription = new CombinedPluginDescription(descriptions);
+                combinedDescriptions.add(combinedDescription);
+                return builder.type(combinedDescription).transform(combinedDescription);
+            });
+        }
+        indexedDescriptions.add(description);
+    }
+
+    /**
+     * Whether the loaded class may be enhanced by the plugin descriptions of the builder, used to pick the classes to
+     * be retransformed
+     *
+     * @param typeDesc type description
+     * @param classLoader class loader
+     * @param module module
+     * @param classBeingRedefined the loaded class
+     * @param protectionDomain protection domain
+     * @return whether the class is a candidate of the retransformation
+     */
+    private boolean isRetransformCandidate(TypeDescription typeDesc, ClassLoader classLoader, JavaModule module,
+            Class<?> classBeingRedefined, ProtectionDomain protectionDomain) {
+        for (CombinedPluginDescription combinedDescription : combinedDescriptions) {
+            if (combinedDescription.isMatched(typeDesc)) {
+                return true;
+            }
+        }
+        for (PluginDescription description : unindexedDescriptions) {
+            if (description.matches(typeDesc, classLoader, module, classBeingRedefined, protectionDomain)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public RetransformStrategy getRetransformStrategy() {
+        return retransformStrategy;
+    }
+
     /**
      * add action
      *
@@ -328,12 +482,10 @@ public class BufferedAgentBuilder {
 
         private final Set<String> ignoredInterfaces;
 
-        /**
-         * unMatched Class Cache
-         */
-        private final Map<String, String> unMatchedClassCache = FileUtils.getUnMatchedClassCache();
+        private final UnmatchedClassFilter unmatchedClassFilter;
 
-        IgnoredMatcher(AgentConfig config) {
+        IgnoredMatcher(AgentConfig config, UnmatchedClassFilter unmatchedClassFilter) {
+            this.unmatchedClassFilter = unmatchedClassFilter;
             ignoredPrefixes = config.getIgnoredPrefixes();
             serviceInjectList = config.getServiceInjectList();
             ignoredInterfaces = config.getIgnoredInterfaces();
@@ -342,7 +494,7 @@ public class BufferedAgentBuilder {
         @Override
         public boolean matches(TypeDescription typeDesc, ClassLoader classLoader, JavaModule javaModule,
                 Class<?> classBeingRedefined, ProtectionDomain protectionDomain) {
-            if (unMatchedClassCache.containsKey(typeDesc.getActualName())) {
+            if (unmatchedClassFilter != null && unmatchedClassFilter.contains(typeDesc.getActualName())) {
                 return true;
             }
 
@@ -350,7 +502,7 @@ public class BufferedAgentBuilder {
                 return false;
             }
 
-            return isArrayOrPrimitive(typeDesc) || checkClassLoader(typeDesc, classLoader)
+            return isArrayOrPrimitive(typeDesc) || checkClassLoader(classLoader)
                     || isIgnoredPrefixes(typeDesc) || isIgnoredInterfaces(typeDesc);
         }
 
@@ -365,7 +517,7 @@ public class BufferedAgentBuilder {
             return true;
         }
 
-        private boolean checkClassLoader(TypeDescription typeDesc, ClassLoader classLoader) {
+        private static boolean checkClassLoader(ClassLoader classLoader) {
             if (classLoader instanceof SermantClassLoader) {
                 return true;
             }
@@ -407,6 +559,172 @@ public class BufferedAgentBuilder {
         }
     }
 
+    /**
+     * CombinedPluginDescription, which matches a class against all indexed plugin descriptions by a hash lookup of the
+     * class name, and only evaluates the fuzzy matching of the descriptions one by one
+     * <p>The descriptions matched by {@link #matches} are recorded for the current thread, and reused by the following
+     * {@link #transform} of the same type description and class loader, so that the fuzzy matching is evaluated once
+     * for each matched class
+     *
+     * @since 2026-10-18
+     */
+    static class CombinedPluginDescription implements PluginDescription {
+        private static final IndexedPluginDescription[] EMPTY_DESCRIPTIONS = new IndexedPluginDescription[0];
+
+        private final Map<String, IndexedPluginDescription[]> typeIndex = new HashMap<>();
+
+        private final IndexedPluginDescription[] fuzzyDescriptions;
+
+        /**
+         * Position of each description in the order they are added, the matched descriptions transform in this order
+         */
+        private final Map<IndexedPluginDescription, Integer> positions = new IdentityHashMap<>();
+
+        /**
+         * Descriptions matched by the last {@link #matches} of the current thread
+         */
+        private final ThreadLocal<MatchResult> lastMatch = new ThreadLocal<>();
+
+        CombinedPluginDescription(List<IndexedPluginDescription> descriptions) {
+            final List<IndexedPluginDescription> fuzzyList = new ArrayList<>();
+            for (IndexedPluginDescription description : descriptions) {
+                positions.put(description, positions.size());
+                for (String typeName : description.getTypeNames()) {
+                    IndexedPluginDescription[] indexed = typeIndex.getOrDefault(typeName, EMPTY_DESCRIPTIONS);
+                    IndexedPluginDescription[] expanded = Arrays.copyOf(indexed, indexed.length + 1);
+                    expanded[indexed.length] = description;
+                    typeIndex.put(typeName, expanded);
+                }
+                if (description.isFuzzy()) {
+                    fuzzyList.add(description);
+                }
+            }
+            this.fuzzyDescriptions = fuzzyList.toArray(EMPTY_DESCRIPTIONS);
+        }
+
+        @Override
+        public boolean matches(TypeDescription typeDesc, ClassLoader classLoader, JavaModule module,
+                Class<?> classBeingRedefined, ProtectionDomain protectionDomain) {
+            final IndexedPluginDescription[] matched = match(typeDesc);
+            if (matched.length == 0) {
+                lastMatch.remove();
+                return false;
+            }
+            lastMatch.set(new MatchResult(typeDesc, classLoader, matched));
+            return true;
+        }
+
+        /**
+         * Whether the class is matched by any description, without recording the matched descriptions for the
+         * following {@link #transform}. Used outside of the transformation, such as picking the classes to be
+         * retransformed, where no transformation follows
+         *
+         * @param typeDesc type description
+         * @return matched or not
+         */
+        boolean isMatched(TypeDescription typeDesc) {
+            return match(typeDesc).length > 0;
+        }
+
+        /**
+         * Transform the matched class by every matched description in the order they are added. The descriptions
+         * recorded by {@link #matches} are used if they are recorded for the same type description and class loader,
+         * otherwise they are matched again
+         */
+        @Override
+        public Builder<?> transform(Builder<?> builder, TypeDescription typeDesc, ClassLoader classLoader,
+                JavaModule module, ProtectionDomain protectionDomain) {
+            final MatchResult result = lastMatch.get();
+            lastMatch.remove();
+            final IndexedPluginDescription[] matched = result != null && result.typeDesc == typeDesc
+                    && result.classLoader == classLoader ? result.descriptions : match(typeDesc);
+            Builder<?> newBuilder = builder;
+            for (IndexedPluginDescription description : matched) {
+                newBuilder = description.transform(newBuilder, typeDesc, classLoader, module, protectionDomain);
+            }
+            return newBuilder;
+        }
+
+        /**
+         * Match the class by the class names and the fuzzy matching. The fuzzy matching of each fuzzy description is
+         * always evaluated, including the classes matched by the names, as it records the matched declarers that are
+         * used by the transformation of the description
+         *
+         * @param typeDesc type description
+         * @return matched descriptions in the order they are added
+         */
+        private IndexedPluginDescription[] match(TypeDescription typeDesc) {
+            final IndexedPluginDescription[] indexed = typeIndex.getOrDefault(typeDesc.getActualName(),
+                    EMPTY_DESCRIPTIONS);
+            List<IndexedPluginDescription> fuzzyMatched = null;
+            for (IndexedPluginDescription description : fuzzyDescriptions) {
+                if (description.fuzzyMatches(typeDesc)) {
+                    if (fuzzyMatched == null) {
+                        fuzzyMatched = new ArrayList<>();
+                    }
+                    fuzzyMatched.add(description);
+                }
+            }
+            if (fuzzyMatched == null) {
+                return indexed;
+            }
+            return merge(indexed, fuzzyMatched);
+        }
+
+        private IndexedPluginDescription[] merge(IndexedPluginDescription[] indexed,
+                List<IndexedPluginDescription> fuzzyMatched) {
+            final List<IndexedPluginDescription> merged = new ArrayList<>(indexed.length + fuzzyMatched.size());
+            int indexedPos = 0;
+            int fuzzyPos = 0;
+            while (indexedPos < indexed.length || fuzzyPos < fuzzyMatched.size()) {
+                if (fuzzyPos >= fuzzyMatched.size()) {
+                    merged.add(indexed[indexedPos++]);
+                    continue;
+                }
+                if (indexedPos >= indexed.length) {
+                    merged.add(fuzzyMatched.get(fuzzyPos++));
+                    continue;
+                }
+                final IndexedPluginDescription indexedDescription = indexed[indexedPos];
+                final IndexedPluginDescription fuzzyDescription = fuzzyMatched.get(fuzzyPos);
+                final int compared = Integer.compare(positions.get(indexedDescription),
+                        positions.get(fuzzyDescription));
+                if (compared > 0) {
+                    merged.add(fuzzyDescription);
+                    fuzzyPos++;
+                    continue;
+                }
+                merged.add(indexedDescription);
+                indexedPos++;
+                if (compared == 0) {
+                    // The description matched by both the names and the fuzzy matching is added only once
+                    fuzzyPos++;
+                }
+            }
+            return merged.toArray(EMPTY_DESCRIPTIONS);
+        }
+
+        /**
+         * Descriptions matched for a class, keyed by the type description and the class loader passed to
+         * {@link #matches}, as the classes of the same name loaded by different class loaders may match differently
+         *
+         * @since 2026-10-18
+         */
+        private static class MatchResult {
+            private final TypeDescription typeDesc;
+
+            private final ClassLoader classLoader;
+
+            private final IndexedPluginDescription[] descriptions;
+
+            MatchResult(TypeDescription typeDesc, ClassLoader classLoader, IndexedPluginDescription[] descriptions) {
+                this.typeDesc = typeDesc;
+                this.classLoader = classLoader;
+                this.descriptions = descriptions;
+            }
+        }
+    }
+
     /**
      * Builder action
      *
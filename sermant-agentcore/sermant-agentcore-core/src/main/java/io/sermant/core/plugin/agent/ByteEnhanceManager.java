@@ -16,20 +16,18 @@
 
 package io.sermant.core.plugin.agent;
 
+import io.sermant.core.common.BootArgsIndexer;
 import io.sermant.core.config.ConfigManager;
 import io.sermant.core.plugin.Plugin;
+import io.sermant.core.plugin.PluginManager;
+import io.sermant.core.plugin.agent.cache.EnhancedClassCache;
+import io.sermant.core.plugin.agent.cache.UnmatchedClassFilter;
 import io.sermant.core.plugin.agent.collector.PluginCollector;
 import io.sermant.core.plugin.agent.config.AgentConfig;
 import io.sermant.core.plugin.agent.declarer.PluginDescription;
 import io.sermant.core.plugin.agent.enhance.ClassLoaderDeclarer;
+import io.sermant.core.plugin.agent.profile.InterceptorProfiler;
 import io.sermant.core.service.ServiceConfig;
-import io.sermant.core.utils.FileUtils;
-
-import net.bytebuddy.agent.builder.AgentBuilder;
-import net.bytebuddy.agent.builder.AgentBuilder.RedefinitionStrategy;
-import net.bytebuddy.agent.builder.AgentBuilder.RedefinitionStrategy.BatchAllocator.ForTotal;
-import net.bytebuddy.agent.builder.AgentBuilder.RedefinitionStrategy.DiscoveryStrategy.Reiterating;
-import net.bytebuddy.agent.builder.ResettableClassFileTransformer;
 
 import java.lang.instrument.Instrumentation;
 import java.util.List;
@@ -57,6 +55,7 @@ public class ByteEnhanceManager {
     public static void init(Instrumentation instrumentation) {
         instrumentationCache = instrumentation;
         builder = BufferedAgentBuilder.build();
+        InterceptorProfiler.init(ConfigManager.getConfig(AgentConfig.class));
 
         // Once initialization is complete, an Action is added to add bytecode enhancements introduced directly by
         // the framework
@@ -67,20 +66,37 @@ public class ByteEnhanceManager {
      * Install classloader enhanced bytecode for premain only
      */
     public static void enhance() {
-        cacheUnmatchedClass();
+        filterUnmatchedClass();
+        cacheEnhancedClass();
         builder.install(instrumentationCache);
-        saveUnMatchedClass();
     }
 
-    private static void saveUnMatchedClass() {
-        if (ConfigManager.getConfig(AgentConfig.class).isPreFilterEnable()) {
-            Runtime.getRuntime().addShutdownHook(new Thread(FileUtils::writeUnmatchedClassNameToFile
-            ));
+    /**
+     * Skip the matching of the classes known to be unmatched by static plugins if enabled, see
+     * {@link UnmatchedClassFilter}
+     */
+    private static void filterUnmatchedClass() {
+        UnmatchedClassFilter unmatchedClassFilter = UnmatchedClassFilter.create(
+                ConfigManager.getConfig(AgentConfig.class), BootArgsIndexer.getCoreVersion(),
+                PluginManager.getPluginMap().values());
+        if (unmatchedClassFilter == null) {
+            return;
         }
+        builder.setUnmatchedClassFilter(unmatchedClassFilter);
+        Runtime.getRuntime().addShutdownHook(new Thread(unmatchedClassFilter::save));
     }
 
-    private static void cacheUnmatchedClass() {
-        FileUtils.readUnmatchedClassNameFromFile();
+    /**
+     * Serve the enhanced classes of static plugins from the disk cache if enabled, see {@link EnhancedClassCache}
+     */
+    private static void cacheEnhancedClass() {
+        EnhancedClassCache enhancedClassCache = EnhancedClassCache.create(ConfigManager.getConfig(AgentConfig.class),
+                BootArgsIndexer.getCoreVersion(), PluginManager.getPluginMap().values());
+        if (enhancedClassCache == null) {
+            return;
+        }
+        builder.addAction(agentBuilder -> agentBuilder.with(enhancedClassCache));
+        Runtime.getRuntime().addShutdownHook(new Thread(enhancedClassCache::close));
     }
 
     /**
@@ -105,9 +121,9 @@ public class ByteEnhanceManager {
             return;
         }
         List<PluginDescription> plugins = PluginCollector.getDescriptions(plugin);
-        ResettableClassFileTransformer resettableClassFileTransformer = BufferedAgentBuilder.build()
-                .addPlugins(plugins).install(instrumentationCache);
-        plugin.setClassFileTransformer(resettableClassFileTransformer);
+        BufferedAgentBuilder agentBuilder = BufferedAgentBuilder.build().addPlugins(plugins);
+        plugin.setClassFileTransformer(agentBuilder.install(instrumentationCache));
+        plugin.setRetransformStrategy(agentBuilder.getRetransformStrategy());
     }
 
     /**
@@ -119,9 +135,7 @@ public class ByteEnhanceManager {
         if (!plugin.isDynamic()) {
             return;
         }
-        plugin.getClassFileTransformer().reset(instrumentationCache, RedefinitionStrategy.RETRANSFORMATION,
-                Reiterating.INSTANCE, ForTotal.INSTANCE,
-                AgentBuilder.RedefinitionStrategy.Listener.StreamWriting.toSystemOut());
+        plugin.getRetransformStrategy().reset(plugin.getClassFileTransformer(), instrumentationCache);
     }
 
     private static void enhanceForFramework() {
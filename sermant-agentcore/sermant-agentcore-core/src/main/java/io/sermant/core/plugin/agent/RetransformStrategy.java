@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.core.plugin.agent;
+
+import io.sermant.core.common.LoggerFactory;
+import io.sermant.core.plugin.agent.config.AgentConfig;
+
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.agent.builder.AgentBuilder.RedefinitionStrategy;
+import net.bytebuddy.agent.builder.AgentBuilder.RedefinitionStrategy.BatchAllocator;
+import net.bytebuddy.agent.builder.AgentBuilder.RedefinitionStrategy.DiscoveryStrategy;
+import net.bytebuddy.agent.builder.AgentBuilder.RedefinitionStrategy.Listener;
+import net.bytebuddy.agent.builder.ResettableClassFileTransformer;
+import net.bytebuddy.description.type.TypeDescription;
+
+import java.lang.instrument.Instrumentation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Retransformation of the loaded classes in bounded batches, used when the classes are enhanced or reset after they are
+ * loaded, such as hot-plugging and dynamic attach
+ * <pre>
+ *     1.Only the loaded classes matched by the candidate matcher are retransformed, instead of every loaded class
+ *     2.The candidates are retransformed in batches of {@link AgentConfig#getRetransformBatchSize()}, with a pause of
+ *     {@link AgentConfig#getRetransformBatchPause()} milliseconds between the batches, and the cost of every batch is
+ *     reported
+ *     3.The classes of a failed batch are retried one by one, so that one class does not fail the whole batch
+ * </pre>
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class RetransformStrategy {
+    private static final Logger LOGGER = LoggerFactory.getLogger();
+
+    private final AgentBuilder.RawMatcher candidateMatcher;
+
+    private final int batchSize;
+
+    private final int batchPause;
+
+    /**
+     * Constructor
+     *
+     * @param config enhancement configuration
+     * @param candidateMatcher matcher of the classes to be retransformed, a superset of the classes matched by the
+     * transformer is allowed
+     */
+    public RetransformStrategy(AgentConfig config, AgentBuilder.RawMatcher candidateMatcher) {
+        this.candidateMatcher = candidateMatcher;
+        this.batchSize = config.getRetransformBatchSize();
+        this.batchPause = Math.max(config.getRetransformBatchPause(), 0);
+    }
+
+    /**
+     * Retransform the loaded classes in batches when the transformer of the builder is installed
+     *
+     * @param builder agent builder
+     * @return agent builder
+     */
+    public AgentBuilder apply(AgentBuilder builder) {
+        return builder.with(RedefinitionStrategy.RETRANSFORMATION)
+                .with(getBatchAllocator())
+                .with(new CandidateDiscovery())
+                .with(new BatchListener("Retransform"));
+    }
+
+    /**
+     * Reset the transformer and retransform the classes it enhanced in batches
+     *
+     * @param transformer transformer
+     * @param instrumentation instrumentation
+     * @return whether the transformer was registered before the reset
+     */
+    public boolean reset(ResettableClassFileTransformer transformer, Instrumentation instrumentation) {
+        return transformer.reset(instrumentation, RedefinitionStrategy.RETRANSFORMATION, new CandidateDiscovery(),
+                getBatchAllocator(), new BatchListener("Reset"));
+    }
+
+    private BatchAllocator getBatchAllocator() {
+        return batchSize > 0 ? BatchAllocator.ForFixedSize.ofSize(batchSize) : BatchAllocator.ForTotal.INSTANCE;
+    }
+
+    /**
+     * Discovery of the loaded classes matched by the candidate matcher, the loaded classes are scanned once
+     *
+     * @since 2026-10-18
+     */
+    private class CandidateDiscovery implements DiscoveryStrategy {
+        @Override
+        public Iterable<Iterable<Class<?>>> resolve(Instrumentation instrumentation) {
+            long startTime = System.nanoTime();
+            Class<?>[] loadedClasses = instrumentation.getAllLoadedClasses();
+            List<Class<?>> candidates = new ArrayList<>();
+            for (Class<?> type : loadedClasses) {
+                if (isCandidate(instrumentation, type)) {
+                    candidates.add(type);
+                }
+            }
+            LOGGER.info(String.format(Locale.ROOT, "Found %d retransform candidates in %d loaded classes in %d ms. ",
+                    candidates.size(), loadedClasses.length,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+            return Collections.singletonList(candidates);
+        }
+
+        private boolean isCandidate(Instrumentation instrumentation, Class<?> type) {
+            if (type.isArray() || type.isPrimitive() || !instrumentation.isModifiableClass(type)) {
+                return false;
+            }
+            try {
+                return candidateMatcher.matches(TypeDescription.ForLoadedType.of(type), type.getClassLoader(), null,
+                        type, type.getProtectionDomain());
+            } catch (Throwable throwable) {
+                // The class can not be resolved, such as the super class is missing, and will not be matched either
+                LOGGER.log(Level.FINE, "Failed to match retransform candidate: " + type.getName(), throwable);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Listener pausing between the batches, reporting the cost of every batch and retrying the classes of a failed
+     * batch one by one
+     *
+     * @since 2026-10-18
+     */
+    private class BatchListener extends Listener.BatchReallocator {
+        private final String action;
+
+        private long batchStartTime;
+
+        private int lastIndex = -1;
+
+        private int lastSize;
+
+        BatchListener(String action) {
+            super(BatchAllocator.ForFixedSize.ofSize(1));
+            this.action = action;
+        }
+
+        @Override
+        public void onBatch(int index, List<Class<?>> batch, List<Class<?>> types) {
+            reportLastBatch();
+            if (index > 0 && batchPause > 0) {
+                try {
+                    Thread.sleep(batchPause);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            lastIndex = index;
+            lastSize = batch.size();
+            batchStartTime = System.nanoTime();
+        }
+
+        @Override
+        public Iterable<? extends List<Class<?>>> onError(int index, List<Class<?>> batch, Throwable throwable,
+                List<Class<?>> types) {
+            LOGGER.log(Level.WARNING, String.format(Locale.ROOT, "%s batch %d of %d classes failed: %s", action,
+                    index, batch.size(), throwable.getMessage()));
+            return super.onError(index, batch, throwable, types);
+        }
+
+        @Override
+        public void onComplete(int amount, List<Class<?>> types, Map<List<Class<?>>, Throwable> failures) {
+            reportLastBatch();
+            for (Map.Entry<List<Class<?>>, Throwable> failure : failures.entrySet()) {
+                LOGGER.log(Level.WARNING, String.format(Locale.ROOT, "%s failed for classes %s. ", action,
+                        failure.getKey()), failure.getValue());
+            }
+            LOGGER.info(String.format(Locale.ROOT, "%s %d classes in %d batches, %d failed. ", action, types.size(),
+                    amount, failures.size()));
+        }
+
+        private void reportLastBatch() {
+            if (lastIndex < 0) {
+                return;
+            }
+            LOGGER.info(String.format(Locale.ROOT, "%s batch %d of %d classes took %d ms. ", action, lastIndex,
+                    lastSize, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batchStartTime)));
+            lastIndex = -1;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enhancement session of a class being transformed by byte-buddy with the enhanced class cache enabled, held by the
+ * transforming thread. The enhancements of the methods are recorded, and stored with the enhanced bytecode, so that
+ * they can be registered again when the class is served from the cache, see {@link EnhancedMethod}
+ * <p>The class is not cached if any enhancement can not be recorded, such as the one made by a plugin description
+ * which is not backed by plugin declarers
+ * <p>Sessions nest, another class may be loaded and transformed by the same thread while a class is being transformed,
+ * for example when the interceptors are created. The session of the outer class is suspended meanwhile, and resumed
+ * when the session of the inner class ends
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class EnhanceSession {
+    private static final ThreadLocal<EnhanceSession> SESSION = new ThreadLocal<>();
+
+    private final List<EnhancedMethod> enhancedMethods = new ArrayList<>();
+
+    /**
+     * session suspended by this session, null if this session is the outermost one
+     */
+    private final EnhanceSession suspended;
+
+    private boolean cacheable = true;
+
+    private EnhanceSession(EnhanceSession suspended) {
+        this.suspended = suspended;
+    }
+
+    /**
+     * Start a session, the current session of the thread is suspended until the new session ends
+     *
+     * @return session
+     */
+    static EnhanceSession record() {
+        EnhanceSession session = new EnhanceSession(SESSION.get());
+        SESSION.set(session);
+        return session;
+    }
+
+    /**
+     * End the current session of the thread, and resume the session suspended by it
+     */
+    static void end() {
+        EnhanceSession session = SESSION.get();
+        if (session == null || session.suspended == null) {
+            SESSION.remove();
+        } else {
+            SESSION.set(session.suspended);
+        }
+    }
+
+    /**
+     * Whether the enhancements are recorded by the current thread
+     *
+     * @return recording or not
+     */
+    public static boolean isRecording() {
+        return SESSION.get() != null;
+    }
+
+    /**
+     * Record the enhancement of a method
+     *
+     * @param enhancedMethod enhancement of the method
+     */
+    public static void onEnhance(EnhancedMethod enhancedMethod) {
+        EnhanceSession session = SESSION.get();
+        if (session != null) {
+            session.enhancedMethods.add(enhancedMethod);
+        }
+    }
+
+    /**
+     * Mark the class being transformed as not cacheable
+     */
+    public static void markUncacheable() {
+        EnhanceSession session = SESSION.get();
+        if (session != null) {
+            session.cacheable = false;
+        }
+    }
+
+    /**
+     * Whether the class can be cached, that is the class is enhanced and all the enhancements are recorded
+     *
+     * @return cacheable or not
+     */
+    boolean isCacheable() {
+        return cacheable && !enhancedMethods.isEmpty();
+    }
+
+    List<EnhancedMethod> getEnhancedMethods() {
+        return enhancedMethods;
+    }
+}
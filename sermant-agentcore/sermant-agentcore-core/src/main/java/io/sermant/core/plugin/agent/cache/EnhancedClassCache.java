@@ -0,0 +1,481 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.cache;
+
+import io.sermant.core.common.CommonConstant;
+import io.sermant.core.common.LoggerFactory;
+import io.sermant.core.plugin.Plugin;
+import io.sermant.core.plugin.agent.adviser.AdviserScheduler;
+import io.sermant.core.plugin.agent.config.AgentConfig;
+import io.sermant.core.plugin.agent.declarer.InterceptDeclarer;
+import io.sermant.core.plugin.agent.interceptor.Interceptor;
+import io.sermant.core.plugin.agent.transformer.AbstractTransformer;
+import io.sermant.core.plugin.agent.transformer.ReentrantTransformer;
+import io.sermant.core.utils.DigestUtils;
+import io.sermant.core.utils.FileUtils;
+import io.sermant.core.utils.StringUtils;
+import io.sermant.core.utils.ThreadFactoryUtils;
+
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.agent.builder.ResettableClassFileTransformer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.instrument.IllegalClassFormatException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Disk cache of the enhanced classes, which lets the enhanced bytecode be reused at next startup instead of being woven
+ * by byte-buddy again
+ * <p>The cache is stored in a directory named by the fingerprint of the cache format, the core version and the plugin
+ * packages, so that it is invalidated as a whole once any of them changes. Each enhanced class is stored in a file
+ * named by the class name and the digest of the original bytecode, see {@link EnhancedClassEntry}
+ * <p>A cached class is not transformed by byte-buddy at all, neither matched nor woven. Its interceptors are created
+ * from the intercept declarers recorded with the bytecode, and registered to the advice slots baked into it, see
+ * {@link EnhancedMethod}. The advice slots are reserved at startup, so that they can be claimed again, see
+ * {@link AdviserScheduler#reserveAdviceSlots}
+ * <p>The enhanced classes are written to the disk by a background thread, so that the classloading is not blocked by
+ * the disk I/O. The pending entries are dropped if the writer falls behind, and are flushed when the cache is closed,
+ * see {@link #close}
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class EnhancedClassCache implements AgentBuilder.TransformerDecorator {
+    private static final Logger LOGGER = LoggerFactory.getLogger();
+
+    private static final int FORMAT_VERSION = 2;
+
+    private static final String ENTRY_SEPARATOR = "#";
+
+    private static final String ENTRY_SUFFIX = ".cache";
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final String META_FILE = "advice.slots";
+
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+
+    private static final int MAX_PENDING_ENTRIES = 1024;
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 5L;
+
+    private final File directory;
+
+    private final long maxSize;
+
+    private final AtomicLong size = new AtomicLong();
+
+    /**
+     * Index of the cached entries, the key is the class name and the value is the digests of the original bytecode
+     */
+    private final Map<String, Set<String>> index = new ConcurrentHashMap<>();
+
+    private final ExecutorService writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(MAX_PENDING_ENTRIES), new ThreadFactoryUtils("sermant-enhanced-class-cache"),
+            new ThreadPoolExecutor.DiscardPolicy());
+
+    private EnhancedClassCache(File directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Create the enhanced class cache as configured, see {@link AgentConfig#isCacheEnhancedClasses()}
+     *
+     * @param config enhancement configuration
+     * @param coreVersion version of sermant core
+     * @param plugins static plugins
+     * @return enhanced class cache, null if the cache is disabled or unavailable
+     */
+    public static EnhancedClassCache create(AgentConfig config, String coreVersion, Collection<Plugin> plugins) {
+        if (!config.isCacheEnhancedClasses()) {
+            return null;
+        }
+        String cachePath = config.getEnhancedClassesCachePath();
+        Path root = StringUtils.isEmpty(cachePath)
+                ? Paths.get(FileUtils.getAgentPath()).resolve(CommonConstant.ENHANCED_CLASS_CACHE_DIR)
+                : Paths.get(cachePath).resolve(CommonConstant.ENHANCED_CLASS_CACHE_DIR);
+        try {
+            String fingerprint = PluginFingerprint.of(plugins, String.valueOf(FORMAT_VERSION), coreVersion);
+            File directory = Files.createDirectories(root.resolve(fingerprint)).toFile();
+            cleanStaleVersions(root.toFile(), fingerprint);
+            EnhancedClassCache cache = new EnhancedClassCache(directory,
+                    config.getEnhancedClassesCacheMaxSize() * BYTES_PER_MB);
+            cache.loadIndex();
+            return cache;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Create enhanced class cache failed, the cache is disabled. ", e);
+            return null;
+        }
+    }
+
+    @Override
+    public ResettableClassFileTransformer decorate(ResettableClassFileTransformer classFileTransformer) {
+        return new CachingClassFileTransformer(classFileTransformer, this);
+    }
+
+    /**
+     * Close the cache, the pending entries are written, and the advice slots are saved, see {@link #saveAdviceSlots}
+     */
+    public void close() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.warning("Write enhanced classes to cache timeout, the pending classes are dropped. ");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        saveAdviceSlots();
+    }
+
+    /**
+     * Save the count of the advice slots, so that the advice slots of the cached classes are reserved at next startup
+     */
+    public void saveAdviceSlots() {
+        try (DataOutputStream outputStream = new DataOutputStream(
+                Files.newOutputStream(new File(directory, META_FILE).toPath()))) {
+            outputStream.writeInt(AdviserScheduler.getAdviceSlotCount());
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Save advice slots of enhanced class cache failed. ", e);
+        }
+    }
+
+    private void loadIndex() {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String fileName = file.getName();
+            if (fileName.endsWith(TEMP_SUFFIX)) {
+                FileUtils.deleteDirs(file);
+                continue;
+            }
+            int separatorIndex = fileName.lastIndexOf(ENTRY_SEPARATOR);
+            if (separatorIndex <= 0 || !fileName.endsWith(ENTRY_SUFFIX)) {
+                continue;
+            }
+            index.computeIfAbsent(fileName.substring(0, separatorIndex), key -> ConcurrentHashMap.newKeySet())
+                    .add(fileName.substring(separatorIndex + 1, fileName.length() - ENTRY_SUFFIX.length()));
+            size.addAndGet(file.length());
+        }
+        File metaFile = new File(directory, META_FILE);
+        if (index.isEmpty() || !metaFile.exists()) {
+            return;
+        }
+        try (DataInputStream inputStream = new DataInputStream(Files.newInputStream(metaFile.toPath()))) {
+            int adviceSlotCount = inputStream.readInt();
+            if (!AdviserScheduler.reserveAdviceSlots(adviceSlotCount)) {
+                LOGGER.warning("Advice slots have been assigned, the enhanced class cache may not be hit. ");
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Load advice slots of enhanced class cache failed. ", e);
+        }
+        LOGGER.log(Level.INFO, "Loaded {0} enhanced classes from cache [{1}]. ",
+                new Object[]{index.size(), directory.getPath()});
+    }
+
+    /**
+     * Whether the class may be cached, the digest of the bytecode is only computed if so
+     *
+     * @param className class name
+     * @return true if the class has cached entries
+     */
+    boolean contains(String className) {
+        return index.containsKey(className);
+    }
+
+    /**
+     * Load the cached enhanced class
+     *
+     * @param className class name
+     * @param digest digest of the original bytecode
+     * @return cached enhanced class, null if not found or broken
+     */
+    EnhancedClassEntry load(String className, String digest) {
+        Set<String> digests = index.get(className);
+        if (digests == null || !digests.contains(digest)) {
+            return null;
+        }
+        File file = getEntryFile(className, digest);
+        try (DataInputStream inputStream = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if (inputStream.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            int methodCount = inputStream.readInt();
+            List<EnhancedMethod> enhancedMethods = new ArrayList<>(methodCount);
+            for (int i = 0; i < methodCount; i++) {
+                enhancedMethods.add(readEnhancedMethod(inputStream));
+            }
+            byte[] bytes = new byte[inputStream.readInt()];
+            inputStream.readFully(bytes);
+            return new EnhancedClassEntry(enhancedMethods, bytes);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Load enhanced class [{0}] from cache failed: {1}",
+                    new Object[]{className, e.getMessage()});
+            digests.remove(digest);
+            return null;
+        }
+    }
+
+    /**
+     * Store the enhanced class by the background writer, see {@link #store}
+     *
+     * @param className class name
+     * @param digest digest of the original bytecode
+     * @param entry enhanced class
+     */
+    void storeAsync(String className, String digest, EnhancedClassEntry entry) {
+        writer.execute(() -> store(className, digest, entry));
+    }
+
+    /**
+     * Store the enhanced class, the entry is dropped if the cache exceeds the max size
+     *
+     * @param className class name
+     * @param digest digest of the original bytecode
+     * @param entry enhanced class
+     */
+    void store(String className, String digest, EnhancedClassEntry entry) {
+        if (size.get() + entry.getBytes().length > maxSize) {
+            return;
+        }
+        File file = getEntryFile(className, digest);
+        File tempFile = new File(directory, file.getName() + "." + Thread.currentThread().getId() + TEMP_SUFFIX);
+        try (DataOutputStream outputStream = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFile.toPath())))) {
+            outputStream.writeInt(FORMAT_VERSION);
+            outputStream.writeInt(entry.getEnhancedMethods().size());
+            for (EnhancedMethod enhancedMethod : entry.getEnhancedMethods()) {
+                writeEnhancedMethod(outputStream, enhancedMethod);
+            }
+            outputStream.writeInt(entry.getBytes().length);
+            outputStream.write(entry.getBytes());
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Store enhanced class [{0}] to cache failed: {1}",
+                    new Object[]{className, e.getMessage()});
+            FileUtils.deleteDirs(tempFile);
+            return;
+        }
+        try {
+            moveFile(tempFile, file);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Store enhanced class [{0}] to cache failed: {1}",
+                    new Object[]{className, e.getMessage()});
+            FileUtils.deleteDirs(tempFile);
+            return;
+        }
+        size.addAndGet(file.length());
+        index.computeIfAbsent(className, key -> ConcurrentHashMap.newKeySet()).add(digest);
+    }
+
+    private static EnhancedMethod readEnhancedMethod(DataInputStream inputStream) throws IOException {
+        String methodKey = inputStream.readUTF();
+        int adviceSlot = inputStream.readInt();
+        String methodDescKey = inputStream.readUTF();
+        String pluginName = inputStream.readUTF();
+        boolean isWoven = inputStream.readBoolean();
+        int sourceCount = inputStream.readInt();
+        List<String> interceptSources = new ArrayList<>(sourceCount);
+        for (int i = 0; i < sourceCount; i++) {
+            interceptSources.add(inputStream.readUTF());
+        }
+        return new EnhancedMethod(methodKey, adviceSlot, methodDescKey, pluginName, isWoven, interceptSources);
+    }
+
+    private static void writeEnhancedMethod(DataOutputStream outputStream, EnhancedMethod enhancedMethod)
+            throws IOException {
+        outputStream.writeUTF(enhancedMethod.getMethodKey());
+        outputStream.writeInt(enhancedMethod.getAdviceSlot());
+        outputStream.writeUTF(enhancedMethod.getMethodDescKey());
+        outputStream.writeUTF(enhancedMethod.getPluginName());
+        outputStream.writeBoolean(enhancedMethod.isWoven());
+        outputStream.writeInt(enhancedMethod.getInterceptSources().size());
+        for (String interceptSource : enhancedMethod.getInterceptSources()) {
+            outputStream.writeUTF(interceptSource);
+        }
+    }
+
+    private File getEntryFile(String className, String digest) {
+        return new File(directory, className + ENTRY_SEPARATOR + digest + ENTRY_SUFFIX);
+    }
+
+    private static void moveFile(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void cleanStaleVersions(File root, String fingerprint) {
+        File[] versions = root.listFiles();
+        if (versions == null) {
+            return;
+        }
+        for (File version : versions) {
+            if (version.isDirectory() && !version.getName().equals(fingerprint)) {
+                FileUtils.deleteDirs(version);
+            }
+        }
+    }
+
+    /**
+     * Class file transformer serving the enhanced classes from the cache
+     * <p>On a cache hit, the delegated byte-buddy transformer is not called, the interceptors are created and
+     * registered from the cached entry directly, see {@link #replay}, and the cached bytecode is returned. If the
+     * entry can not be replayed, the class is transformed by byte-buddy as if it is not cached, and the entry is
+     * overwritten
+     * <p>Only the classes being loaded are served from the cache, the classes being redefined are always transformed
+     * by byte-buddy. Note that the module of the class is not passed to byte-buddy when the cache is enabled
+     *
+     * @since 2026-10-18
+     */
+    private static class CachingClassFileTransformer extends ResettableClassFileTransformer.WithDelegation {
+        private final EnhancedClassCache cache;
+
+        CachingClassFileTransformer(ResettableClassFileTransformer classFileTransformer, EnhancedClassCache cache) {
+            super(classFileTransformer);
+            this.cache = cache;
+        }
+
+        @Override
+        public byte[] transform(ClassLoader loader, String internalName, Class<?> classBeingRedefined,
+                ProtectionDomain protectionDomain, byte[] classfileBuffer) throws IllegalClassFormatException {
+            if (classBeingRedefined != null || internalName == null) {
+                // The session of the class being loaded by the thread, if any, is suspended, so that the enhancements
+                // of the class being redefined are not recorded into it
+                EnhanceSession.record();
+                try {
+                    return classFileTransformer.transform(loader, internalName, classBeingRedefined,
+                            protectionDomain, classfileBuffer);
+                } finally {
+                    EnhanceSession.end();
+                }
+            }
+            String className = internalName.replace('/', '.');
+            String digest = null;
+            if (cache.contains(className)) {
+                digest = DigestUtils.sha256Hex(classfileBuffer);
+                EnhancedClassEntry entry = cache.load(className, digest);
+                if (entry != null && replay(entry, loader)) {
+                    return entry.getBytes();
+                }
+            }
+            EnhanceSession session = EnhanceSession.record();
+            byte[] result;
+            try {
+                result = classFileTransformer.transform(loader, internalName, null, protectionDomain,
+                        classfileBuffer);
+            } finally {
+                EnhanceSession.end();
+            }
+            if (result != null && session.isCacheable()) {
+                cache.storeAsync(className, digest == null ? DigestUtils.sha256Hex(classfileBuffer) : digest,
+                        new EnhancedClassEntry(session.getEnhancedMethods(), result));
+            }
+            return result;
+        }
+
+        /**
+         * Register the interceptors of the cached class the same way as {@link ReentrantTransformer} does
+         * <pre>
+         *     1.Create the interceptors from the recorded intercept declarers, see {@link InterceptDeclarerRegistry}
+         *     2.Claim the advice slots baked into the cached bytecode
+         *     3.Add the interceptors to the advice slots, the advice locks must be held as recorded
+         * </pre>
+         * Nothing is registered if any interceptor can not be created or any advice slot can not be claimed. The
+         * registration is idempotent, so the class can still be transformed by byte-buddy if the replay fails
+         *
+         * @param entry cached enhanced class
+         * @param loader classloader of the class
+         * @return true if the cached bytecode can be used
+         */
+        private boolean replay(EnhancedClassEntry entry, ClassLoader loader) {
+            ClassLoader interceptorLoader = loader == null ? ClassLoader.getSystemClassLoader() : loader;
+            Map<String, InterceptDeclarer[]> createdDeclarers = new HashMap<>();
+            List<Plugin> plugins = new ArrayList<>();
+            List<List<Interceptor>> interceptorsList = new ArrayList<>();
+            try {
+                for (EnhancedMethod enhancedMethod : entry.getEnhancedMethods()) {
+                    Plugin plugin = InterceptDeclarerRegistry.getPlugin(enhancedMethod.getPluginName());
+                    if (plugin == null) {
+                        return false;
+                    }
+                    List<Interceptor> interceptors = new ArrayList<>();
+                    for (String source : enhancedMethod.getInterceptSources()) {
+                        InterceptDeclarer declarer = InterceptDeclarerRegistry.getInterceptDeclarer(
+                                enhancedMethod.getPluginName(), source, loader, createdDeclarers);
+                        if (declarer == null) {
+                            return false;
+                        }
+                        interceptors.addAll(Arrays.asList(declarer.getInterceptors(interceptorLoader)));
+                    }
+                    plugins.add(plugin);
+                    interceptorsList.add(interceptors);
+                }
+            } catch (RuntimeException | LinkageError e) {
+                LOGGER.log(Level.WARNING, "Replay enhanced class from cache failed: {0}", e.getMessage());
+                return false;
+            }
+            for (EnhancedMethod enhancedMethod : entry.getEnhancedMethods()) {
+                String adviceKey = AbstractTransformer.getAdviceKey(enhancedMethod.getMethodKey(), loader);
+                if (AdviserScheduler.getAdviceSlot(adviceKey, enhancedMethod.getAdviceSlot())
+                        != enhancedMethod.getAdviceSlot()) {
+                    return false;
+                }
+            }
+            for (int i = 0; i < plugins.size(); i++) {
+                EnhancedMethod enhancedMethod = entry.getEnhancedMethods().get(i);
+                String adviceKey = AbstractTransformer.getAdviceKey(enhancedMethod.getMethodKey(), loader);
+                if (ReentrantTransformer.addInterceptors(plugins.get(i), adviceKey, enhancedMethod.getAdviceSlot(),
+                        enhancedMethod.getMethodDescKey(), interceptorsList.get(i), loader)
+                        != enhancedMethod.isWoven()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.cache;
+
+import java.util.List;
+
+/**
+ * Cached enhanced class, consists of the enhanced bytecode and the enhancements of the methods baked into it
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class EnhancedClassEntry {
+    /**
+     * enhancements of the methods in the order they are made
+     */
+    private final List<EnhancedMethod> enhancedMethods;
+
+    /**
+     * enhanced bytecode
+     */
+    private final byte[] bytes;
+
+    /**
+     * constructor
+     *
+     * @param enhancedMethods enhancements of the methods
+     * @param bytes enhanced bytecode
+     */
+    public EnhancedClassEntry(List<EnhancedMethod> enhancedMethods, byte[] bytes) {
+        this.enhancedMethods = enhancedMethods;
+        this.bytes = bytes;
+    }
+
+    public List<EnhancedMethod> getEnhancedMethods() {
+        return enhancedMethods;
+    }
+
+    public byte[] getBytes() {
+        return bytes;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.cache;
+
+import java.util.List;
+
+/**
+ * Enhancement of a method of the cached class made by a plugin, which is enough to register the interceptors of the
+ * method again without transforming the class
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class EnhancedMethod {
+    /**
+     * method key, the adviceKey without the classloader, which stays stable between restarts
+     */
+    private final String methodKey;
+
+    /**
+     * advice slot baked into the enhanced bytecode
+     */
+    private final int adviceSlot;
+
+    /**
+     * meta information of the enhanced method
+     */
+    private final String methodDescKey;
+
+    /**
+     * name of the plugin which enhances the method
+     */
+    private final String pluginName;
+
+    /**
+     * whether the advice is woven by the plugin, that is the plugin holds the advice lock of the method
+     */
+    private final boolean woven;
+
+    /**
+     * sources of the intercept declarers matching the method, see {@link InterceptDeclarerRegistry}
+     */
+    private final List<String> interceptSources;
+
+    /**
+     * constructor
+     *
+     * @param methodKey method key
+     * @param adviceSlot advice slot
+     * @param methodDescKey meta information of the enhanced method
+     * @param pluginName plugin name
+     * @param woven whether the advice is woven by the plugin
+     * @param interceptSources sources of the intercept declarers
+     */
+    public EnhancedMethod(String methodKey, int adviceSlot, String methodDescKey, String pluginName, boolean woven,
+            List<String> interceptSources) {
+        this.methodKey = methodKey;
+        this.adviceSlot = adviceSlot;
+        this.methodDescKey = methodDescKey;
+        this.pluginName = pluginName;
+        this.woven = woven;
+        this.interceptSources = interceptSources;
+    }
+
+    public String getMethodKey() {
+        return methodKey;
+    }
+
+    public int getAdviceSlot() {
+        return adviceSlot;
+    }
+
+    public String getMethodDescKey() {
+        return methodDescKey;
+    }
+
+    public String getPluginName() {
+        return pluginName;
+    }
+
+    public boolean isWoven() {
+        return woven;
+    }
+
+    public List<String> getInterceptSources() {
+        return interceptSources;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.cache;
+
+import io.sermant.core.plugin.Plugin;
+import io.sermant.core.plugin.agent.declarer.InterceptDeclarer;
+import io.sermant.core.plugin.agent.declarer.PluginDeclarer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Registry of the plugin declarers of the static plugins, which lets the interceptors of a class served from the
+ * enhanced class cache be created without transforming the class
+ * <p>The format of an intercept source is [class name of the plugin declarer#index of the intercept declarer], the
+ * index is the one in the intercept declarers created by the plugin declarer. A plugin declarer is only found if its
+ * class name is unique in the plugin
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class InterceptDeclarerRegistry {
+    private static final String SOURCE_SEPARATOR = "#";
+
+    /**
+     * Provider of the plugin declarers sharing a class name in the same plugin
+     */
+    private static final Function<ClassLoader, InterceptDeclarer[]> AMBIGUOUS_PROVIDER = classLoader -> null;
+
+    private static final Map<String, Plugin> PLUGINS = new ConcurrentHashMap<>();
+
+    /**
+     * Providers of the intercept declarers, the key is the plugin name, and the key of the value is the class name of
+     * the plugin declarer
+     */
+    private static final Map<String, Map<String, Function<ClassLoader, InterceptDeclarer[]>>> PROVIDERS =
+            new ConcurrentHashMap<>();
+
+    private InterceptDeclarerRegistry() {
+    }
+
+    /**
+     * Register the plugin declarer of a static plugin
+     *
+     * @param plugin plugin
+     * @param pluginDeclarer plugin declarer
+     * @param provider creates the intercept declarers for the classloader of the enhanced class, the same way as the
+     * transformer does
+     */
+    public static void register(Plugin plugin, PluginDeclarer pluginDeclarer,
+            Function<ClassLoader, InterceptDeclarer[]> provider) {
+        if (plugin.isDynamic() || PLUGINS.computeIfAbsent(plugin.getName(), key -> plugin) != plugin) {
+            return;
+        }
+        Map<String, Function<ClassLoader, InterceptDeclarer[]>> providers = PROVIDERS.computeIfAbsent(
+                plugin.getName(), key -> new ConcurrentHashMap<>());
+        if (providers.putIfAbsent(pluginDeclarer.getClass().getName(), provider) != null) {
+            providers.put(pluginDeclarer.getClass().getName(), AMBIGUOUS_PROVIDER);
+        }
+    }
+
+    /**
+     * Whether the plugin declarers of the plugin are registered
+     *
+     * @param plugin plugin
+     * @return registered or not
+     */
+    public static boolean isRegistered(Plugin plugin) {
+        return PLUGINS.get(plugin.getName()) == plugin;
+    }
+
+    /**
+     * Get the sources of the intercept declarers created by the plugin declarer
+     *
+     * @param pluginDeclarer plugin declarer
+     * @param interceptDeclarers intercept declarers created by the plugin declarer
+     * @return intercept sources
+     */
+    public static String[] getInterceptSources(PluginDeclarer pluginDeclarer,
+            InterceptDeclarer[] interceptDeclarers) {
+        String[] sources = new String[interceptDeclarers.length];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = pluginDeclarer.getClass().getName() + SOURCE_SEPARATOR + i;
+        }
+        return sources;
+    }
+
+    /**
+     * Get the registered plugin
+     *
+     * @param pluginName plugin name
+     * @return plugin, null if not registered
+     */
+    static Plugin getPlugin(String pluginName) {
+        return PLUGINS.get(pluginName);
+    }
+
+    /**
+     * Get the intercept declarer of the source
+     *
+     * @param pluginName plugin name
+     * @param source intercept source
+     * @param classLoader classloader of the enhanced class
+     * @param created intercept declarers created for the class so far, keyed by the class name of the plugin declarer
+     * @return intercept declarer, null if not found
+     */
+    static InterceptDeclarer getInterceptDeclarer(String pluginName, String source, ClassLoader classLoader,
+            Map<String, InterceptDeclarer[]> created) {
+        int separatorIndex = source.lastIndexOf(SOURCE_SEPARATOR);
+        Map<String, Function<ClassLoader, InterceptDeclarer[]>> providers = PROVIDERS.get(pluginName);
+        if (separatorIndex <= 0 || providers == null) {
+            return null;
+        }
+        String declarerName = source.substring(0, separatorIndex);
+        Function<ClassLoader, InterceptDeclarer[]> provider = providers.get(declarerName);
+        if (provider == null) {
+            return null;
+        }
+        InterceptDeclarer[] interceptDeclarers = created.computeIfAbsent(pluginName + SOURCE_SEPARATOR + declarerName,
+                key -> provider.apply(classLoader));
+        int index;
+        try {
+            index = Integer.parseInt(source.substring(separatorIndex + 1));
+        } catch (NumberFormatException ignored) {
+            return null;
+        }
+        if (interceptDeclarers == null || index < 0 || index >= interceptDeclarers.length) {
+            return null;
+        }
+        return interceptDeclarers[index];
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.cache;
+
+import io.sermant.core.plugin.Plugin;
+import io.sermant.core.utils.DigestUtils;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Fingerprint of the static plugins, used to invalidate the caches built by the enhancement of a previous startup
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class PluginFingerprint {
+    /**
+     * Length of the fingerprint
+     */
+    public static final int FINGERPRINT_LENGTH = 16;
+
+    private PluginFingerprint() {
+    }
+
+    /**
+     * Build the fingerprint of the static plugins and the attributes the cache depends on
+     *
+     * @param plugins plugins, the dynamic ones are skipped
+     * @param attributes attributes the cache depends on, such as the cache format and the core version
+     * @return hex string of the fingerprint
+     */
+    public static String of(Collection<Plugin> plugins, String... attributes) {
+        MessageDigest messageDigest = DigestUtils.sha256();
+        for (String attribute : attributes) {
+            update(messageDigest, attribute);
+        }
+        List<Plugin> sortedPlugins = new ArrayList<>(plugins);
+        sortedPlugins.sort(Comparator.comparing(Plugin::getName));
+        for (Plugin plugin : sortedPlugins) {
+            if (plugin.isDynamic()) {
+                continue;
+            }
+            update(messageDigest, plugin.getName());
+            update(messageDigest, plugin.getVersion());
+            if (plugin.getPath() != null) {
+                updatePackages(messageDigest, new File(plugin.getPath()));
+            }
+        }
+        return DigestUtils.toHex(messageDigest.digest()).substring(0, FINGERPRINT_LENGTH);
+    }
+
+    /**
+     * The plugin packages are identified by the file name, size and modification time, instead of reading the whole
+     * packages at startup
+     *
+     * @param messageDigest message digest
+     * @param file plugin file or directory
+     */
+    private static void updatePackages(MessageDigest messageDigest, File file) {
+        if (file.isDirectory()) {
+            File[] subFiles = file.listFiles();
+            if (subFiles == null) {
+                return;
+            }
+            Arrays.sort(subFiles);
+            for (File subFile : subFiles) {
+                updatePackages(messageDigest, subFile);
+            }
+            return;
+        }
+        if (file.getName().endsWith(".jar")) {
+            update(messageDigest, String.format(Locale.ROOT, "%s:%d:%d", file.getName(), file.length(),
+                    file.lastModified()));
+        }
+    }
+
+    private static void update(MessageDigest messageDigest, String value) {
+        messageDigest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        messageDigest.update((byte) 0);
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.cache;
+
+import io.sermant.core.common.LoggerFactory;
+import io.sermant.core.plugin.Plugin;
+import io.sermant.core.plugin.agent.config.AgentConfig;
+import io.sermant.core.utils.FileUtils;
+import io.sermant.core.utils.StringUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pre-filter of the classes not matched by any plugin, which lets the known unmatched classes skip the plugin matching
+ * <p>The classes not matched during a run are recorded and saved at shutdown, merged with the ones loaded at startup.
+ * The file consists of a bloom filter and a sorted table of the class names, and is memory mapped when loaded, so that
+ * the pre-filter costs almost no heap. The layout of the file:
+ * <pre>
+ *     header: magic, format version, fingerprint, bloom filter words, entry count
+ *     bloom filter: long[bloom filter words]
+ *     offsets: int[entry count + 1], offsets of the class names in the data
+ *     data: UTF-8 class names sorted by unsigned bytes
+ * </pre>
+ * The file is discarded if the fingerprint of the plugins or the enhancement configuration changes, see
+ * {@link PluginFingerprint}. The file holds at most {@link #MAX_ENTRIES} classes, the classes not matched after that
+ * are not recorded
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class UnmatchedClassFilter {
+    private static final Logger LOGGER = LoggerFactory.getLogger();
+
+    private static final String DEFAULT_FILE_NAME = "unmatched_class.filter";
+
+    private static final int MAGIC = 0x53554346;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_SIZE = 4 + 4 + PluginFingerprint.FINGERPRINT_LENGTH + 4 + 4;
+
+    private static final int HASH_COUNT = 7;
+
+    private static final int BITS_PER_ENTRY = 10;
+
+    private static final int MIN_BLOOM_WORDS = 16;
+
+    private static final int FNV_OFFSET_BASIS = 0x811c9dc5;
+
+    private static final int FNV_PRIME = 0x01000193;
+
+    private static final int MAX_ENTRIES = 1 << 18;
+
+    private final File file;
+
+    private final String fingerprint;
+
+    private final ByteBuffer buffer;
+
+    private final int bloomWords;
+
+    private final int entryCount;
+
+    private final int offsetsStart;
+
+    private final int dataStart;
+
+    /**
+     * Classes not matched during the run and not contained in the loaded filter
+     */
+    private final Set<String> learnedClasses = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean learnedClassesFull;
+
+    private UnmatchedClassFilter(File file, String fingerprint, ByteBuffer buffer) {
+        this.file = file;
+        this.fingerprint = fingerprint;
+        this.buffer = buffer;
+        if (buffer == null) {
+            bloomWords = 0;
+            entryCount = 0;
+        } else {
+            bloomWords = buffer.getInt(HEADER_SIZE - 8);
+            entryCount = buffer.getInt(HEADER_SIZE - 4);
+        }
+        offsetsStart = HEADER_SIZE + bloomWords * Long.BYTES;
+        dataStart = offsetsStart + (entryCount + 1) * Integer.BYTES;
+    }
+
+    /**
+     * Create the pre-filter as configured, see {@link AgentConfig#isPreFilterEnable()}
+     *
+     * @param config enhancement configuration
+     * @param coreVersion version of sermant core
+     * @param plugins static plugins
+     * @return pre-filter, null if the pre-filter is disabled
+     */
+    public static UnmatchedClassFilter create(AgentConfig config, String coreVersion, Collection<Plugin> plugins) {
+        if (!config.isPreFilterEnable()) {
+            return null;
+        }
+        String path = StringUtils.isEmpty(config.getPreFilterPath()) ? FileUtils.getAgentPath()
+                : config.getPreFilterPath();
+        String fileName = StringUtils.isEmpty(config.getPreFilterFile()) ? DEFAULT_FILE_NAME
+                : config.getPreFilterFile();
+        String fingerprint = PluginFingerprint.of(plugins, String.valueOf(FORMAT_VERSION), coreVersion,
+                String.valueOf(config.getIgnoredPrefixes()), String.valueOf(config.getIgnoredInterfaces()),
+                String.valueOf(config.getServiceInjectList()));
+        File file = new File(path, fileName);
+        return new UnmatchedClassFilter(file, fingerprint, load(file, fingerprint));
+    }
+
+    private static ByteBuffer load(File file, String fingerprint) {
+        if (!file.isFile() || file.length() < HEADER_SIZE) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+                return null;
+            }
+            byte[] fingerprintBytes = new byte[PluginFingerprint.FINGERPRINT_LENGTH];
+            for (int i = 0; i < fingerprintBytes.length; i++) {
+                fingerprintBytes[i] = buffer.get(8 + i);
+            }
+            if (!fingerprint.equals(new String(fingerprintBytes, StandardCharsets.US_ASCII))) {
+                LOGGER.info("Plugins or enhancement configuration changed, the unmatched class filter is rebuilt. ");
+                return null;
+            }
+            return buffer;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Load unmatched class filter failed: {0}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Whether the class is known to be unmatched by any plugin
+     *
+     * @param className class name
+     * @return true if the class is known to be unmatched
+     */
+    public boolean contains(String className) {
+        if (entryCount == 0) {
+            return false;
+        }
+        int hash1 = className.hashCode();
+        int hash2 = fnvHash(className);
+        long bloomBits = (long) bloomWords * Long.SIZE;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            long bit = bitIndex(hash1, hash2, i, bloomBits);
+            long word = buffer.getLong(HEADER_SIZE + (int) (bit >>> 6) * Long.BYTES);
+            if ((word & (1L << (bit & 63))) == 0) {
+                return false;
+            }
+        }
+        return binarySearch(className.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Record the class not matched by any plugin during the run
+     *
+     * @param className class name
+     */
+    public void record(String className) {
+        if (contains(className)) {
+            return;
+        }
+        if (entryCount + learnedClasses.size() >= MAX_ENTRIES) {
+            if (!learnedClassesFull) {
+                learnedClassesFull = true;
+                LOGGER.log(Level.INFO, "The unmatched class filter is full, at most {0} classes are recorded. ",
+                        MAX_ENTRIES);
+            }
+            return;
+        }
+        learnedClasses.add(className);
+    }
+
+    /**
+     * Save the loaded and the recorded unmatched classes
+     */
+    public void save() {
+        if (learnedClasses.isEmpty() && buffer != null) {
+            return;
+        }
+        List<byte[]> entries = new ArrayList<>(getEntries());
+        Path tempFile = null;
+        try {
+            FileUtils.createParentDir(file);
+
+            // Each process writes its own temporary file, so that the processes sharing the filter do not clobber
+            // each other
+            tempFile = Files.createTempFile(file.getAbsoluteFile().getParentFile().toPath(), file.getName(), ".tmp");
+            write(tempFile.toFile(), entries);
+            Files.move(tempFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Save unmatched class filter failed: {0}", e.getMessage());
+            if (tempFile != null) {
+                FileUtils.deleteDirs(tempFile.toFile());
+            }
+        }
+    }
+
+    private Set<byte[]> getEntries() {
+        Set<byte[]> entries = new TreeSet<>(UnmatchedClassFilter::compare);
+        for (int i = 0; i < entryCount; i++) {
+            int start = buffer.getInt(offsetsStart + i * Integer.BYTES);
+            int end = buffer.getInt(offsetsStart + (i + 1) * Integer.BYTES);
+            byte[] entry = new byte[end - start];
+            for (int j = 0; j < entry.length; j++) {
+                entry[j] = buffer.get(dataStart + start + j);
+            }
+            entries.add(entry);
+        }
+        for (String className : learnedClasses) {
+            entries.add(className.getBytes(StandardCharsets.UTF_8));
+        }
+        return entries;
+    }
+
+    private void write(File target, List<byte[]> entries) throws IOException {
+        int words = Math.max(MIN_BLOOM_WORDS, (entries.size() * BITS_PER_ENTRY + Long.SIZE - 1) / Long.SIZE);
+        long[] bloom = new long[words];
+        long bloomBits = (long) words * Long.SIZE;
+        for (byte[] entry : entries) {
+            String className = new String(entry, StandardCharsets.UTF_8);
+            int hash1 = className.hashCode();
+            int hash2 = fnvHash(className);
+            for (int i = 0; i < HASH_COUNT; i++) {
+                long bit = bitIndex(hash1, hash2, i, bloomBits);
+                bloom[(int) (bit >>> 6)] |= 1L << (bit & 63);
+            }
+        }
+        try (DataOutputStream outputStream = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(target.toPath())))) {
+            outputStream.writeInt(MAGIC);
+            outputStream.writeInt(FORMAT_VERSION);
+            outputStream.write(fingerprint.getBytes(StandardCharsets.US_ASCII));
+            outputStream.writeInt(words);
+            outputStream.writeInt(entries.size());
+            for (long word : bloom) {
+                outputStream.writeLong(word);
+            }
+            int offset = 0;
+            outputStream.writeInt(offset);
+            for (byte[] entry : entries) {
+                offset += entry.length;
+                outputStream.writeInt(offset);
+            }
+            for (byte[] entry : entries) {
+                outputStream.write(entry);
+            }
+        }
+    }
+
+    private boolean binarySearch(byte[] target) {
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int result = compareEntry(mid, target);
+            if (result < 0) {
+                low = mid + 1;
+            } else if (result > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int compareEntry(int index, byte[] target) {
+        int start = buffer.getInt(offsetsStart + index * Integer.BYTES);
+        int length = buffer.getInt(offsetsStart + (index + 1) * Integer.BYTES) - start;
+        int minLength = Math.min(length, target.length);
+        for (int i = 0; i < minLength; i++) {
+            int result = Integer.compare(buffer.get(dataStart + start + i) & 0xFF, target[i] & 0xFF);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(length, target.length);
+    }
+
+    private static int compare(byte[] left, byte[] right) {
+        int minLength = Math.min(left.length, right.length);
+        for (int i = 0; i < minLength; i++) {
+            int result = Integer.compare(left[i] & 0xFF, right[i] & 0xFF);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(left.length, right.length);
+    }
+
+    // Double hashing, the second hash is forced to be odd so that the probes never collapse into one bit
+    private static long bitIndex(int hash1, int hash2, int probe, long bloomBits) {
+        return ((hash1 + (long) probe * (hash2 | 1)) & Long.MAX_VALUE) % bloomBits;
+    }
+
+    private static int fnvHash(String value) {
+        int hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -17,10 +17,9 @@
 package io.sermant.core.plugin.agent.collector;
 
 import io.sermant.core.common.LoggerFactory;
-import io.sermant.core.config.ConfigManager;
 import io.sermant.core.plugin.Plugin;
-import io.sermant.core.plugin.agent.config.AgentConfig;
-import io.sermant.core.plugin.agent.declarer.AbstractPluginDescription;
+import io.sermant.core.plugin.agent.cache.InterceptDeclarerRegistry;
+import io.sermant.core.plugin.agent.declarer.IndexedPluginDescription;
 import io.sermant.core.plugin.agent.declarer.InterceptDeclarer;
 import io.sermant.core.plugin.agent.declarer.PluginDeclarer;
 import io.sermant.core.plugin.agent.declarer.PluginDescription;
@@ -28,7 +27,6 @@ import io.sermant.core.plugin.agent.matcher.ClassMatcher;
 import io.sermant.core.plugin.agent.matcher.ClassTypeMatcher;
 import io.sermant.core.plugin.agent.transformer.ReentrantTransformer;
 import io.sermant.core.plugin.classloader.PluginClassLoader;
-import io.sermant.core.utils.FileUtils;
 
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.DynamicType.Builder;
@@ -39,9 +37,11 @@ import java.security.ProtectionDomain;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -55,8 +55,6 @@ import java.util.logging.Logger;
 public class PluginCollector {
     private static final Logger LOGGER = LoggerFactory.getLogger();
 
-    private static final boolean IS_PRE_FILTER_ENABLE = ConfigManager.getConfig(AgentConfig.class).isPreFilterEnable();
-
     private PluginCollector() {
     }
 
@@ -103,6 +101,8 @@ public class PluginCollector {
         final List<PluginDeclarer> combinedList = new ArrayList<>();
         List<? extends PluginDeclarer> declarers = getDeclarers(plugin.getPluginClassLoader());
         for (PluginDeclarer pluginDeclarer : declarers) {
+            InterceptDeclarerRegistry.register(plugin, pluginDeclarer,
+                    classLoader -> getInterceptDeclarers(pluginDeclarer, classLoader));
             final ClassMatcher classMatcher = pluginDeclarer.getClassMatcher();
             if (classMatcher instanceof ClassTypeMatcher) {
                 for (String typeName : ((ClassTypeMatcher) classMatcher).getTypeNames()) {
@@ -117,9 +117,10 @@ public class PluginCollector {
         return createPluginDescription(plugin, nameCombinedMap, combinedList);
     }
 
-    private static AbstractPluginDescription createPluginDescription(Plugin plugin,
+    private static IndexedPluginDescription createPluginDescription(Plugin plugin,
             Map<String, List<PluginDeclarer>> nameCombinedMap, List<PluginDeclarer> combinedList) {
-        return new AbstractPluginDescription() {
+        final Set<String> typeNames = new HashSet<>(nameCombinedMap.keySet());
+        return new IndexedPluginDescription() {
             @Override
             public Builder<?> transform(Builder<?> builder, TypeDescription typeDescription, ClassLoader classLoader,
                     JavaModule javaModule, ProtectionDomain protectionDomain) {
@@ -128,16 +129,25 @@ public class PluginCollector {
             }
 
             @Override
-            public boolean matches(TypeDescription target) {
-                final String typeName = target.getActualName();
-                doMatch(target, typeName, combinedList, nameCombinedMap);
-                return nameCombinedMap.containsKey(typeName);
+            public Set<String> getTypeNames() {
+                return typeNames;
+            }
+
+            @Override
+            public boolean isFuzzy() {
+                return !combinedList.isEmpty();
+            }
+
+            @Override
+            public boolean fuzzyMatches(TypeDescription target) {
+                return doMatch(target, target.getActualName(), combinedList, nameCombinedMap);
             }
         };
     }
 
-    private static void doMatch(TypeDescription target, String typeName, List<PluginDeclarer> combinedList,
+    private static boolean doMatch(TypeDescription target, String typeName, List<PluginDeclarer> combinedList,
             Map<String, List<PluginDeclarer>> nameCombinedMap) {
+        boolean matched = false;
         for (PluginDeclarer declarer : combinedList) {
             if (matchTarget(declarer.getClassMatcher(), target)) {
                 List<PluginDeclarer> declarers = nameCombinedMap.computeIfAbsent(typeName,
@@ -145,8 +155,10 @@ public class PluginCollector {
                 if (!declarers.contains(declarer)) {
                     declarers.add(declarer);
                 }
+                matched = true;
             }
         }
+        return matched;
     }
 
     private static Builder<?> doTransform(Builder<?> builder, TypeDescription typeDescription, ClassLoader classLoader,
@@ -154,21 +166,39 @@ public class PluginCollector {
             Plugin plugin) {
         final List<PluginDeclarer> pluginDeclarers = nameCombinedMap.get(typeDescription.getActualName());
         final List<InterceptDeclarer> interceptDeclarers = new ArrayList<>();
+        final List<String> interceptSources = new ArrayList<>();
         for (PluginDeclarer pluginDeclarer : pluginDeclarers) {
-            ClassLoader loader = pluginDeclarer.getClass().getClassLoader();
-            if (loader instanceof PluginClassLoader) {
-                PluginClassLoader pluginClassLoader = (PluginClassLoader) loader;
-                pluginClassLoader.setLocalLoader(classLoader);
-                interceptDeclarers.addAll(Arrays.asList(
-                        pluginDeclarer.getInterceptDeclarers(ClassLoader.getSystemClassLoader())));
-                pluginClassLoader.removeLocalLoader();
-            } else {
-                interceptDeclarers.addAll(Arrays.asList(
-                        pluginDeclarer.getInterceptDeclarers(ClassLoader.getSystemClassLoader())));
-            }
+            InterceptDeclarer[] declarers = getInterceptDeclarers(pluginDeclarer, classLoader);
+            interceptDeclarers.addAll(Arrays.asList(declarers));
+            interceptSources.addAll(Arrays.asList(
+                    InterceptDeclarerRegistry.getInterceptSources(pluginDeclarer, declarers)));
+        }
+        return new ReentrantTransformer(interceptDeclarers.toArray(new InterceptDeclarer[0]),
+                interceptSources.toArray(new String[0]), plugin).transform(builder, typeDescription, classLoader,
+                javaModule, protectionDomain);
+    }
+
+    /**
+     * Get the intercept declarers of the plugin declarer for the enhanced class, the classes of the enhanced class
+     * can be found by the plugin classloader meanwhile
+     *
+     * @param pluginDeclarer plugin declarer
+     * @param classLoader classloader of the enhanced class
+     * @return intercept declarers
+     */
+    private static InterceptDeclarer[] getInterceptDeclarers(PluginDeclarer pluginDeclarer,
+            ClassLoader classLoader) {
+        ClassLoader loader = pluginDeclarer.getClass().getClassLoader();
+        if (!(loader instanceof PluginClassLoader)) {
+            return pluginDeclarer.getInterceptDeclarers(ClassLoader.getSystemClassLoader());
+        }
+        PluginClassLoader pluginClassLoader = (PluginClassLoader) loader;
+        pluginClassLoader.setLocalLoader(classLoader);
+        try {
+            return pluginDeclarer.getInterceptDeclarers(ClassLoader.getSystemClassLoader());
+        } finally {
+            pluginClassLoader.removeLocalLoader();
         }
-        return new ReentrantTransformer(interceptDeclarers.toArray(new InterceptDeclarer[0]), plugin).transform(
-                builder, typeDescription, classLoader, javaModule, protectionDomain);
     }
 
     /**
@@ -197,12 +227,7 @@ public class PluginCollector {
 
     private static boolean matchTarget(ElementMatcher<TypeDescription> matcher, TypeDescription target) {
         try {
-            boolean result = matcher.matches(target);
-            if (IS_PRE_FILTER_ENABLE && !result) {
-                FileUtils.addToUnmatchedClassCache(target.getActualName());
-            }
-
-            return result;
+            return matcher.matches(target);
         } catch (Exception exception) {
             LOGGER.log(Level.WARNING, "Exception occurs when math target: " + target.getActualName() + ",{0}",
                     exception.getMessage());
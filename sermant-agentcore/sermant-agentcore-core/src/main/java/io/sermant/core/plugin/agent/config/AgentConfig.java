@@ -65,6 +65,21 @@ public class AgentConfig implements BaseConfig {
      */
     private String enhancedClassesOutputPath;
 
+    /**
+     * Whether to cache the bytecode of the enhanced classes on disk, so that they are not woven again at next startup
+     */
+    private boolean isCacheEnhancedClasses = false;
+
+    /**
+     * The cache path of the enhanced classes, if empty, it will use agent/enhancedClassesCache
+     */
+    private String enhancedClassesCachePath;
+
+    /**
+     * The max size of the enhanced class cache, unit: MB
+     */
+    private int enhancedClassesCacheMaxSize = 64;
+
     /**
      * List of inject plugin services
      */
@@ -85,6 +100,43 @@ public class AgentConfig implements BaseConfig {
      */
     private boolean useContextLoader = false;
 
+    /**
+     * Whether to scan the plugin packages and validate their schemas in parallel when the plugins are loaded, the
+     * plugins are still registered in the configured order
+     */
+    private boolean isLoadPluginsInParallel = false;
+
+    /**
+     * The max number of threads scanning the plugin packages in parallel
+     */
+    private int pluginLoadingThreads = 4;
+
+    /**
+     * Whether to profile the cost of the interceptors, see
+     * {@link io.sermant.core.plugin.agent.profile.InterceptorProfiler}
+     */
+    @ConfigFieldKey("profile.enable")
+    private boolean profileEnable = false;
+
+    /**
+     * One of every sampleInterval interceptor calls is profiled
+     */
+    @ConfigFieldKey("profile.sampleInterval")
+    private int profileSampleInterval = 64;
+
+    /**
+     * The max number of classes retransformed in one batch when the classes are enhanced or reset after they are
+     * loaded, such as hot-plugging and dynamic attach, all classes are retransformed in one batch if not positive
+     */
+    @ConfigFieldKey("retransform.batchSize")
+    private int retransformBatchSize = 100;
+
+    /**
+     * The pause between the retransformation batches, unit: ms
+     */
+    @ConfigFieldKey("retransform.batchPause")
+    private int retransformBatchPause = 0;
+
     public boolean isReTransformEnable() {
         return isReTransformEnable;
     }
@@ -133,6 +185,30 @@ public class AgentConfig implements BaseConfig {
         this.enhancedClassesOutputPath = enhancedClassesOutputPath;
     }
 
+    public boolean isCacheEnhancedClasses() {
+        return isCacheEnhancedClasses;
+    }
+
+    public void setCacheEnhancedClasses(boolean cacheEnhancedClasses) {
+        isCacheEnhancedClasses = cacheEnhancedClasses;
+    }
+
+    public String getEnhancedClassesCachePath() {
+        return enhancedClassesCachePath;
+    }
+
+    public void setEnhancedClassesCachePath(String enhancedClassesCachePath) {
+        this.enhancedClassesCachePath = enhancedClassesCachePath;
+    }
+
+    public int getEnhancedClassesCacheMaxSize() {
+        return enhancedClassesCacheMaxSize;
+    }
+
+    public void setEnhancedClassesCacheMaxSize(int enhancedClassesCacheMaxSize) {
+        this.enhancedClassesCacheMaxSize = enhancedClassesCacheMaxSize;
+    }
+
     public Set<String> getServiceInjectList() {
         return serviceInjectList;
     }
@@ -172,4 +248,52 @@ public class AgentConfig implements BaseConfig {
     public void setPreFilterFile(String preFilterFile) {
         this.preFilterFile = preFilterFile;
     }
+
+    public boolean isLoadPluginsInParallel() {
+        return isLoadPluginsInParallel;
+    }
+
+    public void setLoadPluginsInParallel(boolean loadPluginsInParallel) {
+        isLoadPluginsInParallel = loadPluginsInParallel;
+    }
+
+    public int getPluginLoadingThreads() {
+        return pluginLoadingThreads;
+    }
+
+    public void setPluginLoadingThreads(int pluginLoadingThreads) {
+        this.pluginLoadingThreads = pluginLoadingThreads;
+    }
+
+    public boolean isProfileEnable() {
+        return profileEnable;
+    }
+
+    public void setProfileEnable(boolean profileEnable) {
+        this.profileEnable = profileEnable;
+    }
+
+    public int getProfileSampleInterval() {
+        return profileSampleInterval;
+    }
+
+    public void setProfileSampleInterval(int profileSampleInterval) {
+        this.profileSampleInterval = profileSampleInterval;
+    }
+
+    public int getRetransformBatchSize() {
+        return retransformBatchSize;
+    }
+
+    public void setRetransformBatchSize(int retransformBatchSize) {
+        this.retransformBatchSize = retransformBatchSize;
+    }
+
+    public int getRetransformBatchPause() {
+        return retransformBatchPause;
+    }
+
+    public void setRetransformBatchPause(int retransformBatchPause) {
+        this.retransformBatchPause = retransformBatchPause;
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.declarer;
+
+import io.sermant.core.plugin.agent.BufferedAgentBuilder;
+import io.sermant.core.plugin.agent.matcher.ClassFuzzyMatcher;
+import io.sermant.core.plugin.agent.matcher.ClassTypeMatcher;
+
+import net.bytebuddy.description.type.TypeDescription;
+
+import java.util.Set;
+
+/**
+ * IndexedPluginDescription, a plugin description whose class matching is split into the exact class names, see
+ * {@link ClassTypeMatcher}, and the fuzzy matching, see {@link ClassFuzzyMatcher}
+ * <p>The exact class names of all indexed plugin descriptions are indexed together in {@link BufferedAgentBuilder}, so
+ * that a class is matched against them by a single hash lookup, and only the fuzzy matching is evaluated one by one
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public abstract class IndexedPluginDescription extends AbstractPluginDescription {
+    /**
+     * Get the exact names of the matched classes
+     *
+     * @return type name set
+     */
+    public abstract Set<String> getTypeNames();
+
+    /**
+     * Whether the description has fuzzy matching
+     *
+     * @return true if {@link #fuzzyMatches} needs to be evaluated
+     */
+    public abstract boolean isFuzzy();
+
+    /**
+     * Match the class by the fuzzy matching. It is evaluated before the transformation of every class that reaches
+     * it, including the classes matched by the exact names, as the implementation may record the matched declarers
+     *
+     * @param typeDescription type description
+     * @return match result
+     */
+    public abstract boolean fuzzyMatches(TypeDescription typeDescription);
+
+    @Override
+    public boolean matches(TypeDescription typeDescription) {
+        final boolean fuzzyMatched = isFuzzy() && fuzzyMatches(typeDescription);
+        return getTypeNames().contains(typeDescription.getActualName()) || fuzzyMatched;
+    }
+}
@@ -22,8 +22,10 @@ import io.sermant.core.config.ConfigManager;
 import io.sermant.core.plugin.agent.entity.ExecuteContext;
 import io.sermant.core.plugin.agent.interceptor.Interceptor;
 import io.sermant.core.service.inject.config.InjectConfig;
+import io.sermant.core.utils.PrefixTrie;
 
 import java.net.URL;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Level;
@@ -38,13 +40,20 @@ import java.util.logging.Logger;
 public class ClassLoaderFindResourceInterceptor implements Interceptor {
     private static final Logger LOGGER = LoggerFactory.getLogger();
 
-    private final Set<String> essentialPackage;
+    /**
+     * Essential packages in the form of resource paths
+     */
+    private final PrefixTrie essentialPackage;
 
     /**
      * constructor
      */
     public ClassLoaderFindResourceInterceptor() {
-        essentialPackage = ConfigManager.getConfig(InjectConfig.class).getEssentialPackage();
+        Set<String> packagePaths = new HashSet<>();
+        for (String packageName : ConfigManager.getConfig(InjectConfig.class).getEssentialPackage()) {
+            packagePaths.add(packageName.replace('.', '/'));
+        }
+        essentialPackage = new PrefixTrie(packagePaths);
     }
 
     @Override
@@ -59,7 +68,7 @@ public class ClassLoaderFindResourceInterceptor implements Interceptor {
         }
 
         String path = (String) context.getArguments()[0];
-        if (isSermantResource(path)) {
+        if (essentialPackage.matches(path)) {
             Optional<URL> url = ClassLoaderManager.getPluginClassFinder().findSermantResource(path);
             if (!url.isPresent()) {
                 LOGGER.log(Level.WARNING, "Can not find resource [{0}] by sermant.And then find by {1}. ",
@@ -76,14 +85,4 @@ public class ClassLoaderFindResourceInterceptor implements Interceptor {
     public ExecuteContext onThrow(ExecuteContext context) throws Exception {
         return context;
     }
-
-    private boolean isSermantResource(String path) {
-        String name = path.replace('/', '.');
-        for (String prefix : essentialPackage) {
-            if (name.startsWith(prefix)) {
-                return true;
-            }
-        }
-        return false;
-    }
 }
@@ -22,8 +22,9 @@ import io.sermant.core.config.ConfigManager;
 import io.sermant.core.plugin.agent.entity.ExecuteContext;
 import io.sermant.core.plugin.agent.interceptor.Interceptor;
 import io.sermant.core.service.inject.config.InjectConfig;
+import io.sermant.core.utils.ClassLoaderUtils;
+import io.sermant.core.utils.PrefixTrie;
 
-import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -36,17 +37,41 @@ import java.util.logging.Logger;
 public class ClassLoaderLoadClassInterceptor implements Interceptor {
     private static final Logger LOGGER = LoggerFactory.getLogger();
 
-    private final Set<String> essentialPackage;
+    private final PrefixTrie essentialPackage;
 
     /**
      * constructor
      */
     public ClassLoaderLoadClassInterceptor() {
-        essentialPackage = ConfigManager.getConfig(InjectConfig.class).getEssentialPackage();
+        essentialPackage = new PrefixTrie(ConfigManager.getConfig(InjectConfig.class).getEssentialPackage());
     }
 
+    /**
+     * The Sermant classes not loaded by the host classloader are resolved before it, so that the host classloader does
+     * not throw ClassNotFoundException for them. The classes injected into the host classloader, and the ones it has
+     * loaded, are still loaded by the host classloader first. The classes resolved for a host classloader are recorded,
+     * so that the loaded classes of the host classloader are only looked up at the first load
+     *
+     * @param context execute context
+     * @return execute context
+     * @throws Exception exception
+     */
     @Override
     public ExecuteContext before(ExecuteContext context) throws Exception {
+        String name = (String) context.getArguments()[0];
+        if (!essentialPackage.matches(name) || !(context.getObject() instanceof ClassLoader)) {
+            return context;
+        }
+        ClassLoader classLoader = (ClassLoader) context.getObject();
+        if (ClassLoaderUtils.isResolvedBySermant(classLoader, name)
+                || !ClassLoaderUtils.isClassLoaded(classLoader, name)) {
+            Class<?> sermantClazz = ClassLoaderManager.getPluginClassFinder().findSermantClass(name);
+            if (sermantClazz != null) {
+                LOGGER.log(Level.FINE, "Load class: {0} successfully by sermant.", name);
+                ClassLoaderUtils.markResolvedBySermant(classLoader, name);
+                context.skip(sermantClazz);
+            }
+        }
         return context;
     }
 
@@ -58,25 +83,17 @@ public class ClassLoaderLoadClassInterceptor implements Interceptor {
     @Override
     public ExecuteContext onThrow(ExecuteContext context) throws Exception {
         String name = (String) context.getArguments()[0];
-        if (isSermantClass(name)) {
-            try {
-                Class<?> sermantClazz = ClassLoaderManager.getPluginClassFinder().loadSermantClass(name);
-                LOGGER.log(Level.FINE, "Load class: {0} successfully by sermant.", name);
-                context.changeResult(sermantClazz);
-                context.changeThrowable(null);
-            } catch (ClassNotFoundException classNotFoundException) {
-                LOGGER.log(Level.WARNING, "Class can not load class by sermant. ", classNotFoundException.getMessage());
-            }
+        if (!essentialPackage.matches(name)) {
+            return context;
         }
-        return context;
-    }
-
-    private boolean isSermantClass(String name) {
-        for (String prefix : essentialPackage) {
-            if (name.startsWith(prefix)) {
-                return true;
-            }
+        Class<?> sermantClazz = ClassLoaderManager.getPluginClassFinder().findSermantClass(name);
+        if (sermantClazz == null) {
+            LOGGER.log(Level.WARNING, "Class can not load class by sermant: {0}. ", name);
+            return context;
         }
-        return false;
+        LOGGER.log(Level.FINE, "Load class: {0} successfully by sermant.", name);
+        context.changeResult(sermantClazz);
+        context.changeThrowable(null);
+        return context;
     }
 }
@@ -31,6 +31,7 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Queue;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * ClassMatcher, contains two types:
@@ -146,10 +147,11 @@ public abstract class ClassMatcher implements ElementMatcher<TypeDescription> {
      * @return ClassFuzzyMatcher
      */
     public static ClassFuzzyMatcher nameMatches(String pattern) {
+        final Pattern compiledPattern = Pattern.compile(pattern);
         return new ClassFuzzyMatcher() {
             @Override
             public boolean matches(TypeDescription typeDescription) {
-                return typeDescription.getActualName().matches(pattern);
+                return compiledPattern.matcher(typeDescription.getActualName()).matches();
             }
         };
     }
@@ -27,6 +27,7 @@ import java.lang.annotation.Annotation;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * MethodMatcher
@@ -142,10 +143,11 @@ public abstract class MethodMatcher implements ElementMatcher<MethodDescription>
      * @return MethodMatcher
      */
     public static MethodMatcher nameMatches(String pattern) {
+        final Pattern compiledPattern = Pattern.compile(pattern);
         return new MethodMatcher() {
             @Override
             public boolean matches(MethodDescription methodDescription) {
-                return methodDescription.getActualName().matches(pattern);
+                return compiledPattern.matcher(methodDescription.getActualName()).matches();
             }
         };
     }
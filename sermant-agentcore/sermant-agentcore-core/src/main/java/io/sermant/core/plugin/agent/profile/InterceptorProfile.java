@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.core.plugin.agent.profile;
+
+import java.util.Locale;
+
+/**
+ * Cost profile of an interceptor on an advice key, one histogram per interceptor method
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class InterceptorProfile {
+    private final String adviceKey;
+
+    private final String interceptor;
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[Phase.values().length];
+
+    /**
+     * Constructor
+     *
+     * @param adviceKey advice key of the enhanced method
+     * @param interceptor class name of the interceptor
+     */
+    public InterceptorProfile(String adviceKey, String interceptor) {
+        this.adviceKey = adviceKey;
+        this.interceptor = interceptor;
+        for (Phase phase : Phase.values()) {
+            histograms[phase.ordinal()] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Record the cost of an interceptor method
+     *
+     * @param phase interceptor method
+     * @param nanos cost in nanoseconds
+     */
+    public void record(Phase phase, long nanos) {
+        histograms[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * Clear the histograms in place
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Get the histogram of an interceptor method
+     *
+     * @param phase interceptor method
+     * @return histogram
+     */
+    public LatencyHistogram getHistogram(Phase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    public String getAdviceKey() {
+        return adviceKey;
+    }
+
+    public String getInterceptor() {
+        return interceptor;
+    }
+
+    public LatencyHistogram getBefore() {
+        return getHistogram(Phase.BEFORE);
+    }
+
+    public LatencyHistogram getAfter() {
+        return getHistogram(Phase.AFTER);
+    }
+
+    public LatencyHistogram getOnThrow() {
+        return getHistogram(Phase.ON_THROW);
+    }
+
+    /**
+     * Interceptor method
+     *
+     * @since 2026-10-18
+     */
+    public enum Phase {
+        /**
+         * {@link io.sermant.core.plugin.agent.interceptor.Interceptor#before}
+         */
+        BEFORE,
+
+        /**
+         * {@link io.sermant.core.plugin.agent.interceptor.Interceptor#after}
+         */
+        AFTER,
+
+        /**
+         * {@link io.sermant.core.plugin.agent.interceptor.Interceptor#onThrow}
+         */
+        ON_THROW;
+
+        /**
+         * Get the tag value of the phase
+         *
+         * @return tag value
+         */
+        public String getTag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
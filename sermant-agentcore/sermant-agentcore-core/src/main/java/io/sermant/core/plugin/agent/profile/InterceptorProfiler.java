@@ -0,0 +1,353 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.core.plugin.agent.profile;
+
+import io.sermant.core.common.LoggerFactory;
+import io.sermant.core.plugin.agent.config.AgentConfig;
+import io.sermant.core.plugin.agent.interceptor.Interceptor;
+import io.sermant.core.plugin.agent.profile.InterceptorProfile.Phase;
+import io.sermant.core.service.ServiceManager;
+import io.sermant.core.service.metric.api.MetricService;
+import io.sermant.core.service.metric.api.Tags;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ToDoubleFunction;
+import java.util.logging.Logger;
+
+/**
+ * Profiler of the cost of the interceptors, keyed by the advice key and the class of the interceptor. Only one of every
+ * {@link AgentConfig#getProfileSampleInterval()} interceptor calls is timed, so that the profiler can be kept on in
+ * production. The profiles are exposed by the http server service. The {@link MetricService}, if it is started, exposes
+ * the profiles aggregated by the class of the interceptor, so that the number of time series does not grow with the
+ * enhanced methods. The gauges of the profiles created before the metric service is started are registered once it is
+ * started
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class InterceptorProfiler {
+    /**
+     * Start time of the calls which are not sampled
+     */
+    public static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger();
+
+    private static final String METRIC_PREFIX = "sermant.interceptor.cost.";
+
+    private static final String UNKNOWN_ADVICE_KEY = "unknown";
+
+    /**
+     * Advice key of the profiles aggregated by the class of the interceptor
+     */
+    private static final String AGGREGATED_ADVICE_KEY = "*";
+
+    /**
+     * The max number of interceptor classes exposed by the metric service, each of them registers 12 gauges
+     */
+    private static final int MAX_METRIC_INTERCEPTORS = 128;
+
+    /**
+     * Interval to look up the metric service again if it is not started
+     */
+    private static final long METRIC_RETRY_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private static final int INITIAL_SLOT_CAPACITY = 1024;
+
+    private static final Object SLOT_LOCK = new Object();
+
+    /**
+     * Advice keys of the advice slots
+     */
+    private static final Map<Integer, String> ADVICE_KEYS = new ConcurrentHashMap<>();
+
+    /**
+     * Profiles aggregated by the class name of the interceptor, exposed by the metric service. They are cleared in
+     * place on reset, so that the registered gauges keep reporting them
+     */
+    private static final Map<String, InterceptorProfile> METRIC_PROFILES = new ConcurrentHashMap<>();
+
+    /**
+     * Class names of the interceptors whose gauges are registered
+     */
+    private static final Set<String> REGISTERED_METRICS = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Profiles of each advice slot, keyed by the class name of the interceptor
+     */
+    private static volatile AtomicReferenceArray<Map<String, InterceptorProfile>> slotProfiles =
+            new AtomicReferenceArray<>(INITIAL_SLOT_CAPACITY);
+
+    private static volatile boolean enabled;
+
+    private static volatile int sampleInterval = 1;
+
+    private static volatile MetricService metricService;
+
+    /**
+     * Whether some aggregated profiles are waiting for the metric service to register their gauges
+     */
+    private static volatile boolean metricsPending;
+
+    /**
+     * Time to look up the metric service again, guarded by the class lock
+     */
+    private static long nextMetricRetryNanos;
+
+    private InterceptorProfiler() {
+    }
+
+    /**
+     * Initialize the profiler as configured
+     *
+     * @param config enhancement configuration
+     */
+    public static void init(AgentConfig config) {
+        sampleInterval = Math.max(config.getProfileSampleInterval(), 1);
+        enabled = config.isProfileEnable();
+        if (enabled) {
+            LOGGER.info(String.format(Locale.ROOT, "Interceptor profiler is enabled, sample interval: %d. ",
+                    sampleInterval));
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * Bind the advice key to the advice slot, used to name the profiles of the slot
+     *
+     * @param adviceSlot advice slot
+     * @param adviceKey advice key
+     */
+    public static void bindAdviceKey(int adviceSlot, String adviceKey) {
+        ADVICE_KEYS.put(adviceSlot, adviceKey);
+    }
+
+    /**
+     * Start timing an interceptor call if the call is sampled
+     *
+     * @param adviceSlot advice slot of the enhanced method, negative if unknown
+     * @return start time in nanoseconds, {@link #NOT_SAMPLED} if the call is not sampled
+     */
+    public static long start(int adviceSlot) {
+        if (!enabled || adviceSlot < 0) {
+            return NOT_SAMPLED;
+        }
+        int interval = sampleInterval;
+        if (interval > 1 && ThreadLocalRandom.current().nextInt(interval) != 0) {
+            return NOT_SAMPLED;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Record the cost of a sampled interceptor call
+     *
+     * @param adviceSlot advice slot of the enhanced method
+     * @param interceptor interceptor
+     * @param phase interceptor method
+     * @param startNanos start time returned by {@link #start(int)}
+     */
+    public static void record(int adviceSlot, Interceptor interceptor, Phase phase, long startNanos) {
+        if (startNanos == NOT_SAMPLED) {
+            return;
+        }
+        long cost = System.nanoTime() - startNanos;
+        String interceptorName = interceptor.getClass().getName();
+        Map<String, InterceptorProfile> profiles = getSlotProfiles(adviceSlot);
+        InterceptorProfile profile = profiles.get(interceptorName);
+        if (profile == null) {
+            profile = profiles.computeIfAbsent(interceptorName, name -> new InterceptorProfile(
+                    ADVICE_KEYS.getOrDefault(adviceSlot, UNKNOWN_ADVICE_KEY), name));
+        }
+        profile.record(phase, cost);
+        InterceptorProfile metricProfile = METRIC_PROFILES.get(interceptorName);
+        if (metricProfile == null && METRIC_PROFILES.size() < MAX_METRIC_INTERCEPTORS) {
+            metricProfile = createMetricProfile(interceptorName);
+        }
+        if (metricProfile != null) {
+            metricProfile.record(phase, cost);
+        }
+        if (metricsPending) {
+            registerPendingMetrics();
+        }
+    }
+
+    /**
+     * Get the profiles recorded so far
+     *
+     * @return profiles
+     */
+    public static List<InterceptorProfile> getProfiles() {
+        List<InterceptorProfile> result = new ArrayList<>();
+        AtomicReferenceArray<Map<String, InterceptorProfile>> table = slotProfiles;
+        for (int i = 0; i < table.length(); i++) {
+            Map<String, InterceptorProfile> profiles = table.get(i);
+            if (profiles != null) {
+                result.addAll(profiles.values());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Clear the profiles. The profiles exposed by the metric service are cleared in place, so that the registered
+     * gauges keep reporting the profiles recorded after reset
+     */
+    public static void reset() {
+        synchronized (SLOT_LOCK) {
+            slotProfiles = new AtomicReferenceArray<>(INITIAL_SLOT_CAPACITY);
+        }
+        for (InterceptorProfile profile : METRIC_PROFILES.values()) {
+            profile.reset();
+        }
+    }
+
+    private static Map<String, InterceptorProfile> getSlotProfiles(int adviceSlot) {
+        AtomicReferenceArray<Map<String, InterceptorProfile>> table = slotProfiles;
+        if (adviceSlot < table.length()) {
+            Map<String, InterceptorProfile> profiles = table.get(adviceSlot);
+            if (profiles != null) {
+                return profiles;
+            }
+        }
+        synchronized (SLOT_LOCK) {
+            table = slotProfiles;
+            if (adviceSlot >= table.length()) {
+                int capacity = table.length();
+                while (capacity <= adviceSlot) {
+                    capacity <<= 1;
+                }
+                AtomicReferenceArray<Map<String, InterceptorProfile>> newTable = new AtomicReferenceArray<>(capacity);
+                for (int i = 0; i < table.length(); i++) {
+                    newTable.set(i, table.get(i));
+                }
+                slotProfiles = newTable;
+                table = newTable;
+            }
+            Map<String, InterceptorProfile> profiles = table.get(adviceSlot);
+            if (profiles == null) {
+                profiles = new ConcurrentHashMap<>();
+                table.set(adviceSlot, profiles);
+            }
+            return profiles;
+        }
+    }
+
+    /**
+     * Create the aggregated profile of the interceptor class and register its gauges
+     *
+     * @param interceptorName class name of the interceptor
+     * @return aggregated profile, null if the number of interceptor classes exposed reaches the limit
+     */
+    private static synchronized InterceptorProfile createMetricProfile(String interceptorName) {
+        InterceptorProfile profile = METRIC_PROFILES.get(interceptorName);
+        if (profile != null || METRIC_PROFILES.size() >= MAX_METRIC_INTERCEPTORS) {
+            return profile;
+        }
+        profile = new InterceptorProfile(AGGREGATED_ADVICE_KEY, interceptorName);
+        METRIC_PROFILES.put(interceptorName, profile);
+        if (!metricsPending && !registerMetrics(profile)) {
+            metricsPending = true;
+            nextMetricRetryNanos = System.nanoTime() + METRIC_RETRY_INTERVAL_NANOS;
+        }
+        if (METRIC_PROFILES.size() == MAX_METRIC_INTERCEPTORS) {
+            LOGGER.warning(String.format(Locale.ROOT, "The profiles of at most %d interceptor classes are exposed by "
+                    + "the metric service, the others are only exposed by the http server service. ",
+                    MAX_METRIC_INTERCEPTORS));
+        }
+        return profile;
+    }
+
+    /**
+     * Register the gauges of the aggregated profiles created before the metric service is started. The metric service
+     * is looked up at most once every {@link #METRIC_RETRY_INTERVAL_NANOS}
+     */
+    private static synchronized void registerPendingMetrics() {
+        long now = System.nanoTime();
+        if (!metricsPending || now - nextMetricRetryNanos < 0) {
+            return;
+        }
+        nextMetricRetryNanos = now + METRIC_RETRY_INTERVAL_NANOS;
+        for (InterceptorProfile profile : METRIC_PROFILES.values()) {
+            if (!registerMetrics(profile)) {
+                return;
+            }
+        }
+        metricsPending = false;
+    }
+
+    /**
+     * Register the gauges of the aggregated profile if they are not registered yet. The count gauge estimates the
+     * number of calls by scaling the sampled count with the sample interval
+     *
+     * @param profile aggregated profile
+     * @return whether the gauges are registered, false if the metric service is not started
+     */
+    private static boolean registerMetrics(InterceptorProfile profile) {
+        if (REGISTERED_METRICS.contains(profile.getInterceptor())) {
+            return true;
+        }
+        MetricService service = getMetricService();
+        if (service == null) {
+            return false;
+        }
+        for (Phase phase : Phase.values()) {
+            Tags tags = Tags.of("interceptor", profile.getInterceptor()).add("phase", phase.getTag());
+            LatencyHistogram histogram = profile.getHistogram(phase);
+            registerGauge(service, "count", tags, histogram,
+                    sampledHistogram -> sampledHistogram.getCount() * (double) sampleInterval);
+            registerGauge(service, "mean.nanos", tags, histogram, LatencyHistogram::getMeanNanos);
+            registerGauge(service, "max.nanos", tags, histogram, LatencyHistogram::getMaxNanos);
+            registerGauge(service, "p99.nanos", tags, histogram, LatencyHistogram::getP99Nanos);
+        }
+        REGISTERED_METRICS.add(profile.getInterceptor());
+        return true;
+    }
+
+    private static void registerGauge(MetricService service, String name, Tags tags, LatencyHistogram histogram,
+            ToDoubleFunction<LatencyHistogram> valueFunction) {
+        service.gauge(METRIC_PREFIX + name, tags).gaugeState(histogram, valueFunction);
+    }
+
+    private static MetricService getMetricService() {
+        if (metricService == null) {
+            try {
+                metricService = ServiceManager.getService(MetricService.class);
+            } catch (IllegalArgumentException ignored) {
+                // The metric service is not started, the profiles are only exposed by the http server service
+                return null;
+            }
+        }
+        return metricService;
+    }
+}
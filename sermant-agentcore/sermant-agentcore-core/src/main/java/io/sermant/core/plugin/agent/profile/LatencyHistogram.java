@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.core.plugin.agent.profile;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of the cost in nanoseconds, the costs are counted into power-of-two buckets. Every bucket is a
+ * {@link LongAdder}, which is striped across the threads, so that the recording threads do not contend on one counter
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class LatencyHistogram {
+    private static final int BUCKET_COUNT = Long.SIZE;
+
+    private static final double P50 = 0.5D;
+
+    private static final double P99 = 0.99D;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Constructor
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record a cost
+     *
+     * @param nanos cost in nanoseconds, the negative cost is recorded as 0
+     */
+    public void record(long nanos) {
+        long cost = Math.max(nanos, 0L);
+        buckets[bucketOf(cost)].increment();
+        count.increment();
+        totalNanos.add(cost);
+        maxNanos.accumulate(cost);
+    }
+
+    /**
+     * Clear the recorded costs in place, the costs recorded concurrently may be partly kept
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Get the mean cost
+     *
+     * @return mean cost in nanoseconds, 0 if nothing is recorded
+     */
+    public double getMeanNanos() {
+        long total = count.sum();
+        return total == 0 ? 0D : (double) totalNanos.sum() / total;
+    }
+
+    public long getP50Nanos() {
+        return getPercentileNanos(P50);
+    }
+
+    public long getP99Nanos() {
+        return getPercentileNanos(P99);
+    }
+
+    /**
+     * Estimate the percentile of the costs, the upper bound of the bucket reaching the percentile is returned
+     *
+     * @param percentile percentile in (0, 1]
+     * @return estimated cost in nanoseconds, 0 if nothing is recorded
+     */
+    public long getPercentileNanos(double percentile) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0L) {
+            return 0L;
+        }
+        long threshold = (long) Math.ceil(total * percentile);
+        long cumulative = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += counts[i];
+            if (cumulative >= threshold) {
+                return Math.min(upperBoundOf(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    private static int bucketOf(long nanos) {
+        return nanos == 0L ? 0 : Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+    }
+
+    private static long upperBoundOf(int bucket) {
+        return bucket >= Long.SIZE - 2 ? Long.MAX_VALUE : (1L << (bucket + 1)) - 1;
+    }
+}
@@ -17,14 +17,22 @@
 package io.sermant.core.plugin.agent.template;
 
 import io.sermant.core.common.LoggerFactory;
+import io.sermant.core.plugin.agent.adviser.AdviceSwitch;
+import io.sermant.core.plugin.agent.adviser.AdviserScheduler;
 import io.sermant.core.plugin.agent.entity.ExecuteContext;
 import io.sermant.core.plugin.agent.interceptor.Interceptor;
+import io.sermant.core.plugin.agent.profile.InterceptorProfile.Phase;
+import io.sermant.core.plugin.agent.profile.InterceptorProfiler;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -38,75 +46,176 @@ import java.util.logging.Logger;
 public class BaseAdviseHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger();
 
-    private static final Map<String, List<Interceptor>> INTERCEPTOR_LIST_MAP = new ConcurrentHashMap<>();
+    private static final int INITIAL_SLOT_CAPACITY = 1024;
+
+    private static final Object SLOT_LOCK = new Object();
+
+    private static final int UNKNOWN_SLOT = -1;
+
+    /**
+     * Interceptors of each advice slot. The array of a slot is never modified after being published, hot-plugging
+     * replaces it as a whole
+     */
+    private static volatile AtomicReferenceArray<Interceptor[]> slotInterceptors =
+            new AtomicReferenceArray<>(INITIAL_SLOT_CAPACITY);
 
     private BaseAdviseHandler() {
     }
 
+    /**
+     * Adviser logic of method enter
+     *
+     * @param context ExecuteContext
+     * @param adviceSlot advice slot of the enhanced method, see
+     * {@link io.sermant.core.plugin.agent.adviser.AdviserScheduler#getAdviceSlot}
+     * @param enterHandler exception handler of onEnter
+     * @return ExecuteContext
+     * @throws Throwable Throwable
+     */
+    public static ExecuteContext handleMethodEnter(ExecuteContext context, int adviceSlot,
+            ExceptionHandler enterHandler) throws Throwable {
+        Interceptor[] interceptors = getInterceptors(adviceSlot);
+        if (interceptors == null) {
+            return context;
+        }
+        context.setInterceptors(interceptors);
+        return doMethodEnter(context, adviceSlot, enterHandler);
+    }
+
+    /**
+     * logic of onEnter, the interceptors of the context are executed in sequence from the position of the interceptor
+     * chain
+     *
+     * @param context ExecuteContext
+     * @param enterHandler exception handler of onEnter
+     * @return ExecuteContext
+     * @throws Throwable throws to the host instance
+     */
+    public static ExecuteContext handleMethodEnter(ExecuteContext context, ExceptionHandler enterHandler)
+            throws Throwable {
+        return doMethodEnter(context, UNKNOWN_SLOT, enterHandler);
+    }
+
     /**
      * Adviser logic of method enter
      *
      * @param context ExecuteContext
      * @param adviceKey adviceKey, consists of the class and method description, the advice template, and the
      * classLoader for the enhanced class
-     *
      * @param enterHandler exception handler of onEnter
      * @return ExecuteContext
      * @throws Throwable Throwable
+     * @deprecated the adviceKey is resolved to its advice slot on every call, use
+     * {@link #handleMethodEnter(ExecuteContext, int, ExceptionHandler)}
      */
+    @Deprecated
     public static ExecuteContext handleMethodEnter(ExecuteContext context, String adviceKey,
             ExceptionHandler enterHandler) throws Throwable {
-        List<Interceptor> interceptorList = INTERCEPTOR_LIST_MAP.get(adviceKey);
-        if (interceptorList == null) {
-            return context;
-        }
-        context.setInterceptorIterator(interceptorList.listIterator());
-        return handleMethodEnter(context, context.getInterceptorIterator(), enterHandler);
+        return handleMethodEnter(context, AdviserScheduler.getAdviceSlot(adviceKey), enterHandler);
     }
 
     /**
-     * logic of onEnter
+     * logic of onEnter, the interceptors are executed in sequence from the position of the iterator
      *
      * @param context ExecuteContext
      * @param interceptorItr Interceptor bidirectional iterator
      * @param enterHandler exception handler of onEnter
      * @return ExecuteContext
      * @throws Throwable throws to the host instance
+     * @deprecated the interceptor chain is kept in the context as an array, use
+     * {@link #handleMethodEnter(ExecuteContext, ExceptionHandler)}
      */
+    @Deprecated
     public static ExecuteContext handleMethodEnter(ExecuteContext context, ListIterator<Interceptor> interceptorItr,
             ExceptionHandler enterHandler) throws Throwable {
+        context.setInterceptorIterator(interceptorItr);
         ExecuteContext newContext = context;
-        while (interceptorItr.hasNext()) {
-            try {
-                final Interceptor interceptor = interceptorItr.next();
-                if (LOGGER.isLoggable(Level.FINE)) {
-                    LOGGER.log(Level.FINE,
-                            String.format(Locale.ROOT, "Method[%s] had been entered, interceptor is [%s].",
-                                    MethodKeyCreator.getMethodKey(context.getMethod()),
-                                    interceptor.getClass().getName()));
-                }
+        try {
+            newContext = handleMethodEnter(context, enterHandler);
+            return newContext;
+        } finally {
+            moveIterator(interceptorItr, newContext.getInterceptorIndex());
+        }
+    }
+
+    private static ExecuteContext doMethodEnter(ExecuteContext context, int adviceSlot, ExceptionHandler enterHandler)
+            throws Throwable {
+        final Interceptor[] interceptors = context.getInterceptors();
+        ExecuteContext newContext = context;
+        int index = context.getInterceptorIndex();
+        try {
+            while (index < interceptors.length) {
                 try {
-                    final ExecuteContext tempContext = interceptor.before(newContext);
-                    if (tempContext != null) {
-                        newContext = tempContext;
+                    final Interceptor interceptor = interceptors[index++];
+                    if (LOGGER.isLoggable(Level.FINE)) {
+                        LOGGER.log(Level.FINE,
+                                String.format(Locale.ROOT, "Method[%s] had been entered, interceptor is [%s].",
+                                        MethodKeyCreator.getMethodKey(context.getMethod()),
+                                        interceptor.getClass().getName()));
                     }
-                    if (newContext.isSkip()) {
-                        return newContext;
+                    final long startNanos = InterceptorProfiler.start(adviceSlot);
+                    try {
+                        final ExecuteContext tempContext = interceptor.before(newContext);
+                        if (tempContext != null) {
+                            newContext = tempContext;
+                        }
+                        if (newContext.isSkip()) {
+                            return newContext;
+                        }
+                    } catch (Throwable t) {
+                        enterHandler.handle(context, interceptor, t);
+                    } finally {
+                        InterceptorProfiler.record(adviceSlot, interceptor, Phase.BEFORE, startNanos);
                     }
-                } catch (Throwable t) {
-                    enterHandler.handle(context, interceptor, t);
+                } catch (Exception exception) {
+                    LOGGER.log(Level.SEVERE, "Exception occurs when method enter.", exception);
+                    return newContext;
                 }
-            } catch (Exception exception) {
-                LOGGER.log(Level.SEVERE, "Exception occurs when method enter.", exception);
-                return newContext;
-            }
 
-            // Specifies that an exception is thrown to the host instance
-            if (newContext.getThrowableOut() != null) {
-                throw newContext.getThrowableOut();
+                // Specifies that an exception is thrown to the host instance
+                if (newContext.getThrowableOut() != null) {
+                    throw newContext.getThrowableOut();
+                }
             }
+            return newContext;
+        } finally {
+            savePosition(context, newContext, index);
         }
-        return newContext;
+    }
+
+    /**
+     * Adviser logic of method exit
+     *
+     * @param context ExecuteContext
+     * @param adviceSlot advice slot of the enhanced method, see
+     * {@link io.sermant.core.plugin.agent.adviser.AdviserScheduler#getAdviceSlot}
+     * @param throwHandler exception handler of onThrow
+     * @param exitHandler exception handler of onExit
+     * @return ExecuteContext
+     * @throws Throwable Throwable
+     */
+    public static ExecuteContext handleMethodExit(ExecuteContext context, int adviceSlot,
+            ExceptionHandler throwHandler, ExceptionHandler exitHandler) throws Throwable {
+        // The interceptors may be installed between method enter and method exit by hot-plugging
+        if (getInterceptors(adviceSlot) == null || context.getInterceptors() == null) {
+            return context;
+        }
+        return doMethodExit(context, adviceSlot, throwHandler, exitHandler);
+    }
+
+    /**
+     * logic for onExit&onThrow, the interceptors of the context are executed in reverse order from the position of
+     * the interceptor chain
+     *
+     * @param context ExecuteContext
+     * @param throwHandler exception handler of onThrow
+     * @param exitHandler exception handler of onExit
+     * @return ExecuteContext
+     * @throws Throwable throws to the host instance
+     */
+    public static ExecuteContext handleMethodExit(ExecuteContext context, ExceptionHandler throwHandler,
+            ExceptionHandler exitHandler) throws Throwable {
+        return doMethodExit(context, UNKNOWN_SLOT, throwHandler, exitHandler);
     }
 
     /**
@@ -115,23 +224,21 @@ public class BaseAdviseHandler {
      * @param context ExecuteContext
      * @param adviceKey adviceKey, consists of the class and method description, the advice template, and the
      * classLoader for the enhanced class
-     *
      * @param throwHandler exception handler of onThrow
      * @param exitHandler exception handler of onExit
      * @return ExecuteContext
      * @throws Throwable Throwable
+     * @deprecated the adviceKey is resolved to its advice slot on every call, use
+     * {@link #handleMethodExit(ExecuteContext, int, ExceptionHandler, ExceptionHandler)}
      */
+    @Deprecated
     public static ExecuteContext handleMethodExit(ExecuteContext context, String adviceKey,
             ExceptionHandler throwHandler, ExceptionHandler exitHandler) throws Throwable {
-        List<Interceptor> interceptorList = INTERCEPTOR_LIST_MAP.get(adviceKey);
-        if (interceptorList == null) {
-            return context;
-        }
-        return handleMethodExit(context, context.getInterceptorIterator(), throwHandler, exitHandler);
+        return handleMethodExit(context, AdviserScheduler.getAdviceSlot(adviceKey), throwHandler, exitHandler);
     }
 
     /**
-     * logic for onExit&onThrow
+     * logic for onExit&onThrow, the interceptors are executed in reverse order from the position of the iterator
      *
      * @param context ExecuteContext
      * @param interceptorItr Interceptor bidirectional iterator
@@ -139,53 +246,279 @@ public class BaseAdviseHandler {
      * @param exitHandler exception handler of onExit
      * @return ExecuteContext
      * @throws Throwable throws to the host instance
+     * @deprecated the interceptor chain is kept in the context as an array, use
+     * {@link #handleMethodExit(ExecuteContext, ExceptionHandler, ExceptionHandler)}
      */
+    @Deprecated
     public static ExecuteContext handleMethodExit(ExecuteContext context, ListIterator<Interceptor> interceptorItr,
             ExceptionHandler throwHandler, ExceptionHandler exitHandler) throws Throwable {
+        context.setInterceptorIterator(interceptorItr);
         ExecuteContext newContext = context;
-        while (interceptorItr.hasPrevious()) {
-            try {
-                final Interceptor interceptor = interceptorItr.previous();
-                if (LOGGER.isLoggable(Level.FINE)) {
-                    LOGGER.log(Level.FINE,
-                            String.format(Locale.ROOT, "Method[%s] had been exited, interceptor is [%s].",
-                                    MethodKeyCreator.getMethodKey(context.getMethod()),
-                                    interceptor.getClass().getName()));
-                }
-                if (newContext.getThrowable() != null && throwHandler != null) {
+        try {
+            newContext = handleMethodExit(context, throwHandler, exitHandler);
+            return newContext;
+        } finally {
+            moveIterator(interceptorItr, newContext.getInterceptorIndex());
+        }
+    }
+
+    private static ExecuteContext doMethodExit(ExecuteContext context, int adviceSlot, ExceptionHandler throwHandler,
+            ExceptionHandler exitHandler) throws Throwable {
+        final Interceptor[] interceptors = context.getInterceptors();
+        ExecuteContext newContext = context;
+        int index = context.getInterceptorIndex();
+        try {
+            while (index > 0) {
+                try {
+                    final Interceptor interceptor = interceptors[--index];
+                    if (LOGGER.isLoggable(Level.FINE)) {
+                        LOGGER.log(Level.FINE,
+                                String.format(Locale.ROOT, "Method[%s] had been exited, interceptor is [%s].",
+                                        MethodKeyCreator.getMethodKey(context.getMethod()),
+                                        interceptor.getClass().getName()));
+                    }
+                    if (newContext.getThrowable() != null && throwHandler != null) {
+                        final long throwStartNanos = InterceptorProfiler.start(adviceSlot);
+                        try {
+                            final ExecuteContext tempContext = interceptor.onThrow(newContext);
+                            if (tempContext != null) {
+                                newContext = tempContext;
+                            }
+                        } catch (Throwable t) {
+                            throwHandler.handle(newContext, interceptor, t);
+                        } finally {
+                            InterceptorProfiler.record(adviceSlot, interceptor, Phase.ON_THROW, throwStartNanos);
+                        }
+                        if (newContext.getThrowableOut() != null) {
+                            throw newContext.getThrowableOut();
+                        }
+                    }
+                    final long startNanos = InterceptorProfiler.start(adviceSlot);
                     try {
-                        final ExecuteContext tempContext = interceptor.onThrow(newContext);
+                        final ExecuteContext tempContext = interceptor.after(newContext);
                         if (tempContext != null) {
                             newContext = tempContext;
                         }
                     } catch (Throwable t) {
-                        throwHandler.handle(newContext, interceptor, t);
-                    }
-                    if (newContext.getThrowableOut() != null) {
-                        throw newContext.getThrowableOut();
+                        exitHandler.handle(newContext, interceptor, t);
+                    } finally {
+                        InterceptorProfiler.record(adviceSlot, interceptor, Phase.AFTER, startNanos);
                     }
+                } catch (Exception exception) {
+                    LOGGER.log(Level.SEVERE, "Exception occurs when method exit.", exception);
+                    return newContext;
                 }
-                try {
-                    final ExecuteContext tempContext = interceptor.after(newContext);
-                    if (tempContext != null) {
-                        newContext = tempContext;
-                    }
-                } catch (Throwable t) {
-                    exitHandler.handle(newContext, interceptor, t);
+                if (newContext.getThrowableOut() != null) {
+                    throw newContext.getThrowableOut();
                 }
-            } catch (Exception exception) {
-                LOGGER.log(Level.SEVERE, "Exception occurs when method exit.", exception);
-                return newContext;
-            }
-            if (newContext.getThrowableOut() != null) {
-                throw newContext.getThrowableOut();
             }
+            return newContext;
+        } finally {
+            savePosition(context, newContext, index);
+        }
+    }
+
+    /**
+     * Save the position of the interceptor chain. An interceptor may return a new context, which takes over the
+     * interceptor chain
+     *
+     * @param context the context the interceptor chain was started with
+     * @param newContext the context returned by the interceptors
+     * @param index position of the interceptor chain
+     */
+    private static void savePosition(ExecuteContext context, ExecuteContext newContext, int index) {
+        if (newContext != context) {
+            newContext.setInterceptors(context.getInterceptors());
+        }
+        newContext.setInterceptorIndex(index);
+    }
+
+    private static void moveIterator(ListIterator<Interceptor> interceptorItr, int position) {
+        while (interceptorItr.nextIndex() > position && interceptorItr.hasPrevious()) {
+            interceptorItr.previous();
+        }
+        while (interceptorItr.nextIndex() < position && interceptorItr.hasNext()) {
+            interceptorItr.next();
         }
-        return newContext;
     }
 
+    /**
+     * Get the interceptors of each adviceKey. The lists are views of the advice slots, modifying a list replaces the
+     * interceptor array of its slot, while the map itself is a snapshot of the assigned adviceKeys
+     *
+     * @return interceptor lists keyed by adviceKey
+     * @deprecated the interceptors are kept by advice slot, use {@link #getInterceptors},
+     * {@link #addInterceptors} and {@link #removeInterceptors}
+     */
+    @Deprecated
     public static Map<String, List<Interceptor>> getInterceptorListMap() {
-        return INTERCEPTOR_LIST_MAP;
+        Map<String, List<Interceptor>> interceptorListMap = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : AdviserScheduler.getAdviceSlots().entrySet()) {
+            int adviceSlot = entry.getValue();
+            if (getInterceptors(adviceSlot) != null) {
+                interceptorListMap.put(entry.getKey(), new SlotInterceptorList(adviceSlot));
+            }
+        }
+        return interceptorListMap;
+    }
+
+    /**
+     * Get the interceptors of the advice slot
+     *
+     * @param adviceSlot advice slot
+     * @return interceptors, null if no interceptor has been added to the slot
+     */
+    public static Interceptor[] getInterceptors(int adviceSlot) {
+        AtomicReferenceArray<Interceptor[]> table = slotInterceptors;
+        if (adviceSlot < 0 || adviceSlot >= table.length()) {
+            return null;
+        }
+        return table.get(adviceSlot);
+    }
+
+    /**
+     * Append interceptors to the advice slot, the interceptor array of the slot is replaced atomically. The switch of
+     * the slot is turned on when the slot gets its first interceptor, see {@link AdviceSwitch}
+     *
+     * @param adviceSlot advice slot
+     * @param interceptors interceptors to append
+     */
+    public static void addInterceptors(int adviceSlot, List<Interceptor> interceptors) {
+        synchronized (SLOT_LOCK) {
+            AtomicReferenceArray<Interceptor[]> table = ensureCapacity(adviceSlot);
+            Interceptor[] oldInterceptors = table.get(adviceSlot);
+            if (oldInterceptors == null) {
+                oldInterceptors = new Interceptor[0];
+            }
+            Interceptor[] newInterceptors = Arrays.copyOf(oldInterceptors,
+                    oldInterceptors.length + interceptors.size());
+            for (int i = 0; i < interceptors.size(); i++) {
+                newInterceptors[oldInterceptors.length + i] = interceptors.get(i);
+            }
+            table.set(adviceSlot, newInterceptors);
+            if (oldInterceptors.length == 0 && newInterceptors.length > 0) {
+                AdviceSwitch.activate(adviceSlot);
+            }
+        }
+    }
+
+    /**
+     * Remove all interceptors loaded by the classLoader, used when uninstalling plugins. The switch of the slot is
+     * turned off when the slot has no interceptor left, so that the enhanced method skips the advice
+     *
+     * @param classLoader classLoader of the interceptors
+     */
+    public static void removeInterceptors(ClassLoader classLoader) {
+        synchronized (SLOT_LOCK) {
+            AtomicReferenceArray<Interceptor[]> table = slotInterceptors;
+            for (int i = 0; i < table.length(); i++) {
+                Interceptor[] interceptors = table.get(i);
+                if (interceptors == null) {
+                    continue;
+                }
+                List<Interceptor> retained = new ArrayList<>(interceptors.length);
+                for (Interceptor interceptor : interceptors) {
+                    if (!classLoader.equals(interceptor.getClass().getClassLoader())) {
+                        retained.add(interceptor);
+                    }
+                }
+                if (retained.size() != interceptors.length) {
+                    table.set(i, retained.toArray(new Interceptor[0]));
+                }
+                if (interceptors.length > 0 && retained.isEmpty()) {
+                    AdviceSwitch.deactivate(i);
+                }
+            }
+        }
+    }
+
+    private static void setInterceptors(int adviceSlot, Interceptor[] interceptors) {
+        AtomicReferenceArray<Interceptor[]> table = ensureCapacity(adviceSlot);
+        Interceptor[] oldInterceptors = table.get(adviceSlot);
+        table.set(adviceSlot, interceptors);
+        boolean wasActive = oldInterceptors != null && oldInterceptors.length > 0;
+        if (!wasActive && interceptors.length > 0) {
+            AdviceSwitch.activate(adviceSlot);
+        } else if (wasActive && interceptors.length == 0) {
+            AdviceSwitch.deactivate(adviceSlot);
+        }
+    }
+
+    private static AtomicReferenceArray<Interceptor[]> ensureCapacity(int adviceSlot) {
+        AtomicReferenceArray<Interceptor[]> table = slotInterceptors;
+        if (adviceSlot < table.length()) {
+            return table;
+        }
+        int capacity = table.length();
+        while (capacity <= adviceSlot) {
+            capacity <<= 1;
+        }
+        AtomicReferenceArray<Interceptor[]> newTable = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < table.length(); i++) {
+            newTable.set(i, table.get(i));
+        }
+        slotInterceptors = newTable;
+        return newTable;
+    }
+
+    /**
+     * Interceptor list backed by an advice slot, every modification replaces the interceptor array of the slot
+     *
+     * @since 2026-10-18
+     */
+    private static final class SlotInterceptorList extends AbstractList<Interceptor> {
+        private final int adviceSlot;
+
+        SlotInterceptorList(int adviceSlot) {
+            this.adviceSlot = adviceSlot;
+        }
+
+        @Override
+        public Interceptor get(int index) {
+            return current()[index];
+        }
+
+        @Override
+        public int size() {
+            return current().length;
+        }
+
+        @Override
+        public Interceptor set(int index, Interceptor interceptor) {
+            synchronized (SLOT_LOCK) {
+                Interceptor[] interceptors = current().clone();
+                Interceptor oldInterceptor = interceptors[index];
+                interceptors[index] = interceptor;
+                setInterceptors(adviceSlot, interceptors);
+                return oldInterceptor;
+            }
+        }
+
+        @Override
+        public void add(int index, Interceptor interceptor) {
+            synchronized (SLOT_LOCK) {
+                List<Interceptor> interceptors = new ArrayList<>(Arrays.asList(current()));
+                interceptors.add(index, interceptor);
+                setInterceptors(adviceSlot, interceptors.toArray(new Interceptor[0]));
+                modCount++;
+            }
+        }
+
+        @Override
+        public Interceptor remove(int index) {
+            synchronized (SLOT_LOCK) {
+                List<Interceptor> interceptors = new ArrayList<>(Arrays.asList(current()));
+                Interceptor oldInterceptor = interceptors.remove(index);
+                setInterceptors(adviceSlot, interceptors.toArray(new Interceptor[0]));
+                modCount++;
+                return oldInterceptor;
+            }
+        }
+
+        private Interceptor[] current() {
+            Interceptor[] interceptors = getInterceptors(adviceSlot);
+            return interceptors == null ? new Interceptor[0] : interceptors;
+        }
     }
 
     /**
@@ -35,6 +35,16 @@ import java.util.logging.Logger;
 public class DefaultAdviser implements AdviserInterface {
     private static final Logger LOGGER = LoggerFactory.getLogger();
 
+    private static final BaseAdviseHandler.ExceptionHandler ENTER_HANDLER =
+            (context, interceptor, throwable) -> logError("before executing", context, interceptor, throwable);
+
+    private static final BaseAdviseHandler.ExceptionHandler THROW_HANDLER =
+            (context, interceptor, throwable) -> logError("while handling error from", context, interceptor,
+                    throwable);
+
+    private static final BaseAdviseHandler.ExceptionHandler EXIT_HANDLER =
+            (context, interceptor, throwable) -> logError("after executing", context, interceptor, throwable);
+
     /**
      * Output error log
      *
@@ -43,33 +53,19 @@ public class DefaultAdviser implements AdviserInterface {
      * @param interceptor Interceptor
      * @param throwable Throwable
      */
-    private void logError(String scene, ExecuteContext context, Interceptor interceptor, Throwable throwable) {
+    private static void logError(String scene, ExecuteContext context, Interceptor interceptor,
+            Throwable throwable) {
         LOGGER.log(Level.SEVERE, String.format(Locale.ROOT, "An error occurred %s [%s] in interceptor [%s]: ", scene,
                 MethodKeyCreator.getMethodKey(context.getMethod()), interceptor.getClass().getName()), throwable);
     }
 
     @Override
-    public ExecuteContext onMethodEnter(ExecuteContext context, String adviceKey) throws Throwable {
-        return BaseAdviseHandler.handleMethodEnter(context, adviceKey, new BaseAdviseHandler.ExceptionHandler() {
-            @Override
-            public void handle(ExecuteContext context, Interceptor interceptor, Throwable throwable) {
-                logError("before executing", context, interceptor, throwable);
-            }
-        });
+    public ExecuteContext onMethodEnter(ExecuteContext context, int adviceSlot) throws Throwable {
+        return BaseAdviseHandler.handleMethodEnter(context, adviceSlot, ENTER_HANDLER);
     }
 
     @Override
-    public ExecuteContext onMethodExit(ExecuteContext context, String adviceKey) throws Throwable {
-        return BaseAdviseHandler.handleMethodExit(context, adviceKey, new BaseAdviseHandler.ExceptionHandler() {
-            @Override
-            public void handle(ExecuteContext context, Interceptor interceptor, Throwable throwable) {
-                logError("while handling error from", context, interceptor, throwable);
-            }
-        }, new BaseAdviseHandler.ExceptionHandler() {
-            @Override
-            public void handle(ExecuteContext context, Interceptor interceptor, Throwable throwable) {
-                logError("after executing", context, interceptor, throwable);
-            }
-        });
+    public ExecuteContext onMethodExit(ExecuteContext context, int adviceSlot) throws Throwable {
+        return BaseAdviseHandler.handleMethodExit(context, adviceSlot, THROW_HANDLER, EXIT_HANDLER);
     }
 }
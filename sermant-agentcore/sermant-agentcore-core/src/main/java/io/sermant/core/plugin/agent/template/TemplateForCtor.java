@@ -16,14 +16,13 @@
 
 package io.sermant.core.plugin.agent.template;
 
+import io.sermant.core.plugin.agent.adviser.AdviceOriginCache;
 import io.sermant.core.plugin.agent.adviser.AdviserScheduler;
 import io.sermant.core.plugin.agent.entity.ExecuteContext;
 
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.implementation.bytecode.assign.Assigner;
 
-import java.lang.reflect.Constructor;
-
 /**
  * Advice template for constructor
  *
@@ -38,25 +37,27 @@ public class TemplateForCtor {
      * The preceding trigger point of method
      *
      * @param cls enhanced class
-     * @param constructor constructor
-     * @param methodKey method key, which is used to find template class
+     * @param constructorDesc descriptor of the constructor being enhanced
      * @param arguments arguments of method
-     * @param adviceKey advice class name
+     * @param adviceSlot advice slot of the enhanced constructor
+     * @param isActive whether there are active interceptors for the enhanced method
      * @param context execute context
      * @throws Throwable execute exception
      */
     @Advice.OnMethodEnter
     public static void onMethodEnter(
             @Advice.Origin Class<?> cls,
-            @Advice.Origin Constructor<?> constructor,
-            @Advice.Origin("#t\\##m#s") String methodKey,
+            @Advice.Origin("#d") String constructorDesc,
             @Advice.AllArguments(readOnly = false, typing = Assigner.Typing.DYNAMIC) Object[] arguments,
-            @Advice.Local(value = "_ADVICE_KEY_$SERMANT_LOCAL") String adviceKey,
+            @AdviceSlot int adviceSlot, @AdviceActive boolean isActive,
             @Advice.Local(value = "_EXECUTE_CONTEXT_$SERMANT_LOCAL") Object context
     ) throws Throwable {
-        adviceKey = "TemplateForCtor_" + Integer.toHexString(methodKey.hashCode()) + "_" + cls.getClassLoader();
-        context = ExecuteContext.forConstructor(cls, constructor, arguments, null);
-        context = AdviserScheduler.onMethodEnter(context, adviceKey);
+        if (!isActive) {
+            return;
+        }
+        context = ExecuteContext.forConstructor(cls,
+                AdviceOriginCache.getConstructor(cls, adviceSlot, constructorDesc), arguments, null);
+        context = AdviserScheduler.onMethodEnter(context, adviceSlot);
         arguments = ((ExecuteContext) context).getArguments();
     }
 
@@ -64,17 +65,20 @@ public class TemplateForCtor {
      * The post trigger point of method
      *
      * @param obj the object being enhanced
-     * @param adviceKey advice class name
+     * @param adviceSlot advice slot of the enhanced constructor
      * @param context execute context
      * @throws Throwable execute exception
      */
     @Advice.OnMethodExit
     public static void onMethodExit(
             @Advice.This(typing = Assigner.Typing.DYNAMIC) Object obj,
-            @Advice.Local(value = "_ADVICE_KEY_$SERMANT_LOCAL") String adviceKey,
+            @AdviceSlot int adviceSlot,
             @Advice.Local(value = "_EXECUTE_CONTEXT_$SERMANT_LOCAL") Object context
     ) throws Throwable {
+        if (context == null) {
+            return;
+        }
         context = ((ExecuteContext) context).afterConstructor(obj, null);
-        AdviserScheduler.onMethodExit(context, adviceKey);
+        AdviserScheduler.onMethodExit(context, adviceSlot);
     }
 }
@@ -16,14 +16,13 @@
 
 package io.sermant.core.plugin.agent.template;
 
+import io.sermant.core.plugin.agent.adviser.AdviceOriginCache;
 import io.sermant.core.plugin.agent.adviser.AdviserScheduler;
 import io.sermant.core.plugin.agent.entity.ExecuteContext;
 
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.implementation.bytecode.assign.Assigner;
 
-import java.lang.reflect.Method;
-
 /**
  * Advice template for member method
  *
@@ -39,10 +38,11 @@ public class TemplateForMember {
      *
      * @param cls enhanced class
      * @param obj the object being enhanced
-     * @param method the method being enhanced
-     * @param methodKey method key, which is used to find template class
+     * @param methodName name of the method being enhanced
+     * @param methodDesc descriptor of the method being enhanced
      * @param arguments arguments of method
-     * @param adviceKey advice class name
+     * @param adviceSlot advice slot of the enhanced method
+     * @param isActive whether there are active interceptors for the enhanced method
      * @param context execute context
      * @param isSkip Whether to skip the main execution of method
      * @return Skip result
@@ -52,16 +52,19 @@ public class TemplateForMember {
     @Advice.OnMethodEnter(skipOn = Advice.OnNonDefaultValue.class)
     public static boolean onMethodEnter(@Advice.Origin Class<?> cls,
             @Advice.This(typing = Assigner.Typing.DYNAMIC) Object obj,
-            @Advice.Origin Method method, @Advice.Origin("#t\\##m#s") String methodKey,
+            @Advice.Origin("#m") String methodName, @Advice.Origin("#d") String methodDesc,
             @Advice.AllArguments(readOnly = false, typing = Assigner.Typing.DYNAMIC) Object[] arguments,
-            @Advice.Local(value = "_ADVICE_KEY_$SERMANT_LOCAL") String adviceKey,
+            @AdviceSlot int adviceSlot, @AdviceActive boolean isActive,
             @Advice.Local(value = "_EXECUTE_CONTEXT_$SERMANT_LOCAL") Object context,
             @Advice.Local(value = "_IS_SKIP_$SERMANT_LOCAL") Boolean isSkip
 
     ) throws Throwable {
-        adviceKey = "TemplateForMember_" + Integer.toHexString(methodKey.hashCode()) + "_" + cls.getClassLoader();
-        context = ExecuteContext.forMemberMethod(obj, method, arguments, null, null);
-        context = AdviserScheduler.onMethodEnter(context, adviceKey);
+        if (!isActive) {
+            return false;
+        }
+        context = ExecuteContext.forMemberMethod(obj,
+                AdviceOriginCache.getMethod(cls, adviceSlot, methodName, methodDesc), arguments, null, null);
+        context = AdviserScheduler.onMethodEnter(context, adviceSlot);
         arguments = ((ExecuteContext) context).getArguments();
         isSkip = ((ExecuteContext) context).isSkip();
         return isSkip;
@@ -72,7 +75,7 @@ public class TemplateForMember {
      *
      * @param result Method execution result
      * @param throwable Method execution exception
-     * @param adviceKey advice class name
+     * @param adviceSlot advice slot of the enhanced method
      * @param context execute context
      * @param isSkip Whether to skip the main execution of method
      * @throws Throwable execute exception
@@ -80,11 +83,14 @@ public class TemplateForMember {
     @Advice.OnMethodExit(onThrowable = Throwable.class)
     public static void onMethodExit(@Advice.Return(readOnly = false, typing = Assigner.Typing.DYNAMIC) Object result,
             @Advice.Thrown(readOnly = false) Throwable throwable,
-            @Advice.Local(value = "_ADVICE_KEY_$SERMANT_LOCAL") String adviceKey,
+            @AdviceSlot int adviceSlot,
             @Advice.Local(value = "_EXECUTE_CONTEXT_$SERMANT_LOCAL") Object context,
             @Advice.Local(value = "_IS_SKIP_$SERMANT_LOCAL") Boolean isSkip) throws Throwable {
+        if (context == null) {
+            return;
+        }
         context = isSkip ? context : ((ExecuteContext) context).afterMethod(result, throwable);
-        context = AdviserScheduler.onMethodExit(context, adviceKey);
+        context = AdviserScheduler.onMethodExit(context, adviceSlot);
         result = ((ExecuteContext) context).getResult();
         if (((ExecuteContext) context).isChangeThrowable()) {
             throwable = ((ExecuteContext) context).getThrowable();
@@ -17,6 +17,9 @@
 package io.sermant.core.plugin.agent.transformer;
 
 import io.sermant.core.common.LoggerFactory;
+import io.sermant.core.plugin.agent.adviser.AdviceSwitch;
+import io.sermant.core.plugin.agent.adviser.AdviserScheduler;
+import io.sermant.core.plugin.agent.cache.InterceptDeclarerRegistry;
 import io.sermant.core.plugin.agent.declarer.InterceptDeclarer;
 import io.sermant.core.plugin.agent.interceptor.Interceptor;
 import io.sermant.core.plugin.agent.template.MethodKeyCreator;
@@ -24,6 +27,7 @@ import io.sermant.core.plugin.agent.template.TemplateForCtor;
 import io.sermant.core.plugin.agent.template.TemplateForMember;
 import io.sermant.core.plugin.agent.template.TemplateForStatic;
 
+import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.agent.builder.AgentBuilder;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.method.MethodDescription.InDefinedShape;
@@ -31,12 +35,18 @@ import net.bytebuddy.description.method.MethodList;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.DynamicType.Builder;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.constant.IntegerConstant;
+import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.utility.JavaConstant;
 import net.bytebuddy.utility.JavaModule;
 
 import java.lang.reflect.InvocationTargetException;
 import java.security.ProtectionDomain;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.logging.Logger;
@@ -53,18 +63,46 @@ public abstract class AbstractTransformer implements AgentBuilder.Transformer {
      */
     private static final Logger LOGGER = LoggerFactory.getLogger();
 
+    /**
+     * Bootstrap method of the invokedynamic instruction reading the advice switch
+     */
+    private static final MethodDescription.InDefinedShape SWITCH_BOOTSTRAP = TypeDescription.ForLoadedType
+            .of(AdviceSwitch.class).getDeclaredMethods().filter(ElementMatchers.named("bootstrap")).getOnly();
+
+    /**
+     * Method reading the advice switch, used when the class file version does not support invokedynamic
+     */
+    private static final MethodDescription.InDefinedShape SWITCH_READER = TypeDescription.ForLoadedType
+            .of(AdviceSwitch.class).getDeclaredMethods().filter(ElementMatchers.named("isActive")).getOnly();
+
     /**
      * intercept declarer set
      */
     private final InterceptDeclarer[] interceptDeclarers;
 
+    /**
+     * sources of the intercept declarers, see {@link InterceptDeclarerRegistry}
+     */
+    private final String[] interceptSources;
+
     /**
      * constructor
      *
      * @param interceptDeclarers intercept declarer set
      */
     public AbstractTransformer(InterceptDeclarer[] interceptDeclarers) {
+        this(interceptDeclarers, null);
+    }
+
+    /**
+     * constructor
+     *
+     * @param interceptDeclarers intercept declarer set
+     * @param interceptSources sources of the intercept declarers in the same order, null if unknown
+     */
+    public AbstractTransformer(InterceptDeclarer[] interceptDeclarers, String[] interceptSources) {
         this.interceptDeclarers = interceptDeclarers;
+        this.interceptSources = interceptSources;
     }
 
     @Override
@@ -108,17 +146,21 @@ public abstract class AbstractTransformer implements AgentBuilder.Transformer {
      */
     private DynamicType.Builder<?> enhanceMethod(DynamicType.Builder<?> builder,
             MethodDescription.InDefinedShape methodDesc, ClassLoader classLoader) {
-        final List<Interceptor> interceptors = getInterceptors(methodDesc, classLoader);
+        final List<String> matchedSources = interceptSources == null ? null : new ArrayList<>();
+        final List<Interceptor> interceptors = getInterceptors(methodDesc, classLoader, matchedSources);
         if (interceptors.isEmpty()) {
             return builder;
         }
         try {
             if (methodDesc.isStatic()) {
-                return resolve(builder, methodDesc, interceptors, TemplateForStatic.class, classLoader);
+                return resolve(builder, methodDesc, interceptors, matchedSources, TemplateForStatic.class,
+                        classLoader);
             } else if (methodDesc.isConstructor()) {
-                return resolve(builder, methodDesc, interceptors, TemplateForCtor.class, classLoader);
+                return resolve(builder, methodDesc, interceptors, matchedSources, TemplateForCtor.class,
+                        classLoader);
             } else {
-                return resolve(builder, methodDesc, interceptors, TemplateForMember.class, classLoader);
+                return resolve(builder, methodDesc, interceptors, matchedSources, TemplateForMember.class,
+                        classLoader);
             }
         } catch (NoSuchFieldException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
             LOGGER.warning(String.format(Locale.ROOT, "Enhance [%s] failed for [%s], caused by [%s]. ",
@@ -132,14 +174,20 @@ public abstract class AbstractTransformer implements AgentBuilder.Transformer {
      *
      * @param methodDesc method definition
      * @param classLoader classLoader
+     * @param matchedSources collects the sources of the matched intercept declarers, null if not needed
      * @return interceptor list
      */
-    private List<Interceptor> getInterceptors(MethodDescription.InDefinedShape methodDesc, ClassLoader classLoader) {
+    private List<Interceptor> getInterceptors(MethodDescription.InDefinedShape methodDesc, ClassLoader classLoader,
+            List<String> matchedSources) {
         final List<Interceptor> interceptors = new ArrayList<>();
-        for (InterceptDeclarer declarer : interceptDeclarers) {
+        for (int i = 0; i < interceptDeclarers.length; i++) {
+            InterceptDeclarer declarer = interceptDeclarers[i];
             if (!declarer.getMethodMatcher().matches(methodDesc)) {
                 continue;
             }
+            if (matchedSources != null) {
+                matchedSources.add(interceptSources[i]);
+            }
             if (classLoader == null) {
                 interceptors.addAll(Arrays.asList(declarer.getInterceptors(ClassLoader.getSystemClassLoader())));
             } else {
@@ -152,15 +200,16 @@ public abstract class AbstractTransformer implements AgentBuilder.Transformer {
     /**
      * Process method enhancement
      * <pre>
-     *     1.Create an enhancement Adviser based on the template class
-     *     2.Define the Adviser using the classloader of the enhanced class
-     *     3.Add interceptors to the Adviser
+     *     1.Assign the advice slot of the enhanced method, see {@link #getAdviceSlot}
+     *     2.Add interceptors to the advice slot
+     *     3.Bind the advice slot to the template class as a constant
      *     4.Define the enhancement logic in the builder
      * </pre>
      *
      * @param builder builder
      * @param methodDesc method definition
      * @param interceptors interceptor list
+     * @param interceptSources sources of the intercept declarers creating the interceptors, null if unknown
      * @param templateCls template class
      * @param classLoader classLoader
      * @return DynamicType.Builder
@@ -170,7 +219,8 @@ public abstract class AbstractTransformer implements AgentBuilder.Transformer {
      * @throws NoSuchFieldException Filed not found
      */
     abstract DynamicType.Builder<?> resolve(DynamicType.Builder<?> builder, MethodDescription.InDefinedShape methodDesc,
-            List<Interceptor> interceptors, Class<?> templateCls, ClassLoader classLoader)
+            List<Interceptor> interceptors, List<String> interceptSources, Class<?> templateCls,
+            ClassLoader classLoader)
             throws InvocationTargetException, IllegalAccessException, NoSuchMethodException, NoSuchFieldException;
 
     /**
@@ -185,7 +235,61 @@ public abstract class AbstractTransformer implements AgentBuilder.Transformer {
      */
     protected String getAdviceKey(Class<?> templateCls, ClassLoader classLoader,
             MethodDescription.InDefinedShape methodDesc) {
+        return getAdviceKey(getMethodKey(templateCls, methodDesc), classLoader);
+    }
+
+    /**
+     * Get the adviceKey of the method key, see {@link #getAdviceKey(Class, ClassLoader, InDefinedShape)}
+     *
+     * @param methodKey method key, see {@link #getMethodKey}
+     * @param classLoader classloader of the enhanced class
+     * @return adviceKey
+     */
+    public static String getAdviceKey(String methodKey, ClassLoader classLoader) {
+        return methodKey + "_" + classLoader;
+    }
+
+    /**
+     * The format of the method key is [standard class name of template class_hash value of meta information of the
+     * enhanced method], that is the adviceKey without the classloader, which stays stable between restarts
+     *
+     * @param templateCls template class
+     * @param methodDesc method definition
+     * @return method key
+     */
+    protected String getMethodKey(Class<?> templateCls, MethodDescription.InDefinedShape methodDesc) {
         return templateCls.getSimpleName() + "_" + Integer.toHexString(
-                MethodKeyCreator.getMethodDescKey(methodDesc).hashCode()) + "_" + classLoader;
+                MethodKeyCreator.getMethodDescKey(methodDesc).hashCode());
+    }
+
+    /**
+     * Get the advice slot of the adviceKey. The slot is written into the enhanced method as a constant, so that the
+     * interceptors can be found by array index at runtime instead of building the adviceKey for every invocation
+     *
+     * @param adviceKey adviceKey, see {@link #getAdviceKey}
+     * @return advice slot
+     */
+    protected int getAdviceSlot(String adviceKey) {
+        return AdviserScheduler.getAdviceSlot(adviceKey);
+    }
+
+    /**
+     * Get the stack manipulation reading the switch of the advice slot. An invokedynamic instruction linked to the
+     * call site of the slot is used if the class file version of the enhanced class supports it, otherwise the
+     * switch is read by a static method call, see {@link AdviceSwitch}
+     *
+     * @param typeDesc enhanced class
+     * @param adviceSlot advice slot
+     * @return stack manipulation which pushes the switch onto the operand stack
+     */
+    protected StackManipulation getAdviceSwitch(TypeDescription typeDesc, int adviceSlot) {
+        ClassFileVersion classFileVersion = typeDesc.getClassFileVersion();
+        if (classFileVersion != null && classFileVersion.isAtLeast(ClassFileVersion.JAVA_V7)) {
+            return MethodInvocation.invoke(SWITCH_BOOTSTRAP).dynamic("isActive",
+                    TypeDescription.ForLoadedType.of(boolean.class), Collections.emptyList(),
+                    Collections.singletonList(JavaConstant.Simple.ofLoaded(adviceSlot)));
+        }
+        return new StackManipulation.Compound(IntegerConstant.forValue(adviceSlot),
+                MethodInvocation.invoke(SWITCH_READER));
     }
 }
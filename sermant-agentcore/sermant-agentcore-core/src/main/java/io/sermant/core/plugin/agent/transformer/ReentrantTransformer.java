@@ -18,9 +18,15 @@ package io.sermant.core.plugin.agent.transformer;
 
 import io.sermant.core.plugin.Plugin;
 import io.sermant.core.plugin.agent.adviser.AdviserScheduler;
+import io.sermant.core.plugin.agent.cache.EnhanceSession;
+import io.sermant.core.plugin.agent.cache.EnhancedMethod;
+import io.sermant.core.plugin.agent.cache.InterceptDeclarerRegistry;
 import io.sermant.core.plugin.agent.declarer.InterceptDeclarer;
 import io.sermant.core.plugin.agent.info.EnhancementManager;
 import io.sermant.core.plugin.agent.interceptor.Interceptor;
+import io.sermant.core.plugin.agent.profile.InterceptorProfiler;
+import io.sermant.core.plugin.agent.template.AdviceActive;
+import io.sermant.core.plugin.agent.template.AdviceSlot;
 import io.sermant.core.plugin.agent.template.BaseAdviseHandler;
 import io.sermant.core.plugin.agent.template.MethodKeyCreator;
 
@@ -52,35 +58,82 @@ public class ReentrantTransformer extends AbstractTransformer {
      * @param plugin belonged plugin
      */
     public ReentrantTransformer(InterceptDeclarer[] interceptDeclarers, Plugin plugin) {
-        super(interceptDeclarers);
+        this(interceptDeclarers, null, plugin);
+    }
+
+    /**
+     * constructor
+     *
+     * @param interceptDeclarers intercept declarer set
+     * @param interceptSources sources of the intercept declarers, which let the class be served from the enhanced
+     * class cache, see {@link InterceptDeclarerRegistry}
+     * @param plugin belonged plugin
+     */
+    public ReentrantTransformer(InterceptDeclarer[] interceptDeclarers, String[] interceptSources, Plugin plugin) {
+        super(interceptDeclarers, interceptSources);
         this.plugin = plugin;
     }
 
     @Override
     protected Builder<?> resolve(Builder<?> builder, InDefinedShape methodDesc, List<Interceptor> interceptors,
-            Class<?> templateCls, ClassLoader classLoader)
+            List<String> interceptSources, Class<?> templateCls, ClassLoader classLoader)
             throws InvocationTargetException, IllegalAccessException, NoSuchMethodException, NoSuchFieldException {
         final String adviceKey = getAdviceKey(templateCls, classLoader, methodDesc);
-        List<Interceptor> interceptorsForAdviceKey = BaseAdviseHandler.getInterceptorListMap()
-                .computeIfAbsent(adviceKey, key -> new ArrayList<>());
+        final int adviceSlot = getAdviceSlot(adviceKey);
+        final String methodDescKey = MethodKeyCreator.getMethodDescKey(methodDesc);
+        final boolean isLocked = addInterceptors(plugin, adviceKey, adviceSlot, methodDescKey, interceptors,
+                classLoader);
+        if (EnhanceSession.isRecording()) {
+            if (interceptSources == null || !InterceptDeclarerRegistry.isRegistered(plugin)) {
+                EnhanceSession.markUncacheable();
+            } else {
+                EnhanceSession.onEnhance(new EnhancedMethod(getMethodKey(templateCls, methodDesc), adviceSlot,
+                        methodDescKey, plugin.getName(), isLocked, interceptSources));
+            }
+        }
+        if (isLocked) {
+            return builder.visit(Advice.withCustomMapping()
+                    .bind(AdviceSlot.class, adviceSlot)
+                    .bind(AdviceActive.class, getAdviceSwitch(methodDesc.getDeclaringType(), adviceSlot),
+                            boolean.class)
+                    .to(templateCls)
+                    .on(ElementMatchers.is(methodDesc)));
+        }
+        return builder;
+    }
+
+    /**
+     * Add the interceptors of the plugin to the advice slot of the enhanced method, the interceptors created by the
+     * plugin for the adviceKey before are skipped. It is shared by the weaving and the enhanced class cache, which
+     * serves the woven bytecode without transforming the class
+     *
+     * @param plugin belonged plugin
+     * @param adviceKey adviceKey
+     * @param adviceSlot advice slot
+     * @param methodDescKey meta information of the enhanced method, see {@link MethodKeyCreator#getMethodDescKey}
+     * @param interceptors interceptor list
+     * @param classLoader classloader of the enhanced class
+     * @return true if the plugin holds the advice lock of the adviceKey, that is the advice is woven by the plugin
+     */
+    public static boolean addInterceptors(Plugin plugin, String adviceKey, int adviceSlot, String methodDescKey,
+            List<Interceptor> interceptors, ClassLoader classLoader) {
+        List<Interceptor> newInterceptors = new ArrayList<>();
         Set<String> createdInterceptorForAdviceKey = plugin.getInterceptors()
                 .computeIfAbsent(adviceKey, key -> new HashSet<>());
         for (Interceptor interceptor : interceptors) {
             // need to check whether the Interceptor is created
-            if (checkInterceptor(adviceKey, interceptor.getClass().getCanonicalName())) {
-                interceptorsForAdviceKey.add(interceptor);
+            if (checkInterceptor(plugin, adviceKey, interceptor.getClass().getCanonicalName())) {
+                newInterceptors.add(interceptor);
                 createdInterceptorForAdviceKey.add(interceptor.getClass().getCanonicalName());
             }
         }
-        EnhancementManager.addEnhancements(plugin, interceptors, classLoader,
-                MethodKeyCreator.getMethodDescKey(methodDesc));
-        if (checkAdviceLock(adviceKey)) {
-            return builder.visit(Advice.to(templateCls).on(ElementMatchers.is(methodDesc)));
-        }
-        return builder;
+        InterceptorProfiler.bindAdviceKey(adviceSlot, adviceKey);
+        BaseAdviseHandler.addInterceptors(adviceSlot, newInterceptors);
+        EnhancementManager.addEnhancements(plugin, interceptors, classLoader, methodDescKey);
+        return checkAdviceLock(plugin, adviceKey);
     }
 
-    private boolean checkAdviceLock(String adviceKey) {
+    private static boolean checkAdviceLock(Plugin plugin, String adviceKey) {
         if (AdviserScheduler.lock(adviceKey)) {
             // adviceKey lock is successfully obtained, then manage it in the plugin
             plugin.getAdviceLocks().add(adviceKey);
@@ -89,7 +142,7 @@ public class ReentrantTransformer extends AbstractTransformer {
         return plugin.getAdviceLocks().contains(adviceKey);
     }
 
-    private boolean checkInterceptor(String adviceKey, String interceptor) {
+    private static boolean checkInterceptor(Plugin plugin, String adviceKey, String interceptor) {
         // Whether the plugin has created an interceptor for the adviceKey
         return !plugin.getInterceptors().get(adviceKey).contains(interceptor);
     }
@@ -20,9 +20,9 @@ import io.sermant.core.common.LoggerFactory;
 import io.sermant.core.plugin.Plugin;
 
 import java.net.URL;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 /**
@@ -37,7 +37,12 @@ public class PluginClassFinder {
      */
     private static final Logger LOGGER = LoggerFactory.getLogger();
 
-    private final Map<String, PluginClassLoader> pluginClassLoaderMap = new HashMap<>();
+    private final Map<String, PluginClassLoader> pluginClassLoaderMap = new ConcurrentHashMap<>();
+
+    /**
+     * Classes resolved in the Sermant search path, cleared when the pluginClassLoaders change
+     */
+    private final Map<String, Class<?>> sermantClassMap = new ConcurrentHashMap<>();
 
     /**
      * Cache pluginClassLoader
@@ -46,6 +51,7 @@ public class PluginClassFinder {
      */
     public void addPluginClassLoader(Plugin plugin) {
         pluginClassLoaderMap.put(plugin.getName(), plugin.getPluginClassLoader());
+        sermantClassMap.clear();
     }
 
     /**
@@ -55,6 +61,7 @@ public class PluginClassFinder {
      */
     public void removePluginClassLoader(Plugin plugin) {
         pluginClassLoaderMap.remove(plugin.getName());
+        sermantClassMap.clear();
     }
 
     /**
@@ -66,17 +73,32 @@ public class PluginClassFinder {
      * that the class is not found
      */
     public Class<?> loadSermantClass(String name) throws ClassNotFoundException {
+        Class<?> clazz = findSermantClass(name);
+        if (clazz == null) {
+            throw new ClassNotFoundException("Can not load class in pluginClassLoaders: " + name);
+        }
+        return clazz;
+    }
+
+    /**
+     * Find the corresponding class name under the Sermant search path, without throwing an exception if not found
+     *
+     * @param name class name
+     * @return Class<?>, null if the class is not found in any of pluginClassLoaders
+     */
+    public Class<?> findSermantClass(String name) {
+        Class<?> clazz = sermantClassMap.get(name);
+        if (clazz != null) {
+            return clazz;
+        }
         for (PluginClassLoader pluginClassLoader : pluginClassLoaderMap.values()) {
-            try {
-                Class<?> clazz = pluginClassLoader.loadSermantClass(name);
-                if (clazz != null) {
-                    return clazz;
-                }
-            } catch (ClassNotFoundException e) {
-                // Class not found, ignored, exception thrown later
+            clazz = pluginClassLoader.findSermantClass(name);
+            if (clazz != null) {
+                sermantClassMap.put(name, clazz);
+                return clazz;
             }
         }
-        throw new ClassNotFoundException("Can not load class in pluginClassLoaders: " + name);
+        return null;
     }
 
     /**
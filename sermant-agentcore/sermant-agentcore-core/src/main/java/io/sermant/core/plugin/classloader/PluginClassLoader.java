@@ -22,8 +22,9 @@ import io.sermant.core.plugin.agent.config.AgentConfig;
 
 import java.net.URL;
 import java.net.URLClassLoader;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -39,7 +40,21 @@ public class PluginClassLoader extends URLClassLoader {
      */
     private static final Logger LOGGER = LoggerFactory.getLogger();
 
-    private final HashMap<Long, ClassLoader> localLoader = new HashMap<>();
+    /**
+     * The max number of class names kept in each negative lookup cache, the cache is cleared when it is full
+     */
+    private static final int MAX_MISSING_CLASSES = 4096;
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    static {
+        ClassLoader.registerAsParallelCapable();
+    }
+
+    /**
+     * The thread-bound localClassLoader
+     */
+    private final ThreadLocal<ClassLoader> localLoader = new ThreadLocal<>();
 
     /**
      * Whether to use context classLoader
@@ -49,7 +64,17 @@ public class PluginClassLoader extends URLClassLoader {
     /**
      * Manages the loaded classes in the classLoader
      */
-    private final Map<String, Class<?>> pluginClassMap = new HashMap<>();
+    private final Map<String, Class<?>> pluginClassMap = new ConcurrentHashMap<>();
+
+    /**
+     * Classes that can not be found in the search path of the classLoader
+     */
+    private final Set<String> missingPluginClasses = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Classes that can not be found in the Sermant search path, which is fixed once the plugins are loaded
+     */
+    private final Set<String> missingSermantClasses = ConcurrentHashMap.newKeySet();
 
     /**
      * constructor
@@ -63,20 +88,63 @@ public class PluginClassLoader extends URLClassLoader {
     }
 
     /**
-     * Load the plugin class and cache it
+     * Load the plugin class and cache it. The class file is looked up before the class is defined, so that the classes
+     * not in the search path do not cost a ClassNotFoundException
      *
      * @param name fully qualified name
-     * @return class object
+     * @return class object, null if the class is not in the search path
      */
     private Class<?> loadPluginClass(String name) {
-        if (!pluginClassMap.containsKey(name)) {
-            try {
-                pluginClassMap.put(name, findClass(name));
-            } catch (ClassNotFoundException ignored) {
-                pluginClassMap.put(name, null);
+        Class<?> clazz = pluginClassMap.get(name);
+        if (clazz != null || missingPluginClasses.contains(name)) {
+            return clazz;
+        }
+        synchronized (getClassLoadingLock(name)) {
+            clazz = pluginClassMap.get(name);
+            if (clazz != null) {
+                return clazz;
+            }
+            if (findResource(name.replace('.', '/') + CLASS_FILE_SUFFIX) != null) {
+                try {
+                    clazz = findClass(name);
+                    pluginClassMap.put(name, clazz);
+                    return clazz;
+                } catch (ClassNotFoundException e) {
+                    LOGGER.log(Level.FINE, "Load class failed, msg is {0}", e.getMessage());
+                }
             }
+            addMissingClass(missingPluginClasses, name);
+            return null;
+        }
+    }
+
+    /**
+     * Load the class in the Sermant search path, the classes not found are cached
+     *
+     * @param name fully qualified name
+     * @return class object, null if the class is not in the Sermant search path
+     */
+    private Class<?> loadParentClass(String name) {
+        if (missingSermantClasses.contains(name)) {
+            return null;
+        }
+        ClassLoader parent = getParent();
+        try {
+            return parent == null ? Class.forName(name, false, null) : parent.loadClass(name);
+        } catch (ClassNotFoundException e) {
+            // Catch the exception that the class cannot be found. The next step is to load the class by the
+            // localLoader
+            LOGGER.log(Level.FINE, "Load class failed, msg is {0}", e.getMessage());
+            addMissingClass(missingSermantClasses, name);
+            return null;
+        }
+    }
+
+    private static void addMissingClass(Set<String> missingClasses, String name) {
+        if (missingClasses.size() >= MAX_MISSING_CLASSES) {
+            missingClasses.clear();
         }
-        return pluginClassMap.get(name);
+        missingClasses.add(name);
     }
 
     /**
@@ -86,6 +154,7 @@ public class PluginClassLoader extends URLClassLoader {
      */
     public void appendUrl(URL url) {
         this.addURL(url);
+        missingPluginClasses.clear();
     }
 
     @Override
@@ -95,42 +164,44 @@ public class PluginClassLoader extends URLClassLoader {
 
     @Override
     public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
-        synchronized (getClassLoadingLock(name)) {
-            Class<?> clazz = loadPluginClass(name);
+        Class<?> clazz = findSermantClass(name);
 
-            // If the class cannot be loaded on its own, it is loaded in the Sermant search path
-            if (clazz == null) {
-                try {
-                    clazz = super.loadClass(name, resolve);
-                } catch (ClassNotFoundException e) {
-                    // Catch the exception that the class cannot be found. The next step is to load the class by
-                    // the localLoader
-                    // ignored
-                    LOGGER.log(Level.FINE, "Load class failed, msg is {0}", e.getMessage());
-                }
-            }
+        // If the class cannot be found from the Sermant search path, it is attempted to be loaded via the
+        // thread-bound localClassLoader
+        if (clazz == null) {
+            clazz = getClassFromLocalClassLoader(name);
+        }
 
-            // If the class cannot be found from the Sermant search path, it is attempted to be loaded via the
-            // thread-bound localClassLoader
-            if (clazz == null) {
-                clazz = getClassFromLocalClassLoader(name);
-            }
+        // If the class cannot be found, an exception is thrown
+        if (clazz == null) {
+            throw new ClassNotFoundException("Sermant pluginClassLoader can not load class: " + name);
+        }
 
-            // If the class cannot be found, an exception is thrown
-            if (clazz == null) {
-                throw new ClassNotFoundException("Sermant pluginClassLoader can not load class: " + name);
-            }
+        // Parse the class if necessary
+        if (resolve) {
+            resolveClass(clazz);
+        }
+        return clazz;
+    }
 
-            // Parse the class if necessary
-            if (resolve) {
-                resolveClass(clazz);
-            }
-            return clazz;
+    /**
+     * Find the class only through Sermant's own search path, without throwing an exception if not found
+     *
+     * @param name class name
+     * @return class object, null if the class is not found
+     */
+    public Class<?> findSermantClass(String name) {
+        Class<?> clazz = loadPluginClass(name);
+
+        // If the class cannot be loaded on its own, it is loaded in the Sermant search path
+        if (clazz == null) {
+            clazz = loadParentClass(name);
         }
+        return clazz;
     }
 
     private Class<?> getClassFromLocalClassLoader(String name) {
-        ClassLoader loader = localLoader.get(Thread.currentThread().getId());
+        ClassLoader loader = localLoader.get();
 
         if (loader == null && useContextLoader) {
             loader = Thread.currentThread().getContextClassLoader();
@@ -159,23 +230,13 @@ public class PluginClassLoader extends URLClassLoader {
      * @throws ClassNotFoundException class not found
      */
     public Class<?> loadSermantClass(String name) throws ClassNotFoundException {
-        synchronized (getClassLoadingLock(name)) {
-            Class<?> clazz = loadPluginClass(name);
+        Class<?> clazz = findSermantClass(name);
 
-            if (clazz == null) {
-                try {
-                    clazz = super.loadClass(name, false);
-                } catch (ClassNotFoundException e) {
-                    // Class not found, ignored, exception thrown later
-                }
-            }
-
-            // If the class cannot be found, an exception is thrown
-            if (clazz == null) {
-                throw new ClassNotFoundException("Sermant pluginClassLoader can not load class: " + name);
-            }
-            return clazz;
+        // If the class cannot be found, an exception is thrown
+        if (clazz == null) {
+            throw new ClassNotFoundException("Sermant pluginClassLoader can not load class: " + name);
         }
+        return clazz;
     }
 
     /**
@@ -184,13 +245,13 @@ public class PluginClassLoader extends URLClassLoader {
      * @param loader classLoader
      */
     public void setLocalLoader(ClassLoader loader) {
-        localLoader.put(Thread.currentThread().getId(), loader);
+        localLoader.set(loader);
     }
 
     /**
      * Clear the localClassLoader
      */
     public void removeLocalLoader() {
-        localLoader.remove(Thread.currentThread().getId());
+        localLoader.remove();
     }
-}
\ No newline at end of file
+}
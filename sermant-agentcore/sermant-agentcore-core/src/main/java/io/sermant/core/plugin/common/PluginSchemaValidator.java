@@ -21,8 +21,8 @@ import io.sermant.core.utils.JarFileUtils;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarFile;
 
 /**
@@ -34,9 +34,9 @@ import java.util.jar.JarFile;
  */
 public class PluginSchemaValidator {
     /**
-     * A collection of plugin names and versions
+     * A collection of plugin names and versions, the plugins may be validated in parallel
      */
-    private static final Map<String, String> PLUGIN_VERSION_MAP = new HashMap<>();
+    private static final Map<String, String> PLUGIN_VERSION_MAP = new ConcurrentHashMap<>();
 
     private PluginSchemaValidator() {
     }
@@ -88,6 +88,19 @@ public class DynamicConfig implements BaseConfig {
     @ConfigFieldKey("requestTimeout")
     private int requestTimeout = REQUEST_TIMEOUT;
 
+    /**
+     * Whether to keep a local snapshot of the configurations of each group, served to the group listeners at startup
+     * before the configuration center answers
+     */
+    @ConfigFieldKey("snapshot.enable")
+    private boolean snapshotEnable = false;
+
+    /**
+     * Directory of the snapshot files, it is agent/configSnapshot by default
+     */
+    @ConfigFieldKey("snapshot.path")
+    private String snapshotPath;
+
     public int getTimeoutValue() {
         return timeoutValue;
     }
@@ -175,4 +188,20 @@ public class DynamicConfig implements BaseConfig {
     public void setRequestTimeout(int requestTimeout) {
         this.requestTimeout = requestTimeout;
     }
+
+    public boolean isSnapshotEnable() {
+        return snapshotEnable;
+    }
+
+    public void setSnapshotEnable(boolean snapshotEnable) {
+        this.snapshotEnable = snapshotEnable;
+    }
+
+    public String getSnapshotPath() {
+        return snapshotPath;
+    }
+
+    public void setSnapshotPath(String snapshotPath) {
+        this.snapshotPath = snapshotPath;
+    }
 }
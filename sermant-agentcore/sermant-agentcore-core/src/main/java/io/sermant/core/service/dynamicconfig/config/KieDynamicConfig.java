@@ -28,12 +28,27 @@ import io.sermant.core.config.common.ConfigTypeKey;
  */
 @ConfigTypeKey("kie.dynamic.config")
 public class KieDynamicConfig implements BaseConfig {
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 10;
+
     /**
      * default namespace of kie
      */
     private String project = "default";
 
+    /**
+     * Maximum number of the connections to each kie address, it caps the concurrent long polling requests to one kie
+     */
+    private int maxConnectionsPerRoute = MAX_CONNECTIONS_PER_ROUTE;
+
     public String getProject() {
         return project;
     }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
 }
@@ -16,6 +16,8 @@
 
 package io.sermant.core.service.httpserver.api;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.util.Map;
 
 /**
@@ -89,6 +91,40 @@ public interface HttpResponse {
      */
     void writeBody(byte[] bytes);
 
+    /**
+     * Sends the status and the headers and retrieves the stream of the response body, the body is sent in chunks as it
+     * is written. The caller closes the stream when the body is written, and leaves it open if the body fails to be
+     * written, so that the exchange is aborted instead of being completed with a truncated body
+     * <p>The default implementation buffers the body and sends it by {@link #writeBody(byte[])} when the stream is
+     * closed, implementations override it to send the body in chunks
+     *
+     * @return Output stream of the response body
+     */
+    default OutputStream getBodyAsStream() {
+        return new ByteArrayOutputStream() {
+            private boolean closed;
+
+            @Override
+            public void close() {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                writeBody(toByteArray());
+            }
+        };
+    }
+
+    /**
+     * Whether the status and the headers have been sent. A committed response can not be replaced by an error
+     * response, the exchange is aborted instead
+     *
+     * @return committed or not
+     */
+    default boolean isCommitted() {
+        return false;
+    }
+
     /**
      * Writes the response body as a string
      *
@@ -20,6 +20,15 @@ import io.sermant.core.service.BaseService;
 
 /**
  * MetricService
+ * <p>The meters are identified by the metric name and the tags, creating a meter with the same name and tags again
+ * returns the same handle. The handles are thread safe and safe to keep, the hot paths should bind the handle once
+ * instead of looking it up on every call:
+ * <pre>
+ *     Counter requestCounter = metricService.counter("request.count", Tags.of("service", "demo"));
+ *     ...
+ *     requestCounter.increment();
+ * </pre>
+ * The description and the distribution statistic config only take effect on the first creation.
  *
  * @author zwmagic
  * @since 2024-08-19
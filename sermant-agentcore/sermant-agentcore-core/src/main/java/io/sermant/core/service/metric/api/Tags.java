@@ -120,4 +120,20 @@ public final class Tags {
     public Map<String, String> getTags() {
         return Collections.unmodifiableMap(tags);
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Tags)) {
+            return false;
+        }
+        return tags.equals(((Tags) obj).tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return tags.hashCode();
+    }
 }
@@ -41,6 +41,14 @@ public class GatewayConfig implements BaseConfig {
 
     private static final int DEFAULT_SEND_INTERNAL_TIME = 10;
 
+    private static final long DEFAULT_SEND_BUFFER_BYTES = 8L * 1024 * 1024;
+
+    private static final int DEFAULT_SEND_BATCH_BYTES = 64 * 1024;
+
+    private static final int DEFAULT_WRITE_BUFFER_LOW_WATER_MARK = 32 * 1024;
+
+    private static final int DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK = 64 * 1024;
+
     /**
      * netty ip address
      */
@@ -73,6 +81,31 @@ public class GatewayConfig implements BaseConfig {
 
     private long nettyWriteAndReadWaitTime = DEFAULT_NETTY_WRITE_READ_WAIT_TIME;
 
+    /**
+     * maximum bytes of the messages buffered for sending, unit: byte
+     */
+    private long sendBufferBytes = DEFAULT_SEND_BUFFER_BYTES;
+
+    /**
+     * the buffered messages are sent once they reach the bytes, or at the sending interval, unit: byte
+     */
+    private int sendBatchBytes = DEFAULT_SEND_BATCH_BYTES;
+
+    /**
+     * the channel becomes writable again when its outbound buffer drops below the bytes, unit: byte
+     */
+    private int writeBufferLowWaterMark = DEFAULT_WRITE_BUFFER_LOW_WATER_MARK;
+
+    /**
+     * the channel becomes unwritable when its outbound buffer exceeds the bytes, unit: byte
+     */
+    private int writeBufferHighWaterMark = DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK;
+
+    /**
+     * compression of the messages, gzip or deflate. The Sermant Backend older than the agent can only decompress gzip
+     */
+    private String compression = "gzip";
+
     public String getNettyIp() {
         return nettyIp;
     }
@@ -128,4 +161,44 @@ public class GatewayConfig implements BaseConfig {
     public void setMaxReconnectInternalTime(int maxReconnectInternalTime) {
         this.maxReconnectInternalTime = maxReconnectInternalTime;
     }
+
+    public long getSendBufferBytes() {
+        return sendBufferBytes;
+    }
+
+    public void setSendBufferBytes(long sendBufferBytes) {
+        this.sendBufferBytes = sendBufferBytes;
+    }
+
+    public int getSendBatchBytes() {
+        return sendBatchBytes;
+    }
+
+    public void setSendBatchBytes(int sendBatchBytes) {
+        this.sendBatchBytes = sendBatchBytes;
+    }
+
+    public int getWriteBufferLowWaterMark() {
+        return writeBufferLowWaterMark;
+    }
+
+    public void setWriteBufferLowWaterMark(int writeBufferLowWaterMark) {
+        this.writeBufferLowWaterMark = writeBufferLowWaterMark;
+    }
+
+    public int getWriteBufferHighWaterMark() {
+        return writeBufferHighWaterMark;
+    }
+
+    public void setWriteBufferHighWaterMark(int writeBufferHighWaterMark) {
+        this.writeBufferHighWaterMark = writeBufferHighWaterMark;
+    }
+
+    public String getCompression() {
+        return compression;
+    }
+
+    public void setCompression(String compression) {
+        this.compression = compression;
+    }
 }
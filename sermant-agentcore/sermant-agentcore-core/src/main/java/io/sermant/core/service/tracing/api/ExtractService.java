@@ -29,7 +29,8 @@ import io.sermant.core.service.tracing.common.TracingRequest;
 public interface ExtractService<T> {
     /**
      * For cross-process tracing, the SpanContext needs to be extracted from the protocol carrier,
-     * TRACE_ID->TraceId、PARENT_SPAN_ID->ParentSpanId、SPAN_ID_PREFIX->SpanIdPrefix required
+     * TRACE_ID->TraceId、PARENT_SPAN_ID->ParentSpanId、SPAN_ID_PREFIX->SpanIdPrefix required, SAMPLED->Sampled parsed
+     * by TracingUtils#parseSampled, so that the decision of the upstream is followed
      *
      * @param tracingRequest SpanStart required build data
      * @param carrier protocol carrier
@@ -29,10 +29,21 @@ import io.sermant.core.service.tracing.common.SpanEvent;
 public interface InjectService<T> {
     /**
      * For cross-process tracing, the SpanContext needs to be put into the protocol carrier.
-     * TraceId->TRACE_ID、ParentSpanId->PARENT_SPAN_ID、NextSpanIdPrefix->SPAN_ID_PREFIX required
+     * TraceId->TRACE_ID、ParentSpanId->PARENT_SPAN_ID、NextSpanIdPrefix->SPAN_ID_PREFIX required, SAMPLED is
+     * TracingUtils#SAMPLED as only the spans of the sampled requests are injected
      *
      * @param spanEvent span information
      * @param carrier protocol carrier
      */
     void addToCarrier(SpanEvent spanEvent, T carrier);
+
+    /**
+     * For cross-process tracing of the unsampled requests, only the sampling decision is put into the protocol
+     * carrier, SAMPLED is TracingUtils#UNSAMPLED. Otherwise the downstream processes sample the request again, and
+     * trace it without the spans of the upstream. Nothing is injected by default
+     *
+     * @param carrier protocol carrier
+     */
+    default void addUnsampledToCarrier(T carrier) {
+    }
 }
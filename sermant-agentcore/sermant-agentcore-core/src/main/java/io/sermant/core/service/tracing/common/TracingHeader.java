@@ -34,7 +34,11 @@ public enum TracingHeader {
     /**
      * Identifies the prefix of SpanId of next process
      */
-    SPAN_ID_PREFIX("sermant-span-id-prefix");
+    SPAN_ID_PREFIX("sermant-span-id-prefix"),
+    /**
+     * Identifies the sampling decision of the upstream process, "1" for sampled and "0" for unsampled
+     */
+    SAMPLED("sermant-sampled");
 
     private final String value;
 
@@ -43,6 +43,11 @@ public class TracingRequest {
 
     private TargetInfo targetInfo;
 
+    /**
+     * Sampling decision of the upstream process, null if the upstream did not decide
+     */
+    private Boolean sampled;
+
     /**
      * Constructor
      *
@@ -126,4 +131,12 @@ public class TracingRequest {
     public void setTargetInfo(TargetInfo targetInfo) {
         this.targetInfo = targetInfo;
     }
+
+    public Boolean getSampled() {
+        return sampled;
+    }
+
+    public void setSampled(Boolean sampled) {
+        this.sampled = sampled;
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.core.service.tracing.config;
+
+import io.sermant.core.config.common.BaseConfig;
+import io.sermant.core.config.common.ConfigFieldKey;
+import io.sermant.core.config.common.ConfigTypeKey;
+
+/**
+ * Tracing Configuration, the sampling decision is made at the entry span and follows the upstream decision carried by
+ * the protocol carrier
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+@ConfigTypeKey("tracing")
+public class TracingConfig implements BaseConfig {
+    /**
+     * Probability of sampling the requests without upstream decision, from 0 to 1
+     */
+    @ConfigFieldKey("sampleRatio")
+    private double sampleRatio = 1.0D;
+
+    /**
+     * Maximum number of the requests sampled per second, not limited if it is not positive
+     */
+    @ConfigFieldKey("maxTracesPerSecond")
+    private int maxTracesPerSecond;
+
+    /**
+     * Whether the unsampled requests are sampled if the entry span fails
+     */
+    @ConfigFieldKey("sampleErrors")
+    private boolean sampleErrors = true;
+
+    public double getSampleRatio() {
+        return sampleRatio;
+    }
+
+    public void setSampleRatio(double sampleRatio) {
+        this.sampleRatio = sampleRatio;
+    }
+
+    public int getMaxTracesPerSecond() {
+        return maxTracesPerSecond;
+    }
+
+    public void setMaxTracesPerSecond(int maxTracesPerSecond) {
+        this.maxTracesPerSecond = maxTracesPerSecond;
+    }
+
+    public boolean isSampleErrors() {
+        return sampleErrors;
+    }
+
+    public void setSampleErrors(boolean sampleErrors) {
+        this.sampleErrors = sampleErrors;
+    }
+}
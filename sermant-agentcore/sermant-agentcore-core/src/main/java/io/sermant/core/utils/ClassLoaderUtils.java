@@ -16,6 +16,8 @@
 
 package io.sermant.core.utils;
 
+import io.sermant.core.common.LoggerFactory;
+
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -25,8 +27,14 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -48,6 +56,23 @@ public class ClassLoaderUtils {
      */
     private static final String CLASSFILE_SUFFIX = ".class";
 
+    /**
+     * ClassLoader#findLoadedClass, null if it can not be accessed
+     */
+    private static final Method FIND_LOADED_CLASS = getFindLoadedClass();
+
+    /**
+     * Whether the unavailability of ClassLoader#findLoadedClass has been logged
+     */
+    private static final AtomicBoolean FIND_LOADED_CLASS_WARNED = new AtomicBoolean();
+
+    /**
+     * Names of the classes resolved by Sermant for each classloader, which the classloader has not loaded itself. The
+     * classloaders are weakly referenced, and a name is removed once the class is defined into its classloader
+     */
+    private static final Map<ClassLoader, Set<String>> SERMANT_RESOLVED_CLASSES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
     private ClassLoaderUtils() {
     }
 
@@ -212,7 +237,87 @@ public class ClassLoaderUtils {
                     return Optional.empty();
                 }
             });
-            return (Class<?>) defineClass.invoke(classLoader, null, bytes, 0, bytes.length);
+            Class<?> clazz = (Class<?>) defineClass.invoke(classLoader, null, bytes, 0, bytes.length);
+            Set<String> resolvedClasses = SERMANT_RESOLVED_CLASSES.get(classLoader);
+            if (resolvedClasses != null) {
+                resolvedClasses.remove(clazz.getName());
+            }
+            return clazz;
+        }
+    }
+
+    /**
+     * Check whether the class has been resolved by Sermant for the classloader, see
+     * {@link #markResolvedBySermant(ClassLoader, String)}
+     *
+     * @param classLoader classLoader
+     * @param className fully qualified name of the class
+     * @return resolved or not
+     */
+    public static boolean isResolvedBySermant(ClassLoader classLoader, String className) {
+        Set<String> resolvedClasses = SERMANT_RESOLVED_CLASSES.get(classLoader);
+        return resolvedClasses != null && resolvedClasses.contains(className);
+    }
+
+    /**
+     * Record that the class, which has not been loaded by the classloader, is resolved by Sermant for it. The record is
+     * removed if the class is defined into the classloader by {@link #defineClass(String, ClassLoader, byte[])}
+     *
+     * @param classLoader classLoader
+     * @param className fully qualified name of the class
+     */
+    public static void markResolvedBySermant(ClassLoader classLoader, String className) {
+        SERMANT_RESOLVED_CLASSES.computeIfAbsent(classLoader, key -> ConcurrentHashMap.newKeySet()).add(className);
+    }
+
+    /**
+     * Check whether the class has been loaded by the classloader or by one of its parents, the class is not loaded by
+     * this method
+     *
+     * @param classLoader classLoader
+     * @param className fully qualified name of the class
+     * @return true if the class has been loaded, also true if the loaded classes of the classloader can not be accessed
+     */
+    public static boolean isClassLoaded(ClassLoader classLoader, String className) {
+        if (FIND_LOADED_CLASS == null) {
+            warnFindLoadedClassUnavailable();
+            return true;
+        }
+        try {
+            for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent()) {
+                if (FIND_LOADED_CLASS.invoke(loader, className) != null) {
+                    return true;
+                }
+            }
+        } catch (IllegalAccessException | InvocationTargetException ignored) {
+            warnFindLoadedClassUnavailable();
+            return true;
+        }
+        return false;
+    }
+
+    private static void warnFindLoadedClassUnavailable() {
+        if (FIND_LOADED_CLASS_WARNED.compareAndSet(false, true)) {
+            LoggerFactory.getLogger().warning("ClassLoader#findLoadedClass can not be accessed, the Sermant classes are "
+                    + "resolved after the host classloader fails to load them. Open java.lang to Sermant by "
+                    + "[--add-opens java.base/java.lang=ALL-UNNAMED] to resolve them before. ");
+        }
+    }
+
+    private static Method getFindLoadedClass() {
+        try {
+            final Method findLoadedClass = ClassLoader.class.getDeclaredMethod("findLoadedClass", String.class);
+            AccessController.doPrivileged(new PrivilegedAction<Object>() {
+                @Override
+                public Object run() {
+                    findLoadedClass.setAccessible(true);
+                    return Optional.empty();
+                }
+            });
+            return findLoadedClass;
+        } catch (NoSuchMethodException | RuntimeException ignored) {
+            // The method is not accessible if java.lang is not opened to Sermant
+            return null;
         }
     }
 }
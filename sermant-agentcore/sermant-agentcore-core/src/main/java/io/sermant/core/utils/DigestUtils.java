@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.core.utils;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * DigestUtils
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class DigestUtils {
+    private static final String SHA_256 = "SHA-256";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private DigestUtils() {
+    }
+
+    /**
+     * Create a SHA-256 message digest
+     *
+     * @return message digest
+     */
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance(SHA_256);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required to be supported by every implementation of the Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Compute the SHA-256 digest of the bytes
+     *
+     * @param bytes bytes
+     * @return hex string of the digest
+     */
+    public static String sha256Hex(byte[] bytes) {
+        return toHex(sha256().digest(bytes));
+    }
+
+    /**
+     * Convert the bytes to the lower case hex string
+     *
+     * @param bytes bytes
+     * @return hex string
+     */
+    public static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.utils;
+
+import io.sermant.core.common.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+/**
+ * Accessor of a parameterless method resolved once by {@link ReflectUtils#accessor}. The method is invoked through a
+ * method handle, without the argument array, the access check and the method lookup of reflection on each call
+ *
+ * @param <T> return type
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public final class MethodAccessor<T> {
+    private static final Logger LOGGER = LoggerFactory.getLogger();
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Method method;
+
+    private final MethodHandle handle;
+
+    private MethodAccessor(Method method, MethodHandle handle) {
+        this.method = method;
+        this.handle = handle;
+    }
+
+    /**
+     * Create the accessor of the method
+     *
+     * @param method accessible method
+     * @param <T> return type
+     * @return accessor
+     * @throws IllegalAccessException the method is not accessible
+     */
+    static <T> MethodAccessor<T> of(Method method) throws IllegalAccessException {
+        MethodHandle handle = MethodHandles.lookup().unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle.asType(MethodType.methodType(Object.class)), 0, Object.class);
+        } else {
+            handle = handle.asType(ACCESSOR_TYPE);
+        }
+        return new MethodAccessor<>(method, handle);
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Invoke the method
+     *
+     * @param target target object, ignored if the method is static
+     * @return result, null if the invocation fails
+     */
+    @SuppressWarnings("unchecked")
+    public T invoke(Object target) {
+        try {
+            return (T) (Object) handle.invokeExact(target);
+        } catch (Throwable ex) {
+            LOGGER.warning(String.format(Locale.ENGLISH, "Can not invoke method [%s] in class [%s], reason: %s",
+                    method.getName(), method.getDeclaringClass().getName(), ex.getMessage()));
+            return null;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Prefix trie compiled from a set of prefixes, which checks whether a string starts with any of the prefixes by walking
+ * the string once instead of testing the prefixes one by one
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class PrefixTrie {
+    private final Node root = new Node();
+
+    /**
+     * constructor
+     *
+     * @param prefixes prefixes, the null ones are ignored
+     */
+    public PrefixTrie(Collection<String> prefixes) {
+        if (prefixes == null) {
+            return;
+        }
+        for (String prefix : prefixes) {
+            if (prefix != null) {
+                insert(prefix);
+            }
+        }
+    }
+
+    private void insert(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && !node.isTerminal; i++) {
+            node = node.getOrCreateChild(prefix.charAt(i));
+        }
+
+        // The longer prefixes are covered by the shorter one
+        node.isTerminal = true;
+        node.keys = new char[0];
+        node.children = new Node[0];
+    }
+
+    /**
+     * Whether the value starts with any of the prefixes
+     *
+     * @param value value
+     * @return true if the value starts with any of the prefixes
+     */
+    public boolean matches(String value) {
+        if (value == null) {
+            return false;
+        }
+        Node node = root;
+        for (int i = 0; i < value.length() && !node.isTerminal; i++) {
+            node = node.getChild(value.charAt(i));
+            if (node == null) {
+                return false;
+            }
+        }
+        return node.isTerminal;
+    }
+
+    /**
+     * Node of the trie, the keys are sorted for binary search
+     *
+     * @since 2026-10-18
+     */
+    private static class Node {
+        private char[] keys = new char[0];
+
+        private Node[] children = new Node[0];
+
+        private boolean isTerminal;
+
+        Node getChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index < 0 ? null : children[index];
+        }
+
+        Node getOrCreateChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertion = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertion);
+            System.arraycopy(children, 0, newChildren, 0, insertion);
+            System.arraycopy(keys, insertion, newKeys, insertion + 1, keys.length - insertion);
+            System.arraycopy(children, insertion, newChildren, insertion + 1, children.length - insertion);
+            Node child = new Node();
+            newKeys[insertion] = key;
+            newChildren[insertion] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+    }
+}
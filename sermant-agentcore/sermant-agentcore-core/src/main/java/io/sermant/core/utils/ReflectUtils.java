@@ -19,6 +19,7 @@ package io.sermant.core.utils;
 
 import io.sermant.core.common.LoggerFactory;
 
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -68,6 +69,28 @@ public class ReflectUtils {
 
     private static final int EXTRA_LENGTH_FOR_METHOD_KEY = 3;
 
+    /**
+     * Accessor cache held by the class itself, key: method name value: accessor
+     */
+    private static final ClassValue<Map<String, Optional<MethodAccessor<?>>>> ACCESSOR_CACHE =
+            new ClassValue<Map<String, Optional<MethodAccessor<?>>>>() {
+                @Override
+                protected Map<String, Optional<MethodAccessor<?>>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>(INIT_CLASS_FILED_CACHE_SIZE);
+                }
+            };
+
+    /**
+     * Accessor cache of the public methods held by the class itself, key: method name value: accessor
+     */
+    private static final ClassValue<Map<String, Optional<MethodAccessor<?>>>> PUBLIC_ACCESSOR_CACHE =
+            new ClassValue<Map<String, Optional<MethodAccessor<?>>>>() {
+                @Override
+                protected Map<String, Optional<MethodAccessor<?>>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>(INIT_CLASS_FILED_CACHE_SIZE);
+                }
+            };
+
     private ReflectUtils() {
     }
 
@@ -161,6 +184,89 @@ public class ReflectUtils {
         return Optional.empty();
     }
 
+    /**
+     * Get the accessor of the parameterless method, which is resolved once and cached by the class, see
+     * {@link MethodAccessor}
+     *
+     * @param clazz class
+     * @param methodName Method name
+     * @param returnType The type which the return value is assigned to
+     * @param <T> return type
+     * @return accessor, empty if the method is not found or its return value can not be assigned to the return type
+     */
+    public static <T> Optional<MethodAccessor<T>> accessor(Class<?> clazz, String methodName, Class<T> returnType) {
+        if (clazz == null || methodName == null || returnType == null) {
+            return Optional.empty();
+        }
+        Map<String, Optional<MethodAccessor<?>>> accessors = ACCESSOR_CACHE.get(clazz);
+        Optional<MethodAccessor<?>> accessor = accessors.get(methodName);
+        if (accessor == null) {
+            accessor = findMethod(clazz, methodName, null).flatMap(ReflectUtils::createAccessor);
+            accessors.put(methodName, accessor);
+        }
+        return checkReturnType(clazz, methodName, returnType, accessor);
+    }
+
+    /**
+     * Get the accessor of the public parameterless method, including the ones inherited, which is resolved once by
+     * {@link Class#getMethod} and cached by the class, see {@link MethodAccessor}
+     *
+     * @param clazz class
+     * @param methodName Method name
+     * @param returnType The type which the return value is assigned to
+     * @param <T> return type
+     * @return accessor, empty if the public method is not found or its return value can not be assigned to the return
+     * type
+     */
+    public static <T> Optional<MethodAccessor<T>> publicAccessor(Class<?> clazz, String methodName,
+            Class<T> returnType) {
+        if (clazz == null || methodName == null || returnType == null) {
+            return Optional.empty();
+        }
+        Map<String, Optional<MethodAccessor<?>>> accessors = PUBLIC_ACCESSOR_CACHE.get(clazz);
+        Optional<MethodAccessor<?>> accessor = accessors.get(methodName);
+        if (accessor == null) {
+            try {
+                accessor = createAccessor(setObjectAccessible(clazz.getMethod(methodName)));
+            } catch (NoSuchMethodException ex) {
+                LOGGER.warning(String.format(Locale.ENGLISH, "Can not find public method [%s] in class [%s]",
+                        methodName, clazz.getName()));
+                accessor = Optional.empty();
+            }
+            accessors.put(methodName, accessor);
+        }
+        return checkReturnType(clazz, methodName, returnType, accessor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Optional<MethodAccessor<T>> checkReturnType(Class<?> clazz, String methodName,
+            Class<T> returnType, Optional<MethodAccessor<?>> accessor) {
+        if (accessor.isPresent() && !isAssignable(returnType, accessor.get().getMethod().getReturnType())) {
+            LOGGER.warning(String.format(Locale.ENGLISH, "The return type of method [%s] in class [%s] is not %s",
+                    methodName, clazz.getName(), returnType.getName()));
+            return Optional.empty();
+        }
+        return (Optional<MethodAccessor<T>>) (Optional<?>) accessor;
+    }
+
+    private static Optional<MethodAccessor<?>> createAccessor(Method method) {
+        try {
+            return Optional.of(MethodAccessor.of(method));
+        } catch (IllegalAccessException ex) {
+            LOGGER.warning(String.format(Locale.ENGLISH, "Can not access method [%s] in class [%s], reason: %s",
+                    method.getName(), method.getDeclaringClass().getName(), ex.getMessage()));
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isAssignable(Class<?> type, Class<?> valueType) {
+        if (valueType == void.class) {
+            return type == Void.class || type == Object.class;
+        }
+        return !valueType.isPrimitive() ? type.isAssignableFrom(valueType)
+                : type.isAssignableFrom(MethodType.methodType(valueType).wrap().returnType());
+    }
+
     private static Optional<Class<?>> loadClass(String className) {
         if (className == null) {
             return Optional.empty();
@@ -25,9 +25,35 @@ import java.util.UUID;
  * @since 2022-03-02
  */
 public class TracingUtils {
+    /**
+     * Value of the sampling decision header for the sampled requests
+     */
+    public static final String SAMPLED = "1";
+
+    /**
+     * Value of the sampling decision header for the unsampled requests
+     */
+    public static final String UNSAMPLED = "0";
+
     private TracingUtils() {
     }
 
+    /**
+     * Parse the value of the sampling decision header
+     *
+     * @param value value of the header
+     * @return sampled or not, null if the upstream did not decide
+     */
+    public static Boolean parseSampled(String value) {
+        if (SAMPLED.equals(value)) {
+            return Boolean.TRUE;
+        }
+        if (UNSAMPLED.equals(value)) {
+            return Boolean.FALSE;
+        }
+        return null;
+    }
+
     /**
      * generate TraceId
      *
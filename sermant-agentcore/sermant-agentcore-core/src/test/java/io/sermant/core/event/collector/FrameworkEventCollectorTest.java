@@ -26,6 +26,8 @@ import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.jar.JarFile;
@@ -79,6 +81,28 @@ public class FrameworkEventCollectorTest {
         eventQueue.clear();
     }
 
+    @Test
+    public void testPluginLoadTimingEvent() {
+        EVENT_CONFIG.setEnable(true);
+        Map<String, Long> phaseCosts = new LinkedHashMap<>();
+        phaseCosts.put("scan", 12L);
+        phaseCosts.put("config", 3L);
+        phaseCosts.put("service", 0L);
+        phaseCosts.put("enhance", 45L);
+        Optional<Object> optional = ReflectUtils.getFieldValue(FrameworkEventCollector.getInstance(), "eventQueue");
+        Assert.assertTrue(optional.isPresent());
+        BlockingQueue<Event> eventQueue = (BlockingQueue<Event>) optional.get();
+        eventQueue.clear();
+        FrameworkEventCollector.getInstance().collectPluginLoadTimingEvent("demo-plugin", phaseCosts);
+        Event event = eventQueue.poll();
+        Assert.assertNotNull(event);
+        Assert.assertEquals(FrameworkEventDefinitions.SERMANT_PLUGIN_LOAD_TIMING.getName(),
+                event.getEventInfo().getName());
+        Assert.assertEquals("Load plugin: [demo-plugin] cost: [scan: 12ms, config: 3ms, service: 0ms, enhance: 45ms].",
+                event.getEventInfo().getDescription());
+        eventQueue.clear();
+    }
+
     @After
     public void closeMock() {
         configManagerMockedStatic.close();
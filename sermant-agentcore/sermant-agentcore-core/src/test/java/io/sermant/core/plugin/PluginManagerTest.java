@@ -0,0 +1,249 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin;
+
+import io.sermant.core.classloader.ClassLoaderManager;
+import io.sermant.core.common.BootArgsIndexer;
+import io.sermant.core.common.LoggerFactory;
+import io.sermant.core.config.ConfigManager;
+import io.sermant.core.event.collector.FrameworkEventCollector;
+import io.sermant.core.plugin.agent.ByteEnhanceManager;
+import io.sermant.core.plugin.agent.config.AgentConfig;
+import io.sermant.core.plugin.classloader.PluginClassFinder;
+import io.sermant.core.plugin.classloader.PluginClassLoader;
+import io.sermant.core.plugin.common.PluginConstant;
+import io.sermant.core.plugin.common.PluginSchemaValidator;
+import io.sermant.core.plugin.config.PluginConfigManager;
+import io.sermant.core.plugin.service.PluginServiceManager;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Test the parallel scan of the plugin packages and the timing of loading the plugins
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class PluginManagerTest {
+    /**
+     * Jars of the first plugin, so that it is scanned slower than the plugins behind it
+     */
+    private static final int SLOW_PLUGIN_JARS = 200;
+
+    private static final String SLOW_PLUGIN = "plugin-a";
+
+    private static final String BROKEN_PLUGIN = "plugin-broken";
+
+    private static final List<String> PLUGINS = Arrays.asList(SLOW_PLUGIN, "plugin-b", BROKEN_PLUGIN, "plugin-c",
+            "plugin-d");
+
+    private static final List<String> LOADED_PLUGINS = Arrays.asList(SLOW_PLUGIN, "plugin-b", "plugin-c", "plugin-d");
+
+    @Rule
+    public final TemporaryFolder pluginPackage = new TemporaryFolder();
+
+    private final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+
+    private final Handler logHandler = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private final FrameworkEventCollector eventCollector = Mockito.mock(FrameworkEventCollector.class);
+
+    private final List<MockedStatic<?>> mockedStatics = new ArrayList<>();
+
+    private MockedStatic<ConfigManager> configManagerMockedStatic;
+
+    @Before
+    public void setUp() throws IOException {
+        for (String plugin : PLUGINS) {
+            // The broken plugin declares another name in its manifest, so its schema validation fails
+            String manifestName = BROKEN_PLUGIN.equals(plugin) ? "unexpected-name" : plugin;
+            int jars = SLOW_PLUGIN.equals(plugin) ? SLOW_PLUGIN_JARS : 1;
+            for (int i = 0; i < jars; i++) {
+                createPluginJar(plugin, manifestName, i);
+            }
+        }
+        MockedStatic<BootArgsIndexer> bootArgsIndexerMockedStatic = mockStatic(BootArgsIndexer.class);
+        bootArgsIndexerMockedStatic.when(BootArgsIndexer::getPluginPackageDir).thenReturn(pluginPackage.getRoot());
+        configManagerMockedStatic = mockStatic(ConfigManager.class);
+        MockedStatic<ClassLoaderManager> classLoaderManagerMockedStatic = mockStatic(ClassLoaderManager.class);
+        classLoaderManagerMockedStatic.when(ClassLoaderManager::createPluginClassLoader)
+                .thenAnswer(invocation -> Mockito.mock(PluginClassLoader.class));
+        classLoaderManagerMockedStatic.when(ClassLoaderManager::getPluginClassFinder)
+                .thenReturn(Mockito.mock(PluginClassFinder.class));
+        MockedStatic<FrameworkEventCollector> eventCollectorMockedStatic = mockStatic(FrameworkEventCollector.class);
+        eventCollectorMockedStatic.when(FrameworkEventCollector::getInstance).thenReturn(eventCollector);
+        mockStatic(PluginConfigManager.class);
+        mockStatic(PluginServiceManager.class);
+        mockStatic(ByteEnhanceManager.class);
+        LoggerFactory.getLogger().addHandler(logHandler);
+    }
+
+    @After
+    public void tearDown() {
+        LoggerFactory.getLogger().removeHandler(logHandler);
+        for (String plugin : PLUGINS) {
+            PluginManager.getPluginMap().remove(plugin);
+            PluginSchemaValidator.removePluginVersionCache(plugin);
+        }
+        mockedStatics.forEach(MockedStatic::close);
+    }
+
+    @Test
+    public void testParallelScanKeepsConfiguredOrder() {
+        mockAgentConfig(true);
+        PluginManager.install(new LinkedHashSet<>(PLUGINS));
+
+        // The plugins are scanned by the pool, but registered in the configured order
+        Assert.assertTrue(getScanThreads().isPresent());
+        Assert.assertEquals(PLUGINS.size(), getScanThreads().get().intValue());
+        Assert.assertEquals(LOADED_PLUGINS, getLoadedPlugins());
+        Assert.assertEquals(new LinkedHashSet<>(LOADED_PLUGINS), PluginManager.getPluginMap().keySet());
+    }
+
+    @Test
+    public void testSerialScanKeepsConfiguredOrder() {
+        mockAgentConfig(false);
+        PluginManager.install(new LinkedHashSet<>(PLUGINS));
+        Assert.assertFalse(getScanThreads().isPresent());
+        Assert.assertEquals(LOADED_PLUGINS, getLoadedPlugins());
+    }
+
+    @Test
+    public void testFailedScanIsIsolated() {
+        mockAgentConfig(true);
+        PluginManager.install(new LinkedHashSet<>(PLUGINS));
+
+        // Only the broken plugin is skipped, and the failure is reported with its name
+        Assert.assertFalse(PluginManager.getPluginMap().containsKey(BROKEN_PLUGIN));
+        Assert.assertEquals(LOADED_PLUGINS.size(), PluginManager.getPluginMap().size());
+        List<Object> failedPlugins = new ArrayList<>();
+        synchronized (records) {
+            for (LogRecord record : records) {
+                if (record.getLevel() == Level.SEVERE && record.getParameters() != null) {
+                    failedPlugins.add(record.getParameters()[0]);
+                }
+            }
+        }
+        Assert.assertEquals(Collections.singletonList(BROKEN_PLUGIN), failedPlugins);
+    }
+
+    @Test
+    public void testLoadTimingEvent() {
+        mockAgentConfig(true);
+        PluginManager.install(new LinkedHashSet<>(PLUGINS));
+        ArgumentCaptor<String> names = ArgumentCaptor.forClass(String.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Long>> phaseCosts = ArgumentCaptor.forClass(Map.class);
+        Mockito.verify(eventCollector, Mockito.times(LOADED_PLUGINS.size()))
+                .collectPluginLoadTimingEvent(names.capture(), phaseCosts.capture());
+        Assert.assertEquals(LOADED_PLUGINS, names.getAllValues());
+        for (int i = 0; i < LOADED_PLUGINS.size(); i++) {
+            Map<String, Long> costs = phaseCosts.getAllValues().get(i);
+            Assert.assertEquals(Arrays.asList("scan", "config", "service", "enhance"),
+                    new ArrayList<>(costs.keySet()));
+            for (Long cost : costs.values()) {
+                Assert.assertNotNull(cost);
+                Assert.assertTrue(cost >= 0L);
+            }
+        }
+    }
+
+    /**
+     * Get the number of the threads scanning the plugins, reported only when the plugins are scanned in parallel
+     *
+     * @return number of the scanning threads
+     */
+    private Optional<Integer> getScanThreads() {
+        synchronized (records) {
+            for (LogRecord record : records) {
+                if (record.getMessage().startsWith("[INSTALL-PLUGINS] Scan ")) {
+                    return Optional.of((Integer) record.getParameters()[1]);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private List<String> getLoadedPlugins() {
+        ArgumentCaptor<String> names = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(eventCollector, Mockito.atLeastOnce()).collectPluginsLoadEvent(names.capture());
+        return names.getAllValues();
+    }
+
+    private void mockAgentConfig(boolean isLoadPluginsInParallel) {
+        AgentConfig agentConfig = new AgentConfig();
+        agentConfig.setLoadPluginsInParallel(isLoadPluginsInParallel);
+        agentConfig.setPluginLoadingThreads(PLUGINS.size());
+        configManagerMockedStatic.when(() -> ConfigManager.getConfig(AgentConfig.class)).thenReturn(agentConfig);
+    }
+
+    private <T> MockedStatic<T> mockStatic(Class<T> cls) {
+        MockedStatic<T> mockedStatic = Mockito.mockStatic(cls);
+        mockedStatics.add(mockedStatic);
+        return mockedStatic;
+    }
+
+    private void createPluginJar(String plugin, String manifestName, int index) throws IOException {
+        File pluginDir = new File(pluginPackage.getRoot(), plugin + File.separator + PluginConstant.PLUGIN_DIR_NAME);
+        Assert.assertTrue(pluginDir.isDirectory() || pluginDir.mkdirs());
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().putValue(PluginConstant.PLUGIN_NAME_KEY, manifestName);
+        try (JarOutputStream ignored = new JarOutputStream(
+                new FileOutputStream(new File(pluginDir, plugin + "-" + index + ".jar")), manifest)) {
+            // Only the manifest is needed for the schema validation
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent;
+
+import io.sermant.core.plugin.agent.BufferedAgentBuilder.CombinedPluginDescription;
+import io.sermant.core.plugin.agent.declarer.IndexedPluginDescription;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType.Builder;
+import net.bytebuddy.utility.JavaModule;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.security.ProtectionDomain;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Test the indexed class matching of BufferedAgentBuilder
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+class CombinedPluginDescriptionTest {
+    private static final TypeDescription STRING_TYPE = TypeDescription.ForLoadedType.of(String.class);
+
+    private static final TypeDescription INTEGER_TYPE = TypeDescription.ForLoadedType.of(Integer.class);
+
+    @Test
+    void testMatches() {
+        RecordingDescription exact = new RecordingDescription(Collections.singleton(String.class.getName()), false);
+        RecordingDescription fuzzy = new RecordingDescription(Collections.emptySet(), true);
+        CombinedPluginDescription combined = new CombinedPluginDescription(Arrays.asList(exact, fuzzy));
+        Assertions.assertTrue(combined.matches(STRING_TYPE, null, null, null, null));
+        Assertions.assertFalse(combined.matches(INTEGER_TYPE, null, null, null, null));
+        Assertions.assertEquals(2, fuzzy.fuzzyCount);
+    }
+
+    @Test
+    void testTransformReusesMatchedDescriptions() {
+        RecordingDescription first = new RecordingDescription(Collections.singleton(String.class.getName()), true);
+        RecordingDescription second = new RecordingDescription(Collections.emptySet(), true);
+        second.fuzzyMatched = true;
+        RecordingDescription unmatched = new RecordingDescription(Collections.emptySet(), true);
+        CombinedPluginDescription combined = new CombinedPluginDescription(Arrays.asList(first, second, unmatched));
+        Assertions.assertTrue(combined.matches(STRING_TYPE, null, null, null, null));
+        combined.transform(null, STRING_TYPE, null, null, null);
+
+        // The fuzzy matching of the name matched class is evaluated once by matches, and not again by transform
+        Assertions.assertEquals(1, first.fuzzyCount);
+        Assertions.assertEquals(1, second.fuzzyCount);
+        Assertions.assertEquals(1, unmatched.fuzzyCount);
+        Assertions.assertEquals(1, first.transformCount);
+        Assertions.assertEquals(1, second.transformCount);
+        Assertions.assertEquals(0, unmatched.transformCount);
+    }
+
+    @Test
+    void testTransformMatchesAgainForOtherClass() {
+        RecordingDescription description = new RecordingDescription(Collections.singleton(String.class.getName()),
+                true);
+        CombinedPluginDescription combined = new CombinedPluginDescription(Collections.singletonList(description));
+        Assertions.assertFalse(combined.matches(INTEGER_TYPE, null, null, null, null));
+        combined.transform(null, STRING_TYPE, null, null, null);
+        Assertions.assertEquals(2, description.fuzzyCount);
+        Assertions.assertEquals(1, description.transformCount);
+    }
+
+    @Test
+    void testTransformMatchesAgainForOtherClassLoader() {
+        RecordingDescription description = new RecordingDescription(Collections.singleton(String.class.getName()),
+                true);
+        CombinedPluginDescription combined = new CombinedPluginDescription(Collections.singletonList(description));
+        Assertions.assertTrue(combined.matches(STRING_TYPE, ClassLoader.getSystemClassLoader(), null, null, null));
+
+        // The class of the same name loaded by another class loader is matched again
+        combined.transform(null, STRING_TYPE, null, null, null);
+        Assertions.assertEquals(2, description.fuzzyCount);
+        Assertions.assertEquals(1, description.transformCount);
+    }
+
+    @Test
+    void testIsMatchedKeepsRecordedMatch() {
+        RecordingDescription description = new RecordingDescription(Collections.singleton(String.class.getName()),
+                true);
+        CombinedPluginDescription combined = new CombinedPluginDescription(Collections.singletonList(description));
+        Assertions.assertTrue(combined.matches(STRING_TYPE, null, null, null, null));
+
+        // Matching outside of the transformation does not replace the descriptions recorded by matches
+        Assertions.assertFalse(combined.isMatched(INTEGER_TYPE));
+        combined.transform(null, STRING_TYPE, null, null, null);
+        Assertions.assertEquals(2, description.fuzzyCount);
+        Assertions.assertEquals(1, description.transformCount);
+    }
+
+    /**
+     * Indexed plugin description which records the times of fuzzy matching and transformation
+     *
+     * @since 2026-10-18
+     */
+    private static class RecordingDescription extends IndexedPluginDescription {
+        private final Set<String> typeNames;
+
+        private final boolean fuzzy;
+
+        private boolean fuzzyMatched;
+
+        private int fuzzyCount;
+
+        private int transformCount;
+
+        RecordingDescription(Set<String> typeNames, boolean fuzzy) {
+            this.typeNames = typeNames;
+            this.fuzzy = fuzzy;
+        }
+
+        @Override
+        public Set<String> getTypeNames() {
+            return typeNames;
+        }
+
+        @Override
+        public boolean isFuzzy() {
+            return fuzzy;
+        }
+
+        @Override
+        public boolean fuzzyMatches(TypeDescription typeDescription) {
+            fuzzyCount++;
+            return fuzzyMatched;
+        }
+
+        @Override
+        public Builder<?> transform(Builder<?> builder, TypeDescription typeDescription, ClassLoader classLoader,
+                JavaModule module, ProtectionDomain protectionDomain) {
+            transformCount++;
+            return builder;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.core.plugin.agent;
+
+import io.sermant.core.plugin.agent.config.AgentConfig;
+
+import net.bytebuddy.agent.builder.AgentBuilder.RedefinitionStrategy;
+import net.bytebuddy.agent.builder.AgentBuilder.RedefinitionStrategy.BatchAllocator;
+import net.bytebuddy.agent.builder.AgentBuilder.RedefinitionStrategy.DiscoveryStrategy;
+import net.bytebuddy.agent.builder.AgentBuilder.RedefinitionStrategy.Listener;
+import net.bytebuddy.agent.builder.ResettableClassFileTransformer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.lang.instrument.Instrumentation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test the batched retransformation
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+class RetransformStrategyTest {
+    private final AgentConfig config = new AgentConfig();
+
+    @Test
+    void testReset() {
+        config.setRetransformBatchSize(2);
+        RetransformStrategy strategy = new RetransformStrategy(config,
+                (typeDesc, classLoader, module, classBeingRedefined, protectionDomain) -> typeDesc.getActualName()
+                        .startsWith("java.util."));
+        Instrumentation instrumentation = Mockito.mock(Instrumentation.class);
+        Mockito.when(instrumentation.getAllLoadedClasses()).thenReturn(new Class<?>[]{String.class, List.class,
+                ArrayList.class, int.class, Integer[].class, Arrays.class, Collections.class});
+        Mockito.when(instrumentation.isModifiableClass(ArgumentMatchers.any())).thenReturn(true);
+        ResettableClassFileTransformer transformer = Mockito.mock(ResettableClassFileTransformer.class);
+        ArgumentCaptor<DiscoveryStrategy> discovery = ArgumentCaptor.forClass(DiscoveryStrategy.class);
+        ArgumentCaptor<BatchAllocator> allocator = ArgumentCaptor.forClass(BatchAllocator.class);
+        ArgumentCaptor<Listener> listener = ArgumentCaptor.forClass(Listener.class);
+        Mockito.when(transformer.reset(ArgumentMatchers.eq(instrumentation),
+                ArgumentMatchers.eq(RedefinitionStrategy.RETRANSFORMATION), discovery.capture(), allocator.capture(),
+                listener.capture())).thenReturn(true);
+        Assertions.assertTrue(strategy.reset(transformer, instrumentation));
+
+        // Only the candidates are retransformed, in batches of the configured size
+        List<Class<?>> candidates = new ArrayList<>();
+        discovery.getValue().resolve(instrumentation).forEach(types -> types.forEach(candidates::add));
+        Assertions.assertEquals(Arrays.asList(List.class, ArrayList.class, Arrays.class, Collections.class),
+                candidates);
+        List<List<Class<?>>> batches = new ArrayList<>();
+        allocator.getValue().batch(candidates).forEach(batches::add);
+        Assertions.assertEquals(2, batches.size());
+
+        // The classes of a failed batch are retried one by one
+        List<List<Class<?>>> retries = new ArrayList<>();
+        listener.getValue().onBatch(0, batches.get(0), candidates);
+        listener.getValue().onError(0, batches.get(0), new IllegalStateException("failed"), candidates)
+                .forEach(retries::add);
+        Assertions.assertEquals(Arrays.asList(Collections.singletonList(List.class),
+                Collections.singletonList(ArrayList.class)), retries);
+        listener.getValue().onComplete(3, candidates, Collections.emptyMap());
+    }
+
+    @Test
+    void testSingleBatch() {
+        config.setRetransformBatchSize(0);
+        RetransformStrategy strategy = new RetransformStrategy(config,
+                (typeDesc, classLoader, module, classBeingRedefined, protectionDomain) -> true);
+        ResettableClassFileTransformer transformer = Mockito.mock(ResettableClassFileTransformer.class);
+        ArgumentCaptor<BatchAllocator> allocator = ArgumentCaptor.forClass(BatchAllocator.class);
+        Instrumentation instrumentation = Mockito.mock(Instrumentation.class);
+        strategy.reset(transformer, instrumentation);
+        Mockito.verify(transformer).reset(ArgumentMatchers.eq(instrumentation),
+                ArgumentMatchers.eq(RedefinitionStrategy.RETRANSFORMATION),
+                ArgumentMatchers.any(DiscoveryStrategy.class), allocator.capture(),
+                ArgumentMatchers.any(Listener.class));
+        Assertions.assertSame(BatchAllocator.ForTotal.INSTANCE, allocator.getValue());
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.cache;
+
+import io.sermant.core.plugin.Plugin;
+import io.sermant.core.plugin.agent.adviser.AdviserScheduler;
+import io.sermant.core.plugin.agent.config.AgentConfig;
+import io.sermant.core.plugin.agent.declarer.AbstractPluginDeclarer;
+import io.sermant.core.plugin.agent.declarer.InterceptDeclarer;
+import io.sermant.core.plugin.agent.entity.ExecuteContext;
+import io.sermant.core.plugin.agent.interceptor.AbstractInterceptor;
+import io.sermant.core.plugin.agent.matcher.ClassMatcher;
+import io.sermant.core.plugin.agent.matcher.MethodMatcher;
+import io.sermant.core.plugin.agent.template.BaseAdviseHandler;
+import io.sermant.core.plugin.agent.transformer.AbstractTransformer;
+
+import net.bytebuddy.agent.builder.ResettableClassFileTransformer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.lang.instrument.ClassFileTransformer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test the enhanced class cache
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+class EnhancedClassCacheTest {
+    private static final String CLASS_NAME = "io/sermant/test/Target";
+
+    private static final String NESTED_CLASS_NAME = "io/sermant/test/Nested";
+
+    private static final byte[] ORIGIN_BYTES = "origin".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] ENHANCED_BYTES = "enhanced".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * The plugins and advice slots are shared by the JVM, so that each test uses its own plugin and method key
+     */
+    private static final AtomicInteger TEST_ID = new AtomicInteger();
+
+    @TempDir
+    File cacheDir;
+
+    private final AgentConfig config = new AgentConfig();
+
+    private final int testId = TEST_ID.incrementAndGet();
+
+    private final String methodKey = "TemplateForMember_" + Integer.toHexString(testId);
+
+    private final String adviceKey = AbstractTransformer.getAdviceKey(methodKey, null);
+
+    private final Plugin plugin = new Plugin("cache-test-plugin-" + testId, "", false, null);
+
+    private final TestDeclarer declarer = new TestDeclarer();
+
+    private final AtomicInteger slotOffset = new AtomicInteger();
+
+    private final AtomicInteger wovenCount = new AtomicInteger();
+
+    private final AtomicInteger transformCount = new AtomicInteger();
+
+    private String pluginName = plugin.getName();
+
+    private boolean isCacheable = true;
+
+    private ClassFileTransformer nestedTransformer;
+
+    @BeforeEach
+    void setUp() {
+        config.setCacheEnhancedClasses(true);
+        config.setEnhancedClassesCachePath(cacheDir.getPath());
+        InterceptDeclarerRegistry.register(plugin, declarer, declarer::getInterceptDeclarers);
+    }
+
+    @Test
+    void testCacheDisabled() {
+        config.setCacheEnhancedClasses(false);
+        Assertions.assertNull(EnhancedClassCache.create(config, "1.0.0", Collections.emptyList()));
+    }
+
+    @Test
+    void testServeFromCache() throws Exception {
+        // First startup, the class is woven and stored
+        Assertions.assertArrayEquals(ENHANCED_BYTES, transform(createCache("1.0.0")));
+        Assertions.assertEquals(1, wovenCount.get());
+        Assertions.assertEquals(1, declarer.createdCount.get());
+
+        // Next startup, byte-buddy is not called, the interceptors are created and registered from the cached entry
+        Assertions.assertArrayEquals(ENHANCED_BYTES, transform(createCache("1.0.0")));
+        Assertions.assertEquals(1, transformCount.get());
+        Assertions.assertEquals(2, declarer.createdCount.get());
+        int adviceSlot = AdviserScheduler.getAdviceSlot(adviceKey);
+        Assertions.assertEquals(1, BaseAdviseHandler.getInterceptors(adviceSlot).length);
+        Assertions.assertTrue(plugin.getAdviceLocks().contains(adviceKey));
+        Assertions.assertTrue(plugin.getInterceptors().get(adviceKey).contains(
+                EmptyInterceptor.class.getCanonicalName()));
+    }
+
+    @Test
+    void testAdviceSlotChanged() throws Exception {
+        slotOffset.set(1);
+        transform(createCache("1.0.0"));
+
+        // The cached bytecode is not used if the advice slot can not be kept
+        Assertions.assertArrayEquals(ENHANCED_BYTES, transform(createCache("1.0.0")));
+        Assertions.assertEquals(2, wovenCount.get());
+        Assertions.assertEquals(2, transformCount.get());
+        Assertions.assertNull(BaseAdviseHandler.getInterceptors(AdviserScheduler.getAdviceSlot(adviceKey)));
+    }
+
+    @Test
+    void testPluginNotRegistered() throws Exception {
+        pluginName = "unregistered-plugin-" + testId;
+        transform(createCache("1.0.0"));
+        transform(createCache("1.0.0"));
+        Assertions.assertEquals(2, wovenCount.get());
+        Assertions.assertFalse(plugin.getAdviceLocks().contains(adviceKey));
+    }
+
+    @Test
+    void testUncacheable() throws Exception {
+        isCacheable = false;
+        transform(createCache("1.0.0"));
+        transform(createCache("1.0.0"));
+        Assertions.assertEquals(2, wovenCount.get());
+    }
+
+    @Test
+    void testNestedTransform() throws Exception {
+        // Another class is loaded by the thread while the class is being transformed
+        EnhancedClassCache cache = createCache("1.0.0");
+        ClassFileTransformer transformer = cache.decorate(mockTransformer());
+        nestedTransformer = transformer;
+        Assertions.assertArrayEquals(ENHANCED_BYTES, transformer.transform(null, CLASS_NAME, null, null,
+                ORIGIN_BYTES));
+        cache.close();
+        Assertions.assertEquals(2, transformCount.get());
+
+        // The enhancements of the outer class are still recorded, so that both classes are served from the cache
+        nestedTransformer = null;
+        Assertions.assertArrayEquals(ENHANCED_BYTES, transform(createCache("1.0.0")));
+        Assertions.assertEquals(2, transformCount.get());
+    }
+
+    @Test
+    void testVersionInvalidation() throws Exception {
+        transform(createCache("1.0.0"));
+        transform(createCache("1.0.1"));
+        Assertions.assertEquals(2, wovenCount.get());
+
+        // Only the cache of the current version is kept
+        File[] versions = new File(cacheDir, "enhancedClassesCache").listFiles();
+        Assertions.assertNotNull(versions);
+        Assertions.assertEquals(1, versions.length);
+    }
+
+    @Test
+    void testMaxSize() throws Exception {
+        config.setEnhancedClassesCacheMaxSize(0);
+        transform(createCache("1.0.0"));
+        transform(createCache("1.0.0"));
+        Assertions.assertEquals(2, wovenCount.get());
+    }
+
+    @Test
+    void testRedefinedClass() throws Exception {
+        ClassFileTransformer transformer = createCache("1.0.0").decorate(mockTransformer());
+        transformer.transform(null, CLASS_NAME, Object.class, null, ORIGIN_BYTES);
+        transformer.transform(null, CLASS_NAME, Object.class, null, ORIGIN_BYTES);
+        Assertions.assertEquals(2, wovenCount.get());
+    }
+
+    private EnhancedClassCache createCache(String coreVersion) {
+        EnhancedClassCache cache = EnhancedClassCache.create(config, coreVersion, Collections.emptyList());
+        Assertions.assertNotNull(cache);
+        return cache;
+    }
+
+    private byte[] transform(EnhancedClassCache cache) throws Exception {
+        byte[] result = cache.decorate(mockTransformer()).transform(null, CLASS_NAME, null, null, ORIGIN_BYTES);
+
+        // Wait for the background writer
+        cache.close();
+        return result;
+    }
+
+    private ResettableClassFileTransformer mockTransformer() throws Exception {
+        ResettableClassFileTransformer transformer = Mockito.mock(ResettableClassFileTransformer.class);
+        Mockito.when(transformer.transform(ArgumentMatchers.any(), ArgumentMatchers.anyString(),
+                ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any())).thenAnswer(invocation -> {
+                    transformCount.incrementAndGet();
+                    if (nestedTransformer != null && CLASS_NAME.equals(invocation.getArgument(1))) {
+                        nestedTransformer.transform(null, NESTED_CLASS_NAME, null, null, ORIGIN_BYTES);
+                    }
+
+                    // Simulate the recording and weaving of ReentrantTransformer, the interceptors are not registered,
+                    // so that the registration made by the cache can be checked
+                    InterceptDeclarer[] interceptDeclarers = declarer.getInterceptDeclarers(null);
+                    if (!isCacheable) {
+                        EnhanceSession.markUncacheable();
+                    }
+                    EnhanceSession.onEnhance(new EnhancedMethod(methodKey,
+                            AdviserScheduler.getAdviceSlot(adviceKey) + slotOffset.get(), "work()", pluginName, true,
+                            Arrays.asList(InterceptDeclarerRegistry.getInterceptSources(declarer,
+                                    interceptDeclarers))));
+                    wovenCount.incrementAndGet();
+                    return ENHANCED_BYTES;
+                });
+        return transformer;
+    }
+
+    /**
+     * Plugin declarer which records the times of creating the intercept declarers
+     *
+     * @since 2026-10-18
+     */
+    private static class TestDeclarer extends AbstractPluginDeclarer {
+        private final AtomicInteger createdCount = new AtomicInteger();
+
+        @Override
+        public ClassMatcher getClassMatcher() {
+            return ClassMatcher.nameEquals(CLASS_NAME.replace('/', '.'));
+        }
+
+        @Override
+        public InterceptDeclarer[] getInterceptDeclarers(ClassLoader classLoader) {
+            createdCount.incrementAndGet();
+            return new InterceptDeclarer[]{
+                    InterceptDeclarer.build(MethodMatcher.nameEquals("work"), new EmptyInterceptor())
+            };
+        }
+    }
+
+    /**
+     * Interceptor doing nothing
+     *
+     * @since 2026-10-18
+     */
+    public static class EmptyInterceptor extends AbstractInterceptor {
+        @Override
+        public ExecuteContext before(ExecuteContext context) {
+            return context;
+        }
+
+        @Override
+        public ExecuteContext after(ExecuteContext context) {
+            return context;
+        }
+    }
+}
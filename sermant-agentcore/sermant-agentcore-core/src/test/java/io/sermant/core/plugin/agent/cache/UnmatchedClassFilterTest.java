@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.cache;
+
+import io.sermant.core.plugin.agent.config.AgentConfig;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.Collections;
+
+/**
+ * Test the pre-filter of the unmatched classes
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+class UnmatchedClassFilterTest {
+    private static final int CLASS_COUNT = 5000;
+
+    @TempDir
+    File filterDir;
+
+    private final AgentConfig config = new AgentConfig();
+
+    @BeforeEach
+    void setUp() {
+        config.setPreFilterEnable(true);
+        config.setPreFilterPath(filterDir.getPath());
+    }
+
+    @Test
+    void testFilterDisabled() {
+        config.setPreFilterEnable(false);
+        Assertions.assertNull(UnmatchedClassFilter.create(config, "1.0.0", Collections.emptyList()));
+    }
+
+    @Test
+    void testLearnAndLoad() {
+        UnmatchedClassFilter filter = createFilter("1.0.0");
+        for (int i = 0; i < CLASS_COUNT; i++) {
+            filter.record("com.example.unmatched.Class" + i);
+        }
+        filter.record("com.example.unmatched.类");
+        Assertions.assertFalse(filter.contains("com.example.unmatched.Class0"));
+        filter.save();
+
+        UnmatchedClassFilter loadedFilter = createFilter("1.0.0");
+        for (int i = 0; i < CLASS_COUNT; i++) {
+            Assertions.assertTrue(loadedFilter.contains("com.example.unmatched.Class" + i));
+        }
+        Assertions.assertTrue(loadedFilter.contains("com.example.unmatched.类"));
+        Assertions.assertFalse(loadedFilter.contains("com.example.matched.Class0"));
+        Assertions.assertFalse(loadedFilter.contains("com.example.unmatched.Class" + CLASS_COUNT));
+
+        // The learned classes are merged with the loaded ones
+        loadedFilter.record("com.example.unmatched.Learned");
+        loadedFilter.save();
+        UnmatchedClassFilter mergedFilter = createFilter("1.0.0");
+        Assertions.assertTrue(mergedFilter.contains("com.example.unmatched.Class1"));
+        Assertions.assertTrue(mergedFilter.contains("com.example.unmatched.Learned"));
+
+        // The temporary files are moved to the filter
+        String[] fileNames = filterDir.list();
+        Assertions.assertNotNull(fileNames);
+        Assertions.assertEquals(1, fileNames.length);
+    }
+
+    @Test
+    void testInvalidation() {
+        UnmatchedClassFilter filter = createFilter("1.0.0");
+        filter.record("com.example.unmatched.Class0");
+        filter.save();
+        Assertions.assertTrue(createFilter("1.0.0").contains("com.example.unmatched.Class0"));
+        Assertions.assertFalse(createFilter("1.0.1").contains("com.example.unmatched.Class0"));
+
+        config.setIgnoredPrefixes(Collections.singleton("com.example"));
+        Assertions.assertFalse(createFilter("1.0.0").contains("com.example.unmatched.Class0"));
+    }
+
+    private UnmatchedClassFilter createFilter(String coreVersion) {
+        UnmatchedClassFilter filter = UnmatchedClassFilter.create(config, coreVersion, Collections.emptyList());
+        Assertions.assertNotNull(filter);
+        return filter;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.core.plugin.agent.enhance;
+
+import io.sermant.core.classloader.ClassLoaderManager;
+import io.sermant.core.config.ConfigManager;
+import io.sermant.core.plugin.agent.entity.ExecuteContext;
+import io.sermant.core.plugin.classloader.PluginClassFinder;
+import io.sermant.core.service.inject.config.InjectConfig;
+import io.sermant.core.utils.ClassLoaderUtils;
+import io.sermant.core.utils.FileUtils;
+import io.sermant.core.utils.PrefixTrie;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+
+/**
+ * Test the Sermant class lookup of the host classloaders
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+class ClassLoaderLoadClassInterceptorTest {
+    private MockedStatic<ConfigManager> configManagerMockedStatic;
+
+    private MockedStatic<ClassLoaderManager> classLoaderManagerMockedStatic;
+
+    private ClassLoaderLoadClassInterceptor interceptor;
+
+    private URLClassLoader hostClassLoader;
+
+    @BeforeEach
+    void setUp() {
+        InjectConfig injectConfig = new InjectConfig();
+        injectConfig.setEssentialPackage(Collections.singleton("io.sermant"));
+        configManagerMockedStatic = Mockito.mockStatic(ConfigManager.class);
+        configManagerMockedStatic.when(() -> ConfigManager.getConfig(InjectConfig.class)).thenReturn(injectConfig);
+        PluginClassFinder finder = Mockito.mock(PluginClassFinder.class);
+        Mockito.when(finder.findSermantClass(ArgumentMatchers.anyString())).thenAnswer(invocation -> {
+            try {
+                return Class.forName(invocation.getArgument(0));
+            } catch (ClassNotFoundException ignored) {
+                return null;
+            }
+        });
+        classLoaderManagerMockedStatic = Mockito.mockStatic(ClassLoaderManager.class);
+        classLoaderManagerMockedStatic.when(ClassLoaderManager::getPluginClassFinder).thenReturn(finder);
+        interceptor = new ClassLoaderLoadClassInterceptor();
+        hostClassLoader = new URLClassLoader(new URL[0], null);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        hostClassLoader.close();
+        classLoaderManagerMockedStatic.close();
+        configManagerMockedStatic.close();
+    }
+
+    @Test
+    void testInjectedClassLoadedByHost() throws Exception {
+        Class<?> injected = ClassLoaderUtils.defineClass(PrefixTrie.class.getName(), hostClassLoader,
+                ClassLoaderUtils.getClassResource(getClass().getClassLoader(), PrefixTrie.class.getName()));
+        Assertions.assertNotSame(PrefixTrie.class, injected);
+        Assertions.assertTrue(ClassLoaderUtils.isClassLoaded(hostClassLoader, PrefixTrie.class.getName()));
+
+        ExecuteContext context = interceptor.before(buildContext(PrefixTrie.class.getName()));
+        Assertions.assertFalse(context.isSkip());
+    }
+
+    @Test
+    void testSermantClassResolvedBeforeHost() throws Exception {
+        Assertions.assertFalse(ClassLoaderUtils.isClassLoaded(hostClassLoader, FileUtils.class.getName()));
+        ExecuteContext context = interceptor.before(buildContext(FileUtils.class.getName()));
+        Assertions.assertTrue(context.isSkip());
+        Assertions.assertSame(FileUtils.class, context.getResult());
+
+        context = interceptor.before(buildContext("io.sermant.NotExistClass"));
+        Assertions.assertFalse(context.isSkip());
+        context = interceptor.before(buildContext(String.class.getName()));
+        Assertions.assertFalse(context.isSkip());
+    }
+
+    @Test
+    void testResolvedClassCached() throws Exception {
+        ExecuteContext context = interceptor.before(buildContext(FileUtils.class.getName()));
+        Assertions.assertTrue(context.isSkip());
+        Assertions.assertTrue(ClassLoaderUtils.isResolvedBySermant(hostClassLoader, FileUtils.class.getName()));
+        context = interceptor.before(buildContext(FileUtils.class.getName()));
+        Assertions.assertSame(FileUtils.class, context.getResult());
+
+        // The record is removed once the class is injected into the host classloader
+        ClassLoaderUtils.defineClass(FileUtils.class.getName(), hostClassLoader,
+                ClassLoaderUtils.getClassResource(getClass().getClassLoader(), FileUtils.class.getName()));
+        Assertions.assertFalse(ClassLoaderUtils.isResolvedBySermant(hostClassLoader, FileUtils.class.getName()));
+        context = interceptor.before(buildContext(FileUtils.class.getName()));
+        Assertions.assertFalse(context.isSkip());
+    }
+
+    @Test
+    void testFallbackWhenHostThrows() throws Exception {
+        ExecuteContext context = buildContext(FileUtils.class.getName());
+        context.changeThrowable(new ClassNotFoundException(FileUtils.class.getName()));
+        interceptor.onThrow(context);
+        Assertions.assertNull(context.getThrowable());
+        Assertions.assertSame(FileUtils.class, context.getResult());
+
+        context = buildContext("com.example.NotExistClass");
+        ClassNotFoundException exception = new ClassNotFoundException("com.example.NotExistClass");
+        context.changeThrowable(exception);
+        interceptor.onThrow(context);
+        Assertions.assertSame(exception, context.getThrowable());
+    }
+
+    private ExecuteContext buildContext(String name) throws NoSuchMethodException {
+        return ExecuteContext.forMemberMethod(hostClassLoader, ClassLoader.class.getMethod("loadClass", String.class),
+                new Object[]{name}, null, null);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.entity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.ReflectPermission;
+import java.security.Permission;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test the field operations of ExecuteContext
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+class ExecuteContextTest {
+    @Test
+    void testMemberField() throws Exception {
+        Target target = new Target();
+        ExecuteContext context = ExecuteContext.forMemberMethod(target, null, new Object[0], null, null);
+        Assertions.assertEquals("origin", context.getRawMemberFieldValue("name"));
+        context.setRawMemberFieldValue("name", "changed");
+        Assertions.assertEquals("changed", target.name);
+        context.setMemberFieldValue("count", 2);
+        Assertions.assertEquals(2, context.getMemberFieldValue("count"));
+        Assertions.assertEquals("public", context.getMemberFieldValue("publicName"));
+
+        // A new context of the same class reads the same field
+        Target other = new Target();
+        Assertions.assertEquals("origin",
+                ExecuteContext.forMemberMethod(other, null, new Object[0], null, null).getMemberFieldValue("name"));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> context.setRawMemberFieldValue("count", "2"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> context.setRawMemberFieldValue("count", null));
+        Assertions.assertThrows(NoSuchFieldException.class, () -> context.getRawMemberFieldValue("missing"));
+        Assertions.assertThrows(NoSuchFieldException.class, () -> context.getRawMemberFieldValue("staticName"));
+    }
+
+    @Test
+    void testWrongTarget() {
+        // The constructed object is not an instance of the enhanced class, the access fails like reflection
+        ExecuteContext context = ExecuteContext.forConstructor(Target.class, null, new Object[0], null)
+                .afterConstructor(new Object(), null);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> context.getRawMemberFieldValue("name"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> context.setRawMemberFieldValue("name", "x"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> context.getMemberFieldValue("count"));
+    }
+
+    @Test
+    void testStaticField() throws Exception {
+        ExecuteContext context = ExecuteContext.forStaticMethod(Target.class, null, new Object[0], null);
+        context.setRawStaticFieldValue("staticName", "changed");
+        Assertions.assertEquals("changed", context.getRawStaticFieldValue("staticName"));
+        Assertions.assertEquals("constant", context.getStaticFieldValue("CONSTANT"));
+        Assertions.assertThrows(IllegalAccessException.class, () -> context.setRawStaticFieldValue("CONSTANT", "x"));
+        Assertions.assertThrows(NoSuchFieldException.class, () -> context.getRawStaticFieldValue("name"));
+    }
+
+    @Test
+    void testExtField() {
+        ExecuteContext context = ExecuteContext.forMemberMethod(new Target(), null, new Object[0], null, null);
+        context.setMemberFieldValue("missing", "ext");
+        Assertions.assertEquals("ext", context.getMemberFieldValue("missing"));
+        Assertions.assertEquals("ext", context.getExtMemberFieldValue("missing"));
+        context.setStaticFieldValue("CONSTANT", "ext");
+        Assertions.assertEquals("constant", context.getStaticFieldValue("CONSTANT"));
+        Assertions.assertEquals("ext", context.getExtStaticFieldValue("CONSTANT"));
+    }
+
+    @Test
+    void testExtFieldMap() {
+        ExecuteContext context = ExecuteContext.forMemberMethod(new Target(), null, new Object[0], null, null);
+        for (int i = 0; i < 6; i++) {
+            context.setExtMemberFieldValue("field" + i, i);
+        }
+        context.setExtMemberFieldValue("field2", "changed");
+        Map<String, Object> fields = context.getExtMemberFields();
+        Assertions.assertEquals(6, fields.size());
+        Assertions.assertEquals("changed", fields.get("field2"));
+        Assertions.assertEquals(5, context.getExtMemberFieldValue("field5"));
+
+        // The map is a live view of the fields
+        fields.remove("field0");
+        Assertions.assertNull(context.getExtMemberFieldValue("field0"));
+        fields.entrySet().removeIf(entry -> "field1".equals(entry.getKey()));
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("field2", "changed");
+        for (int i = 3; i < 6; i++) {
+            expected.put("field" + i, i);
+        }
+        Assertions.assertEquals(expected, fields);
+    }
+
+    @Test
+    void testInaccessibleField() throws Exception {
+        SecurityManager securityManager = new SecurityManager() {
+            @Override
+            public void checkPermission(Permission perm) {
+                if (perm instanceof ReflectPermission && "suppressAccessChecks".equals(perm.getName())) {
+                    throw new SecurityException(perm.getName());
+                }
+            }
+        };
+        try {
+            System.setSecurityManager(securityManager);
+        } catch (UnsupportedOperationException e) {
+            Assumptions.assumeTrue(false, "The security manager is not supported");
+        }
+        ExecuteContext context;
+        try {
+            context = ExecuteContext.forMemberMethod(new Hidden(), null, new Object[0], null, null);
+            context.setMemberFieldValue("secret", "ext");
+            Assertions.assertEquals("ext", context.getMemberFieldValue("secret"));
+            context.setStaticFieldValue("staticSecret", "ext");
+            Assertions.assertEquals("ext", context.getStaticFieldValue("staticSecret"));
+        } finally {
+            System.setSecurityManager(null);
+        }
+
+        // The inaccessible field is cached, the raw operations keep failing like reflection
+        Assertions.assertThrows(IllegalAccessException.class, () -> context.getRawMemberFieldValue("secret"));
+        Assertions.assertThrows(IllegalAccessException.class, () -> context.setRawMemberFieldValue("secret", "x"));
+        Assertions.assertEquals("ext", context.getMemberFieldValue("secret"));
+    }
+
+    /**
+     * Class whose fields are operated in test
+     *
+     * @since 2026-10-18
+     */
+    static class Target {
+        private static final String CONSTANT = "constant";
+
+        private static String staticName = "static";
+
+        public String publicName = "public";
+
+        private String name = "origin";
+
+        private int count;
+    }
+
+    /**
+     * Class whose fields can not be made accessible in test
+     *
+     * @since 2026-10-18
+     */
+    static class Hidden {
+        private static String staticSecret = "static";
+
+        private String secret = "secret";
+    }
+}
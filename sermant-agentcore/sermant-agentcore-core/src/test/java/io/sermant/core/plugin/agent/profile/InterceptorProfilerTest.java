@@ -0,0 +1,261 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.core.plugin.agent.profile;
+
+import io.sermant.core.plugin.agent.adviser.AdviserInterface;
+import io.sermant.core.plugin.agent.adviser.AdviserScheduler;
+import io.sermant.core.plugin.agent.config.AgentConfig;
+import io.sermant.core.plugin.agent.entity.ExecuteContext;
+import io.sermant.core.plugin.agent.interceptor.AbstractInterceptor;
+import io.sermant.core.plugin.agent.profile.InterceptorProfile.Phase;
+import io.sermant.core.plugin.agent.template.BaseAdviseHandler;
+import io.sermant.core.plugin.agent.template.DefaultAdviser;
+import io.sermant.core.service.ServiceManager;
+import io.sermant.core.service.metric.api.Gauge;
+import io.sermant.core.service.metric.api.MetricService;
+import io.sermant.core.service.metric.api.Tags;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Test the interceptor profiler
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+class InterceptorProfilerTest {
+    private static final String ADVICE_KEY = "InterceptorProfilerTest_profile";
+
+    private static final int TIMES = 100;
+
+    private final AdviserInterface adviser = new DefaultAdviser();
+
+    @AfterEach
+    void tearDown() throws ReflectiveOperationException {
+        InterceptorProfiler.init(new AgentConfig());
+        InterceptorProfiler.reset();
+        setStaticField("metricService", null);
+        setStaticField("metricsPending", false);
+    }
+
+    @Test
+    void testDisabled() {
+        Assertions.assertFalse(InterceptorProfiler.isEnabled());
+        Assertions.assertEquals(InterceptorProfiler.NOT_SAMPLED, InterceptorProfiler.start(0));
+    }
+
+    @Test
+    void testProfile() throws Throwable {
+        AgentConfig config = new AgentConfig();
+        config.setProfileEnable(true);
+        config.setProfileSampleInterval(1);
+        InterceptorProfiler.init(config);
+
+        int adviceSlot = AdviserScheduler.getAdviceSlot(ADVICE_KEY);
+        InterceptorProfiler.bindAdviceKey(adviceSlot, ADVICE_KEY);
+        BaseAdviseHandler.addInterceptors(adviceSlot, Collections.singletonList(new ProfiledInterceptor()));
+        ExecuteContext context = ExecuteContext.forStaticMethod(InterceptorProfilerTest.class,
+                InterceptorProfilerTest.class.getDeclaredMethod("testProfile"), new Object[0], null);
+        for (int i = 0; i < TIMES; i++) {
+            adviser.onMethodExit(adviser.onMethodEnter(context, adviceSlot), adviceSlot);
+        }
+
+        List<InterceptorProfile> profiles = InterceptorProfiler.getProfiles();
+        Assertions.assertEquals(1, profiles.size());
+        InterceptorProfile profile = profiles.get(0);
+        Assertions.assertEquals(ADVICE_KEY, profile.getAdviceKey());
+        Assertions.assertEquals(ProfiledInterceptor.class.getName(), profile.getInterceptor());
+        Assertions.assertEquals(TIMES, profile.getHistogram(Phase.BEFORE).getCount());
+        Assertions.assertEquals(TIMES, profile.getHistogram(Phase.AFTER).getCount());
+        Assertions.assertEquals(0, profile.getHistogram(Phase.ON_THROW).getCount());
+        Assertions.assertTrue(profile.getBefore().getTotalNanos() > 0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMetrics() throws Throwable {
+        AgentConfig config = new AgentConfig();
+        config.setProfileEnable(true);
+        config.setProfileSampleInterval(1);
+        InterceptorProfiler.init(config);
+
+        MetricService metricService = Mockito.mock(MetricService.class);
+        Gauge gauge = Mockito.mock(Gauge.class);
+        Mockito.when(metricService.gauge(ArgumentMatchers.anyString(), ArgumentMatchers.any(Tags.class)))
+                .thenReturn(gauge);
+        try (MockedStatic<ServiceManager> serviceManagerMock = Mockito.mockStatic(ServiceManager.class)) {
+            serviceManagerMock.when(() -> ServiceManager.getService(MetricService.class)).thenReturn(metricService);
+
+            // The same interceptor on different enhanced methods shares the time series
+            MetricInterceptor interceptor = new MetricInterceptor();
+            int firstSlot = AdviserScheduler.getAdviceSlot(ADVICE_KEY + "_metric1");
+            int secondSlot = AdviserScheduler.getAdviceSlot(ADVICE_KEY + "_metric2");
+            BaseAdviseHandler.addInterceptors(firstSlot, Collections.singletonList(interceptor));
+            BaseAdviseHandler.addInterceptors(secondSlot, Collections.singletonList(interceptor));
+            ExecuteContext context = ExecuteContext.forStaticMethod(InterceptorProfilerTest.class,
+                    InterceptorProfilerTest.class.getDeclaredMethod("testMetrics"), new Object[0], null);
+            adviser.onMethodExit(adviser.onMethodEnter(context, firstSlot), firstSlot);
+            adviser.onMethodExit(adviser.onMethodEnter(context, secondSlot), secondSlot);
+            Assertions.assertEquals(2, InterceptorProfiler.getProfiles().size());
+
+            ArgumentCaptor<Tags> tagsCaptor = ArgumentCaptor.forClass(Tags.class);
+            Mockito.verify(metricService, Mockito.times(Phase.values().length * 4))
+                    .gauge(ArgumentMatchers.anyString(), tagsCaptor.capture());
+            Assertions.assertEquals(MetricInterceptor.class.getName(),
+                    tagsCaptor.getValue().getTags().get("interceptor"));
+            Assertions.assertFalse(tagsCaptor.getValue().getTags().containsKey("adviceKey"));
+            ArgumentCaptor<LatencyHistogram> histogramCaptor = ArgumentCaptor.forClass(LatencyHistogram.class);
+            Mockito.verify(gauge, Mockito.atLeastOnce()).gaugeState(histogramCaptor.capture(), ArgumentMatchers.any());
+            LatencyHistogram beforeHistogram = histogramCaptor.getAllValues().get(0);
+            Assertions.assertEquals(2, beforeHistogram.getCount());
+
+            // The gauges keep reporting the profiles recorded after reset
+            InterceptorProfiler.reset();
+            Assertions.assertTrue(InterceptorProfiler.getProfiles().isEmpty());
+            Assertions.assertEquals(0, beforeHistogram.getCount());
+            adviser.onMethodExit(adviser.onMethodEnter(context, firstSlot), firstSlot);
+            Assertions.assertEquals(1, beforeHistogram.getCount());
+            Mockito.verify(metricService, Mockito.times(Phase.values().length * 4))
+                    .gauge(ArgumentMatchers.anyString(), ArgumentMatchers.any(Tags.class));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPendingMetrics() throws Throwable {
+        AgentConfig config = new AgentConfig();
+        config.setProfileEnable(true);
+        config.setProfileSampleInterval(1);
+        InterceptorProfiler.init(config);
+
+        // The metric service is not started when the first call is sampled
+        int adviceSlot = AdviserScheduler.getAdviceSlot(ADVICE_KEY + "_pending");
+        BaseAdviseHandler.addInterceptors(adviceSlot, Collections.singletonList(new PendingMetricInterceptor()));
+        ExecuteContext context = ExecuteContext.forStaticMethod(InterceptorProfilerTest.class,
+                InterceptorProfilerTest.class.getDeclaredMethod("testPendingMetrics"), new Object[0], null);
+        adviser.onMethodExit(adviser.onMethodEnter(context, adviceSlot), adviceSlot);
+
+        // The profiles of the other tests may be waiting for the metric service as well
+        MetricService metricService = Mockito.mock(MetricService.class);
+        Gauge gauge = Mockito.mock(Gauge.class);
+        Mockito.when(metricService.gauge(ArgumentMatchers.anyString(), ArgumentMatchers.any(Tags.class)))
+                .thenReturn(Mockito.mock(Gauge.class));
+        Mockito.when(metricService.gauge(ArgumentMatchers.anyString(), ArgumentMatchers.argThat(
+                InterceptorProfilerTest::isPendingInterceptor))).thenReturn(gauge);
+        try (MockedStatic<ServiceManager> serviceManagerMock = Mockito.mockStatic(ServiceManager.class)) {
+            serviceManagerMock.when(() -> ServiceManager.getService(MetricService.class)).thenReturn(metricService);
+
+            // The metric service is not looked up again until the retry interval elapses
+            adviser.onMethodExit(adviser.onMethodEnter(context, adviceSlot), adviceSlot);
+            Mockito.verify(gauge, Mockito.never()).gaugeState(ArgumentMatchers.any(), ArgumentMatchers.any());
+
+            setStaticField("nextMetricRetryNanos", System.nanoTime());
+            adviser.onMethodExit(adviser.onMethodEnter(context, adviceSlot), adviceSlot);
+            Mockito.verify(metricService, Mockito.times(Phase.values().length * 4)).gauge(ArgumentMatchers.anyString(),
+                    ArgumentMatchers.argThat(InterceptorProfilerTest::isPendingInterceptor));
+
+            // The count gauge scales the sampled count with the sample interval
+            ArgumentCaptor<LatencyHistogram> histogramCaptor = ArgumentCaptor.forClass(LatencyHistogram.class);
+            ArgumentCaptor<ToDoubleFunction<LatencyHistogram>> functionCaptor =
+                    ArgumentCaptor.forClass(ToDoubleFunction.class);
+            Mockito.verify(gauge, Mockito.atLeastOnce()).gaugeState(histogramCaptor.capture(),
+                    functionCaptor.capture());
+            LatencyHistogram beforeHistogram = histogramCaptor.getAllValues().get(0);
+            ToDoubleFunction<LatencyHistogram> countFunction = functionCaptor.getAllValues().get(0);
+            Assertions.assertEquals(3, beforeHistogram.getCount());
+            Assertions.assertEquals(3D, countFunction.applyAsDouble(beforeHistogram), 0.001D);
+            config.setProfileSampleInterval(10);
+            InterceptorProfiler.init(config);
+            Assertions.assertEquals(30D, countFunction.applyAsDouble(beforeHistogram), 0.001D);
+        }
+    }
+
+    @Test
+    void testHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assertions.assertEquals(0, histogram.getP99Nanos());
+        for (int i = 0; i < TIMES - 1; i++) {
+            histogram.record(100L);
+        }
+        histogram.record(100000L);
+        Assertions.assertEquals(TIMES, histogram.getCount());
+        Assertions.assertEquals(100000L, histogram.getMaxNanos());
+        Assertions.assertEquals(127L, histogram.getP50Nanos());
+        Assertions.assertEquals(127L, histogram.getP99Nanos());
+        Assertions.assertEquals(100000L, histogram.getPercentileNanos(1D));
+        Assertions.assertEquals((99 * 100L + 100000L) / (double) TIMES, histogram.getMeanNanos(), 0.001D);
+        histogram.reset();
+        Assertions.assertEquals(0, histogram.getCount());
+        Assertions.assertEquals(0, histogram.getMaxNanos());
+        Assertions.assertEquals(0, histogram.getP99Nanos());
+    }
+
+    private static boolean isPendingInterceptor(Tags tags) {
+        return tags != null && PendingMetricInterceptor.class.getName().equals(tags.getTags().get("interceptor"));
+    }
+
+    private static void setStaticField(String name, Object value) throws ReflectiveOperationException {
+        Field field = InterceptorProfiler.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(null, value);
+    }
+
+    /**
+     * Interceptor to be profiled
+     *
+     * @since 2026-10-18
+     */
+    static class ProfiledInterceptor extends AbstractInterceptor {
+        @Override
+        public ExecuteContext before(ExecuteContext context) {
+            return context;
+        }
+
+        @Override
+        public ExecuteContext after(ExecuteContext context) {
+            return context;
+        }
+    }
+
+    /**
+     * Interceptor whose profiles are exposed by the metric service
+     *
+     * @since 2026-10-18
+     */
+    static class MetricInterceptor extends ProfiledInterceptor {
+    }
+
+    /**
+     * Interceptor profiled before the metric service is started
+     *
+     * @since 2026-10-18
+     */
+    static class PendingMetricInterceptor extends ProfiledInterceptor {
+    }
+}
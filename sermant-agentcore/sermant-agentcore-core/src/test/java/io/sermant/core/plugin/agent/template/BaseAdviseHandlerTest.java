@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.template;
+
+import io.sermant.core.plugin.agent.adviser.AdviceSwitch;
+import io.sermant.core.plugin.agent.adviser.AdviserInterface;
+import io.sermant.core.plugin.agent.adviser.AdviserScheduler;
+import io.sermant.core.plugin.agent.entity.ExecuteContext;
+import io.sermant.core.plugin.agent.interceptor.AbstractInterceptor;
+import io.sermant.core.plugin.agent.interceptor.Interceptor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Test the execution of the interceptor chain
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+class BaseAdviseHandlerTest {
+    private static final int WARM_UP_TIMES = 20000;
+
+    private static final int MEASURE_TIMES = 100000;
+
+    private final AdviserInterface adviser = new DefaultAdviser();
+
+    /**
+     * Keeps the created contexts reachable, so that their allocation is not eliminated
+     */
+    private ExecuteContext sink;
+
+    @Test
+    void testInterceptorOrder() throws Throwable {
+        List<String> records = new ArrayList<>();
+        int adviceSlot = AdviserScheduler.getAdviceSlot("BaseAdviseHandlerTest_order");
+        Assertions.assertFalse(AdviceSwitch.isActive(adviceSlot));
+        BaseAdviseHandler.addInterceptors(adviceSlot,
+                Arrays.asList(new RecordInterceptor("a", records), new RecordInterceptor("b", records)));
+        Assertions.assertTrue(AdviceSwitch.isActive(adviceSlot));
+        ExecuteContext context = newContext();
+        context = adviser.onMethodExit(adviser.onMethodEnter(context, adviceSlot), adviceSlot);
+        Assertions.assertEquals(Arrays.asList("before-a", "before-b", "after-b", "after-a"), records);
+        Assertions.assertEquals(0, context.getInterceptorIndex());
+    }
+
+    @Test
+    void testSkip() throws Throwable {
+        List<String> records = new ArrayList<>();
+        int adviceSlot = AdviserScheduler.getAdviceSlot("BaseAdviseHandlerTest_skip");
+        BaseAdviseHandler.addInterceptors(adviceSlot, Arrays.asList(new RecordInterceptor("a", records),
+                new SkipInterceptor(), new RecordInterceptor("b", records)));
+        ExecuteContext context = adviser.onMethodEnter(newContext(), adviceSlot);
+        Assertions.assertTrue(context.isSkip());
+        Assertions.assertEquals(2, context.getInterceptorIndex());
+        adviser.onMethodExit(context, adviceSlot);
+        Assertions.assertEquals(Arrays.asList("before-a", "after-a"), records);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void testDeprecatedAdviceKey() throws Throwable {
+        List<String> records = new ArrayList<>();
+        String adviceKey = "BaseAdviseHandlerTest_adviceKey";
+        BaseAdviseHandler.addInterceptors(AdviserScheduler.getAdviceSlot(adviceKey),
+                Arrays.asList(new RecordInterceptor("a", records), new RecordInterceptor("b", records)));
+        ExecuteContext context = adviser.onMethodExit(adviser.onMethodEnter(newContext(), adviceKey), adviceKey);
+        Assertions.assertEquals(Arrays.asList("before-a", "before-b", "after-b", "after-a"), records);
+        Assertions.assertEquals(0, context.getInterceptorIndex());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void testDeprecatedIterator() throws Throwable {
+        List<String> records = new ArrayList<>();
+        ListIterator<Interceptor> interceptorItr = Arrays.<Interceptor>asList(new RecordInterceptor("a", records),
+                new SkipInterceptor(), new RecordInterceptor("b", records)).listIterator();
+        ExecuteContext context = BaseAdviseHandler.handleMethodEnter(newContext(), interceptorItr,
+                (ctx, interceptor, throwable) -> Assertions.fail(throwable));
+        Assertions.assertTrue(context.isSkip());
+        Assertions.assertEquals(2, interceptorItr.nextIndex());
+        BaseAdviseHandler.handleMethodExit(context, interceptorItr, null,
+                (ctx, interceptor, throwable) -> Assertions.fail(throwable));
+        Assertions.assertFalse(interceptorItr.hasPrevious());
+        Assertions.assertEquals(Arrays.asList("before-a", "after-a"), records);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void testDeprecatedContextIterator() throws Throwable {
+        List<String> records = new ArrayList<>();
+        ExecuteContext context = newContext();
+        Assertions.assertNull(context.getInterceptorIterator());
+        context.setInterceptorIterator(Arrays.<Interceptor>asList(new RecordInterceptor("a", records),
+                new RecordInterceptor("b", records)).listIterator());
+        context = BaseAdviseHandler.handleMethodEnter(context, context.getInterceptorIterator(),
+                (ctx, interceptor, throwable) -> Assertions.fail(throwable));
+        Assertions.assertEquals(2, context.getInterceptorIndex());
+        ListIterator<Interceptor> interceptorItr = context.getInterceptorIterator();
+        Assertions.assertFalse(interceptorItr.hasNext());
+        Assertions.assertThrows(UnsupportedOperationException.class, interceptorItr::remove);
+        context = BaseAdviseHandler.handleMethodExit(context, interceptorItr, null,
+                (ctx, interceptor, throwable) -> Assertions.fail(throwable));
+        Assertions.assertEquals(0, context.getInterceptorIndex());
+        Assertions.assertEquals(Arrays.asList("before-a", "before-b", "after-b", "after-a"), records);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void testDeprecatedInterceptorListMap() throws Throwable {
+        List<String> records = new ArrayList<>();
+        String adviceKey = "BaseAdviseHandlerTest_listMap";
+        int adviceSlot = AdviserScheduler.getAdviceSlot(adviceKey);
+        BaseAdviseHandler.addInterceptors(adviceSlot,
+                Arrays.asList(new RecordInterceptor("a", records), new SkipInterceptor()));
+        List<Interceptor> interceptors = BaseAdviseHandler.getInterceptorListMap().get(adviceKey);
+        Assertions.assertEquals(2, interceptors.size());
+        interceptors.removeIf(interceptor -> interceptor instanceof SkipInterceptor);
+        interceptors.add(new RecordInterceptor("b", records));
+        Assertions.assertEquals(2, BaseAdviseHandler.getInterceptors(adviceSlot).length);
+        adviser.onMethodExit(adviser.onMethodEnter(newContext(), adviceSlot), adviceSlot);
+        Assertions.assertEquals(Arrays.asList("before-a", "before-b", "after-b", "after-a"), records);
+        interceptors.clear();
+        Assertions.assertFalse(AdviceSwitch.isActive(adviceSlot));
+    }
+
+    @Test
+    void testLocalFields() throws NoSuchMethodException {
+        ExecuteContext context = newContext();
+        for (int i = 0; i < 10; i++) {
+            context.setLocalFieldValue("field" + i, i);
+        }
+        context.setLocalFieldValue("field3", "changed");
+        Assertions.assertEquals(9, context.getLocalFieldValue("field9"));
+        Assertions.assertEquals("changed", context.getLocalFieldValue("field3"));
+        Assertions.assertNull(context.getLocalFieldValue("field10"));
+    }
+
+    @Test
+    void testAllocationFree() throws Throwable {
+        ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threadMxBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadMxBean;
+        Assumptions.assumeTrue(allocationBean.isThreadAllocatedMemorySupported());
+        allocationBean.setThreadAllocatedMemoryEnabled(true);
+
+        int adviceSlot = AdviserScheduler.getAdviceSlot("BaseAdviseHandlerTest_allocation");
+        List<Interceptor> interceptors = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            interceptors.add(new EmptyInterceptor());
+        }
+        BaseAdviseHandler.addInterceptors(adviceSlot, interceptors);
+        Method method = BaseAdviseHandlerTest.class.getDeclaredMethod("newContext");
+        Object[] arguments = new Object[0];
+        createContexts(method, arguments, WARM_UP_TIMES);
+        runChain(method, arguments, adviceSlot, WARM_UP_TIMES);
+
+        // The enhanced method creates an ExecuteContext for every call, which is the baseline
+        long threadId = Thread.currentThread().getId();
+        long before = allocationBean.getThreadAllocatedBytes(threadId);
+        createContexts(method, arguments, MEASURE_TIMES);
+        long contextAllocated = allocationBean.getThreadAllocatedBytes(threadId) - before;
+        before = allocationBean.getThreadAllocatedBytes(threadId);
+        runChain(method, arguments, adviceSlot, MEASURE_TIMES);
+        long callAllocated = allocationBean.getThreadAllocatedBytes(threadId) - before;
+
+        // The interceptor chain allocates nothing beyond the context, tolerates the allocation of the measurement
+        // itself, which is far less than one byte per call
+        Assertions.assertTrue(callAllocated - contextAllocated < MEASURE_TIMES,
+                "allocated " + callAllocated + " bytes, of which " + contextAllocated + " bytes by the context");
+    }
+
+    private void createContexts(Method method, Object[] arguments, int times) {
+        for (int i = 0; i < times; i++) {
+            sink = ExecuteContext.forMemberMethod(this, method, arguments, null, null);
+        }
+    }
+
+    private void runChain(Method method, Object[] arguments, int adviceSlot, int times) throws Throwable {
+        for (int i = 0; i < times; i++) {
+            // Same as the advice templates, see TemplateForMember
+            ExecuteContext context = ExecuteContext.forMemberMethod(this, method, arguments, null, null);
+            sink = adviser.onMethodExit(adviser.onMethodEnter(context, adviceSlot), adviceSlot);
+        }
+    }
+
+    private static ExecuteContext newContext() throws NoSuchMethodException {
+        return ExecuteContext.forStaticMethod(BaseAdviseHandlerTest.class,
+                BaseAdviseHandlerTest.class.getDeclaredMethod("newContext"), new Object[0], null);
+    }
+
+    /**
+     * Interceptor doing nothing
+     *
+     * @since 2026-10-18
+     */
+    static class EmptyInterceptor extends AbstractInterceptor {
+        @Override
+        public ExecuteContext before(ExecuteContext context) {
+            return context;
+        }
+
+        @Override
+        public ExecuteContext after(ExecuteContext context) {
+            return context;
+        }
+    }
+
+    /**
+     * Interceptor skipping the main execution of method
+     *
+     * @since 2026-10-18
+     */
+    static class SkipInterceptor extends EmptyInterceptor {
+        @Override
+        public ExecuteContext before(ExecuteContext context) {
+            return context.skip(null);
+        }
+    }
+
+    /**
+     * Interceptor recording the trigger points
+     *
+     * @since 2026-10-18
+     */
+    static class RecordInterceptor extends AbstractInterceptor {
+        private final String name;
+
+        private final List<String> records;
+
+        RecordInterceptor(String name, List<String> records) {
+            this.name = name;
+            this.records = records;
+        }
+
+        @Override
+        public ExecuteContext before(ExecuteContext context) {
+            records.add("before-" + name);
+            return context;
+        }
+
+        @Override
+        public ExecuteContext after(ExecuteContext context) {
+            records.add("after-" + name);
+            return context;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.transformer;
+
+import io.sermant.core.plugin.Plugin;
+import io.sermant.core.plugin.agent.adviser.AdviceSwitch;
+import io.sermant.core.plugin.agent.adviser.AdviserInterface;
+import io.sermant.core.plugin.agent.adviser.AdviserScheduler;
+import io.sermant.core.plugin.agent.declarer.InterceptDeclarer;
+import io.sermant.core.plugin.agent.entity.ExecuteContext;
+import io.sermant.core.plugin.agent.interceptor.AbstractInterceptor;
+import io.sermant.core.plugin.agent.matcher.MethodMatcher;
+import io.sermant.core.plugin.agent.template.BaseAdviseHandler;
+import io.sermant.core.plugin.agent.template.DefaultAdviser;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the advice slot dispatch of the enhanced methods
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+class ReentrantTransformerTest {
+    private final AdviserInterface adviser = new DefaultAdviser();
+
+    @BeforeEach
+    void setUp() {
+        AdviserScheduler.registry(adviser);
+    }
+
+    @AfterEach
+    void tearDown() {
+        AdviserScheduler.unRegistry(adviser);
+    }
+
+    @Test
+    void testAdviceSlotDispatch() throws Exception {
+        Plugin plugin = new Plugin("test-plugin", "", false, null);
+        ReentrantTransformer transformer = new ReentrantTransformer(new InterceptDeclarer[]{
+                InterceptDeclarer.build(MethodMatcher.nameEquals("greet"), new ResultInterceptor()),
+                InterceptDeclarer.build(MethodMatcher.nameEquals("staticGreet"), new ResultInterceptor())
+        }, plugin);
+        ClassLoader classLoader = getClass().getClassLoader();
+        DynamicType.Builder<?> builder = transformer.transform(new ByteBuddy().redefine(TestTarget.class),
+                TypeDescription.ForLoadedType.of(TestTarget.class), classLoader, null, null);
+        Class<?> enhancedCls = builder.make().load(classLoader, ClassLoadingStrategy.Default.CHILD_FIRST)
+                .getLoaded();
+        Assertions.assertNotSame(TestTarget.class, enhancedCls);
+
+        Object target = enhancedCls.newInstance();
+        Assertions.assertEquals("hello sermant@greet", enhancedCls.getMethod("greet", String.class).invoke(target, "sermant"));
+        Assertions.assertEquals("hi sermant@staticGreet", enhancedCls.getMethod("staticGreet", String.class).invoke(null, "sermant"));
+
+        // The slot is stable for the adviceKey, and the interceptors can be found by the slot
+        String adviceKey = plugin.getAdviceLocks().iterator().next();
+        int adviceSlot = AdviserScheduler.getAdviceSlot(adviceKey);
+        Assertions.assertEquals(1, BaseAdviseHandler.getInterceptors(adviceSlot).length);
+        Assertions.assertNull(BaseAdviseHandler.getInterceptors(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testAdviceSwitch() throws Exception {
+        Plugin plugin = new Plugin("test-switch-plugin", "", false, null);
+        ReentrantTransformer transformer = new ReentrantTransformer(new InterceptDeclarer[]{
+                InterceptDeclarer.build(MethodMatcher.nameEquals("greet"), new ResultInterceptor())
+        }, plugin);
+        ClassLoader classLoader = new SwitchTestClassLoader(getClass().getClassLoader());
+        DynamicType.Builder<?> builder = transformer.transform(new ByteBuddy().redefine(TestTarget.class),
+                TypeDescription.ForLoadedType.of(TestTarget.class), classLoader, null, null);
+        Class<?> enhancedCls = builder.make().load(classLoader, ClassLoadingStrategy.Default.CHILD_FIRST)
+                .getLoaded();
+        Object target = enhancedCls.newInstance();
+        int adviceSlot = AdviserScheduler.getAdviceSlot(plugin.getAdviceLocks().iterator().next());
+        Assertions.assertTrue(AdviceSwitch.isActive(adviceSlot));
+
+        // The call site is relinked without retransforming the class
+        for (int i = 0; i < 3; i++) {
+            AdviceSwitch.deactivate(adviceSlot);
+            Assertions.assertEquals("hello sermant", enhancedCls.getMethod("greet", String.class)
+                    .invoke(target, "sermant"));
+            AdviceSwitch.activate(adviceSlot);
+            Assertions.assertEquals("hello sermant@greet", enhancedCls.getMethod("greet", String.class)
+                    .invoke(target, "sermant"));
+        }
+    }
+
+    /**
+     * Interceptor appending the name of the enhanced method to the result
+     *
+     * @since 2026-10-18
+     */
+    public static class ResultInterceptor extends AbstractInterceptor {
+        @Override
+        public ExecuteContext before(ExecuteContext context) {
+            return context;
+        }
+
+        @Override
+        public ExecuteContext after(ExecuteContext context) {
+            return context.changeResult(context.getResult() + "@" + context.getMethod().getName());
+        }
+    }
+
+    /**
+     * ClassLoader which makes the adviceKey of the switch test different from other tests
+     *
+     * @since 2026-10-18
+     */
+    static class SwitchTestClassLoader extends ClassLoader {
+        SwitchTestClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+    }
+
+    /**
+     * Class to be enhanced
+     *
+     * @since 2026-10-18
+     */
+    public static class TestTarget {
+        /**
+         * member method
+         *
+         * @param name name
+         * @return greeting
+         */
+        public String greet(String name) {
+            return "hello " + name;
+        }
+
+        /**
+         * static method
+         *
+         * @param name name
+         * @return greeting
+         */
+        public static String staticGreet(String name) {
+            return "hi " + name;
+        }
+    }
+}
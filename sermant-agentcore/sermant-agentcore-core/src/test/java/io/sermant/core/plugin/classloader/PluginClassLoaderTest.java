@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin.classloader;
+
+import io.sermant.core.config.ConfigManager;
+import io.sermant.core.plugin.agent.config.AgentConfig;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test PluginClassLoader
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+class PluginClassLoaderTest {
+    private static final String TARGET_CLASS = "io.sermant.core.plugin.classloader.PluginClassLoaderTest$Target";
+
+    private static final String HOST_CLASS = "org.junit.jupiter.api.Test";
+
+    private MockedStatic<ConfigManager> configManagerMockedStatic;
+
+    private PluginClassLoader pluginClassLoader;
+
+    @BeforeEach
+    void setUp() {
+        configManagerMockedStatic = Mockito.mockStatic(ConfigManager.class);
+        configManagerMockedStatic.when(() -> ConfigManager.getConfig(AgentConfig.class)).thenReturn(new AgentConfig());
+        URL testClasses = PluginClassLoaderTest.class.getProtectionDomain().getCodeSource().getLocation();
+
+        // The parent is the bootstrap classloader, so that the test classes can only be found by the plugin loader
+        pluginClassLoader = new PluginClassLoader(new URL[]{testClasses}, null);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        pluginClassLoader.close();
+        configManagerMockedStatic.close();
+    }
+
+    @Test
+    void testLoadClass() throws ClassNotFoundException {
+        Class<?> clazz = pluginClassLoader.loadClass(TARGET_CLASS);
+        Assertions.assertSame(pluginClassLoader, clazz.getClassLoader());
+        Assertions.assertSame(clazz, pluginClassLoader.loadClass(TARGET_CLASS));
+        Assertions.assertSame(clazz, pluginClassLoader.loadSermantClass(TARGET_CLASS));
+        Assertions.assertSame(String.class, pluginClassLoader.loadClass("java.lang.String"));
+        Assertions.assertThrows(ClassNotFoundException.class, () -> pluginClassLoader.loadClass("com.example.Missing"));
+        Assertions.assertThrows(ClassNotFoundException.class, () -> pluginClassLoader.loadClass("com.example.Missing"));
+    }
+
+    @Test
+    void testLocalLoader() throws Exception {
+        Assertions.assertThrows(ClassNotFoundException.class, () -> pluginClassLoader.loadClass(HOST_CLASS));
+        pluginClassLoader.setLocalLoader(PluginClassLoaderTest.class.getClassLoader());
+        try {
+            Assertions.assertSame(Test.class, pluginClassLoader.loadClass(HOST_CLASS));
+            Assertions.assertThrows(ClassNotFoundException.class, () -> pluginClassLoader.loadSermantClass(HOST_CLASS));
+
+            // The localClassLoader is bound to the thread which sets it
+            AtomicReference<Throwable> result = new AtomicReference<>();
+            Thread thread = new Thread(() -> {
+                try {
+                    pluginClassLoader.loadClass(HOST_CLASS);
+                } catch (ClassNotFoundException e) {
+                    result.set(e);
+                }
+            });
+            thread.start();
+            thread.join();
+            Assertions.assertTrue(result.get() instanceof ClassNotFoundException);
+        } finally {
+            pluginClassLoader.removeLocalLoader();
+        }
+        Assertions.assertThrows(ClassNotFoundException.class, () -> pluginClassLoader.loadClass(HOST_CLASS));
+    }
+
+    /**
+     * Class loaded by the plugin classloader in test
+     *
+     * @since 2026-10-18
+     */
+    public static class Target {
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+/**
+ * Test the method accessors of ReflectUtils
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+class MethodAccessorTest {
+    @Test
+    void testAccessor() {
+        Optional<MethodAccessor<String>> accessor = ReflectUtils.accessor(Target.class, "getName", String.class);
+        Assertions.assertTrue(accessor.isPresent());
+        Assertions.assertEquals("target", accessor.get().invoke(new Target()));
+        Assertions.assertSame(accessor.get(), ReflectUtils.accessor(Target.class, "getName", String.class).get());
+
+        // Private methods, static methods and primitive return values
+        Assertions.assertEquals(1, ReflectUtils.accessor(Target.class, "getCount", Integer.class).get()
+                .invoke(new Target()));
+        Assertions.assertEquals("static", ReflectUtils.accessor(Target.class, "getStatic", Object.class).get()
+                .invoke(null));
+
+        // Methods of the superclass
+        Assertions.assertEquals("target", ReflectUtils.accessor(SubTarget.class, "getName", CharSequence.class).get()
+                .invoke(new SubTarget()));
+    }
+
+    @Test
+    void testInvalidAccessor() {
+        Assertions.assertFalse(ReflectUtils.accessor(Target.class, "missing", Object.class).isPresent());
+        Assertions.assertFalse(ReflectUtils.accessor(Target.class, "getName", Integer.class).isPresent());
+        Assertions.assertFalse(ReflectUtils.accessor(null, "getName", String.class).isPresent());
+
+        // The invocation failure is not thrown
+        Assertions.assertNull(ReflectUtils.accessor(Target.class, "fail", String.class).get().invoke(new Target()));
+        Assertions.assertNull(ReflectUtils.accessor(Target.class, "getName", String.class).get().invoke(null));
+    }
+
+    @Test
+    void testPublicAccessor() {
+        Optional<MethodAccessor<Object>> accessor = ReflectUtils.publicAccessor(SubTarget.class, "getName",
+                Object.class);
+        Assertions.assertTrue(accessor.isPresent());
+        Assertions.assertEquals("target", accessor.get().invoke(new SubTarget()));
+        Assertions.assertSame(accessor.get(),
+                ReflectUtils.publicAccessor(SubTarget.class, "getName", Object.class).get());
+
+        // Only the public methods are accessed, as Class#getMethod does
+        Assertions.assertFalse(ReflectUtils.publicAccessor(Target.class, "getCount", Object.class).isPresent());
+        Assertions.assertTrue(ReflectUtils.accessor(Target.class, "getCount", Object.class).isPresent());
+        Assertions.assertFalse(ReflectUtils.publicAccessor(Target.class, "missing", Object.class).isPresent());
+    }
+
+    /**
+     * Class whose methods are accessed in test
+     *
+     * @since 2026-10-18
+     */
+    static class Target {
+        public String getName() {
+            return "target";
+        }
+
+        private int getCount() {
+            return 1;
+        }
+
+        private static String getStatic() {
+            return "static";
+        }
+
+        private String fail() {
+            throw new IllegalStateException("fail");
+        }
+    }
+
+    /**
+     * Subclass whose methods are accessed in test
+     *
+     * @since 2026-10-18
+     */
+    static class SubTarget extends Target {
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Test PrefixTrie
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+class PrefixTrieTest {
+    @Test
+    void testMatches() {
+        PrefixTrie trie = new PrefixTrie(Arrays.asList("io.sermant.flowcontrol", "io.sermant.registry", "org.demo"));
+        Assertions.assertTrue(trie.matches("io.sermant.flowcontrol.Rule"));
+        Assertions.assertTrue(trie.matches("io.sermant.registry"));
+        Assertions.assertTrue(trie.matches("org.demo.Demo"));
+        Assertions.assertFalse(trie.matches("io.sermant.flow"));
+        Assertions.assertFalse(trie.matches("io.sermant.router.Rule"));
+        Assertions.assertFalse(trie.matches("com.demo"));
+        Assertions.assertFalse(trie.matches(""));
+        Assertions.assertFalse(trie.matches(null));
+    }
+
+    @Test
+    void testCoveredPrefix() {
+        PrefixTrie trie = new PrefixTrie(Arrays.asList("io.sermant.registry", "io.sermant", "io.sermant.discovery"));
+        Assertions.assertTrue(trie.matches("io.sermant.router.Rule"));
+        Assertions.assertTrue(trie.matches("io.sermant.registry.Rule"));
+        Assertions.assertFalse(trie.matches("io.serman"));
+    }
+
+    @Test
+    void testEmptyPrefix() {
+        Assertions.assertFalse(new PrefixTrie(Collections.emptySet()).matches("io.sermant"));
+        Assertions.assertFalse(new PrefixTrie(null).matches("io.sermant"));
+        Assertions.assertTrue(new PrefixTrie(Collections.singleton("")).matches("io.sermant"));
+    }
+}
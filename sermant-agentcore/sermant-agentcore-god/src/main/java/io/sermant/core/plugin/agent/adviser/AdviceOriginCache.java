@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.adviser;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Cache of the enhanced methods and constructors. The origin of the enhanced method is resolved by reflection once
+ * and then found by its advice slot, instead of being looked up by reflection on every invocation. The cache is held
+ * by the enhanced class itself, so that the class can still be unloaded
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class AdviceOriginCache {
+    private static final ClassValue<OriginTable> ORIGIN_TABLES = new ClassValue<OriginTable>() {
+        @Override
+        protected OriginTable computeValue(Class<?> type) {
+            return new OriginTable();
+        }
+    };
+
+    private AdviceOriginCache() {
+    }
+
+    /**
+     * Get the enhanced method
+     *
+     * @param cls enhanced class
+     * @param adviceSlot advice slot of the enhanced method
+     * @param methodName method name
+     * @param descriptor method descriptor
+     * @return enhanced method
+     */
+    public static Method getMethod(Class<?> cls, int adviceSlot, String methodName, String descriptor) {
+        OriginTable originTable = ORIGIN_TABLES.get(cls);
+        Executable origin = originTable.get(adviceSlot);
+        if (origin != null) {
+            return (Method) origin;
+        }
+        for (Method method : cls.getDeclaredMethods()) {
+            if (method.getName().equals(methodName)
+                    && descriptor.equals(getDescriptor(method.getParameterTypes(), method.getReturnType()))) {
+                originTable.put(adviceSlot, method);
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the enhanced constructor
+     *
+     * @param cls enhanced class
+     * @param adviceSlot advice slot of the enhanced constructor
+     * @param descriptor constructor descriptor
+     * @return enhanced constructor
+     */
+    public static Constructor<?> getConstructor(Class<?> cls, int adviceSlot, String descriptor) {
+        OriginTable originTable = ORIGIN_TABLES.get(cls);
+        Executable origin = originTable.get(adviceSlot);
+        if (origin != null) {
+            return (Constructor<?>) origin;
+        }
+        for (Constructor<?> constructor : cls.getDeclaredConstructors()) {
+            if (descriptor.equals(getDescriptor(constructor.getParameterTypes(), void.class))) {
+                originTable.put(adviceSlot, constructor);
+                return constructor;
+            }
+        }
+        return null;
+    }
+
+    private static String getDescriptor(Class<?>[] parameterTypes, Class<?> returnType) {
+        StringBuilder sb = new StringBuilder().append('(');
+        for (Class<?> parameterType : parameterTypes) {
+            appendDescriptor(sb, parameterType);
+        }
+        appendDescriptor(sb.append(')'), returnType);
+        return sb.toString();
+    }
+
+    private static void appendDescriptor(StringBuilder sb, Class<?> type) {
+        if (type.isArray()) {
+            sb.append(type.getName().replace('.', '/'));
+        } else if (type.isPrimitive()) {
+            sb.append(getPrimitiveDescriptor(type));
+        } else {
+            sb.append('L').append(type.getName().replace('.', '/')).append(';');
+        }
+    }
+
+    private static char getPrimitiveDescriptor(Class<?> type) {
+        if (type == int.class) {
+            return 'I';
+        } else if (type == long.class) {
+            return 'J';
+        } else if (type == boolean.class) {
+            return 'Z';
+        } else if (type == byte.class) {
+            return 'B';
+        } else if (type == char.class) {
+            return 'C';
+        } else if (type == short.class) {
+            return 'S';
+        } else if (type == float.class) {
+            return 'F';
+        } else if (type == double.class) {
+            return 'D';
+        } else {
+            return 'V';
+        }
+    }
+
+    /**
+     * Origins of the enhanced methods in one class. A class usually has few enhanced methods, so the slots are
+     * scanned linearly
+     *
+     * @since 2026-10-18
+     */
+    private static class OriginTable {
+        private volatile Entry entry = new Entry(new int[0], new Executable[0]);
+
+        Executable get(int adviceSlot) {
+            Entry current = entry;
+            for (int i = 0; i < current.slots.length; i++) {
+                if (current.slots[i] == adviceSlot) {
+                    return current.origins[i];
+                }
+            }
+            return null;
+        }
+
+        synchronized void put(int adviceSlot, Executable origin) {
+            Entry current = entry;
+            int size = current.slots.length;
+            int[] slots = Arrays.copyOf(current.slots, size + 1);
+            Executable[] origins = Arrays.copyOf(current.origins, size + 1);
+            slots[size] = adviceSlot;
+            origins[size] = origin;
+            entry = new Entry(slots, origins);
+        }
+    }
+
+    /**
+     * Immutable snapshot of the origin table
+     *
+     * @since 2026-10-18
+     */
+    private static class Entry {
+        private final int[] slots;
+
+        private final Executable[] origins;
+
+        Entry(int[] slots, Executable[] origins) {
+            this.slots = slots;
+            this.origins = origins;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.adviser;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Switch of the advice slot, which tells the enhanced method whether there are active interceptors for it
+ * <p>The enhanced method reads the switch through an invokedynamic instruction linked to the {@link MutableCallSite}
+ * of the slot, see {@link #bootstrap}. The call site is relinked to a constant target whenever the switch changes,
+ * so that the JIT compiler folds the check and a disabled enhancement costs nothing once compiled. Classes whose
+ * class file version does not support invokedynamic read the switch through {@link #isActive} instead
+ * <p>In multi-sermant scenario, the slot is active as long as any sermant has active interceptors for it
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class AdviceSwitch {
+    private static final MethodType SWITCH_TYPE = MethodType.methodType(boolean.class);
+
+    private static final MethodHandle ACTIVE_TARGET = MethodHandles.constant(boolean.class, true);
+
+    private static final MethodHandle INACTIVE_TARGET = MethodHandles.constant(boolean.class, false);
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final Object LOCK = new Object();
+
+    private static volatile AtomicReferenceArray<SlotSwitch> switches = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+
+    private AdviceSwitch() {
+    }
+
+    /**
+     * Bootstrap method of the invokedynamic instruction reading the switch, all call sites of the same slot share one
+     * {@link MutableCallSite}
+     *
+     * @param lookup lookup of the enhanced class
+     * @param name name of the invokedynamic instruction
+     * @param type type of the invokedynamic instruction, must be {@code ()boolean}
+     * @param adviceSlot advice slot
+     * @return call site of the slot
+     */
+    public static CallSite bootstrap(MethodHandles.Lookup lookup, String name, MethodType type, int adviceSlot) {
+        synchronized (LOCK) {
+            return getOrCreate(adviceSlot).callSite;
+        }
+    }
+
+    /**
+     * Whether there are active interceptors for the advice slot
+     *
+     * @param adviceSlot advice slot
+     * @return active or not
+     */
+    public static boolean isActive(int adviceSlot) {
+        AtomicReferenceArray<SlotSwitch> current = switches;
+        if (adviceSlot < 0 || adviceSlot >= current.length()) {
+            return false;
+        }
+        SlotSwitch slotSwitch = current.get(adviceSlot);
+        return slotSwitch != null && slotSwitch.activeCount > 0;
+    }
+
+    /**
+     * Called when a sermant has active interceptors for the advice slot
+     *
+     * @param adviceSlot advice slot
+     */
+    public static void activate(int adviceSlot) {
+        synchronized (LOCK) {
+            SlotSwitch slotSwitch = getOrCreate(adviceSlot);
+            if (slotSwitch.activeCount++ == 0) {
+                slotSwitch.relink(ACTIVE_TARGET);
+            }
+        }
+    }
+
+    /**
+     * Called when a sermant has no more active interceptors for the advice slot
+     *
+     * @param adviceSlot advice slot
+     */
+    public static void deactivate(int adviceSlot) {
+        synchronized (LOCK) {
+            SlotSwitch slotSwitch = getOrCreate(adviceSlot);
+            if (slotSwitch.activeCount > 0 && --slotSwitch.activeCount == 0) {
+                slotSwitch.relink(INACTIVE_TARGET);
+            }
+        }
+    }
+
+    private static SlotSwitch getOrCreate(int adviceSlot) {
+        AtomicReferenceArray<SlotSwitch> current = switches;
+        if (adviceSlot >= current.length()) {
+            int capacity = current.length();
+            while (capacity <= adviceSlot) {
+                capacity <<= 1;
+            }
+            AtomicReferenceArray<SlotSwitch> expanded = new AtomicReferenceArray<>(capacity);
+            for (int i = 0; i < current.length(); i++) {
+                expanded.set(i, current.get(i));
+            }
+            switches = expanded;
+            current = expanded;
+        }
+        SlotSwitch slotSwitch = current.get(adviceSlot);
+        if (slotSwitch == null) {
+            slotSwitch = new SlotSwitch();
+            current.set(adviceSlot, slotSwitch);
+        }
+        return slotSwitch;
+    }
+
+    /**
+     * Switch of one advice slot
+     *
+     * @since 2026-10-18
+     */
+    private static class SlotSwitch {
+        private final MutableCallSite callSite = new MutableCallSite(INACTIVE_TARGET);
+
+        private volatile int activeCount;
+
+        void relink(MethodHandle target) {
+            callSite.setTarget(target.asType(SWITCH_TYPE));
+            MutableCallSite.syncAll(new MutableCallSite[]{callSite});
+        }
+    }
+}
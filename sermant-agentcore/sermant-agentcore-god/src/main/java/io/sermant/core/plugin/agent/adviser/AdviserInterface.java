@@ -29,19 +29,51 @@ public interface AdviserInterface {
      * The preceding trigger point of method
      *
      * @param context execute Context
-     * @param adviceKey enhanced class name
+     * @param adviceSlot advice slot assigned to the enhanced method at transform time
      * @return ExecuteContext
      * @throws Throwable Throwable
      */
-    ExecuteContext onMethodEnter(ExecuteContext context, String adviceKey) throws Throwable;
+    ExecuteContext onMethodEnter(ExecuteContext context, int adviceSlot) throws Throwable;
 
     /**
      * The post trigger point of method
      *
      * @param context execute Context
-     * @param adviceKey enhanced class name
+     * @param adviceSlot advice slot assigned to the enhanced method at transform time
      * @return ExecuteContext
      * @throws Throwable Throwable
      */
-    ExecuteContext onMethodExit(ExecuteContext context, String adviceKey) throws Throwable;
+    ExecuteContext onMethodExit(ExecuteContext context, int adviceSlot) throws Throwable;
+
+    /**
+     * The preceding trigger point of method
+     *
+     * @param context execute Context
+     * @param adviceKey The advice keyword consists of the class and method description, the advice template, and the
+     * classloader for the enhanced class
+     * @return ExecuteContext
+     * @throws Throwable Throwable
+     * @deprecated the adviceKey is resolved to its advice slot on every call, use
+     * {@link #onMethodEnter(ExecuteContext, int)}
+     */
+    @Deprecated
+    default ExecuteContext onMethodEnter(ExecuteContext context, String adviceKey) throws Throwable {
+        return onMethodEnter(context, AdviserScheduler.getAdviceSlot(adviceKey));
+    }
+
+    /**
+     * The post trigger point of method
+     *
+     * @param context execute Context
+     * @param adviceKey The advice keyword consists of the class and method description, the advice template, and the
+     * classloader for the enhanced class
+     * @return ExecuteContext
+     * @throws Throwable Throwable
+     * @deprecated the adviceKey is resolved to its advice slot on every call, use
+     * {@link #onMethodExit(ExecuteContext, int)}
+     */
+    @Deprecated
+    default ExecuteContext onMethodExit(ExecuteContext context, String adviceKey) throws Throwable {
+        return onMethodExit(context, AdviserScheduler.getAdviceSlot(adviceKey));
+    }
 }
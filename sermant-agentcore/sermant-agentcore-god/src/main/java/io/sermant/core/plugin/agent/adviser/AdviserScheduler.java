@@ -19,8 +19,11 @@ package io.sermant.core.plugin.agent.adviser;
 import io.sermant.core.plugin.agent.entity.ExecuteContext;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Adviser scheduler
@@ -33,6 +36,14 @@ public class AdviserScheduler {
 
     private static final Map<String, Boolean> ADVICE_LOCKS = new ConcurrentHashMap<>();
 
+    private static final Map<String, Integer> ADVICE_SLOTS = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger NEXT_ADVICE_SLOT = new AtomicInteger();
+
+    private static final Set<Integer> CLAIMED_ADVICE_SLOTS = ConcurrentHashMap.newKeySet();
+
+    private static volatile int reservedAdviceSlots;
+
     private AdviserScheduler() {
     }
 
@@ -58,19 +69,19 @@ public class AdviserScheduler {
      * The Adviser logic of the method entry
      *
      * @param context execute context
-     * @param adviceKey The advice keyword consists of the class and method description, the advice template, and the
-     * classloader for the enhanced class
-     *
+     * @param adviceSlot The advice slot assigned to the enhanced method at transform time, see
+     * {@link #getAdviceSlot}
      * @return ExecuteContext
      * @throws Throwable Throwable
      */
-    public static ExecuteContext onMethodEnter(Object context, String adviceKey) throws Throwable {
+    public static ExecuteContext onMethodEnter(Object context, int adviceSlot) throws Throwable {
         ExecuteContext executeContext = (ExecuteContext) context;
 
         // In multi-sermant scenario, method enter is executed in sequence
-        for (AdviserInterface currentAdviser : ADVISERS) {
+        for (int i = 0; i < ADVISERS.size(); i++) {
+            AdviserInterface currentAdviser = ADVISERS.get(i);
             if (currentAdviser != null) {
-                executeContext = currentAdviser.onMethodEnter(executeContext, adviceKey);
+                executeContext = currentAdviser.onMethodEnter(executeContext, adviceSlot);
             }
         }
         return executeContext;
@@ -80,25 +91,126 @@ public class AdviserScheduler {
      * The Adviser logic of the method exit
      *
      * @param context execute context
-     * @param adviceKey The advice keyword consists of the class and method description, the advice template, and the
-     * classloader for the enhanced class
-     *
+     * @param adviceSlot The advice slot assigned to the enhanced method at transform time, see
+     * {@link #getAdviceSlot}
      * @return ExecuteContext
      * @throws Throwable Throwable
      */
-    public static ExecuteContext onMethodExit(Object context, String adviceKey) throws Throwable {
+    public static ExecuteContext onMethodExit(Object context, int adviceSlot) throws Throwable {
         ExecuteContext executeContext = (ExecuteContext) context;
 
         // In multi-sermant scenario, method exit is executed in reverse order
         for (int i = ADVISERS.size() - 1; i >= 0; i--) {
             AdviserInterface currentAdviser = ADVISERS.get(i);
             if (currentAdviser != null) {
-                executeContext = currentAdviser.onMethodExit(executeContext, adviceKey);
+                executeContext = currentAdviser.onMethodExit(executeContext, adviceSlot);
             }
         }
         return executeContext;
     }
 
+    /**
+     * The Adviser logic of the method entry
+     *
+     * @param context execute context
+     * @param adviceKey The advice keyword consists of the class and method description, the advice template, and the
+     * classloader for the enhanced class
+     * @return ExecuteContext
+     * @throws Throwable Throwable
+     * @deprecated the adviceKey is resolved to its advice slot on every call, use {@link #onMethodEnter(Object, int)}
+     */
+    @Deprecated
+    public static ExecuteContext onMethodEnter(Object context, String adviceKey) throws Throwable {
+        return onMethodEnter(context, getAdviceSlot(adviceKey));
+    }
+
+    /**
+     * The Adviser logic of the method exit
+     *
+     * @param context execute context
+     * @param adviceKey The advice keyword consists of the class and method description, the advice template, and the
+     * classloader for the enhanced class
+     * @return ExecuteContext
+     * @throws Throwable Throwable
+     * @deprecated the adviceKey is resolved to its advice slot on every call, use {@link #onMethodExit(Object, int)}
+     */
+    @Deprecated
+    public static ExecuteContext onMethodExit(Object context, String adviceKey) throws Throwable {
+        return onMethodExit(context, getAdviceSlot(adviceKey));
+    }
+
+    /**
+     * Get the advice slot of the adviceKey, a new slot is assigned if the adviceKey has not been seen before. The slot
+     * is shared by all sermant instances and stays stable for the lifetime of the JVM, so that it can be baked into
+     * the enhanced method as a constant
+     *
+     * @param adviceKey The advice keyword consists of the class and method description, the advice template, and the
+     * classloader for the enhanced class
+     * @return advice slot
+     */
+    public static int getAdviceSlot(String adviceKey) {
+        Integer adviceSlot = ADVICE_SLOTS.get(adviceKey);
+        if (adviceSlot != null) {
+            return adviceSlot;
+        }
+        return ADVICE_SLOTS.computeIfAbsent(adviceKey, key -> NEXT_ADVICE_SLOT.getAndIncrement());
+    }
+
+    /**
+     * Get the advice slot of the adviceKey like {@link #getAdviceSlot(String)}, but assign the preferred slot if the
+     * adviceKey has not been seen before and the preferred slot is reserved and not claimed yet, see
+     * {@link #reserveAdviceSlots}
+     *
+     * @param adviceKey The advice keyword consists of the class and method description, the advice template, and the
+     * classloader for the enhanced class
+     * @param preferredSlot preferred advice slot, a negative value means no preference
+     * @return advice slot
+     */
+    public static int getAdviceSlot(String adviceKey, int preferredSlot) {
+        if (preferredSlot < 0 || preferredSlot >= reservedAdviceSlots) {
+            return getAdviceSlot(adviceKey);
+        }
+        Integer adviceSlot = ADVICE_SLOTS.get(adviceKey);
+        if (adviceSlot != null) {
+            return adviceSlot;
+        }
+        return ADVICE_SLOTS.computeIfAbsent(adviceKey, key -> CLAIMED_ADVICE_SLOTS.add(preferredSlot) ? preferredSlot
+                : NEXT_ADVICE_SLOT.getAndIncrement());
+    }
+
+    /**
+     * Reserve the advice slots below the count, so that they are only assigned as preferred slots. The reservation
+     * only takes effect if no advice slot has been assigned yet
+     *
+     * @param count count of the reserved advice slots
+     * @return reserved or not
+     */
+    public static synchronized boolean reserveAdviceSlots(int count) {
+        if (reservedAdviceSlots > 0 || !NEXT_ADVICE_SLOT.compareAndSet(0, count)) {
+            return false;
+        }
+        reservedAdviceSlots = count;
+        return true;
+    }
+
+    /**
+     * Get the advice slots assigned so far
+     *
+     * @return unmodifiable view of the advice slots keyed by adviceKey
+     */
+    public static Map<String, Integer> getAdviceSlots() {
+        return Collections.unmodifiableMap(ADVICE_SLOTS);
+    }
+
+    /**
+     * Get the count of the assigned advice slots, including the reserved ones
+     *
+     * @return count of the advice slots
+     */
+    public static int getAdviceSlotCount() {
+        return NEXT_ADVICE_SLOT.get();
+    }
+
     /**
      * Add an advice lock to the adviceKey
      *
@@ -19,13 +19,13 @@ package io.sermant.core.plugin.agent.entity;
 import io.sermant.core.plugin.agent.interceptor.Interceptor;
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 /**
  * The execution context of the Interceptor, encapsulates all the parameters needed for the interceptor operation
@@ -35,6 +35,11 @@ import java.util.Map;
  * @since 2022-01-25
  */
 public class ExecuteContext {
+    /**
+     * Initial number of local fields, the array holding them is expanded only when more are set
+     */
+    private static final int INITIAL_LOCAL_FIELD_CAPACITY = 4;
+
     /**
      * enhanced class
      */
@@ -90,29 +95,37 @@ public class ExecuteContext {
     private Throwable throwableOut;
 
     /**
-     * Additional static fields throughout the execution context procedure
+     * Additional static fields throughout the execution context procedure, an {@link InlineFieldMap} if created by the
+     * context
      */
     private Map<String, Object> extStaticFields;
 
     /**
-     * Additional member fields throughout the execution context procedure
+     * Additional member fields throughout the execution context procedure, an {@link InlineFieldMap} if created by the
+     * context
      */
     private Map<String, Object> extMemberFields;
 
     /**
-     * Map of local fields throughout the execution context procedure
+     * Local fields throughout the execution context procedure, stored as [name0, value0, name1, value1, ...]
      */
-    private Map<String, Object> localFields;
+    private Object[] localFields;
 
     /**
-     * Interceptor bidirectional iterator
+     * Number of local fields
      */
-    private ListIterator<Interceptor> interceptorIterator;
+    private int localFieldSize;
 
     /**
-     * Map of raw fields, where each fetched field is temporarily stored
+     * Interceptors executed in the execution context procedure, shared with the advice slot and never modified
      */
-    private Map<String, Field> rawFields;
+    private Interceptor[] interceptors;
+
+    /**
+     * Position of the interceptor chain. Interceptors before the position have been executed the preceding trigger
+     * point, and their post trigger points will be executed in reverse order
+     */
+    private int interceptorIndex;
 
     private ExecuteContext(Object object, Class<?> rawCls, Constructor<?> constructor, Method method,
             Object[] arguments) {
@@ -240,89 +253,97 @@ public class ExecuteContext {
         return extMemberFields;
     }
 
-    public ListIterator<Interceptor> getInterceptorIterator() {
-        return interceptorIterator;
+    public Interceptor[] getInterceptors() {
+        return interceptors;
     }
 
-    public void setInterceptorIterator(
-            ListIterator<Interceptor> interceptorIterator) {
-        this.interceptorIterator = interceptorIterator;
+    /**
+     * Set the interceptors executed in the execution context procedure, and reset the position of the interceptor
+     * chain
+     *
+     * @param interceptors interceptors
+     */
+    public void setInterceptors(Interceptor[] interceptors) {
+        this.interceptors = interceptors;
+        this.interceptorIndex = 0;
+    }
+
+    public int getInterceptorIndex() {
+        return interceptorIndex;
+    }
+
+    public void setInterceptorIndex(int interceptorIndex) {
+        this.interceptorIndex = interceptorIndex;
     }
 
     /**
-     * Both static and member field are retrieved here. Only fields defined by the enhanced class and their public
-     * fields are retrieved. Protected fields of the superclass will not be retrieved
+     * Get the bidirectional iterator of the interceptor chain. The iterator is a view of the interceptors and the
+     * position of the chain, moving it moves the position of the context, and it does not support modification
      *
-     * @param fieldName field name
-     * @return Field
-     * @throws NoSuchFieldException Get field exception
+     * @return Interceptor bidirectional iterator, null if no interceptor is executed in the context
+     * @deprecated use {@link #getInterceptors} and {@link #getInterceptorIndex}
      */
-    private Field searchField(String fieldName) throws NoSuchFieldException {
-        Field field;
-        try {
-            field = rawCls.getDeclaredField(fieldName);
-            if (!field.isAccessible()) {
-                field.setAccessible(true);
-            }
-        } catch (NoSuchFieldException ignored) {
-            field = rawCls.getField(fieldName);
-        }
-        return field;
+    @Deprecated
+    public ListIterator<Interceptor> getInterceptorIterator() {
+        return interceptors == null ? null : new InterceptorIterator();
     }
 
     /**
-     * Get field. Fields retrieved from {@link #searchField} are temporarily stored in {@link #rawFields} for next
-     * retrieval
-     * <p>Takes effect only during a call to an enhanced method
+     * Set the interceptors of the iterator to the context, the position of the interceptor chain is the position of
+     * the iterator
      *
-     * @param fieldName field name
-     * @return Field
-     * @throws NoSuchFieldException Get field exception
+     * @param interceptorIterator Interceptor bidirectional iterator
+     * @deprecated use {@link #setInterceptors} and {@link #setInterceptorIndex}
      */
-    private Field getField(String fieldName) throws NoSuchFieldException {
-        Field field;
-        if (rawFields == null) {
-            field = searchField(fieldName);
-            rawFields = new HashMap<>();
-            rawFields.put(fieldName, field);
-        } else {
-            field = rawFields.get(fieldName);
-            if (field == null) {
-                field = searchField(fieldName);
-                rawFields.put(fieldName, field);
-            }
+    @Deprecated
+    public void setInterceptorIterator(ListIterator<Interceptor> interceptorIterator) {
+        if (interceptorIterator == null) {
+            setInterceptors(null);
+            return;
         }
-        return field;
+        int position = interceptorIterator.nextIndex();
+        List<Interceptor> interceptorList = new ArrayList<>();
+        while (interceptorIterator.hasPrevious()) {
+            interceptorIterator.previous();
+        }
+        while (interceptorIterator.hasNext()) {
+            interceptorList.add(interceptorIterator.next());
+        }
+        while (interceptorIterator.nextIndex() > position) {
+            interceptorIterator.previous();
+        }
+        setInterceptors(interceptorList.toArray(new Interceptor[0]));
+        this.interceptorIndex = position;
     }
 
     /**
-     * Get static field，see {@link #getField}
+     * Get static field accessor, see {@link FieldAccessor#of}
      *
      * @param fieldName field name
-     * @return Field
+     * @return field accessor
      * @throws NoSuchFieldException Get field exception
      */
-    private Field getStaticField(String fieldName) throws NoSuchFieldException {
-        final Field field = getField(fieldName);
-        if (Modifier.isStatic(field.getModifiers())) {
-            return field;
+    private FieldAccessor getStaticField(String fieldName) throws NoSuchFieldException {
+        final FieldAccessor accessor = FieldAccessor.of(rawCls, fieldName);
+        if (accessor != null && accessor.isStatic()) {
+            return accessor;
         }
-        throw new NoSuchFieldException();
+        throw new NoSuchFieldException(fieldName);
     }
 
     /**
-     * Get member field，see {@link #getField}
+     * Get member field accessor, see {@link FieldAccessor#of}
      *
      * @param fieldName field name
-     * @return Field
+     * @return field accessor
      * @throws NoSuchFieldException Get field exception
      */
-    private Field getMemberField(String fieldName) throws NoSuchFieldException {
-        final Field field = getField(fieldName);
-        if (Modifier.isStatic(field.getModifiers())) {
-            throw new NoSuchFieldException();
+    private FieldAccessor getMemberField(String fieldName) throws NoSuchFieldException {
+        final FieldAccessor accessor = FieldAccessor.of(rawCls, fieldName);
+        if (accessor == null || accessor.isStatic()) {
+            throw new NoSuchFieldException(fieldName);
         }
-        return field;
+        return accessor;
     }
 
     /**
@@ -348,7 +369,7 @@ public class ExecuteContext {
     @Deprecated
     public void setExtStaticFieldValue(String fieldName, Object value) {
         if (extStaticFields == null) {
-            extStaticFields = new HashMap<>();
+            extStaticFields = new InlineFieldMap();
         }
         extStaticFields.put(fieldName, value);
     }
@@ -375,7 +396,7 @@ public class ExecuteContext {
     @Deprecated
     public void setExtMemberFieldValue(String fieldName, Object value) {
         if (extMemberFields == null) {
-            extMemberFields = new HashMap<>();
+            extMemberFields = new InlineFieldMap();
         }
         extMemberFields.put(fieldName, value);
     }
@@ -399,9 +420,14 @@ public class ExecuteContext {
      * @param value value
      */
     public void setStaticFieldValue(String fieldName, Object value) {
+        final FieldAccessor accessor = FieldAccessor.of(rawCls, fieldName);
+        if (accessor == null || !accessor.isStatic()) {
+            setExtStaticFieldValue(fieldName, value);
+            return;
+        }
         try {
-            setRawStaticFieldValue(fieldName, value);
-        } catch (NoSuchFieldException | IllegalAccessException ignored) {
+            accessor.set(null, value);
+        } catch (IllegalAccessException ignored) {
             setExtStaticFieldValue(fieldName, value);
         }
     }
@@ -426,9 +452,13 @@ public class ExecuteContext {
      * @return field value
      */
     public Object getStaticFieldValue(String fieldName) {
+        final FieldAccessor accessor = FieldAccessor.of(rawCls, fieldName);
+        if (accessor == null || !accessor.isStatic()) {
+            return getExtStaticFieldValue(fieldName);
+        }
         try {
-            return getRawStaticFieldValue(fieldName);
-        } catch (NoSuchFieldException | IllegalAccessException ignored) {
+            return accessor.get(null);
+        } catch (IllegalAccessException ignored) {
             return getExtStaticFieldValue(fieldName);
         }
     }
@@ -458,9 +488,14 @@ public class ExecuteContext {
             throw new UnsupportedOperationException(
                     "It's not allowed to operate member field when enhancing static method or entering constructor. ");
         }
+        final FieldAccessor accessor = FieldAccessor.of(rawCls, fieldName);
+        if (accessor == null || accessor.isStatic()) {
+            setExtMemberFieldValue(fieldName, value);
+            return;
+        }
         try {
-            setRawMemberFieldValue(fieldName, value);
-        } catch (NoSuchFieldException | IllegalAccessException ignored) {
+            accessor.set(object, value);
+        } catch (IllegalAccessException ignored) {
             setExtMemberFieldValue(fieldName, value);
         }
     }
@@ -490,9 +525,13 @@ public class ExecuteContext {
             throw new UnsupportedOperationException(
                     "It's not allowed to operate member field when enhancing static method or entering constructor. ");
         }
+        final FieldAccessor accessor = FieldAccessor.of(rawCls, fieldName);
+        if (accessor == null || accessor.isStatic()) {
+            return getExtMemberFieldValue(fieldName);
+        }
         try {
-            return getRawMemberFieldValue(fieldName);
-        } catch (NoSuchFieldException | IllegalAccessException ignored) {
+            return accessor.get(object);
+        } catch (IllegalAccessException ignored) {
             return getExtMemberFieldValue(fieldName);
         }
     }
@@ -504,10 +543,19 @@ public class ExecuteContext {
      * @param value 属性值
      */
     public void setLocalFieldValue(String fieldName, Object value) {
+        int index = indexOfLocalField(fieldName);
+        if (index >= 0) {
+            localFields[index + 1] = value;
+            return;
+        }
         if (localFields == null) {
-            localFields = new HashMap<>();
+            localFields = new Object[INITIAL_LOCAL_FIELD_CAPACITY << 1];
+        } else if (localFieldSize << 1 == localFields.length) {
+            localFields = Arrays.copyOf(localFields, localFields.length << 1);
         }
-        localFields.put(fieldName, value);
+        localFields[localFieldSize << 1] = fieldName;
+        localFields[(localFieldSize << 1) + 1] = value;
+        localFieldSize++;
     }
 
     /**
@@ -517,7 +565,18 @@ public class ExecuteContext {
      * @return field value
      */
     public Object getLocalFieldValue(String fieldName) {
-        return localFields == null ? null : localFields.get(fieldName);
+        int index = indexOfLocalField(fieldName);
+        return index < 0 ? null : localFields[index + 1];
+    }
+
+    private int indexOfLocalField(String fieldName) {
+        for (int i = 0; i < localFieldSize << 1; i += 2) {
+            Object name = localFields[i];
+            if (name == fieldName || name != null && name.equals(fieldName)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
@@ -607,8 +666,66 @@ public class ExecuteContext {
                 + ", throwable=" + throwable
                 + ", extStaticFields=" + extStaticFields
                 + ", extMemberFields=" + extMemberFields
-                + ", localFields=" + localFields
-                + ", rawFields=" + rawFields
+                + ", localFields=" + (localFields == null ? null
+                : Arrays.toString(Arrays.copyOf(localFields, localFieldSize << 1)))
                 + '}';
     }
+
+    /**
+     * Iterator over the interceptor chain of the context, see {@link #getInterceptorIterator}
+     *
+     * @since 2026-10-18
+     */
+    private class InterceptorIterator implements ListIterator<Interceptor> {
+        @Override
+        public boolean hasNext() {
+            return interceptorIndex < interceptors.length;
+        }
+
+        @Override
+        public Interceptor next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return interceptors[interceptorIndex++];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return interceptorIndex > 0;
+        }
+
+        @Override
+        public Interceptor previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            return interceptors[--interceptorIndex];
+        }
+
+        @Override
+        public int nextIndex() {
+            return interceptorIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return interceptorIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("The interceptor chain is shared with the advice slot");
+        }
+
+        @Override
+        public void set(Interceptor interceptor) {
+            throw new UnsupportedOperationException("The interceptor chain is shared with the advice slot");
+        }
+
+        @Override
+        public void add(Interceptor interceptor) {
+            throw new UnsupportedOperationException("The interceptor chain is shared with the advice slot");
+        }
+    }
 }
@@ -0,0 +1,225 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.entity;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Accessor of the raw fields operated by {@link ExecuteContext}. Each field is resolved by reflection once into method
+ * handles, which are shared by all execution contexts of the class. The accessors are held by the class itself, so that
+ * the class can still be unloaded
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+final class FieldAccessor {
+    private static final ClassValue<Map<String, FieldAccessor>> ACCESSORS =
+            new ClassValue<Map<String, FieldAccessor>>() {
+                @Override
+                protected Map<String, FieldAccessor> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /**
+     * Marks the field that does not exist, the fields of a class never change once it is loaded
+     */
+    private static final FieldAccessor MISSING = new FieldAccessor();
+
+    private static final MethodType MEMBER_GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType MEMBER_SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType STATIC_GETTER_TYPE = MethodType.methodType(Object.class);
+
+    private static final MethodType STATIC_SETTER_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private final Field field;
+
+    private final boolean isStatic;
+
+    /**
+     * Getter of the field, null if the field is not accessible
+     */
+    private final MethodHandle getter;
+
+    /**
+     * Setter of the field, null if the field is written by reflection, such as the final fields
+     */
+    private final MethodHandle setter;
+
+    private FieldAccessor() {
+        field = null;
+        isStatic = false;
+        getter = null;
+        setter = null;
+    }
+
+    private FieldAccessor(Field field, MethodHandle getter, MethodHandle setter) {
+        this.field = field;
+        this.isStatic = Modifier.isStatic(field.getModifiers());
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    private static MethodHandle createSetter(MethodHandles.Lookup lookup, Field field, boolean isStatic) {
+        if (Modifier.isFinal(field.getModifiers())) {
+            // The final fields are written by reflection, which decides whether they can be written
+            return null;
+        }
+        try {
+            return lookup.unreflectSetter(field).asType(isStatic ? STATIC_SETTER_TYPE : MEMBER_SETTER_TYPE);
+        } catch (IllegalAccessException ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Get the accessor of the field. Only fields defined by the class and its public fields are retrieved, protected
+     * fields of the superclass will not be retrieved
+     *
+     * @param cls class
+     * @param fieldName field name
+     * @return accessor, null if the field does not exist
+     */
+    static FieldAccessor of(Class<?> cls, String fieldName) {
+        Map<String, FieldAccessor> accessors = ACCESSORS.get(cls);
+        FieldAccessor accessor = accessors.get(fieldName);
+        if (accessor == null) {
+            accessor = resolve(cls, fieldName);
+            accessors.put(fieldName, accessor);
+        }
+        return accessor == MISSING ? null : accessor;
+    }
+
+    private static FieldAccessor resolve(Class<?> cls, String fieldName) {
+        Field field;
+        try {
+            field = cls.getDeclaredField(fieldName);
+            makeAccessible(field);
+        } catch (NoSuchFieldException ignored) {
+            try {
+                field = cls.getField(fieldName);
+            } catch (NoSuchFieldException e) {
+                return MISSING;
+            }
+        }
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            MethodHandle getter = lookup.unreflectGetter(field)
+                    .asType(isStatic ? STATIC_GETTER_TYPE : MEMBER_GETTER_TYPE);
+            return new FieldAccessor(field, getter, createSetter(lookup, field, isStatic));
+        } catch (IllegalAccessException ignored) {
+            // The field can not be made accessible, its access fails with IllegalAccessException like reflection
+            return new FieldAccessor(field, null, null);
+        }
+    }
+
+    private static void makeAccessible(Field field) {
+        if (field.isAccessible()) {
+            return;
+        }
+        try {
+            field.setAccessible(true);
+        } catch (RuntimeException ignored) {
+            // Denied by the security manager or the module system, the field is treated as inaccessible
+        }
+    }
+
+    boolean isStatic() {
+        return isStatic;
+    }
+
+    /**
+     * Get the field value
+     *
+     * @param target target object, ignored for static fields
+     * @return field value
+     * @throws IllegalAccessException the field is not accessible
+     * @throws IllegalArgumentException the target is not an instance of the class declaring the field
+     */
+    Object get(Object target) throws IllegalAccessException {
+        if (getter == null) {
+            throw new IllegalAccessException("Field " + field + " is not accessible");
+        }
+        checkTarget(target);
+        try {
+            return isStatic ? (Object) getter.invokeExact() : (Object) getter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Set the field value
+     *
+     * @param target target object, ignored for static fields
+     * @param value field value
+     * @throws IllegalAccessException the field is final or not accessible
+     * @throws IllegalArgumentException the target is not an instance of the class declaring the field, or the value
+     * can not be assigned to the field
+     */
+    void set(Object target, Object value) throws IllegalAccessException {
+        if (setter == null) {
+            field.set(isStatic ? null : target, value);
+            return;
+        }
+        checkTarget(target);
+        try {
+            if (isStatic) {
+                setter.invokeExact(value);
+            } else {
+                setter.invokeExact(target, value);
+            }
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException(e);
+        } catch (NullPointerException e) {
+            if (!isStatic && target == null) {
+                throw e;
+            }
+
+            // Null value can not be unboxed to the primitive field
+            throw new IllegalArgumentException(e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Check the target the same way as reflection, the method handles would throw ClassCastException instead
+     *
+     * @param target target object
+     * @throws IllegalArgumentException the target is not an instance of the class declaring the field
+     */
+    private void checkTarget(Object target) {
+        if (!isStatic && target != null && !field.getDeclaringClass().isInstance(target)) {
+            throw new IllegalArgumentException("Can not access field " + field + " on "
+                    + target.getClass().getName());
+        }
+    }
+}
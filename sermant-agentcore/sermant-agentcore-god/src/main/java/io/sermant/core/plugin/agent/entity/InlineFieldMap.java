@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.sermant.core.plugin.agent.entity;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Map of the additional fields of {@link ExecuteContext}. The fields are kept in an inline array of key/value pairs
+ * and found by linear search, which is cheaper than a hash map for the few fields set by the interceptors of a call.
+ * The array is expanded only when more than {@link #INITIAL_CAPACITY} fields are set
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+final class InlineFieldMap extends AbstractMap<String, Object> {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private Object[] pairs = new Object[INITIAL_CAPACITY << 1];
+
+    private int size;
+
+    @Override
+    public Object get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : pairs[index + 1];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            Object oldValue = pairs[index + 1];
+            pairs[index + 1] = value;
+            return oldValue;
+        }
+        if (size << 1 == pairs.length) {
+            pairs = Arrays.copyOf(pairs, pairs.length << 1);
+        }
+        pairs[size << 1] = key;
+        pairs[(size << 1) + 1] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        Object oldValue = pairs[index + 1];
+        removeAt(index);
+        return oldValue;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(pairs, 0, size << 1, null);
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new PairIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < size << 1; i += 2) {
+            Object name = pairs[i];
+            if (name == key || name != null && name.equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Remove the pair at the index, the last pair is moved to the index
+     *
+     * @param index index of the key in the array
+     */
+    private void removeAt(int index) {
+        int last = (size - 1) << 1;
+        pairs[index] = pairs[last];
+        pairs[index + 1] = pairs[last + 1];
+        pairs[last] = null;
+        pairs[last + 1] = null;
+        size--;
+    }
+
+    /**
+     * Iterator of the pairs, the entries write through to the array
+     *
+     * @since 2026-10-18
+     */
+    private class PairIterator implements Iterator<Entry<String, Object>> {
+        private int next;
+
+        private int last = -1;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new PairEntry(last << 1);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            removeAt(last << 1);
+
+            // The last pair is moved to the removed one, which has not been iterated yet
+            next = last;
+            last = -1;
+        }
+    }
+
+    /**
+     * Entry of a pair
+     *
+     * @since 2026-10-18
+     */
+    private class PairEntry implements Map.Entry<String, Object> {
+        private final int index;
+
+        PairEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return (String) pairs[index];
+        }
+
+        @Override
+        public Object getValue() {
+            return pairs[index + 1];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Object oldValue = pairs[index + 1];
+            pairs[index + 1] = value;
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) obj;
+            return eq(getKey(), entry.getKey()) && eq(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return (getKey() == null ? 0 : getKey().hashCode()) ^ (getValue() == null ? 0 : getValue().hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+
+        private boolean eq(Object left, Object right) {
+            return left == null ? right == null : left.equals(right);
+        }
+    }
+}
@@ -16,42 +16,105 @@
 
 package io.sermant.implement.service.dynamicconfig;
 
+import io.sermant.core.common.LoggerFactory;
 import io.sermant.core.service.dynamicconfig.DynamicConfigService;
+import io.sermant.core.service.dynamicconfig.common.DynamicConfigEvent;
+import io.sermant.core.service.dynamicconfig.common.DynamicConfigEventType;
 import io.sermant.core.service.dynamicconfig.common.DynamicConfigListener;
+import io.sermant.core.utils.ThreadFactoryUtils;
 import io.sermant.implement.service.dynamicconfig.kie.KieDynamicConfigService;
 import io.sermant.implement.service.dynamicconfig.nacos.NacosDynamicConfigService;
 import io.sermant.implement.service.dynamicconfig.zookeeper.ZooKeeperDynamicConfigService;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
 
 /**
  * DynamicConfigService wrapper. Determine which implementation should be used based on the static configuration
+ * <p>If the snapshot is enabled, the group listeners are notified of the configurations kept in the local snapshot at
+ * once, and the subscription to the configuration center is made in the background, and retried until it succeeds,
+ * see {@link ConfigSnapshot}
  *
  * @author HapThorin
  * @version 1.0.0
  * @since 2021-12-14
  */
 public class BufferedDynamicConfigService extends DynamicConfigService {
+    private static final Logger LOGGER = LoggerFactory.getLogger();
+
+    /**
+     * Initial delay of retrying the failed subscription in the background
+     */
+    private static final long SUBSCRIBE_RETRY_BASE_MS = 1000L;
+
+    /**
+     * Maximum delay of retrying the failed subscription in the background
+     */
+    private static final long SUBSCRIBE_RETRY_MAX_MS = 60000L;
+
+    /**
+     * The delay stops doubling after the number of retries
+     */
+    private static final int SUBSCRIBE_RETRY_MAX_SHIFT = 6;
+
     /**
      * DynamicConfigService object
      */
     private final DynamicConfigService service;
 
+    /**
+     * Local snapshot of the configurations of each group, null if the snapshot is disabled
+     */
+    private final ConfigSnapshot snapshot;
+
+    /**
+     * Executor subscribing the groups served from the snapshot to the configuration center
+     */
+    private final ScheduledExecutorService subscribeExecutor;
+
+    /**
+     * Listeners whose subscription in the background has not succeeded yet
+     */
+    private final Set<SnapshotListener> pendingListeners = ConcurrentHashMap.newKeySet();
+
     /**
      * Constructor
      */
     public BufferedDynamicConfigService() {
+        this(createService(), ConfigSnapshot.create(CONFIG));
+    }
+
+    /**
+     * Constructor
+     *
+     * @param service DynamicConfigService object
+     * @param snapshot local snapshot, null if the snapshot is disabled
+     */
+    BufferedDynamicConfigService(DynamicConfigService service, ConfigSnapshot snapshot) {
+        this.service = service;
+        this.snapshot = snapshot;
+        this.subscribeExecutor = snapshot == null ? null
+                : new ScheduledThreadPoolExecutor(1, new ThreadFactoryUtils("config-snapshot-subscribe"));
+    }
+
+    private static DynamicConfigService createService() {
         // Different implementations are initialized depending on the configuration
         switch (CONFIG.getServiceType()) {
             case KIE:
-                service = new KieDynamicConfigService();
-                break;
+                return new KieDynamicConfigService();
             case NACOS:
-                service = new NacosDynamicConfigService();
-                break;
+                return new NacosDynamicConfigService();
             default:
-                service = new ZooKeeperDynamicConfigService();
+                return new ZooKeeperDynamicConfigService();
         }
     }
 
@@ -62,6 +125,9 @@ public class BufferedDynamicConfigService extends DynamicConfigService {
 
     @Override
     public void stop() {
+        if (subscribeExecutor != null) {
+            subscribeExecutor.shutdownNow();
+        }
         service.stop();
     }
 
@@ -132,16 +198,67 @@ public class BufferedDynamicConfigService extends DynamicConfigService {
 
     @Override
     public boolean addGroupListener(String group, DynamicConfigListener listener) {
-        return service.addGroupListener(group, listener);
+        if (snapshot == null || listener == null) {
+            return service.addGroupListener(group, listener);
+        }
+        return addGroupListener(group, listener, false);
     }
 
+    /**
+     * Add group listener. If the snapshot holds the configurations of the group, the listener is notified of them at
+     * once, and the group is subscribed to the configuration center in the background. The result is true then, though
+     * the subscription is not finished: a failed subscription is logged and retried until it succeeds or the group
+     * listener is removed. Otherwise, the result is the result of the subscription
+     *
+     * @param group group
+     * @param listener listener
+     * @param ifNotify Whether to notify the listener of the existing configurations
+     * @return add result
+     */
     @Override
     public boolean addGroupListener(String group, DynamicConfigListener listener, boolean ifNotify) {
-        return service.addGroupListener(group, listener, ifNotify);
+        if (snapshot == null || listener == null) {
+            return service.addGroupListener(group, listener, ifNotify);
+        }
+        SnapshotListener snapshotListener = new SnapshotListener(fixGroup(group), listener);
+        Map<String, String> configs = snapshot.load(snapshotListener.group);
+        if (!ifNotify || configs.isEmpty()) {
+            return snapshotListener.subscribe(group, ifNotify);
+        }
+
+        // The configuration center may be slow or unavailable at startup, serve the snapshot and subscribe later
+        snapshotListener.serve(configs);
+        pendingListeners.add(snapshotListener);
+        subscribeInBackground(snapshotListener, group, 0, 0L);
+        return true;
+    }
+
+    private void subscribeInBackground(SnapshotListener snapshotListener, String group, int retries, long delayMs) {
+        try {
+            subscribeExecutor.schedule(() -> {
+                if (!pendingListeners.contains(snapshotListener)) {
+                    return;
+                }
+                if (snapshotListener.subscribe(group, true)) {
+                    pendingListeners.remove(snapshotListener);
+                    return;
+                }
+                long nextDelayMs = Math.min(SUBSCRIBE_RETRY_MAX_MS,
+                        SUBSCRIBE_RETRY_BASE_MS << Math.min(retries, SUBSCRIBE_RETRY_MAX_SHIFT));
+                LOGGER.warning(String.format(Locale.ENGLISH, "Retry subscribing group [%s] in %d ms.",
+                        snapshotListener.group, nextDelayMs));
+                subscribeInBackground(snapshotListener, group, retries + 1, nextDelayMs);
+            }, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            // The service is stopped
+            pendingListeners.remove(snapshotListener);
+        }
     }
 
     @Override
     public boolean removeGroupListener(String group) {
+        String fixedGroup = fixGroup(group);
+        pendingListeners.removeIf(snapshotListener -> snapshotListener.group.equals(fixedGroup));
         return service.removeGroupListener(group);
     }
 
@@ -184,4 +301,102 @@ public class BufferedDynamicConfigService extends DynamicConfigService {
     public boolean doRemoveGroupListener(String group) {
         return service.doRemoveGroupListener(group);
     }
+
+    /**
+     * Listener recording the configurations of the group into the snapshot
+     *
+     * @since 2026-10-18
+     */
+    private class SnapshotListener implements DynamicConfigListener {
+        private final String group;
+
+        private final DynamicConfigListener listener;
+
+        /**
+         * Configurations the listener has been notified of, the configuration center reports the configurations served
+         * from the snapshot again when subscribed, which are not notified twice
+         */
+        private final Map<String, String> notifiedConfigs = new ConcurrentHashMap<>();
+
+        /**
+         * Keys reported by the configuration center during the subscription, null if not subscribing
+         */
+        private volatile Set<String> reportedKeys;
+
+        SnapshotListener(String group, DynamicConfigListener listener) {
+            this.group = group;
+            this.listener = listener;
+        }
+
+        void serve(Map<String, String> configs) {
+            for (Map.Entry<String, String> entry : configs.entrySet()) {
+                notifiedConfigs.put(entry.getKey(), entry.getValue());
+                listener.process(DynamicConfigEvent.initEvent(entry.getKey(), group, entry.getValue()));
+            }
+        }
+
+        boolean subscribe(String rawGroup, boolean ifNotify) {
+            Set<String> keys = ConcurrentHashMap.newKeySet();
+            reportedKeys = keys;
+            boolean result;
+            try {
+                result = service.addGroupListener(rawGroup, this, ifNotify);
+            } finally {
+                reportedKeys = null;
+            }
+            if (!result) {
+                LOGGER.warning(String.format(Locale.ENGLISH,
+                        "Subscribe group [%s] failed, the snapshot of the group is not updated.", group));
+                return false;
+            }
+
+            // An empty report can not be told from an unavailable configuration center, the snapshot is kept then
+            if (ifNotify && !keys.isEmpty()) {
+                removeUnreported(keys);
+            }
+            snapshot.save(group);
+            return true;
+        }
+
+        private void removeUnreported(Set<String> keys) {
+            for (Map.Entry<String, String> entry : snapshot.load(group).entrySet()) {
+                if (!keys.contains(entry.getKey())) {
+                    notifiedConfigs.remove(entry.getKey());
+                    snapshot.remove(group, entry.getKey());
+                    listener.process(DynamicConfigEvent.deleteEvent(entry.getKey(), group, entry.getValue()));
+                }
+            }
+        }
+
+        @Override
+        public void process(DynamicConfigEvent event) {
+            String key = event.getKey();
+            Set<String> keys = reportedKeys;
+            if (keys != null) {
+                keys.add(key);
+            }
+            String content = event.getContent();
+            if (event.getEventType() == DynamicConfigEventType.DELETE) {
+                notifiedConfigs.remove(key);
+                listener.process(event);
+                if (snapshot.remove(group, key) && keys == null) {
+                    snapshot.save(group);
+                }
+                return;
+            }
+            if (content == null) {
+                listener.process(event);
+                return;
+            }
+            if (content.equals(notifiedConfigs.put(key, content))) {
+                return;
+            }
+            listener.process(event);
+
+            // The snapshot is saved once at the end of the subscription
+            if (snapshot.put(group, key, content) && keys == null) {
+                snapshot.save(group);
+            }
+        }
+    }
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.implement.service.dynamicconfig;
+
+import io.sermant.core.common.LoggerFactory;
+import io.sermant.core.service.dynamicconfig.config.DynamicConfig;
+import io.sermant.core.utils.DigestUtils;
+import io.sermant.core.utils.FileUtils;
+import io.sermant.core.utils.StringUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Local snapshot of the configurations of each group, used to serve the last known configurations at startup before
+ * the configuration center answers
+ * <p>Each group is kept in a file named by the digest of the group, which is written to a temporary file and moved to
+ * replace the previous one, so that a crash never leaves a partially written snapshot. The layout of the file:
+ * <pre>
+ *     header: magic, format version, revision, group, entry count
+ *     entries: key and content of each configuration
+ * </pre>
+ * The revision is increased each time the snapshot of the group is saved. The contents are stored in plaintext, not
+ * encrypted
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class ConfigSnapshot {
+    private static final Logger LOGGER = LoggerFactory.getLogger();
+
+    private static final String DEFAULT_DIR_NAME = "configSnapshot";
+
+    private static final String FILE_SUFFIX = ".snapshot";
+
+    private static final int FILE_NAME_LENGTH = 32;
+
+    private static final int MAGIC = 0x53434653;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final File dir;
+
+    private final Map<String, GroupSnapshot> groups = new HashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param dir directory of the snapshot files
+     */
+    public ConfigSnapshot(File dir) {
+        this.dir = dir;
+    }
+
+    /**
+     * Create the snapshot as configured, see {@link DynamicConfig#isSnapshotEnable()}
+     *
+     * @param config dynamic config
+     * @return snapshot, null if the snapshot is disabled
+     */
+    public static ConfigSnapshot create(DynamicConfig config) {
+        if (config == null || !config.isSnapshotEnable()) {
+            return null;
+        }
+        String path = StringUtils.isEmpty(config.getSnapshotPath())
+                ? FileUtils.getAgentPath() + File.separator + DEFAULT_DIR_NAME : config.getSnapshotPath();
+        return new ConfigSnapshot(new File(path));
+    }
+
+    /**
+     * Get the configurations of the group, the snapshot file is read on the first access of the group
+     *
+     * @param group group
+     * @return copy of the configurations, key to content
+     */
+    public synchronized Map<String, String> load(String group) {
+        return new HashMap<>(getGroup(group).configs);
+    }
+
+    /**
+     * Get the revision of the group, 0 if the group has never been saved
+     *
+     * @param group group
+     * @return revision
+     */
+    public synchronized long getRevision(String group) {
+        return getGroup(group).revision;
+    }
+
+    /**
+     * Put the configuration into the snapshot, it is persisted by {@link #save(String)}
+     *
+     * @param group group
+     * @param key key
+     * @param content content
+     * @return true if the snapshot is changed
+     */
+    public synchronized boolean put(String group, String key, String content) {
+        return !content.equals(getGroup(group).configs.put(key, content));
+    }
+
+    /**
+     * Remove the configuration from the snapshot, it is persisted by {@link #save(String)}
+     *
+     * @param group group
+     * @param key key
+     * @return true if the snapshot is changed
+     */
+    public synchronized boolean remove(String group, String key) {
+        return getGroup(group).configs.remove(key) != null;
+    }
+
+    /**
+     * Save the snapshot of the group
+     *
+     * @param group group
+     */
+    public synchronized void save(String group) {
+        GroupSnapshot groupSnapshot = getGroup(group);
+        File file = getFile(group);
+        File tempFile = new File(file.getPath() + ".tmp");
+        try {
+            FileUtils.createParentDir(file);
+            write(tempFile, group, groupSnapshot.revision + 1, groupSnapshot.configs);
+            move(tempFile, file);
+            groupSnapshot.revision++;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Save config snapshot of group [{0}] failed: {1}",
+                    new Object[]{group, e.getMessage()});
+            FileUtils.deleteDirs(tempFile);
+        }
+    }
+
+    private GroupSnapshot getGroup(String group) {
+        return groups.computeIfAbsent(group, this::read);
+    }
+
+    private File getFile(String group) {
+        String digest = DigestUtils.sha256Hex(group.getBytes(StandardCharsets.UTF_8));
+        return new File(dir, digest.substring(0, FILE_NAME_LENGTH) + FILE_SUFFIX);
+    }
+
+    private GroupSnapshot read(String group) {
+        GroupSnapshot groupSnapshot = new GroupSnapshot();
+        File file = getFile(group);
+        if (!file.isFile()) {
+            return groupSnapshot;
+        }
+        try (DataInputStream inputStream = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if (inputStream.readInt() != MAGIC || inputStream.readInt() != FORMAT_VERSION) {
+                return groupSnapshot;
+            }
+            long revision = inputStream.readLong();
+            long limit = file.length();
+            if (!group.equals(readString(inputStream, limit))) {
+                return groupSnapshot;
+            }
+            int count = inputStream.readInt();
+            Map<String, String> configs = new TreeMap<>();
+            for (int i = 0; i < count; i++) {
+                configs.put(readString(inputStream, limit), readString(inputStream, limit));
+            }
+            groupSnapshot.revision = revision;
+            groupSnapshot.configs.putAll(configs);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Load config snapshot of group [{0}] failed: {1}",
+                    new Object[]{group, e.getMessage()});
+        }
+        return groupSnapshot;
+    }
+
+    private static void write(File target, String group, long revision, Map<String, String> configs)
+            throws IOException {
+        try (FileOutputStream fileOutputStream = new FileOutputStream(target);
+                DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(fileOutputStream))) {
+            outputStream.writeInt(MAGIC);
+            outputStream.writeInt(FORMAT_VERSION);
+            outputStream.writeLong(revision);
+            writeString(outputStream, group);
+            outputStream.writeInt(configs.size());
+            for (Map.Entry<String, String> entry : configs.entrySet()) {
+                writeString(outputStream, entry.getKey());
+                writeString(outputStream, entry.getValue());
+            }
+            outputStream.flush();
+
+            // The content must reach the disk before the file is moved to replace the previous snapshot
+            fileOutputStream.getFD().sync();
+        }
+    }
+
+    private static void move(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void writeString(DataOutputStream outputStream, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        outputStream.writeInt(bytes.length);
+        outputStream.write(bytes);
+    }
+
+    private static String readString(DataInputStream inputStream, long limit) throws IOException {
+        int length = inputStream.readInt();
+        if (length < 0 || length > limit) {
+            throw new IOException("Invalid length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        inputStream.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Snapshot of a group
+     *
+     * @since 2026-10-18
+     */
+    private static class GroupSnapshot {
+        private final Map<String, String> configs = new TreeMap<>();
+
+        private long revision;
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.implement.service.dynamicconfig.kie.client.http;
+
+import com.alibaba.fastjson.JSONObject;
+
+import io.sermant.core.utils.ThreadFactoryUtils;
+import io.sermant.implement.service.dynamicconfig.kie.listener.SubscriberManager;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.ssl.SSLContexts;
+import org.apache.http.util.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.security.KeyManagementException;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import javax.net.ssl.SSLContext;
+
+/**
+ * Non-blocking HTTP client based on the NIO reactor, the requests waiting for the response hold a connection but no
+ * thread. The blocking methods wait for the result of the non-blocking ones
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class AsyncHttpClient implements HttpClient {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncHttpClient.class);
+
+    private static final int DEFAULT_MAX_TOTAL = SubscriberManager.MAX_THREAD_SIZE * 2;
+
+    private static final int DEFAULT_MAX_PER_ROUTE = 10;
+
+    private static final int IO_THREAD_COUNT = 1;
+
+    private final CloseableHttpAsyncClient httpClient;
+
+    /**
+     * Constructor
+     *
+     * @param timeout timeout
+     */
+    public AsyncHttpClient(int timeout) {
+        this(timeout, DEFAULT_MAX_TOTAL, DEFAULT_MAX_PER_ROUTE);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param timeout timeout
+     * @param maxPerRoute maximum number of the connections of each route
+     */
+    public AsyncHttpClient(int timeout, int maxPerRoute) {
+        this(timeout, Math.max(DEFAULT_MAX_TOTAL, maxPerRoute), maxPerRoute);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param timeout timeout
+     * @param maxTotal maximum number of the connections
+     * @param maxPerRoute maximum number of the connections of each route
+     */
+    public AsyncHttpClient(int timeout, int maxTotal, int maxPerRoute) {
+        httpClient = HttpAsyncClients.custom().setDefaultRequestConfig(
+                RequestConfig.custom().setConnectTimeout(timeout)
+                        .setSocketTimeout(timeout)
+                        .setConnectionRequestTimeout(timeout)
+                        .build()
+        ).setConnectionManager(buildConnectionManager(maxTotal, maxPerRoute))
+                .setThreadFactory(new ThreadFactoryUtils("kie-http-reactor"))
+                .build();
+        httpClient.start();
+    }
+
+    private PoolingNHttpClientConnectionManager buildConnectionManager(int maxTotal, int maxPerRoute) {
+        RegistryBuilder<SchemeIOSessionStrategy> builder = RegistryBuilder.create();
+        builder.register("http", NoopIOSessionStrategy.INSTANCE);
+        registerHttps(builder);
+        Registry<SchemeIOSessionStrategy> sessionStrategyRegistry = builder.build();
+        try {
+            DefaultConnectingIOReactor ioReactor = new DefaultConnectingIOReactor(
+                    IOReactorConfig.custom().setIoThreadCount(IO_THREAD_COUNT).build(),
+                    new ThreadFactoryUtils("kie-http-io"));
+            PoolingNHttpClientConnectionManager connectionManager = new PoolingNHttpClientConnectionManager(
+                    ioReactor, sessionStrategyRegistry);
+            connectionManager.setMaxTotal(maxTotal);
+            connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+            return connectionManager;
+        } catch (IOReactorException ex) {
+            throw new IllegalStateException("Failed to create the I/O reactor of the http client.", ex);
+        }
+    }
+
+    private void registerHttps(RegistryBuilder<SchemeIOSessionStrategy> builder) {
+        try {
+            final SSLContext sslContext = SSLContexts.custom()
+                    .loadTrustMaterial(new DefaultHttpClient.SslTrustStrategy()).build();
+            builder.register("https",
+                    new SSLIOSessionStrategy(sslContext, SSLConnectionSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER));
+        } catch (KeyManagementException | NoSuchAlgorithmException | KeyStoreException ex) {
+            LOGGER.warn("Failed to get SSLContext, reason: ", ex);
+        }
+    }
+
+    @Override
+    public HttpResult doGet(String url) {
+        return doGet(url, null, null);
+    }
+
+    @Override
+    public HttpResult doGet(String url, RequestConfig requestConfig) {
+        return doGet(url, null, requestConfig);
+    }
+
+    @Override
+    public HttpResult doGet(String url, Map<String, String> headers, RequestConfig requestConfig) {
+        final HttpGet httpGet = new HttpGet(url);
+        beforeRequest(httpGet, requestConfig, headers);
+        return execute(httpGet).join();
+    }
+
+    @Override
+    public CompletableFuture<HttpResult> doGetAsync(String url, RequestConfig requestConfig) {
+        final HttpGet httpGet = new HttpGet(url);
+        beforeRequest(httpGet, requestConfig, null);
+        return execute(httpGet);
+    }
+
+    @Override
+    public HttpResult doPost(String url, Map<String, Object> params) {
+        return doPost(url, params, null);
+    }
+
+    @Override
+    public HttpResult doPost(String url, Map<String, Object> params, RequestConfig requestConfig) {
+        return doPost(url, params, requestConfig, new HashMap<>());
+    }
+
+    @Override
+    public HttpResult doPost(String url, Map<String, Object> params, RequestConfig requestConfig,
+            Map<String, String> headers) {
+        HttpPost httpPost = new HttpPost(url);
+        beforeRequest(httpPost, requestConfig, headers);
+        addParams(httpPost, params);
+        return execute(httpPost).join();
+    }
+
+    @Override
+    public HttpResult doPut(String url, Map<String, Object> params) {
+        final HttpPut httpPut = new HttpPut(url);
+        beforeRequest(httpPut, null, new HashMap<>());
+        addParams(httpPut, params);
+        return execute(httpPut).join();
+    }
+
+    @Override
+    public HttpResult doDelete(String url) {
+        final HttpDelete httpDelete = new HttpDelete(url);
+        beforeRequest(httpDelete, null, null);
+        return execute(httpDelete).join();
+    }
+
+    /**
+     * Close the client and the connections
+     */
+    public void close() {
+        try {
+            httpClient.close();
+        } catch (IOException ex) {
+            LOGGER.warn("Close http client failed.", ex);
+        }
+    }
+
+    /**
+     * Execute request, the future is completed by the I/O thread, the failures are completed with the error result
+     *
+     * @param request HttpRequestBase
+     * @return future of HttpResult
+     */
+    private CompletableFuture<HttpResult> execute(HttpRequestBase request) {
+        final CompletableFuture<HttpResult> future = new CompletableFuture<>();
+        httpClient.execute(request, new FutureCallback<HttpResponse>() {
+            @Override
+            public void completed(HttpResponse response) {
+                future.complete(toResult(response));
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                LOGGER.warn("Execute request failed.", ex);
+                future.complete(HttpResult.error());
+            }
+
+            @Override
+            public void cancelled() {
+                future.complete(HttpResult.error());
+            }
+        });
+        return future;
+    }
+
+    private HttpResult toResult(HttpResponse response) {
+        final HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            return new HttpResult(response.getStatusLine().getStatusCode(), "", response.getAllHeaders());
+        }
+        String result = null;
+        try {
+            result = EntityUtils.toString(entity, "UTF-8");
+        } catch (IOException ex) {
+            LOGGER.warn("Read http entity failed.", ex);
+        }
+        return new HttpResult(response.getStatusLine().getStatusCode(), result, response.getAllHeaders());
+    }
+
+    private void addParams(HttpEntityEnclosingRequestBase request, Map<String, Object> params) {
+        if (params == null || params.isEmpty()) {
+            return;
+        }
+        request.setEntity(new StringEntity(JSONObject.toJSONString(params), ContentType.APPLICATION_JSON));
+    }
+
+    private void beforeRequest(HttpRequestBase httpRequest, RequestConfig requestConfig, Map<String, String> headers) {
+        httpRequest.addHeader(HttpHeaders.CONTENT_TYPE, "application/json; charset=utf-8");
+        httpRequest.addHeader(HttpHeaders.USER_AGENT, "sermant/client");
+        if (headers != null) {
+            for (Map.Entry<String, String> entry : headers.entrySet()) {
+                httpRequest.addHeader(entry.getKey(), entry.getValue());
+            }
+        }
+        if (requestConfig != null) {
+            httpRequest.setConfig(requestConfig);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import io.sermant.implement.service.dynamicconfig.kie.client.Client;
 import org.apache.http.client.config.RequestConfig;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * http request
@@ -56,6 +57,17 @@ public interface HttpClient extends Client {
      */
     HttpResult doGet(String url, RequestConfig requestConfig);
 
+    /**
+     * get request without blocking the caller, the default implementation is blocking
+     *
+     * @param url request address
+     * @param requestConfig request config
+     * @return future of HttpResult, completed with the error result if the request fails
+     */
+    default CompletableFuture<HttpResult> doGetAsync(String url, RequestConfig requestConfig) {
+        return CompletableFuture.completedFuture(doGet(url, requestConfig));
+    }
+
     /**
      * post request
      *
@@ -36,6 +36,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Kie Client
@@ -112,10 +113,36 @@ public class KieClient extends AbstractClient implements ConfigClient {
         if (request == null || responseHandler == null) {
             return null;
         }
+        final HttpResult httpResult = httpClient.doGet(buildQueryUrl(request), request.getRequestConfig());
+        return responseHandler.handle(httpResult);
+    }
+
+    /**
+     * Querying Kie Configuration without blocking the caller, so that the long connection request holds no thread
+     *
+     * @param request Kie request
+     * @return future of KieResponse, completed by the I/O thread of the http client. It is completed exceptionally if
+     * the request fails or the response is neither 200 nor 304
+     */
+    public CompletableFuture<KieResponse> queryConfigurationsAsync(KieRequest request) {
+        return httpClient.doGetAsync(buildQueryUrl(request), request.getRequestConfig()).thenApply(httpResult -> {
+            if (httpResult.isError()) {
+                throw new IllegalStateException(String.format(Locale.ENGLISH,
+                        "Query kie configurations failed, code: %s", httpResult.getCode()));
+            }
+            return defaultHandler.handle(httpResult);
+        });
+    }
+
+    private String buildQueryUrl(KieRequest request) {
         final StringBuilder requestUrl = new StringBuilder().append(clientUrlManager.getUrl()).append(kieApi);
-        requestUrl.append(formatNullString(request.getLabelCondition()))
-                .append("&revision=")
-                .append(formatNullString(request.getRevision()));
+        final String labelCondition = request.getLabelCondition();
+        if (labelCondition != null && !labelCondition.trim().isEmpty()) {
+            requestUrl.append(labelCondition).append('&');
+        }
+
+        // Without the label condition, the long connection request waits for the changes of the whole project
+        requestUrl.append("revision=").append(formatNullString(request.getRevision()));
         if (request.isAccurateMatchLabel()) {
             requestUrl.append("&match=exact");
         }
@@ -129,8 +156,7 @@ public class KieClient extends AbstractClient implements ConfigClient {
         if (request.getWait() != null) {
             requestUrl.append("&wait=").append(formatNullString(request.getWait())).append("s");
         }
-        final HttpResult httpResult = httpClient.doGet(requestUrl.toString(), request.getRequestConfig());
-        return responseHandler.handle(httpResult);
+        return requestUrl.toString();
     }
 
     /**
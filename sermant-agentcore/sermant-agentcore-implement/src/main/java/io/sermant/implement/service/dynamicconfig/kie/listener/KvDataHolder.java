@@ -19,11 +19,17 @@ package io.sermant.implement.service.dynamicconfig.kie.listener;
 import io.sermant.implement.service.dynamicconfig.kie.client.kie.KieConfigEntity;
 import io.sermant.implement.service.dynamicconfig.kie.client.kie.KieResponse;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Listen to response data of key，used to compare old and new data and retain old data
+ * <p>The analysis is skipped if the revision is not changed. Otherwise the values of the keys are compared, and the
+ * held data is updated in place, so that nothing is copied for the unchanged keys
  *
  * @author zhouss
  * @since 2021-11-18
@@ -32,7 +38,22 @@ public class KvDataHolder {
     /**
      * Current data
      */
-    private Map<String, String> currentData;
+    private final Map<String, KvValue> currentData = new HashMap<>();
+
+    /**
+     * Revision of the current data
+     */
+    private String currentRevision;
+
+    /**
+     * Whether the data has been analyzed
+     */
+    private boolean isInitialized;
+
+    /**
+     * Generation of the analysis, used to find the deleted keys without copying the current data
+     */
+    private long generation;
 
     /**
      * Analyze the latest data
@@ -45,47 +66,64 @@ public class KvDataHolder {
         if (isFirst) {
             clear();
         }
-        final Map<String, String> latestData = formatKieResponse(response);
-        final EventDataHolder eventDataHolder = new EventDataHolder(formatRevision(response.getRevision()), latestData);
-        if (currentData != null) {
-            if (latestData.isEmpty()) {
-                eventDataHolder.deleted.putAll(currentData);
-            } else {
-                updateData(latestData, eventDataHolder);
-            }
-        } else {
-            eventDataHolder.added.putAll(latestData);
-        }
-        currentData = latestData;
+        final String revision = response.getRevision();
+        final long version = formatRevision(revision);
+        // Only a valid revision is trusted, the revision is absent if the server does not respond it
+        if (isInitialized && version > 0 && revision.equals(currentRevision)) {
+            return new EventDataHolder(version, Collections.emptyMap());
+        }
+        final EventDataHolder eventDataHolder = new EventDataHolder(version,
+                isFirst ? formatKieResponse(response) : Collections.emptyMap());
+        updateData(response.getData(), eventDataHolder);
+        isInitialized = true;
+        currentRevision = revision;
         return eventDataHolder;
     }
 
-    private void updateData(Map<String, String> latestData, EventDataHolder eventDataHolder) {
-        Map<String, String> temp = new HashMap<String, String>(currentData);
-        for (Map.Entry<String, String> entry : latestData.entrySet()) {
-            final String value = currentData.get(entry.getKey());
-            if (value == null) {
-                // Added key
-                eventDataHolder.added.put(entry.getKey(), entry.getValue());
-            } else {
-                // If the key exists, then compare the value
-                if (!value.equals(entry.getValue())) {
+    private void updateData(List<KieConfigEntity> latestData, EventDataHolder eventDataHolder) {
+        final long curGeneration = ++generation;
+        int seenCount = 0;
+        if (latestData != null) {
+            for (KieConfigEntity entity : latestData) {
+                final String value = entity.getValue();
+                final KvValue kvValue = currentData.get(entity.getKey());
+                if (kvValue == null) {
+                    // Added key
+                    currentData.put(entity.getKey(), new KvValue(value, curGeneration));
+                    eventDataHolder.added.put(entity.getKey(), value);
+                    seenCount++;
+                    continue;
+                }
+                if (kvValue.generation != curGeneration) {
+                    seenCount++;
+                }
+                kvValue.generation = curGeneration;
+                if (!Objects.equals(kvValue.value, value)) {
                     // modify
-                    eventDataHolder.modified.put(entry.getKey(), entry.getValue());
+                    kvValue.value = value;
+                    eventDataHolder.modified.put(entity.getKey(), value);
                 }
             }
-            temp.remove(entry.getKey());
+        }
+        if (seenCount == currentData.size()) {
+            return;
         }
 
-        // The keys left by temp are deleted
-        eventDataHolder.deleted.putAll(temp);
+        // The keys not seen in the latest data are deleted
+        final Iterator<Map.Entry<String, KvValue>> iterator = currentData.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<String, KvValue> entry = iterator.next();
+            if (entry.getValue().generation != curGeneration) {
+                eventDataHolder.deleted.put(entry.getKey(), entry.getValue().value);
+                iterator.remove();
+            }
+        }
     }
 
     private void clear() {
-        if (currentData != null) {
-            currentData.clear();
-            currentData = null;
-        }
+        currentData.clear();
+        currentRevision = null;
+        isInitialized = false;
     }
 
     private long formatRevision(String revision) {
@@ -110,6 +148,22 @@ public class KvDataHolder {
         return latestData;
     }
 
+    /**
+     * Value of the key with the generation of the analysis it was last seen in
+     *
+     * @since 2026-10-18
+     */
+    private static class KvValue {
+        private String value;
+
+        private long generation;
+
+        KvValue(String value, long generation) {
+            this.value = value;
+            this.generation = generation;
+        }
+    }
+
     /**
      * Changed data
      *
@@ -122,7 +176,7 @@ public class KvDataHolder {
         private final long version;
 
         /**
-         * The latest full data
+         * The latest full data, only built for the first notification
          */
         private final Map<String, String> latestData;
 
@@ -28,7 +28,9 @@ import io.sermant.core.service.dynamicconfig.common.DynamicConfigListener;
 import io.sermant.core.service.dynamicconfig.config.KieDynamicConfig;
 import io.sermant.core.utils.ThreadFactoryUtils;
 import io.sermant.implement.service.dynamicconfig.kie.client.ClientUrlManager;
+import io.sermant.implement.service.dynamicconfig.kie.client.http.AsyncHttpClient;
 import io.sermant.implement.service.dynamicconfig.kie.client.kie.KieClient;
+import io.sermant.implement.service.dynamicconfig.kie.client.kie.KieConfigEntity;
 import io.sermant.implement.service.dynamicconfig.kie.client.kie.KieListenerWrapper;
 import io.sermant.implement.service.dynamicconfig.kie.client.kie.KieRequest;
 import io.sermant.implement.service.dynamicconfig.kie.client.kie.KieResponse;
@@ -39,22 +41,31 @@ import io.sermant.implement.utils.LabelGroupUtils;
 
 import org.apache.http.client.config.RequestConfig;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.SynchronousQueue;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
 /**
  * Subscriber Manager
+ * <p>The long connection subscriptions of all the label groups share one {@link LongPollLoop}, so that the threads and
+ * the http connections waiting for the changes stay constant as the subscriptions grow. The loop sends the requests
+ * without blocking, no thread is held while waiting for the changes
  *
  * @author zhouss
  * @since 2021-11-17
@@ -92,12 +103,6 @@ public class SubscriberManager {
      */
     private static final long LONG_CONNECTION_REQUEST_INTERVAL_MS = 2000L;
 
-    /**
-     * Number of current long connection requests. The maximum number of connections must be smaller than
-     * MAX_THREAD_SIZE
-     */
-    private final AtomicInteger curLongConnectionRequestCount = new AtomicInteger(0);
-
     /**
      * map< listener key, list of listeners listening for the key >. A group has only one KieListenerWrapper
      */
@@ -109,17 +114,20 @@ public class SubscriberManager {
      */
     private final KieClient kieClient;
 
+    /**
+     * Non-blocking http client of the kie client, so that the long polls do not hold a thread each
+     */
+    private final AsyncHttpClient httpClient;
+
     /**
      * Receive all data without filtering disabled data
      */
     private final ResultHandler<KieResponse> receiveAllDataHandler = new ResultHandler.DefaultResultHandler(false);
 
     /**
-     * LongRequestExecutor for subscription. A maximum of MAX_THREAD_SIZE tasks are supported. Because it is a long
-     * connection request, it will inevitably occupy threads, so the task is not considered to be stored in the queue
+     * Loop pulling all the long connection subscriptions
      */
-    private final ThreadPoolExecutor longRequestExecutor = new ThreadPoolExecutor(THREAD_SIZE, MAX_THREAD_SIZE, 0,
-            TimeUnit.MILLISECONDS, new SynchronousQueue<>(), new ThreadFactoryUtils("kie-subscribe-long-task"));
+    private final LongPollLoop longPollLoop = new LongPollLoop();
 
     /**
      * Used for quick return requests
@@ -133,7 +141,8 @@ public class SubscriberManager {
      * @param timeout timeout
      */
     public SubscriberManager(String serverAddress, int timeout) {
-        kieClient = new KieClient(new ClientUrlManager(serverAddress),
+        httpClient = createHttpClient(timeout);
+        kieClient = new KieClient(new ClientUrlManager(serverAddress), httpClient,
                 ConfigManager.getConfig(KieDynamicConfig.class).getProject(), timeout);
     }
 
@@ -145,7 +154,33 @@ public class SubscriberManager {
      * @param timeout timeout
      */
     public SubscriberManager(String serverAddress, String project, int timeout) {
-        kieClient = new KieClient(new ClientUrlManager(serverAddress), project, timeout);
+        httpClient = createHttpClient(timeout);
+        kieClient = new KieClient(new ClientUrlManager(serverAddress), httpClient, project, timeout);
+    }
+
+    /**
+     * Create the non-blocking http client, the connections of each kie address are limited by the configuration if it
+     * is loaded
+     *
+     * @param timeout timeout
+     * @return http client
+     */
+    private static AsyncHttpClient createHttpClient(int timeout) {
+        final KieDynamicConfig config = ConfigManager.getConfig(KieDynamicConfig.class);
+        if (config == null) {
+            return new AsyncHttpClient(timeout);
+        }
+        return new AsyncHttpClient(timeout, config.getMaxConnectionsPerRoute());
+    }
+
+    /**
+     * Stop the subscription tasks, and close the http client and its I/O thread
+     */
+    public void close() {
+        if (scheduledExecutorService != null) {
+            scheduledExecutorService.shutdownNow();
+        }
+        httpClient.close();
     }
 
     /**
@@ -267,31 +302,19 @@ public class SubscriberManager {
         if (!kieSubscriber.isLongConnectionRequest()) {
             task = new ShortTimerTask(kieSubscriber, kieListenerWrapper);
         } else {
-            if (exceedMaxLongRequestCount()) {
-                LOGGER.warning(String.format(Locale.ENGLISH,
-                        "Exceeded max long connection request subscribers, the max number is %s, it will be discarded!",
-                        curLongConnectionRequestCount.get()));
-                return false;
-            }
-            buildRequestConfig(kieRequest);
             task = new LoopPullTask(kieSubscriber, kieListenerWrapper);
         }
         kieListenerWrapper.setTask(task);
         listenerMap.put(kieRequest, kieListenerWrapper);
         tryNotify(kieRequest, kieListenerWrapper, ifNotify);
+        if (task.isLongConnectionRequest() && !ifNotify) {
+            // The loop may be waiting for the changes, pull the existing data of the new group without waiting for it
+            new TaskRunnable(task).run();
+        }
         executeTask(task);
         return true;
     }
 
-    /**
-     * Whether the number of long connection tasks exceeded the upper limit
-     *
-     * @return boolean
-     */
-    private boolean exceedMaxLongRequestCount() {
-        return curLongConnectionRequestCount.incrementAndGet() > MAX_THREAD_SIZE;
-    }
-
     /**
      * In the scenario of long requests, need to perform the first pull to obtain existing data
      *
@@ -388,7 +411,7 @@ public class SubscriberManager {
     private void executeTask(final Task task) {
         try {
             if (task.isLongConnectionRequest()) {
-                longRequestExecutor.execute(new TaskRunnable(task));
+                executeLongPollTask((LoopPullTask) task);
             } else {
                 executeScheduledTask(task);
             }
@@ -397,7 +420,16 @@ public class SubscriberManager {
         }
     }
 
+    private void executeLongPollTask(LoopPullTask task) {
+        longPollLoop.register(task);
+    }
+
     private void executeScheduledTask(Task task) {
+        getScheduledExecutorService().scheduleAtFixedRate(new TaskRunnable(task), 0, SCHEDULE_REQUEST_INTERVAL_MS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private ScheduledExecutorService getScheduledExecutorService() {
         if (scheduledExecutorService == null) {
             synchronized (SubscriberManager.class) {
                 if (scheduledExecutorService == null) {
@@ -406,8 +438,7 @@ public class SubscriberManager {
                 }
             }
         }
-        scheduledExecutorService.scheduleAtFixedRate(new TaskRunnable(task), 0, SCHEDULE_REQUEST_INTERVAL_MS,
-                TimeUnit.MILLISECONDS);
+        return scheduledExecutorService;
     }
 
     private void tryPublishEvent(KieResponse kieResponse, KieListenerWrapper kieListenerWrapper, boolean isFirst) {
@@ -473,6 +504,15 @@ public class SubscriberManager {
     abstract static class AbstractTask implements Task {
         private volatile boolean isContinue = true;
 
+        /**
+         * Whether the task is stopped
+         *
+         * @return boolean
+         */
+        public boolean isStopped() {
+            return !isContinue;
+        }
+
         @Override
         public void execute() {
             if (!isContinue) {
@@ -523,7 +563,7 @@ public class SubscriberManager {
     }
 
     /**
-     * LoopPullTask
+     * Pull task of a long connection subscription, updated by {@link LongPollLoop} with the data of the watch request
      *
      * @since 2021-11-17
      */
@@ -532,32 +572,87 @@ public class SubscriberManager {
 
         private final KieListenerWrapper kieListenerWrapper;
 
-        private int failCount;
+        private final Map<String, String> labels;
 
         LoopPullTask(KieSubscriber kieSubscriber, KieListenerWrapper kieListenerWrapper) {
             this.kieSubscriber = kieSubscriber;
             this.kieListenerWrapper = kieListenerWrapper;
+            this.labels = LabelGroupUtils.resolveLabelCondition(kieSubscriber.getKieRequest().getLabelCondition());
+        }
+
+        /**
+         * Label condition of the subscription
+         *
+         * @return label condition
+         */
+        String getLabelCondition() {
+            return kieSubscriber.getKieRequest().getLabelCondition();
+        }
+
+        /**
+         * Update the label group with the kv data of the watch request, which contains the kv data of all the label
+         * groups. The listeners are notified only if the kv data of the label group is changed
+         *
+         * @param watchResponse response of the watch request
+         */
+        void onWatchResponse(KieResponse watchResponse) {
+            if (isStopped()) {
+                return;
+            }
+            final List<KieConfigEntity> data = new ArrayList<>();
+            if (watchResponse.getData() != null) {
+                for (KieConfigEntity entity : watchResponse.getData()) {
+                    if (isInGroup(entity)) {
+                        data.add(entity);
+                    }
+                }
+            }
+            final KieResponse kieResponse = new KieResponse();
+            kieResponse.setData(data);
+            kieResponse.setTotal(data.size());
+            kieResponse.setRevision(watchResponse.getRevision());
+            onResponse(kieResponse);
+        }
+
+        private boolean isInGroup(KieConfigEntity entity) {
+            final Map<String, String> entityLabels = entity.getLabels() == null ? Collections.emptyMap()
+                    : entity.getLabels();
+            if (kieSubscriber.getKieRequest().isAccurateMatchLabel()) {
+                return labels.equals(entityLabels);
+            }
+            return entityLabels.entrySet().containsAll(labels.entrySet());
         }
 
         @Override
         public void executeInner() {
-            try {
-                final KieResponse kieResponse = kieClient.queryConfigurations(kieSubscriber.getKieRequest());
-                if (kieResponse != null && kieResponse.isChanged()) {
-                    tryPublishEvent(kieResponse, kieListenerWrapper, false);
-                    kieSubscriber.getKieRequest().setRevision(kieResponse.getRevision());
-                }
+            pull().join();
+        }
 
-                // Pull at intervals to reduce service pressure; If there are key changes in the interval, the
-                // service can judge whether the latest data needs to be returned immediately through the input
-                // revision, and there is no problem that the key cannot be listened to
-                this.failCount = 0;
-                SubscriberManager.this.executeTask(new SleepCallBackTask(this, LONG_CONNECTION_REQUEST_INTERVAL_MS));
-            } catch (Exception ex) {
-                LOGGER.warning(
-                        String.format(Locale.ENGLISH, "pull kie config failed, %s, it will rePull", ex.getMessage()));
-                ++failCount;
-                SubscriberManager.this.executeTask(new SleepCallBackTask(this, failCount));
+        /**
+         * Pull the label group without waiting, the loop waits for the changes of all the groups at once. The
+         * listeners are notified by the scheduled executor instead of the I/O thread of the http client
+         *
+         * @return future completed after the listeners are notified
+         */
+        CompletableFuture<Void> pull() {
+            if (isStopped()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            final KieRequest kieRequest = kieSubscriber.getKieRequest();
+            return kieClient.queryConfigurationsAsync(new KieRequest()
+                    .setLabelCondition(kieRequest.getLabelCondition()).setRevision(kieRequest.getRevision()))
+                    .thenAcceptAsync(this::onResponse, getScheduledExecutorService())
+                    .exceptionally(ex -> {
+                        LOGGER.warning(String.format(Locale.ENGLISH, "The error occurred when execute task , %s",
+                                ex.getMessage()));
+                        return null;
+                    });
+        }
+
+        private synchronized void onResponse(KieResponse kieResponse) {
+            if (kieResponse != null && kieResponse.isChanged()) {
+                tryPublishEvent(kieResponse, kieListenerWrapper, false);
+                kieSubscriber.getKieRequest().setRevision(kieResponse.getRevision());
             }
         }
 
@@ -568,55 +663,107 @@ public class SubscriberManager {
     }
 
     /**
-     * SleepCallBackTask
+     * Long poll loop shared by the long connection subscriptions. Each round waits in a single long connection request
+     * of the labels shared by all the label groups, which returns once any configuration changes after the revision of
+     * its last response. The kv data of the response is split by label group locally, only the label groups whose kv
+     * data changed notify their listeners, no label group is pulled again. If the label groups share no label, the
+     * request waits for the changes of the whole project. The rounds are chained by the callbacks of the requests and
+     * scheduled by the scheduled executor, the loop stops when no subscription is left
      *
-     * @since 2021-11-17
+     * @since 2026-10-18
      */
-    class SleepCallBackTask extends AbstractTask {
+    class LongPollLoop {
         private static final long MAX_WAIT_MS = 60 * 1000 * 60L;
 
         private static final long BASE_MS = 3000L;
 
-        private final Task nextTask;
+        private final List<LoopPullTask> tasks = new CopyOnWriteArrayList<>();
 
-        private int failedCount;
+        private final AtomicBoolean isRunning = new AtomicBoolean();
 
-        private long waitTimeMs;
+        private final KieRequest watchRequest = new KieRequest().setWait(WAIT);
 
-        SleepCallBackTask(Task nextTask, int failedCount) {
-            this.nextTask = nextTask;
-            this.failedCount = failedCount;
-        }
+        private volatile int failCount;
 
-        SleepCallBackTask(Task nextTask, long waitTimeMs) {
-            this.nextTask = nextTask;
-            this.waitTimeMs = waitTimeMs;
+        LongPollLoop() {
+            watchRequest.setAccurateMatchLabel(false);
+            buildRequestConfig(watchRequest);
         }
 
-        @Override
-        public void executeInner() {
-            long wait;
-            if (waitTimeMs != 0) {
-                wait = Math.min(waitTimeMs, MAX_WAIT_MS);
-            } else {
-                wait = Math.min(MAX_WAIT_MS, BASE_MS * failedCount * failedCount);
-            }
-            try {
-                Thread.sleep(wait);
-                SubscriberManager.this.executeTask(nextTask);
-            } catch (InterruptedException ignored) {
-                // ignored
+        /**
+         * Register the task updated in each round, and start the loop if it is not running
+         *
+         * @param task pull task of the label group
+         */
+        void register(LoopPullTask task) {
+            tasks.add(task);
+            if (isRunning.compareAndSet(false, true)) {
+                schedule(0L);
             }
         }
 
-        @Override
-        public boolean isLongConnectionRequest() {
-            return nextTask.isLongConnectionRequest();
+        private void schedule(long delayMs) {
+            getScheduledExecutorService().schedule(this::round, delayMs, TimeUnit.MILLISECONDS);
         }
 
-        @Override
-        public void stop() {
-            nextTask.stop();
+        private void round() {
+            tasks.removeIf(AbstractTask::isStopped);
+            if (tasks.isEmpty()) {
+                isRunning.set(false);
+
+                // A task registered meanwhile finds the loop running and does not start it
+                if (tasks.isEmpty() || !isRunning.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+            // The tasks registered meanwhile are not covered by the label condition, they pulled their own data
+            final List<LoopPullTask> watchedTasks = new ArrayList<>(tasks);
+            watchRequest.setLabelCondition(getSharedLabelCondition(watchedTasks));
+
+            // The failed requests and the error responses complete the future exceptionally
+            kieClient.queryConfigurationsAsync(watchRequest)
+                    .whenCompleteAsync((kieResponse, ex) -> {
+                        if (ex != null) {
+                            LOGGER.warning(String.format(Locale.ENGLISH, "pull kie config failed, %s, it will rePull",
+                                    ex.getMessage()));
+                            ++failCount;
+                            schedule(Math.min(MAX_WAIT_MS, BASE_MS * failCount * failCount));
+                            return;
+                        }
+                        if (kieResponse != null && kieResponse.isChanged() && kieResponse.getData() != null) {
+                            for (LoopPullTask task : watchedTasks) {
+                                task.onWatchResponse(kieResponse);
+                            }
+                            watchRequest.setRevision(kieResponse.getRevision());
+                        }
+
+                        // Pull at intervals to reduce service pressure; If there are key changes in the interval, the
+                        // watch request returns immediately by the revision, and no change is missed
+                        failCount = 0;
+                        schedule(LONG_CONNECTION_REQUEST_INTERVAL_MS);
+                    }, getScheduledExecutorService());
+        }
+
+        /**
+         * Label condition of the labels shared by all the label groups, so that the watch request covers the kv data
+         * of every label group and nothing else
+         *
+         * @param watchedTasks tasks of the label groups
+         * @return label condition, null if the label groups share no label
+         */
+        private String getSharedLabelCondition(List<LoopPullTask> watchedTasks) {
+            Set<String> shared = null;
+            for (LoopPullTask task : watchedTasks) {
+                final String labelCondition = task.getLabelCondition();
+                final List<String> conditions = labelCondition == null || labelCondition.isEmpty()
+                        ? Collections.emptyList() : Arrays.asList(labelCondition.split("&"));
+                if (shared == null) {
+                    shared = new LinkedHashSet<>(conditions);
+                } else {
+                    shared.retainAll(conditions);
+                }
+            }
+            return shared == null || shared.isEmpty() ? null : String.join("&", shared);
         }
     }
-}
\ No newline at end of file
+}
@@ -25,6 +25,7 @@ import io.sermant.core.notification.ZookeeperNotificationType;
 import io.sermant.core.service.dynamicconfig.config.DynamicConfig;
 import io.sermant.core.utils.AesUtil;
 
+import org.apache.zookeeper.KeeperException;
 import org.apache.zookeeper.WatchedEvent;
 import org.apache.zookeeper.Watcher;
 import org.apache.zookeeper.ZooKeeper;
@@ -254,6 +255,54 @@ public class ZooKeeperBufferedClient implements Closeable {
         return zkClient.addPersistentRecursiveWatches(path, watcher);
     }
 
+    /**
+     * Whether the server supports the persistent watches, see {@link ZooKeeperClient#isPersistentWatchSupported()}
+     *
+     * @return false if the server has rejected the persistent watch
+     */
+    public boolean isPersistentWatchSupported() {
+        return zkClient.isPersistentWatchSupported();
+    }
+
+    /**
+     * Check whether the node exists and set the watcher on it
+     *
+     * @param path node path
+     * @param watcher node watcher, null if no watcher is set
+     * @return whether the node exists
+     * @throws KeeperException zookeeper server error
+     * @throws InterruptedException interrupted
+     */
+    public boolean exists(String path, Watcher watcher) throws KeeperException, InterruptedException {
+        return zkClient.exists(path, watcher);
+    }
+
+    /**
+     * Get the content of the node and set the watcher on it
+     *
+     * @param path node path
+     * @param watcher node watcher, null if no watcher is set
+     * @return node content, empty if the node has no data
+     * @throws KeeperException zookeeper server error, NoNodeException if the node does not exist
+     * @throws InterruptedException interrupted
+     */
+    public String getData(String path, Watcher watcher) throws KeeperException, InterruptedException {
+        return zkClient.getData(path, watcher);
+    }
+
+    /**
+     * Get the children names of the node and set the watcher on it
+     *
+     * @param path node path
+     * @param watcher node watcher, null if no watcher is set
+     * @return children names
+     * @throws KeeperException zookeeper server error, NoNodeException if the node does not exist
+     * @throws InterruptedException interrupted
+     */
+    public List<String> getChildren(String path, Watcher watcher) throws KeeperException, InterruptedException {
+        return zkClient.getChildren(path, watcher);
+    }
+
     /**
      * Remove data watchers
      *
@@ -56,6 +56,11 @@ public class ZooKeeperClient implements ConfigClient {
      */
     private final ZooKeeper zkClient;
 
+    /**
+     * Whether the server supports the persistent watches, which are added in ZooKeeper 3.6.0
+     */
+    private volatile boolean persistentWatchSupported = true;
+
     /**
      * Create a ZooKeeperClient, initialize the ZK client
      *
@@ -362,12 +367,65 @@ public class ZooKeeperClient implements ConfigClient {
     public boolean addPersistentRecursiveWatches(String path, Watcher watcher) {
         try {
             getZkClient().addWatch(path, watcher, AddWatchMode.PERSISTENT_RECURSIVE);
+        } catch (KeeperException.UnimplementedException ignored) {
+            LOGGER.warn("The zookeeper server does not support persistent watches.");
+            persistentWatchSupported = false;
+            return false;
         } catch (KeeperException | InterruptedException ignored) {
             return false;
         }
         return true;
     }
 
+    /**
+     * Whether the server supports the persistent watches, it is known after {@link #addPersistentRecursiveWatches}
+     *
+     * @return false if the server has rejected the persistent watch
+     */
+    public boolean isPersistentWatchSupported() {
+        return persistentWatchSupported;
+    }
+
+    /**
+     * Check whether the node exists and set the watcher on it
+     *
+     * @param path node path
+     * @param watcher node watcher, null if no watcher is set
+     * @return whether the node exists
+     * @throws KeeperException zookeeper server error
+     * @throws InterruptedException interrupted
+     */
+    public boolean exists(String path, Watcher watcher) throws KeeperException, InterruptedException {
+        return getZkClient().exists(path, watcher) != null;
+    }
+
+    /**
+     * Get the content of the node and set the watcher on it
+     *
+     * @param path node path
+     * @param watcher node watcher, null if no watcher is set
+     * @return node content, empty if the node has no data
+     * @throws KeeperException zookeeper server error, NoNodeException if the node does not exist
+     * @throws InterruptedException interrupted
+     */
+    public String getData(String path, Watcher watcher) throws KeeperException, InterruptedException {
+        final byte[] data = getZkClient().getData(path, watcher, null);
+        return data == null ? "" : new String(data, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Get the children names of the node and set the watcher on it
+     *
+     * @param path node path
+     * @param watcher node watcher, null if no watcher is set
+     * @return children names
+     * @throws KeeperException zookeeper server error, NoNodeException if the node does not exist
+     * @throws InterruptedException interrupted
+     */
+    public List<String> getChildren(String path, Watcher watcher) throws KeeperException, InterruptedException {
+        return getZkClient().getChildren(path, watcher);
+    }
+
     /**
      * Remove data watchers
      *
@@ -20,13 +20,19 @@ import io.sermant.core.common.LoggerFactory;
 import io.sermant.core.service.dynamicconfig.DynamicConfigService;
 import io.sermant.core.service.dynamicconfig.common.DynamicConfigEvent;
 import io.sermant.core.service.dynamicconfig.common.DynamicConfigListener;
+import io.sermant.core.utils.ThreadFactoryUtils;
 
 import org.apache.zookeeper.WatchedEvent;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.logging.Logger;
 
 /**
@@ -52,8 +58,19 @@ public class ZooKeeperDynamicConfigService extends DynamicConfigService {
      */
     private ZooKeeperBufferedClient zkClient;
 
+    /**
+     * Mirrors of the subscribed groups, group to mirrors
+     */
+    private final Map<String, List<ZooKeeperGroupMirror>> groupMirrors = new ConcurrentHashMap<>();
+
+    /**
+     * Executor retrying the failed loads of the group mirrors
+     */
+    private ScheduledExecutorService mirrorRetryExecutor;
+
     @Override
     public void start() {
+        mirrorRetryExecutor = new ScheduledThreadPoolExecutor(1, new ThreadFactoryUtils("zookeeper-group-retry"));
         if (CONFIG.isEnableAuth()) {
             zkClient = new ZooKeeperBufferedClient(CONFIG.getServerAddress(), CONFIG.getTimeoutValue(),
                     CONFIG.getUserName(), CONFIG.getPassword(), CONFIG.getPrivateKey());
@@ -64,6 +81,7 @@ public class ZooKeeperDynamicConfigService extends DynamicConfigService {
 
     @Override
     public void stop() {
+        mirrorRetryExecutor.shutdownNow();
         zkClient.close();
     }
 
@@ -160,30 +178,37 @@ public class ZooKeeperDynamicConfigService extends DynamicConfigService {
         return keys;
     }
 
+    @Override
+    public boolean addGroupListener(String group, DynamicConfigListener listener, boolean ifNotify) {
+        if (!ifNotify || listener == null) {
+            return addGroupListener(group, listener);
+        }
+
+        // The initial configurations are notified by the mirror once loaded, before any watched event
+        return subscribeGroup(fixGroup(group), listener, true);
+    }
+
     @Override
     public boolean doAddGroupListener(String group, DynamicConfigListener listener) {
-        final String groupPath = toPath(group);
-        return zkClient.addPersistentRecursiveWatches(groupPath, watchedEvent -> {
-            final String eventPath = watchedEvent.getPath();
-            if (eventPath == null) {
-                LOGGER.warning("Unexpected empty event path. ");
-                return;
-            }
-            if (groupPath.equals(eventPath)) {
-                LOGGER.fine(String.format(Locale.ROOT, "Skip processing group event [%s]. ", groupPath));
-                return;
-            }
-            if (!eventPath.startsWith(groupPath) || eventPath.charAt(groupPath.length()) != ZK_PATH_SEPARATOR) {
-                LOGGER.warning(String.format(Locale.ROOT,
-                        "Event path [%s] is not child of [%s]. ", eventPath, groupPath));
-                return;
-            }
-            listener.process(transEvent(eventPath.substring(groupPath.length() + 1), group, watchedEvent));
-        });
+        return subscribeGroup(group, listener, false);
+    }
+
+    private boolean subscribeGroup(String group, DynamicConfigListener listener, boolean ifNotify) {
+        final ZooKeeperGroupMirror mirror = new ZooKeeperGroupMirror(zkClient, group, toPath(group), listener,
+                mirrorRetryExecutor);
+        if (!mirror.start(ifNotify)) {
+            return false;
+        }
+        groupMirrors.computeIfAbsent(group, key -> new CopyOnWriteArrayList<>()).add(mirror);
+        return true;
     }
 
     @Override
     public boolean doRemoveGroupListener(String group) {
+        final List<ZooKeeperGroupMirror> mirrors = groupMirrors.remove(group);
+        if (mirrors != null) {
+            mirrors.forEach(ZooKeeperGroupMirror::close);
+        }
         return zkClient.removeAllWatches(toPath(group));
     }
 }
@@ -0,0 +1,415 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.implement.service.dynamicconfig.zookeeper;
+
+import io.sermant.core.common.LoggerFactory;
+import io.sermant.core.service.dynamicconfig.common.DynamicConfigEvent;
+import io.sermant.core.service.dynamicconfig.common.DynamicConfigListener;
+
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.WatchedEvent;
+import org.apache.zookeeper.Watcher;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Local mirror of the descendant nodes of a group, the watched events are applied to the mirror and only the real
+ * changes are notified to the listener
+ * <p>A persistent recursive watch is set on the group, so that each event costs one read of the changed node and the
+ * deleted nodes cost no read. If the server does not support the persistent watches, one-shot watches are set on each
+ * node and set again after triggered. The mirror is synchronized with the server after reconnected, since the changes
+ * during the disconnection may be missed
+ * <p>The watched events are not applied before the group is loaded for the first time, and the initial nodes are
+ * notified to the listener while the events are held back, so that the listener receives the initial nodes first. If
+ * the group fails to be loaded while the persistent watch is set, the load is retried in the background
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class ZooKeeperGroupMirror implements Watcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger();
+
+    private static final char ZK_PATH_SEPARATOR = ZooKeeperBufferedClient.ZK_PATH_SEPARATOR;
+
+    /**
+     * Initial delay of retrying the failed load
+     */
+    private static final long LOAD_RETRY_BASE_MS = 1000L;
+
+    /**
+     * Maximum delay of retrying the failed load
+     */
+    private static final long LOAD_RETRY_MAX_MS = 60000L;
+
+    /**
+     * The delay stops doubling after the number of retries
+     */
+    private static final int LOAD_RETRY_MAX_SHIFT = 6;
+
+    private final ZooKeeperBufferedClient zkClient;
+
+    private final String group;
+
+    private final String groupPath;
+
+    private final DynamicConfigListener listener;
+
+    /**
+     * Executor retrying the failed load
+     */
+    private final ScheduledExecutorService retryExecutor;
+
+    /**
+     * Node path to content
+     */
+    private final Map<String, String> nodes = new HashMap<>();
+
+    private boolean persistent;
+
+    /**
+     * Whether the group has been loaded for the first time
+     */
+    private boolean loaded;
+
+    /**
+     * Whether to notify the initial nodes to the listener when the group is loaded for the first time
+     */
+    private boolean notifyInit;
+
+    private volatile boolean closed;
+
+    /**
+     * Constructor
+     *
+     * @param zkClient ZooKeeper buffered client
+     * @param group group
+     * @param groupPath ZK path of the group
+     * @param listener listener
+     * @param retryExecutor executor retrying the failed load
+     */
+    public ZooKeeperGroupMirror(ZooKeeperBufferedClient zkClient, String group, String groupPath,
+            DynamicConfigListener listener, ScheduledExecutorService retryExecutor) {
+        this.zkClient = zkClient;
+        this.group = group;
+        this.groupPath = groupPath;
+        this.listener = listener;
+        this.retryExecutor = retryExecutor;
+    }
+
+    /**
+     * Watch the group and load the nodes
+     *
+     * @param ifNotify whether to notify the initial nodes to the listener by the init events
+     * @return watch result
+     */
+    public synchronized boolean start(boolean ifNotify) {
+        notifyInit = ifNotify;
+        if (zkClient.addPersistentRecursiveWatches(groupPath, this)) {
+            persistent = true;
+        } else if (zkClient.isPersistentWatchSupported()) {
+            return false;
+        } else {
+            LOGGER.info(String.format(Locale.ROOT, "Watch group [%s] by one-shot watches. ", groupPath));
+        }
+        try {
+            loadInitial();
+        } catch (KeeperException | ZooKeeperConnectionException e) {
+            if (!persistent) {
+                return false;
+            }
+            LOGGER.warning(String.format(Locale.ROOT, "Load group [%s] failed, it is retried in the background: %s",
+                    groupPath, e.getMessage()));
+            scheduleRetry(0, LOAD_RETRY_BASE_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Stop notifying the listener, the one-shot watches are not set again
+     */
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * Whether the group is watched by the persistent recursive watch
+     *
+     * @return true if watched by the persistent recursive watch, false if by the one-shot watches
+     */
+    public synchronized boolean isPersistent() {
+        return persistent;
+    }
+
+    /**
+     * Get the nodes of the group
+     *
+     * @return key to content, the key is the path relative to the group
+     */
+    public synchronized Map<String, String> getConfigs() {
+        final Map<String, String> configs = new TreeMap<>();
+        for (Map.Entry<String, String> entry : nodes.entrySet()) {
+            configs.put(toKey(entry.getKey()), entry.getValue());
+        }
+        return configs;
+    }
+
+    @Override
+    public synchronized void process(WatchedEvent event) {
+        if (closed) {
+            return;
+        }
+        try {
+            if (event.getType() == Event.EventType.None) {
+                if (event.getState() == Event.KeeperState.SyncConnected) {
+                    resync();
+                }
+                return;
+            }
+            if (!loaded) {
+                // The group is loaded later with the latest nodes, which covers the change of the event
+                return;
+            }
+            final String path = event.getPath();
+            if (path == null || !path.equals(groupPath) && !isDescendant(path)) {
+                LOGGER.warning(String.format(Locale.ROOT, "Event path [%s] is not child of [%s]. ", path, groupPath));
+                return;
+            }
+            if (persistent) {
+                processPersistent(event.getType(), path);
+            } else {
+                processOneShot(event.getType(), path);
+            }
+        } catch (KeeperException | ZooKeeperConnectionException e) {
+            LOGGER.warning(String.format(Locale.ROOT, "Process event of group [%s] failed, it is synchronized after "
+                    + "reconnected: %s", groupPath, e.getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void scheduleRetry(int retries, long delayMs) {
+        try {
+            retryExecutor.schedule(() -> retryLoad(retries), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            // The service is stopped
+            LOGGER.fine(String.format(Locale.ROOT, "Stop retrying to load group [%s]. ", groupPath));
+        }
+    }
+
+    private synchronized void retryLoad(int retries) {
+        if (closed || loaded) {
+            return;
+        }
+        try {
+            loadInitial();
+        } catch (KeeperException | ZooKeeperConnectionException e) {
+            final long nextDelayMs = Math.min(LOAD_RETRY_MAX_MS,
+                    LOAD_RETRY_BASE_MS << Math.min(retries + 1, LOAD_RETRY_MAX_SHIFT));
+            LOGGER.warning(String.format(Locale.ROOT, "Load group [%s] failed, retry in %d ms: %s", groupPath,
+                    nextDelayMs, e.getMessage()));
+            scheduleRetry(retries + 1, nextDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Load the group for the first time, and notify the initial nodes if required
+     *
+     * @throws KeeperException zookeeper server error
+     * @throws InterruptedException interrupted
+     */
+    private void loadInitial() throws KeeperException, InterruptedException {
+        nodes.putAll(load());
+        loaded = true;
+        if (!notifyInit) {
+            return;
+        }
+        for (Map.Entry<String, String> entry : getConfigs().entrySet()) {
+            listener.process(DynamicConfigEvent.initEvent(entry.getKey(), group, entry.getValue()));
+        }
+    }
+
+    private void processPersistent(Event.EventType type, String path) throws KeeperException, InterruptedException {
+        if (path.equals(groupPath)) {
+            // The descendant nodes are deleted before the group, and notified by their own events
+            return;
+        }
+        switch (type) {
+            case NodeCreated:
+            case NodeDataChanged:
+                try {
+                    update(path, zkClient.getData(path, null));
+                } catch (KeeperException.NoNodeException ignored) {
+                    // Deleted before read, the deletion is notified by its own event
+                }
+                break;
+            case NodeDeleted:
+                remove(path);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void processOneShot(Event.EventType type, String path) throws KeeperException, InterruptedException {
+        switch (type) {
+            case NodeCreated:
+                // Only the group is watched by exists, the whole group is loaded when it is created
+                resync();
+                break;
+            case NodeDataChanged:
+                if (path.equals(groupPath)) {
+                    zkClient.exists(groupPath, this);
+                } else {
+                    updateOneShot(path);
+                }
+                break;
+            case NodeChildrenChanged:
+                addChildren(path);
+                break;
+            case NodeDeleted:
+                if (path.equals(groupPath)) {
+                    zkClient.exists(groupPath, this);
+                } else {
+                    remove(path);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void updateOneShot(String path) throws KeeperException, InterruptedException {
+        try {
+            update(path, zkClient.getData(path, this));
+        } catch (KeeperException.NoNodeException ignored) {
+            // Deleted before read, the deletion is notified by its own event
+        }
+    }
+
+    /**
+     * Load the children not in the mirror, the deleted children are notified by their own events
+     *
+     * @param path parent path
+     * @throws KeeperException zookeeper server error
+     * @throws InterruptedException interrupted
+     */
+    private void addChildren(String path) throws KeeperException, InterruptedException {
+        final List<String> children;
+        try {
+            children = zkClient.getChildren(path, this);
+        } catch (KeeperException.NoNodeException ignored) {
+            return;
+        }
+        for (String child : children) {
+            final String childPath = path + ZK_PATH_SEPARATOR + child;
+            if (nodes.containsKey(childPath)) {
+                continue;
+            }
+            final Map<String, String> added = new TreeMap<>();
+            if (loadNode(childPath, added)) {
+                added.forEach(this::update);
+            }
+        }
+    }
+
+    private void resync() throws KeeperException, InterruptedException {
+        if (!loaded) {
+            loadInitial();
+            return;
+        }
+        final Map<String, String> latest = load();
+        for (String path : new HashSet<>(nodes.keySet())) {
+            if (!latest.containsKey(path)) {
+                remove(path);
+            }
+        }
+        latest.forEach(this::update);
+    }
+
+    private Map<String, String> load() throws KeeperException, InterruptedException {
+        final Map<String, String> latest = new TreeMap<>();
+        if (!zkClient.exists(groupPath, persistent ? null : this)) {
+            return latest;
+        }
+        loadChildren(groupPath, latest);
+        return latest;
+    }
+
+    private void loadChildren(String path, Map<String, String> latest) throws KeeperException, InterruptedException {
+        final List<String> children;
+        try {
+            children = zkClient.getChildren(path, persistent ? null : this);
+        } catch (KeeperException.NoNodeException ignored) {
+            return;
+        }
+        for (String child : children) {
+            loadNode(path + ZK_PATH_SEPARATOR + child, latest);
+        }
+    }
+
+    private boolean loadNode(String path, Map<String, String> latest) throws KeeperException, InterruptedException {
+        try {
+            latest.put(path, zkClient.getData(path, persistent ? null : this));
+        } catch (KeeperException.NoNodeException ignored) {
+            return false;
+        }
+        loadChildren(path, latest);
+        return true;
+    }
+
+    private void update(String path, String content) {
+        final String oldContent = nodes.put(path, content);
+        if (oldContent == null) {
+            listener.process(DynamicConfigEvent.createEvent(toKey(path), group, content));
+        } else if (!oldContent.equals(content)) {
+            listener.process(DynamicConfigEvent.modifyEvent(toKey(path), group, content));
+        } else {
+            LOGGER.fine(String.format(Locale.ROOT, "Skip unchanged node [%s]. ", path));
+        }
+    }
+
+    private void remove(String path) {
+        final String oldContent = nodes.remove(path);
+        if (oldContent != null) {
+            listener.process(DynamicConfigEvent.deleteEvent(toKey(path), group, oldContent));
+        }
+    }
+
+    private boolean isDescendant(String path) {
+        return path.startsWith(groupPath) && path.length() > groupPath.length()
+                && path.charAt(groupPath.length()) == ZK_PATH_SEPARATOR;
+    }
+
+    private String toKey(String path) {
+        return path.substring(groupPath.length() + 1);
+    }
+}
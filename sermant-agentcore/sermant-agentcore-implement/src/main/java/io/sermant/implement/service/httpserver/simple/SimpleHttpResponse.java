@@ -24,6 +24,7 @@ import io.sermant.core.service.httpserver.exception.HttpServerException;
 import io.sermant.implement.service.httpserver.common.Constants;
 import io.sermant.implement.service.httpserver.common.HttpCodeEnum;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
@@ -35,10 +36,14 @@ import java.util.Map;
  * @since 2024-02-02
  */
 public class SimpleHttpResponse implements HttpResponse {
+    private static final long CHUNKED_LENGTH = 0L;
+
     private final HttpExchange exchange;
 
     private int status = HttpCodeEnum.SUCCESS.getCode();
 
+    private boolean committed;
+
     /**
      * Constructs a SimpleHttpResponse object.
      *
@@ -89,6 +94,11 @@ public class SimpleHttpResponse implements HttpResponse {
         return this;
     }
 
+    @Override
+    public boolean isCommitted() {
+        return committed;
+    }
+
     @Override
     public HttpResponse setContentLength(long size) {
         setHeader(Constants.CONTENT_LENGTH, String.valueOf(size));
@@ -103,6 +113,7 @@ public class SimpleHttpResponse implements HttpResponse {
     @Override
     public void writeBody(byte[] bytes) {
         try (OutputStream out = exchange.getResponseBody()) {
+            committed = true;
             exchange.sendResponseHeaders(status, bytes.length);
             out.write(bytes);
         } catch (Exception ex) {
@@ -110,6 +121,17 @@ public class SimpleHttpResponse implements HttpResponse {
         }
     }
 
+    @Override
+    public OutputStream getBodyAsStream() {
+        try {
+            committed = true;
+            exchange.sendResponseHeaders(status, CHUNKED_LENGTH);
+            return exchange.getResponseBody();
+        } catch (IOException ex) {
+            throw new HttpServerException(HttpCodeEnum.SERVER_ERROR.getCode(), ex);
+        }
+    }
+
     @Override
     public void writeBody(String str) {
         byte[] bytes = str == null ? new byte[0] : str.getBytes(StandardCharsets.UTF_8);
@@ -18,6 +18,7 @@ package io.sermant.implement.service.httpserver.simple;
 
 import com.sun.net.httpserver.HttpServer;
 
+import io.sermant.core.common.LoggerFactory;
 import io.sermant.core.config.ConfigManager;
 import io.sermant.core.service.httpserver.api.HttpRequest;
 import io.sermant.core.service.httpserver.api.HttpResponse;
@@ -31,6 +32,7 @@ import io.sermant.implement.service.httpserver.common.HttpRouteHandlerManager;
 
 import org.kohsuke.MetaInfServices;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.Optional;
 import java.util.concurrent.SynchronousQueue;
@@ -38,6 +40,8 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Simple HTTP server provider.
@@ -47,6 +51,8 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 @MetaInfServices(HttpServerProvider.class)
 public class SimpleHttpServerProvider implements HttpServerProvider {
+    private static final Logger LOGGER = LoggerFactory.getLogger();
+
     private static final long HTTP_SERVER_KEEP_ALIVE_TIME = 60000L;
 
     private HttpServer httpServer;
@@ -87,6 +93,7 @@ public class SimpleHttpServerProvider implements HttpServerProvider {
                 }
                 handlerOptional.get().handle(request, response);
             } catch (HttpServerException e) {
+                abortIfCommitted(request, response, e);
                 response.setStatus(e.getStatus());
                 if (e.getStatus() < HttpCodeEnum.SERVER_ERROR.getCode()) {
                     response.writeBody(e.getMessage());
@@ -94,6 +101,7 @@ public class SimpleHttpServerProvider implements HttpServerProvider {
                     response.writeBody(e);
                 }
             } catch (Exception e) {
+                abortIfCommitted(request, response, e);
                 response.setStatus(HttpCodeEnum.SERVER_ERROR.getCode());
                 response.writeBody(e);
             }
@@ -101,6 +109,24 @@ public class SimpleHttpServerProvider implements HttpServerProvider {
         httpServer.start();
     }
 
+    /**
+     * The status of a committed response has been sent, so that no error response can be sent any more. The exception
+     * is thrown to the http server, which closes the connection without completing the body
+     *
+     * @param request request
+     * @param response response
+     * @param ex exception thrown by the handler
+     * @throws IOException the response is committed
+     */
+    private static void abortIfCommitted(HttpRequest request, HttpResponse response, Exception ex)
+            throws IOException {
+        if (!response.isCommitted()) {
+            return;
+        }
+        LOGGER.log(Level.WARNING, "Abort the response of " + request.getPath() + ", the handler failed.", ex);
+        throw new IOException(ex);
+    }
+
     @Override
     public void stop() throws Exception {
         if (httpServer == null) {
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.implement.service.metric;
+
+import io.sermant.core.service.metric.api.Tags;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cache of the meter handles keyed by the metric name and the tags, so that looking up a registered meter again
+ * neither runs the Micrometer builder nor allocates
+ * <p>The tags are copied when the handle is cached, the caller may keep modifying its own tags. The cache stops
+ * growing once it holds the maximum number of handles, the handles beyond that are created on every lookup.
+ *
+ * @param <T> type of the handle
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class MeterHandleCache<T> {
+    private static final Tags EMPTY_TAGS = Tags.of();
+
+    private final Map<String, Map<Tags, T>> handles = new ConcurrentHashMap<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final int maxSize;
+
+    /**
+     * Constructor
+     *
+     * @param maxSize maximum number of the cached handles
+     */
+    public MeterHandleCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the cached handle
+     *
+     * @param metricName metric name
+     * @param tags tags, null is treated as no tags
+     * @return handle, null if not cached
+     */
+    public T get(String metricName, Tags tags) {
+        Map<Tags, T> handlesOfName = handles.get(metricName);
+        if (handlesOfName == null) {
+            return null;
+        }
+        return handlesOfName.get(tags == null ? EMPTY_TAGS : tags);
+    }
+
+    /**
+     * Cache the handle if no handle is cached for the metric name and the tags
+     *
+     * @param metricName metric name
+     * @param tags tags, null is treated as no tags
+     * @param handle handle
+     * @return the cached handle, or the given handle if the cache is full
+     */
+    public T putIfAbsent(String metricName, Tags tags, T handle) {
+        if (size.get() >= maxSize) {
+            return handle;
+        }
+        Map<Tags, T> handlesOfName = handles.computeIfAbsent(metricName, name -> new ConcurrentHashMap<>());
+        T cachedHandle = handlesOfName.putIfAbsent(tags == null ? EMPTY_TAGS : Tags.of(tags), handle);
+        if (cachedHandle != null) {
+            return cachedHandle;
+        }
+        size.incrementAndGet();
+        return handle;
+    }
+
+    /**
+     * Get the number of the cached handles
+     *
+     * @return number of the cached handles
+     */
+    public int size() {
+        return size.get();
+    }
+}
@@ -29,12 +29,14 @@ import io.sermant.core.service.metric.api.Timer;
 import io.sermant.core.service.metric.config.MetricConfig;
 import io.sermant.core.utils.SpiLoadUtils;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * The MeterMetricService class manages Micrometer metrics and provides initialization and data retrieval
- * functionalities.
+ * functionalities. The meter handles are cached by the metric name and the tags, see {@link MeterHandleCache}
  *
  * @author zwmagic
  * @since 2024-08-19
@@ -43,6 +45,14 @@ public class MeterMetricServiceImpl implements MetricService {
     private static MeterRegistryProvider meterRegistryProvider;
     private Metric metric;
 
+    private MeterHandleCache<Counter> counters;
+
+    private MeterHandleCache<Gauge> gauges;
+
+    private MeterHandleCache<Timer> timers;
+
+    private MeterHandleCache<Summary> summaries;
+
     /**
      * Initializes the metric manager. If the metric manager has not been initialized, it creates and configures a
      * PrometheusMeterRegistry, and sets it as the global metric manager.
@@ -63,6 +73,11 @@ public class MeterMetricServiceImpl implements MetricService {
         }
         Metrics.addRegistry(meterRegistryProvider.getRegistry());
         metric = new MeterMetric(meterRegistryProvider, metricConfig);
+        int maxSize = metricConfig.getMaxTimeSeries();
+        counters = new MeterHandleCache<>(maxSize);
+        gauges = new MeterHandleCache<>(maxSize);
+        timers = new MeterHandleCache<>(maxSize);
+        summaries = new MeterHandleCache<>(maxSize);
     }
 
     /**
@@ -74,6 +89,28 @@ public class MeterMetricServiceImpl implements MetricService {
         return meterRegistryProvider.getScrape();
     }
 
+    /**
+     * Gets the content type of the metric data written by {@link #scrape(Writer, String)}, which falls back to the
+     * Prometheus text format if the negotiated one is not supported by the metric manager.
+     *
+     * @param contentType The content type negotiated with the scraper
+     * @return The content type of the metric data written
+     */
+    public static String getContentType(String contentType) {
+        return meterRegistryProvider.getContentType(contentType);
+    }
+
+    /**
+     * Writes the current metric data to the writer without building it in memory.
+     *
+     * @param writer The writer of the metric data
+     * @param contentType The content type of the exposition format
+     * @throws IOException Failed to write the metric data
+     */
+    public static void scrape(Writer writer, String contentType) throws IOException {
+        meterRegistryProvider.scrape(writer, contentType);
+    }
+
     @Override
     public Counter counter(String metricName) {
         return counter(metricName, null);
@@ -91,7 +128,11 @@ public class MeterMetricServiceImpl implements MetricService {
 
     @Override
     public Counter counter(String metricName, Tags tags, String description) {
-        return metric.counter(metricName, tags, description);
+        Counter counter = counters.get(metricName, tags);
+        if (counter != null) {
+            return counter;
+        }
+        return counters.putIfAbsent(metricName, tags, metric.counter(metricName, tags, description));
     }
 
     @Override
@@ -111,7 +152,11 @@ public class MeterMetricServiceImpl implements MetricService {
 
     @Override
     public Gauge gauge(String metricName, Tags tags, String description) {
-        return metric.gauge(metricName, tags, description);
+        Gauge gauge = gauges.get(metricName, tags);
+        if (gauge != null) {
+            return gauge;
+        }
+        return gauges.putIfAbsent(metricName, tags, metric.gauge(metricName, tags, description));
     }
 
     @Override
@@ -131,7 +176,11 @@ public class MeterMetricServiceImpl implements MetricService {
 
     @Override
     public Timer timer(String metricName, Tags tags, String description) {
-        return metric.timer(metricName, tags, description);
+        Timer timer = timers.get(metricName, tags);
+        if (timer != null) {
+            return timer;
+        }
+        return timers.putIfAbsent(metricName, tags, metric.timer(metricName, tags, description));
     }
 
     @Override
@@ -152,6 +201,11 @@ public class MeterMetricServiceImpl implements MetricService {
     @Override
     public Summary summary(String metricName, Tags tags, String description,
                            DistributionStatisticConfig distributionStatisticConfig) {
-        return metric.summary(metricName, tags, description, distributionStatisticConfig);
+        Summary summary = summaries.get(metricName, tags);
+        if (summary != null) {
+            return summary;
+        }
+        return summaries.putIfAbsent(metricName, tags,
+                metric.summary(metricName, tags, description, distributionStatisticConfig));
     }
 }
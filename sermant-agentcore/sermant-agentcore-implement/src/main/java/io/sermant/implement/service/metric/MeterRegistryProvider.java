@@ -17,6 +17,10 @@
 package io.sermant.implement.service.metric;
 
 import io.micrometer.core.instrument.MeterRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+
+import java.io.IOException;
+import java.io.Writer;
 
 /**
  * Interface defining the core components for monitoring data collection. It provides access and configuration
@@ -46,4 +50,27 @@ public interface MeterRegistryProvider {
      * @return The configuration information for scraping monitoring data
      */
     String getScrape();
+
+    /**
+     * Gets the content type of the exposition format written by {@link #scrape}. By default only the Prometheus text
+     * format of {@link #getScrape()} is supported, whatever format is requested
+     *
+     * @param contentType The content type negotiated with the scraper
+     * @return The content type of the monitoring data written
+     */
+    default String getContentType(String contentType) {
+        return TextFormat.CONTENT_TYPE_004;
+    }
+
+    /**
+     * Writes the monitoring data to the writer, so that the scrape is not built in memory. By default the Prometheus
+     * text format of {@link #getScrape()} is written
+     *
+     * @param writer The writer of the monitoring data
+     * @param contentType The content type of the exposition format, returned by {@link #getContentType(String)}
+     * @throws IOException Failed to write the monitoring data
+     */
+    default void scrape(Writer writer, String contentType) throws IOException {
+        writer.write(getScrape());
+    }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.implement.service.metric.handler;
+
+import io.sermant.core.plugin.agent.profile.InterceptorProfiler;
+import io.sermant.core.service.httpserver.annotation.HttpRouteMapping;
+import io.sermant.core.service.httpserver.api.HttpMethod;
+import io.sermant.core.service.httpserver.api.HttpRequest;
+import io.sermant.core.service.httpserver.api.HttpResponse;
+import io.sermant.core.service.httpserver.api.HttpRouteHandler;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * provide the cost profiles of the interceptors as json, see {@link InterceptorProfiler}
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+@HttpRouteMapping(path = "/interceptors/profile", method = HttpMethod.GET)
+public class InterceptorProfileHttpRouteHandler implements HttpRouteHandler {
+    private static final int SUCCESS_CODE = 200;
+
+    @Override
+    public void handle(HttpRequest request, HttpResponse response) throws Exception {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", InterceptorProfiler.isEnabled());
+        result.put("sampleInterval", InterceptorProfiler.getSampleInterval());
+        result.put("profiles", InterceptorProfiler.getProfiles());
+        response.setStatus(SUCCESS_CODE).writeBodyAsJson(result);
+    }
+}
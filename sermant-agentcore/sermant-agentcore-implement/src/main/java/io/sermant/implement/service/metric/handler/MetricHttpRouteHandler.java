@@ -22,10 +22,21 @@ import io.sermant.core.service.httpserver.api.HttpMethod;
 import io.sermant.core.service.httpserver.api.HttpRequest;
 import io.sermant.core.service.httpserver.api.HttpResponse;
 import io.sermant.core.service.httpserver.api.HttpRouteHandler;
+import io.sermant.core.utils.StringUtils;
 import io.sermant.implement.service.metric.MeterMetricServiceImpl;
 
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
 /**
- * provide http metric
+ * provide http metric, the metric data is streamed into the response through a fixed size buffer instead of being
+ * built in memory. The OpenMetrics format is chosen by the Accept header if the metric manager supports it, and the
+ * response is compressed if the scraper accepts gzip
  *
  * @author zwmagic
  * @since 2024-08-19
@@ -34,11 +45,76 @@ import io.sermant.implement.service.metric.MeterMetricServiceImpl;
 public class MetricHttpRouteHandler implements HttpRouteHandler {
     private static final int SUCCESS_CODE = 200;
 
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final String ACCEPT = "Accept";
+
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+
+    private static final String GZIP = "gzip";
+
+    private static final String X_GZIP = "x-gzip";
+
+    private static final String WILDCARD = "*";
+
+    private static final String QUALITY = "q=";
+
     @Override
     public void handle(HttpRequest request, HttpResponse response) throws Exception {
-        String scrape = MeterMetricServiceImpl.getScrape();
-        response.setStatus(SUCCESS_CODE)
-                .setContentType(TextFormat.CONTENT_TYPE_004)
-                .writeBody(scrape);
+        String contentType = MeterMetricServiceImpl.getContentType(
+                TextFormat.chooseContentType(request.getFirstHeader(ACCEPT)));
+        boolean isGzip = isGzipAccepted(request.getFirstHeader(ACCEPT_ENCODING));
+        response.setStatus(SUCCESS_CODE).setContentType(contentType);
+        if (isGzip) {
+            response.setHeader(CONTENT_ENCODING, GZIP);
+        }
+        OutputStream bodyStream = response.getBodyAsStream();
+        OutputStream outputStream = isGzip ? new GZIPOutputStream(bodyStream, BUFFER_SIZE) : bodyStream;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        // The stream is only closed when the scrape succeeds, closing it completes the body. If the scrape fails, the
+        // exception aborts the exchange, so that the scraper does not take a truncated scrape as complete
+        MeterMetricServiceImpl.scrape(writer, contentType);
+        writer.close();
+    }
+
+    /**
+     * Whether gzip is accepted by the Accept-Encoding header, the codings with zero quality are not acceptable
+     *
+     * @param acceptEncoding Accept-Encoding header
+     * @return accepted or not
+     */
+    static boolean isGzipAccepted(String acceptEncoding) {
+        if (StringUtils.isEmpty(acceptEncoding)) {
+            return false;
+        }
+        boolean isWildcardAccepted = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] params = coding.split(";");
+            String name = params[0].trim().toLowerCase(Locale.ROOT);
+            if (GZIP.equals(name) || X_GZIP.equals(name)) {
+                return getQuality(params) > 0;
+            }
+            if (WILDCARD.equals(name)) {
+                isWildcardAccepted = getQuality(params) > 0;
+            }
+        }
+        return isWildcardAccepted;
+    }
+
+    private static float getQuality(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim().toLowerCase(Locale.ROOT);
+            if (param.startsWith(QUALITY)) {
+                try {
+                    return Float.parseFloat(param.substring(QUALITY.length()).trim());
+                } catch (NumberFormatException ignored) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
     }
 }
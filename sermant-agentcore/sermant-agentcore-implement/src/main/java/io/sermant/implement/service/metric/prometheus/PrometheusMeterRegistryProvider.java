@@ -21,6 +21,9 @@ import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.sermant.implement.service.metric.MeterRegistryProvider;
 
+import java.io.IOException;
+import java.io.Writer;
+
 /**
  * Prometheus meter registry provider
  *
@@ -51,4 +54,14 @@ public class PrometheusMeterRegistryProvider implements MeterRegistryProvider {
     public String getScrape() {
         return meterRegistry.scrape();
     }
+
+    @Override
+    public String getContentType(String contentType) {
+        return contentType;
+    }
+
+    @Override
+    public void scrape(Writer writer, String contentType) throws IOException {
+        meterRegistry.scrape(writer, contentType);
+    }
 }
@@ -53,6 +53,12 @@ public class ClientHandler extends BaseHandler {
         super.handlerAllIdle(ctx);
     }
 
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+        client.onWritabilityChanged();
+        ctx.fireChannelWritabilityChanged();
+    }
+
     @Override
     public void channelInactive(ChannelHandlerContext ctx) {
         LOGGER.severe("Server channel is inaction");
@@ -16,8 +16,6 @@
 
 package io.sermant.implement.service.send.netty;
 
-import com.google.protobuf.ByteString;
-
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
@@ -26,6 +24,7 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.protobuf.ProtobufDecoder;
@@ -38,22 +37,25 @@ import io.sermant.core.config.ConfigManager;
 import io.sermant.core.notification.NettyNotificationType;
 import io.sermant.core.notification.NotificationInfo;
 import io.sermant.core.notification.NotificationManager;
+import io.sermant.core.service.ServiceManager;
+import io.sermant.core.service.metric.api.MetricService;
+import io.sermant.core.service.metric.api.Tags;
 import io.sermant.core.service.send.config.GatewayConfig;
 import io.sermant.core.utils.ThreadFactoryUtils;
 import io.sermant.implement.service.send.netty.pojo.Message;
+import io.sermant.implement.service.send.netty.SendBuffer.LaneType;
 import io.sermant.implement.service.send.netty.pojo.Message.ServiceData;
 import io.sermant.implement.utils.GzipUtils;
 
 import java.util.Locale;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 /**
- * NettyClient
+ * NettyClient, the non-instant messages are buffered in {@link SendBuffer} and sent by {@link Sender}. The depth and
+ * the dropped messages of the buffer are exposed by the {@link MetricService} if it is started
  *
  * @author lilai
  * @version 0.0.1
@@ -67,6 +69,8 @@ public class NettyClient {
      */
     private static final int BACKOFF_FACTOR = 2;
 
+    private static final String DEFLATE = "deflate";
+
     /**
      * Message sending interval
      */
@@ -87,9 +91,18 @@ public class NettyClient {
      */
     private final int compareTime;
 
-    // Block queue, used to cache messages, for non-instant messages, reduce the frequency of message sending, set
-    // the capacity to 100 messages
-    private final BlockingQueue<ServiceData> queue = new ArrayBlockingQueue<>(100);
+    /**
+     * The buffered messages are sent once they reach the bytes
+     */
+    private final int sendBatchBytes;
+
+    /**
+     * Compress the messages in the raw deflate format instead of gzip
+     */
+    private final boolean isDeflate;
+
+    // Buffer of the non-instant messages, reduce the frequency of message sending
+    private final SendBuffer buffer;
 
     private final String ip;
 
@@ -101,7 +114,9 @@ public class NettyClient {
 
     private Channel channel;
 
-    private ScheduledExecutorService executorService;
+    private ExecutorService executorService;
+
+    private boolean isMetricsRegistered;
 
     private boolean connectionAvailable = false;
 
@@ -121,6 +136,9 @@ public class NettyClient {
     public NettyClient(String serverIp, int serverPort) {
         GatewayConfig gatewayConfig = ConfigManager.getConfig(GatewayConfig.class);
         sendInternalTime = gatewayConfig.getSendInternalTime();
+        sendBatchBytes = gatewayConfig.getSendBatchBytes();
+        buffer = new SendBuffer(gatewayConfig.getSendBufferBytes(), sendBatchBytes);
+        isDeflate = DEFLATE.equalsIgnoreCase(gatewayConfig.getCompression());
         initReconnectInternalTime = gatewayConfig.getInitReconnectInternalTime();
         maxReconnectInternalTime = gatewayConfig.getMaxReconnectInternalTime();
         compareTime = maxReconnectInternalTime / BACKOFF_FACTOR;
@@ -139,11 +157,13 @@ public class NettyClient {
     }
 
     private void bind() {
+        GatewayConfig gatewayConfig = ConfigManager.getConfig(GatewayConfig.class);
         eventLoopGroup = new NioEventLoopGroup(new ThreadFactoryUtils("netty-nio-event-loop-group"));
         bootstrap = new Bootstrap();
         bootstrap.group(eventLoopGroup).channel(NioSocketChannel.class).option(ChannelOption.TCP_NODELAY, true)
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
-                        ConfigManager.getConfig(GatewayConfig.class).getNettyConnectTimeout())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, gatewayConfig.getNettyConnectTimeout())
+                .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(
+                        gatewayConfig.getWriteBufferLowWaterMark(), gatewayConfig.getWriteBufferHighWaterMark()))
                 .handler(new ChannelInitializer<Channel>() {
                     @Override
                     protected void initChannel(Channel newChannel) {
@@ -215,10 +235,11 @@ public class NettyClient {
         channel = channelFuture.channel();
         if (channel.isActive()) {
             isConnected = true;
-            Sender sender = new Sender(channel, queue);
+            Sender sender = new Sender(channel, buffer, TimeUnit.SECONDS.toMillis(sendInternalTime), sendBatchBytes);
             LOGGER.info("Successfully Connected to server");
-            executorService = Executors.newScheduledThreadPool(1, new ThreadFactoryUtils("netty-send-thread"));
-            executorService.scheduleAtFixedRate(sender, 0, sendInternalTime, TimeUnit.SECONDS);
+            executorService = Executors.newSingleThreadExecutor(new ThreadFactoryUtils("netty-send-thread"));
+            executorService.execute(sender);
+            registerMetrics();
             if (NotificationManager.isEnable()) {
                 NotificationManager.doNotify(new NotificationInfo(NettyNotificationType.CONNECTED, null));
             }
@@ -236,15 +257,29 @@ public class NettyClient {
             LOGGER.warning("Message is null.");
             return;
         }
-        byte[] compressMsg = GzipUtils.compress(msg);
-        Message.ServiceData serviceData =
-                Message.ServiceData.newBuilder().setDataType(dataType).setData(ByteString.copyFrom(compressMsg))
-                        .build();
-        if (!queue.offer(serviceData)) {
-            LOGGER.info(String.format(Locale.ROOT, "Message queue is full, add %s failed.", serviceData.getDataType()));
+        Message.ServiceData serviceData = buildServiceData(msg, dataType);
+        if (!buffer.offer(serviceData)) {
+            LOGGER.fine(String.format(Locale.ROOT, "Message buffer is full, add %s failed.", dataType));
         }
     }
 
+    private Message.ServiceData buildServiceData(byte[] msg, Message.ServiceData.DataType dataType) {
+        Message.ServiceData.Builder builder = Message.ServiceData.newBuilder().setDataType(dataType);
+        if (isDeflate) {
+            return builder.setCompression(ServiceData.Compression.DEFLATE).setData(GzipUtils.deflateToByteString(msg))
+                    .build();
+        }
+        return builder.setCompression(ServiceData.Compression.GZIP).setData(GzipUtils.compressToByteString(msg))
+                .build();
+    }
+
+    /**
+     * Resume the sending when the writability of the channel changes
+     */
+    public void onWritabilityChanged() {
+        buffer.signal();
+    }
+
     /**
      * Send instant time data to the server
      *
@@ -257,19 +292,47 @@ public class NettyClient {
             LOGGER.warning("Netty connection is not available.");
             return false;
         }
-        byte[] compressMsg = GzipUtils.compress(msg);
-        Message.ServiceData serviceData =
-                Message.ServiceData.newBuilder().setDataType(dataType).setData(ByteString.copyFrom(compressMsg))
-                        .build();
+        Message.ServiceData serviceData = buildServiceData(msg, dataType);
         Message.NettyMessage message = Message.NettyMessage.newBuilder()
                 .setMessageType(Message.NettyMessage.MessageType.SERVICE_DATA).addServiceData(serviceData).build();
         if (channel == null) {
             LOGGER.warning("Netty channel is null, send instant data failure.");
             return false;
-        } else {
-            channel.writeAndFlush(message);
-            LOGGER.info("Sent instant data successfully by netty.");
-            return true;
         }
+
+        // The instant message waits in the buffer if the outbound buffer of the channel is above the high water mark
+        if (!channel.isWritable()) {
+            LOGGER.info("Netty channel is not writable, the instant data is buffered.");
+            return buffer.offer(serviceData);
+        }
+        channel.writeAndFlush(message);
+        LOGGER.info("Sent instant data successfully by netty.");
+        return true;
+    }
+
+    private void registerMetrics() {
+        if (isMetricsRegistered) {
+            return;
+        }
+        MetricService metricService;
+        try {
+            metricService = ServiceManager.getService(MetricService.class);
+        } catch (IllegalArgumentException ignored) {
+            // The metric service is not started
+            return;
+        }
+        if (metricService == null) {
+            return;
+        }
+        for (LaneType laneType : LaneType.values()) {
+            Tags tags = Tags.of("lane", laneType.getTag());
+            metricService.gauge("sermant.gateway.buffer.size", tags)
+                    .gaugeState(buffer, sendBuffer -> sendBuffer.getSize(laneType));
+            metricService.gauge("sermant.gateway.buffer.bytes", tags)
+                    .gaugeState(buffer, sendBuffer -> sendBuffer.getBytes(laneType));
+            metricService.gauge("sermant.gateway.buffer.dropped", tags)
+                    .gaugeState(buffer, sendBuffer -> sendBuffer.getDroppedCount(laneType));
+        }
+        isMetricsRegistered = true;
     }
 }
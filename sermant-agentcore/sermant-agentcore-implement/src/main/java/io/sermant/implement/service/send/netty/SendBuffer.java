@@ -0,0 +1,263 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.implement.service.send.netty;
+
+import io.sermant.implement.service.send.netty.pojo.Message.ServiceData;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Buffer of the messages to be sent, bounded by bytes and divided into lanes by priority
+ * <p>The messages are drained in the order of the lanes. When the buffer is full, the oldest messages of the lower
+ * priority lanes are dropped to make room for a message, and the message itself is dropped if there is no such lane.
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class SendBuffer {
+    private final Lane[] lanes = new Lane[LaneType.values().length];
+
+    private final long maxBytes;
+
+    private final long flushBytes;
+
+    private long totalBytes;
+
+    private boolean isSignalled;
+
+    /**
+     * Constructor
+     *
+     * @param maxBytes maximum bytes of the buffered messages
+     * @param flushBytes the buffered messages are to be flushed once they reach the bytes
+     */
+    public SendBuffer(long maxBytes, long flushBytes) {
+        this.maxBytes = maxBytes;
+        this.flushBytes = flushBytes;
+        for (LaneType laneType : LaneType.values()) {
+            lanes[laneType.ordinal()] = new Lane();
+        }
+    }
+
+    /**
+     * Add the message to its lane
+     *
+     * @param serviceData message
+     * @return true if the message is buffered, false if it is dropped
+     */
+    public synchronized boolean offer(ServiceData serviceData) {
+        LaneType laneType = LaneType.of(serviceData.getDataType());
+        int size = serviceData.getSerializedSize();
+        while (totalBytes + size > maxBytes) {
+            if (size > maxBytes || !evictLowerThan(laneType)) {
+                lanes[laneType.ordinal()].dropped.increment();
+                return false;
+            }
+        }
+        lanes[laneType.ordinal()].add(serviceData, size);
+        totalBytes += size;
+        if (totalBytes >= flushBytes) {
+            notifyAll();
+        }
+        return true;
+    }
+
+    /**
+     * Remove the messages in the order of the lanes, at least one message is removed if the buffer is not empty
+     *
+     * @param maxBatchBytes maximum bytes of the removed messages
+     * @return removed messages
+     */
+    public synchronized List<ServiceData> drain(long maxBatchBytes) {
+        List<ServiceData> batch = new ArrayList<>();
+        long batchBytes = 0L;
+        for (Lane lane : lanes) {
+            while (!lane.messages.isEmpty()) {
+                int size = lane.messages.peek().getSerializedSize();
+                if (!batch.isEmpty() && batchBytes + size > maxBatchBytes) {
+                    return batch;
+                }
+                batch.add(lane.poll(size));
+                batchBytes += size;
+                totalBytes -= size;
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Wait until the buffered messages reach the bytes to be flushed, the timeout elapses or {@link #signal()} has been
+     * called since the last wait
+     *
+     * @param timeoutMillis timeout in milliseconds
+     * @param isWritable whether the messages can be written now, if not, only the timeout and the signal end the wait
+     * @throws InterruptedException interrupted while waiting
+     */
+    public synchronized void await(long timeoutMillis, boolean isWritable) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long remaining = timeoutMillis;
+        while (remaining > 0 && !isSignalled && (!isWritable || totalBytes < flushBytes)) {
+            wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+
+        // The signal sent before waiting is kept until it is consumed here, so that it is never lost
+        isSignalled = false;
+    }
+
+    /**
+     * Wake up the waiting sender, such as when the channel becomes writable
+     */
+    public synchronized void signal() {
+        isSignalled = true;
+        notifyAll();
+    }
+
+    /**
+     * Whether the buffer is empty
+     *
+     * @return empty or not
+     */
+    public synchronized boolean isEmpty() {
+        return totalBytes == 0L;
+    }
+
+    /**
+     * Get the number of the buffered messages of the lane
+     *
+     * @param laneType lane type
+     * @return number of messages
+     */
+    public int getSize(LaneType laneType) {
+        return lanes[laneType.ordinal()].size;
+    }
+
+    /**
+     * Get the bytes of the buffered messages of the lane
+     *
+     * @param laneType lane type
+     * @return bytes
+     */
+    public long getBytes(LaneType laneType) {
+        return lanes[laneType.ordinal()].bytes;
+    }
+
+    /**
+     * Get the number of the dropped messages of the lane
+     *
+     * @param laneType lane type
+     * @return number of dropped messages
+     */
+    public long getDroppedCount(LaneType laneType) {
+        return lanes[laneType.ordinal()].dropped.sum();
+    }
+
+    private boolean evictLowerThan(LaneType laneType) {
+        for (int i = lanes.length - 1; i > laneType.ordinal(); i--) {
+            Lane lane = lanes[i];
+            if (!lane.messages.isEmpty()) {
+                int size = lane.messages.peek().getSerializedSize();
+                lane.poll(size);
+                lane.dropped.increment();
+                totalBytes -= size;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lanes of the messages, in the order of priority
+     *
+     * @since 2026-10-18
+     */
+    public enum LaneType {
+        /**
+         * Heartbeat messages
+         */
+        HEARTBEAT,
+
+        /**
+         * Event and service visibility messages
+         */
+        EVENT,
+
+        /**
+         * Tracing messages
+         */
+        TRACING;
+
+        /**
+         * Get the lane of the data type
+         *
+         * @param dataType data type
+         * @return lane type
+         */
+        public static LaneType of(ServiceData.DataType dataType) {
+            switch (dataType) {
+                case HEARTBEAT_DATA:
+                    return HEARTBEAT;
+                case TRACING_DATA:
+                case TRACING_BATCH_DATA:
+                    return TRACING;
+                default:
+                    return EVENT;
+            }
+        }
+
+        /**
+         * Get the tag of the lane used by the metrics
+         *
+         * @return tag
+         */
+        public String getTag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Messages of a lane, guarded by the buffer
+     *
+     * @since 2026-10-18
+     */
+    private static class Lane {
+        private final ArrayDeque<ServiceData> messages = new ArrayDeque<>();
+
+        private final LongAdder dropped = new LongAdder();
+
+        private volatile int size;
+
+        private volatile long bytes;
+
+        void add(ServiceData serviceData, int messageBytes) {
+            messages.add(serviceData);
+            size++;
+            bytes += messageBytes;
+        }
+
+        ServiceData poll(int messageBytes) {
+            size--;
+            bytes -= messageBytes;
+            return messages.poll();
+        }
+    }
+}
@@ -24,12 +24,12 @@ import io.sermant.implement.service.send.netty.pojo.Message.ServiceData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.BlockingQueue;
 
 /**
- * Data sender
+ * Data sender, sends the buffered messages once they reach the batch bytes or at the sending interval, whichever comes
+ * first. The sending pauses while the channel is unwritable, and resumes when it is signalled by the writability
+ * change of the channel
  *
  * @author lilai
  * @version 0.0.1
@@ -38,37 +38,52 @@ import java.util.concurrent.BlockingQueue;
 public class Sender implements Runnable {
     private static final Logger LOGGER = LoggerFactory.getLogger(Sender.class);
 
-    private final BlockingQueue<ServiceData> queue;
+    private final SendBuffer buffer;
 
     private final Channel channel;
 
+    private final long sendInterval;
+
+    private final long batchBytes;
+
     /**
      * Constructor
      *
      * @param channel channel
-     * @param queue queue
+     * @param buffer buffer of the messages
+     * @param sendInterval sending interval in milliseconds
+     * @param batchBytes the buffered messages are sent once they reach the bytes
      */
-    public Sender(Channel channel, BlockingQueue<ServiceData> queue) {
-        this.queue = queue;
+    public Sender(Channel channel, SendBuffer buffer, long sendInterval, long batchBytes) {
+        this.buffer = buffer;
         this.channel = channel;
+        this.sendInterval = sendInterval;
+        this.batchBytes = batchBytes;
     }
 
     @Override
     public void run() {
-        List<ServiceData> list;
+        while (channel.isActive() && !Thread.currentThread().isInterrupted()) {
+            try {
+                buffer.await(sendInterval, channel.isWritable());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            send();
+        }
+    }
 
-        // Send a message when the message queue is not empty
-        if (queue.size() > 0) {
-            list = new ArrayList<>();
-            queue.drainTo(list);
+    /**
+     * Send the buffered messages in batches while the channel is writable
+     */
+    void send() {
+        while (channel.isWritable() && !buffer.isEmpty()) {
+            List<ServiceData> list = buffer.drain(batchBytes);
             NettyMessage message = Message.NettyMessage.newBuilder()
                     .setMessageType(Message.NettyMessage.MessageType.SERVICE_DATA).addAllServiceData(list).build();
-            if (channel == null) {
-                LOGGER.warn("channel is null");
-            } else {
-                channel.writeAndFlush(message);
-                LOGGER.info("The message is sent to the gateway successfully. Number of messages: {}", list.size());
-            }
+            channel.writeAndFlush(message);
+            LOGGER.debug("The message is sent to the gateway successfully. Number of messages: {}", list.size());
         }
     }
 }
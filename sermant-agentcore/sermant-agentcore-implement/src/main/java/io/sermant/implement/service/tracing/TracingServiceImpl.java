@@ -20,20 +20,26 @@ import com.alibaba.fastjson.JSON;
 import com.alibaba.fastjson.serializer.SerializerFeature;
 
 import io.sermant.core.common.LoggerFactory;
+import io.sermant.core.config.ConfigManager;
 import io.sermant.core.service.tracing.api.ExtractService;
 import io.sermant.core.service.tracing.api.InjectService;
 import io.sermant.core.service.tracing.api.TracingService;
 import io.sermant.core.service.tracing.common.SpanEvent;
 import io.sermant.core.service.tracing.common.SpanEventContext;
 import io.sermant.core.service.tracing.common.TracingRequest;
+import io.sermant.core.service.tracing.config.TracingConfig;
+import io.sermant.implement.service.tracing.sampler.TracingSampler;
 import io.sermant.implement.service.tracing.sender.TracingSender;
 
 import java.util.Locale;
 import java.util.Optional;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
- * Implementation of tracing service
+ * Implementation of tracing service, the requests are sampled at the entry span by {@link TracingSampler}. Nothing is
+ * allocated for the unsampled requests, their entry spans are only remembered per thread, so that the decision is
+ * injected into the downstream requests, and the entry span is sampled in case of errors
  *
  * @author luanwenfei
  * @since 2022-03-01
@@ -55,6 +61,10 @@ public class TracingServiceImpl implements TracingService {
 
     private final ThreadLocal<SpanEventContext> threadLocal = new ThreadLocal<>();
 
+    private final ThreadLocal<UnsampledSpan> unsampledSpan = ThreadLocal.withInitial(UnsampledSpan::new);
+
+    private TracingSampler sampler;
+
     /**
      * Tracing service switch
      */
@@ -62,6 +72,8 @@ public class TracingServiceImpl implements TracingService {
 
     @Override
     public void start() {
+        TracingConfig tracingConfig = ConfigManager.getConfig(TracingConfig.class);
+        this.sampler = new TracingSampler(tracingConfig == null ? new TracingConfig() : tracingConfig);
         this.isTracing = true;
         tracingSender.start();
         LOGGER.info("TracingService started.");
@@ -96,6 +108,12 @@ public class TracingServiceImpl implements TracingService {
             return Optional.empty();
         }
         long startTime = System.currentTimeMillis();
+        if (!sampler.isSampled(tracingRequest)) {
+            threadLocal.remove();
+            unsampledSpan.get().start(tracingRequest, startTime);
+            return Optional.empty();
+        }
+        unsampledSpan.get().clear();
         SpanEventContext spanEventContext = new SpanEventContext(tracingRequest);
         SpanEvent spanEvent = spanEventContext.getSpanEvent();
         spanEvent.setStartTime(startTime);
@@ -124,6 +142,10 @@ public class TracingServiceImpl implements TracingService {
         }
         Optional<SpanEvent> spanEventOptional = configureSpanEvent(tracingRequest);
         if (!spanEventOptional.isPresent()) {
+            if (unsampledSpan.get().isStarted()) {
+                // The downstream processes follow the decision instead of sampling the request again
+                injectService.addUnsampledToCarrier(carrier);
+            }
             return spanEventOptional;
         }
         SpanEvent spanEvent = spanEventOptional.get();
@@ -135,10 +157,14 @@ public class TracingServiceImpl implements TracingService {
 
     private Optional<SpanEvent> configureSpanEvent(TracingRequest tracingRequest) {
         SpanEventContext spanEventContext = threadLocal.get();
+        if (spanEventContext == null) {
+            unsampledSpan.get().enterChild();
+            return Optional.empty();
+        }
 
         // The current Span number exceeds the maximum number that can be collected at the current layer. Therefore,
         // clear Thread Local to prevent memory leakage
-        if (spanEventContext == null || spanEventContext.getSpanIdCount().get() > MAX_SPAN_EVENT_COUNT) {
+        if (spanEventContext.getSpanIdCount().get() > MAX_SPAN_EVENT_COUNT) {
             threadLocal.remove();
             return Optional.empty();
         }
@@ -157,6 +183,7 @@ public class TracingServiceImpl implements TracingService {
         }
         SpanEventContext spanEventContext = threadLocal.get();
         if (spanEventContext == null) {
+            unsampledSpan.get().exit();
             return;
         }
         SpanEvent spanEvent = spanEventContext.getSpanEvent();
@@ -177,7 +204,13 @@ public class TracingServiceImpl implements TracingService {
         }
         SpanEventContext spanEventContext = threadLocal.get();
         if (spanEventContext == null) {
-            return Optional.empty();
+            if (!sampler.isSampleErrors()) {
+                return Optional.empty();
+            }
+            spanEventContext = sampleError();
+            if (spanEventContext == null) {
+                return Optional.empty();
+            }
         }
         SpanEvent spanEvent = spanEventContext.getSpanEvent();
         spanEvent.setError(true);
@@ -185,6 +218,23 @@ public class TracingServiceImpl implements TracingService {
         return Optional.of(spanEvent);
     }
 
+    /**
+     * The failed entry span of the unsampled request is sampled
+     *
+     * @return context of the entry span, null if the failed span is not the entry span of an unsampled request
+     */
+    private SpanEventContext sampleError() {
+        UnsampledSpan span = unsampledSpan.get();
+        if (span.tracingRequest == null || span.depth > 0) {
+            return null;
+        }
+        SpanEventContext spanEventContext = new SpanEventContext(span.tracingRequest);
+        spanEventContext.getSpanEvent().setStartTime(span.startTime);
+        threadLocal.set(spanEventContext);
+        span.clear();
+        return spanEventContext;
+    }
+
     /**
      * The sampling depth is limited by the SpanId
      *
@@ -203,8 +253,52 @@ public class TracingServiceImpl implements TracingService {
     }
 
     private void sendSpanEvent(SpanEvent spanEvent) {
-        LOGGER.info(String.format(Locale.ROOT, "Add spanEvent to queue , TraceId : [%s] , SpanId [%s] . ",
-                spanEvent.getTraceId(), spanEvent.getSpanId()));
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(String.format(Locale.ROOT, "Add spanEvent to queue , TraceId : [%s] , SpanId [%s] . ",
+                    spanEvent.getTraceId(), spanEvent.getSpanId()));
+        }
         tracingSender.offerSpanEvent(spanEvent);
     }
+
+    /**
+     * Entry span of the unsampled request, reused by the requests of the thread
+     *
+     * @since 2026-10-18
+     */
+    private static class UnsampledSpan {
+        private TracingRequest tracingRequest;
+
+        private long startTime;
+
+        private int depth;
+
+        void start(TracingRequest request, long time) {
+            this.tracingRequest = request;
+            this.startTime = time;
+            this.depth = 0;
+        }
+
+        boolean isStarted() {
+            return tracingRequest != null;
+        }
+
+        void enterChild() {
+            if (tracingRequest != null) {
+                depth++;
+            }
+        }
+
+        void exit() {
+            if (depth > 0) {
+                depth--;
+                return;
+            }
+            clear();
+        }
+
+        void clear() {
+            this.tracingRequest = null;
+            this.depth = 0;
+        }
+    }
 }
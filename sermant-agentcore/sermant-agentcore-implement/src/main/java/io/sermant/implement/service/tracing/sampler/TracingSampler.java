@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.implement.service.tracing.sampler;
+
+import io.sermant.core.service.tracing.common.TracingRequest;
+import io.sermant.core.service.tracing.config.TracingConfig;
+import io.sermant.core.utils.StringUtils;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Head-based sampler of the requests, decides at the entry span whether the request is traced
+ * <p>The decision of the upstream process is followed if it exists. Otherwise, the request is sampled with the
+ * configured probability, and then limited by the maximum number of the sampled requests per second. A request carrying
+ * a trace id without decision comes from an upstream without sampling, and is sampled.
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class TracingSampler {
+    private static final int COUNT_BITS = 32;
+
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final double sampleRatio;
+
+    private final int maxTracesPerSecond;
+
+    private final boolean sampleErrors;
+
+    /**
+     * The current second in the high 32 bits and the number of the requests sampled in it in the low 32 bits
+     */
+    private final AtomicLong window = new AtomicLong();
+
+    /**
+     * Constructor
+     *
+     * @param config tracing configuration
+     */
+    public TracingSampler(TracingConfig config) {
+        this.sampleRatio = config.getSampleRatio();
+        this.maxTracesPerSecond = config.getMaxTracesPerSecond();
+        this.sampleErrors = config.isSampleErrors();
+    }
+
+    /**
+     * Decide whether the request is sampled
+     *
+     * @param tracingRequest tracing request extracted from the protocol carrier
+     * @return sampled or not
+     */
+    public boolean isSampled(TracingRequest tracingRequest) {
+        Boolean upstreamDecision = tracingRequest.getSampled();
+        if (upstreamDecision != null) {
+            return upstreamDecision;
+        }
+        if (!StringUtils.isBlank(tracingRequest.getTraceId())) {
+            return true;
+        }
+        if (sampleRatio < 1.0D && ThreadLocalRandom.current().nextDouble() >= sampleRatio) {
+            return false;
+        }
+        return maxTracesPerSecond <= 0 || tryAcquire(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime()));
+    }
+
+    /**
+     * Whether the unsampled requests are sampled if the entry span fails
+     *
+     * @return sample errors or not
+     */
+    public boolean isSampleErrors() {
+        return sampleErrors;
+    }
+
+    boolean tryAcquire(long second) {
+        long windowSecond = second & COUNT_MASK;
+        while (true) {
+            long current = window.get();
+            long count = (current >>> COUNT_BITS) == windowSecond ? current & COUNT_MASK : 0L;
+            if (count >= maxTracesPerSecond) {
+                return false;
+            }
+            if (window.compareAndSet(current, (windowSecond << COUNT_BITS) | (count + 1))) {
+                return true;
+            }
+        }
+    }
+}
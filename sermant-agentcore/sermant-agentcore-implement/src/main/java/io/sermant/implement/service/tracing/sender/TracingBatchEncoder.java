@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.implement.service.tracing.sender;
+
+import io.sermant.core.service.tracing.common.SourceInfo;
+import io.sermant.core.service.tracing.common.SpanEvent;
+import io.sermant.core.service.tracing.common.TargetInfo;
+import io.sermant.implement.service.send.netty.pojo.Message;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes a batch of span events as {@link Message.TracingSpanBatch}, the null fields are left unset
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class TracingBatchEncoder {
+    private TracingBatchEncoder() {
+    }
+
+    /**
+     * Encode the span events
+     *
+     * @param spanEvents span events
+     * @return serialized span batch
+     */
+    public static byte[] encode(List<SpanEvent> spanEvents) {
+        Message.TracingSpanBatch.Builder batchBuilder = Message.TracingSpanBatch.newBuilder();
+        for (SpanEvent spanEvent : spanEvents) {
+            batchBuilder.addSpans(encodeSpan(spanEvent));
+        }
+        return batchBuilder.build().toByteArray();
+    }
+
+    private static Message.TracingSpan encodeSpan(SpanEvent spanEvent) {
+        Message.TracingSpan.Builder builder = Message.TracingSpan.newBuilder()
+                .setStartTime(spanEvent.getStartTime())
+                .setEndTime(spanEvent.getEndTime())
+                .setIsError(spanEvent.isError())
+                .setIsAsync(spanEvent.isAsync());
+        if (spanEvent.getTraceId() != null) {
+            builder.setTraceId(spanEvent.getTraceId());
+        }
+        if (spanEvent.getSpanId() != null) {
+            builder.setSpanId(spanEvent.getSpanId());
+        }
+        if (spanEvent.getParentSpanId() != null) {
+            builder.setParentSpanId(spanEvent.getParentSpanId());
+        }
+        if (spanEvent.getClassName() != null) {
+            builder.setClassName(spanEvent.getClassName());
+        }
+        if (spanEvent.getMethod() != null) {
+            builder.setMethod(spanEvent.getMethod());
+        }
+        if (spanEvent.getOperationDescription() != null) {
+            builder.setOperationDescription(spanEvent.getOperationDescription());
+        }
+        if (spanEvent.getType() != null) {
+            builder.setType(spanEvent.getType());
+        }
+        if (spanEvent.getErrorInfo() != null) {
+            builder.setErrorInfo(spanEvent.getErrorInfo());
+        }
+        SourceInfo sourceInfo = spanEvent.getSourceInfo();
+        if (sourceInfo != null) {
+            builder.setSourceInfo(encodeEndpoint(sourceInfo.getAddress(), sourceInfo.getClassName(),
+                    sourceInfo.getMethod()));
+        }
+        TargetInfo targetInfo = spanEvent.getTargetInfo();
+        if (targetInfo != null) {
+            builder.setTargetInfo(encodeEndpoint(targetInfo.getAddress(), targetInfo.getClassName(),
+                    targetInfo.getMethod()));
+        }
+        if (spanEvent.getTags() == null) {
+            return builder.build();
+        }
+        for (Map.Entry<String, String> tag : spanEvent.getTags().entrySet()) {
+            if (tag.getKey() != null && tag.getValue() != null) {
+                builder.putTags(tag.getKey(), tag.getValue());
+            }
+        }
+        return builder.build();
+    }
+
+    private static Message.TracingEndpoint encodeEndpoint(String address, String className, String method) {
+        Message.TracingEndpoint.Builder builder = Message.TracingEndpoint.newBuilder();
+        if (address != null) {
+            builder.setAddress(address);
+        }
+        if (className != null) {
+            builder.setClassName(className);
+        }
+        if (method != null) {
+            builder.setMethod(method);
+        }
+        return builder.build();
+    }
+}
@@ -16,25 +16,28 @@
 
 package io.sermant.implement.service.tracing.sender;
 
-import com.alibaba.fastjson.JSON;
-import com.alibaba.fastjson.serializer.SerializerFeature;
-
 import io.sermant.core.common.LoggerFactory;
 import io.sermant.core.service.ServiceManager;
+import io.sermant.core.service.metric.api.MetricService;
 import io.sermant.core.service.send.api.GatewayClient;
 import io.sermant.core.service.tracing.common.SpanEvent;
 import io.sermant.implement.service.send.netty.pojo.Message;
 
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
-import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
- * Tracing message sender
+ * Tracing message sender, the span events are drained from the queue in batches, and each batch is encoded as
+ * {@link Message.TracingSpanBatch} and sent as one message. The span events are dropped if the queue is full, the
+ * numbers of the sent and the dropped span events are exposed by the {@link MetricService} if it is started
  *
  * @author luanwenfei
  * @since 2022-03-04
@@ -42,7 +45,11 @@ import java.util.logging.Logger;
 public class TracingSender {
     private static final Logger LOGGER = LoggerFactory.getLogger();
 
-    private static final int MAX_SPAN_EVENT_COUNT = 512;
+    private static final int MAX_SPAN_EVENT_COUNT = 8192;
+
+    private static final int MAX_BATCH_SIZE = 512;
+
+    private static final long MAX_WAIT_TIME = 1000L;
 
     private static final long TRACING_SENDER_MINIMAL_INTERVAL = 1000L;
 
@@ -52,6 +59,10 @@ public class TracingSender {
 
     private final ArrayBlockingQueue<SpanEvent> spanEvents;
 
+    private final LongAdder sentSpanEvents = new LongAdder();
+
+    private final LongAdder droppedSpanEvents = new LongAdder();
+
     private ExecutorService executorService;
 
     private GatewayClient gatewayClient;
@@ -59,7 +70,7 @@ public class TracingSender {
     /**
      * Flag that enable and disable the current service
      */
-    private boolean isSending;
+    private volatile boolean isSending;
 
     private TracingSender() {
         spanEvents = new ArrayBlockingQueue<>(MAX_SPAN_EVENT_COUNT);
@@ -87,6 +98,7 @@ public class TracingSender {
         }
         this.isSending = true;
         gatewayClient = ServiceManager.getService(GatewayClient.class);
+        registerMetrics();
         if (executorService == null || executorService.isShutdown()) {
             executorService = Executors.newSingleThreadExecutor(
                     runnable -> new Thread(runnable, "tracing-sender-thread"));
@@ -140,12 +152,34 @@ public class TracingSender {
         if (spanEvent == null) {
             return;
         }
-        boolean isSuccessful = spanEvents.offer(spanEvent);
-        if (!isSuccessful) {
-            LOGGER.warning("Failed to offer spanEvent.");
+        if (!spanEvents.offer(spanEvent)) {
+            droppedSpanEvents.increment();
         }
     }
 
+    public long getSentSpanEventCount() {
+        return sentSpanEvents.sum();
+    }
+
+    public long getDroppedSpanEventCount() {
+        return droppedSpanEvents.sum();
+    }
+
+    private void registerMetrics() {
+        MetricService metricService;
+        try {
+            metricService = ServiceManager.getService(MetricService.class);
+        } catch (IllegalArgumentException ignored) {
+            // The metric service is not started
+            return;
+        }
+        if (metricService == null) {
+            return;
+        }
+        metricService.gauge("sermant.tracing.span.sent").gaugeState(sentSpanEvents, LongAdder::doubleValue);
+        metricService.gauge("sermant.tracing.span.dropped").gaugeState(droppedSpanEvents, LongAdder::doubleValue);
+    }
+
     /**
      * Tracing message sending thread
      *
@@ -153,43 +187,50 @@ public class TracingSender {
      * @since 2022-03-04
      */
     private class SpanEventSendThread extends Thread {
+        private final List<SpanEvent> batch = new ArrayList<>(MAX_BATCH_SIZE);
+
+        private long reportedDroppedCount;
+
         @Override
         public void run() {
             LOGGER.info("TracingSender started.");
             while (isSending) {
-                Optional<TracingMessage> tracingMessage = buildTracingMessage();
-                if (!tracingMessage.isPresent()) {
-                    // If no SpanEvent is obtained, wait for a period of time and then execute it again
-                    try {
-                        Thread.sleep(TRACING_SENDER_MINIMAL_INTERVAL);
-                    } catch (InterruptedException e) {
-                        LOGGER.severe(String.format(Locale.ROOT, "Exception [%s] occurs for [%s] when waiting queue. ",
-                                e.getClass(), e.getMessage()));
+                try {
+                    SpanEvent spanEvent = spanEvents.poll(MAX_WAIT_TIME, TimeUnit.MILLISECONDS);
+                    if (spanEvent == null) {
+                        continue;
                     }
-                    continue;
+                    batch.add(spanEvent);
+                    spanEvents.drainTo(batch, MAX_BATCH_SIZE - 1);
+                    sendBatch();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } finally {
+                    batch.clear();
                 }
-                sendMessage(tracingMessage.get());
             }
             LOGGER.info("TracingSender stopped.");
         }
 
-        private Optional<TracingMessage> buildTracingMessage() {
-            SpanEvent spanEvent = spanEvents.poll();
-            if (spanEvent == null) {
-                return Optional.empty();
+        private void sendBatch() {
+            reportDroppedCount();
+            gatewayClient.send(TracingBatchEncoder.encode(batch),
+                    Message.ServiceData.DataType.TRACING_BATCH_DATA_VALUE);
+            sentSpanEvents.add(batch.size());
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine(String.format(Locale.ROOT, "Sent [%d] span events, the first traceId : [%s] .",
+                        batch.size(), batch.get(0).getTraceId()));
             }
-
-            // Node information needs to be obtained after the configuration is modified
-            TracingMessageHeader tracingMessageHeader = new TracingMessageHeader();
-            return Optional.of(new TracingMessage(spanEvent.getTraceId(), tracingMessageHeader, spanEvent));
         }
 
-        private void sendMessage(TracingMessage tracingMessage) {
-            LOGGER.info(String.format(Locale.ROOT, "Sending tracing message traceId : [%s] , spanId : [%s] .",
-                    tracingMessage.getBody().getTraceId(), tracingMessage.getBody().getSpanId()));
-            String serializedMessage = JSON.toJSONString(tracingMessage, SerializerFeature.WriteMapNullValue);
-            gatewayClient.send(serializedMessage.getBytes(StandardCharsets.UTF_8),
-                    Message.ServiceData.DataType.TRACING_DATA_VALUE);
+        private void reportDroppedCount() {
+            long droppedCount = droppedSpanEvents.sum();
+            if (droppedCount > reportedDroppedCount) {
+                LOGGER.warning(String.format(Locale.ROOT, "Dropped [%d] span events as the queue is full.",
+                        droppedCount - reportedDroppedCount));
+                reportedDroppedCount = droppedCount;
+            }
         }
     }
 }
@@ -16,22 +16,29 @@
 
 package io.sermant.implement.utils;
 
-import io.sermant.core.common.LoggerFactory;
+import com.google.protobuf.ByteString;
 
-import org.apache.commons.io.IOUtils;
+import io.sermant.core.common.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Locale;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
 
 /**
  * Compression and decompression tools
+ * <p>The byte array methods reuse a {@link Deflater} or an {@link Inflater} per thread instead of creating the native
+ * ones per message, and write the gzip header and trailer themselves. Besides gzip, the raw deflate format compressed
+ * at the best speed is supported, which has neither the header nor the checksum
  *
  * @author lilai
  * @version 0.0.1
@@ -45,6 +52,37 @@ public class GzipUtils {
 
     private static final int FLAG = -1;
 
+    private static final int CHUNK_SIZE = 8192;
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    private static final int GZIP_HEADER_SIZE = 10;
+
+    private static final int GZIP_TRAILER_SIZE = 8;
+
+    private static final int FHCRC = 2;
+
+    private static final int FEXTRA = 4;
+
+    private static final int FNAME = 8;
+
+    private static final int FCOMMENT = 16;
+
+    private static final byte[] GZIP_HEADER = {(byte) GZIP_MAGIC, (byte) (GZIP_MAGIC >> 8), Deflater.DEFLATED, 0, 0,
+        0, 0, 0, 0, 0};
+
+    private static final byte[] EMPTY_BYTES = new byte[0];
+
+    private static final ThreadLocal<Deflater> GZIP_DEFLATER =
+            ThreadLocal.withInitial(() -> new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+
+    private static final ThreadLocal<Deflater> FAST_DEFLATER =
+            ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED, true));
+
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
+    private static final ThreadLocal<byte[]> CHUNK = ThreadLocal.withInitial(() -> new byte[CHUNK_SIZE]);
+
     private GzipUtils() {
     }
 
@@ -55,13 +93,33 @@ public class GzipUtils {
      * @return Compressed data
      */
     public static byte[] compress(byte[] data) {
-        ByteArrayInputStream bais = new ByteArrayInputStream(data);
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ByteArrayOutputStream output = new ByteArrayOutputStream(initialCapacity(data));
+        writeGzip(data, output);
+        return output.toByteArray();
+    }
 
-        // compress
-        compress(bais, baos);
-        byte[] output = baos.toByteArray();
-        return getBytes(output, bais, baos);
+    /**
+     * Data compaction, the compressed data is written into the ByteString without copying the result again
+     *
+     * @param data Data to be compressed
+     * @return Compressed data
+     */
+    public static ByteString compressToByteString(byte[] data) {
+        ByteString.Output output = ByteString.newOutput(initialCapacity(data));
+        writeGzip(data, output);
+        return output.toByteString();
+    }
+
+    /**
+     * Data compaction in the raw deflate format at the best speed
+     *
+     * @param data Data to be compressed
+     * @return Compressed data
+     */
+    public static ByteString deflateToByteString(byte[] data) {
+        ByteString.Output output = ByteString.newOutput(initialCapacity(data));
+        deflate(FAST_DEFLATER.get(), data, output);
+        return output.toByteString();
     }
 
     /**
@@ -93,12 +151,43 @@ public class GzipUtils {
      * @return Decompressed data
      */
     public static byte[] decompress(byte[] data) {
-        ByteArrayInputStream bais = new ByteArrayInputStream(data);
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try {
+            int offset = skipGzipHeader(data);
+            int length = data.length - offset - GZIP_TRAILER_SIZE;
+            if (length < 0) {
+                throw new ZipException("Truncated gzip data");
+            }
+            byte[] output = inflate(data, offset, length);
+            CRC32 crc = new CRC32();
+            crc.update(output, 0, output.length);
+            if (readIntLe(data, offset + length) != (int) crc.getValue()
+                    || readIntLe(data, offset + length + Integer.BYTES) != output.length) {
+                throw new ZipException("Corrupt gzip trailer");
+            }
+            return output;
+        } catch (IOException | DataFormatException e) {
+            LOGGER.severe(
+                    String.format(Locale.ROOT, "Exception occurs when decompress. Exception info: [%s]}",
+                            e.getMessage()));
+            return EMPTY_BYTES;
+        }
+    }
 
-        // uncompress
-        decompress(bais, baos);
-        return getBytes(baos.toByteArray(), bais, baos);
+    /**
+     * Data decompression of the raw deflate format
+     *
+     * @param data Data to be decompressed
+     * @return Decompressed data
+     */
+    public static byte[] inflate(byte[] data) {
+        try {
+            return inflate(data, 0, data.length);
+        } catch (IOException | DataFormatException e) {
+            LOGGER.severe(
+                    String.format(Locale.ROOT, "Exception occurs when inflate. Exception info: [%s]}",
+                            e.getMessage()));
+            return EMPTY_BYTES;
+        }
     }
 
     /**
@@ -121,17 +210,112 @@ public class GzipUtils {
         }
     }
 
-    private static byte[] getBytes(byte[] data, ByteArrayInputStream bais, ByteArrayOutputStream baos) {
+    private static void writeGzip(byte[] data, OutputStream output) {
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length);
         try {
-            baos.flush();
+            output.write(GZIP_HEADER);
+            deflate(GZIP_DEFLATER.get(), data, output);
+            writeIntLe(output, (int) crc.getValue());
+            writeIntLe(output, data.length);
         } catch (IOException e) {
+            // Neither ByteArrayOutputStream nor ByteString.Output throws IOException
             LOGGER.severe(
-                    String.format(Locale.ROOT, "Exception occurs when getBytes. Exception info: [%s]}",
+                    String.format(Locale.ROOT, "Exception occurs when compress. Exception info: [%s]}",
                             e.getMessage()));
+        }
+    }
+
+    private static void deflate(Deflater deflater, byte[] data, OutputStream output) {
+        byte[] chunk = CHUNK.get();
+        deflater.reset();
+        deflater.setInput(data);
+        deflater.finish();
+        try {
+            while (!deflater.finished()) {
+                output.write(chunk, 0, deflater.deflate(chunk));
+            }
+        } catch (IOException e) {
+            LOGGER.severe(
+                    String.format(Locale.ROOT, "Exception occurs when compress. Exception info: [%s]}",
+                            e.getMessage()));
+        } finally {
+            // Release the reference to the data held by the reused deflater
+            deflater.setInput(EMPTY_BYTES);
+        }
+    }
+
+    private static byte[] inflate(byte[] data, int offset, int length) throws DataFormatException, ZipException {
+        Inflater inflater = INFLATER.get();
+        byte[] chunk = CHUNK.get();
+        ByteArrayOutputStream output = new ByteArrayOutputStream(length * 2);
+        inflater.reset();
+        inflater.setInput(data, offset, length);
+        try {
+            while (!inflater.finished()) {
+                int count = inflater.inflate(chunk);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new ZipException("Truncated deflate data");
+                }
+                output.write(chunk, 0, count);
+            }
         } finally {
-            IOUtils.closeQuietly(bais);
-            IOUtils.closeQuietly(baos);
+            inflater.setInput(EMPTY_BYTES);
         }
-        return data;
+        return output.toByteArray();
+    }
+
+    private static int skipGzipHeader(byte[] data) throws ZipException {
+        if (data.length < GZIP_HEADER_SIZE || (readShortLe(data, 0)) != GZIP_MAGIC
+                || data[2] != Deflater.DEFLATED) {
+            throw new ZipException("Not in gzip format");
+        }
+        int flags = data[3] & 0xFF;
+        int offset = GZIP_HEADER_SIZE;
+        if ((flags & FEXTRA) != 0) {
+            offset += Short.BYTES + readShortLe(data, offset);
+        }
+        if ((flags & FNAME) != 0) {
+            offset = skipZeroTerminated(data, offset);
+        }
+        if ((flags & FCOMMENT) != 0) {
+            offset = skipZeroTerminated(data, offset);
+        }
+        if ((flags & FHCRC) != 0) {
+            offset += Short.BYTES;
+        }
+        return offset;
+    }
+
+    private static int skipZeroTerminated(byte[] data, int offset) throws ZipException {
+        for (int i = offset; i < data.length; i++) {
+            if (data[i] == 0) {
+                return i + 1;
+            }
+        }
+        throw new ZipException("Truncated gzip header");
+    }
+
+    private static int readShortLe(byte[] data, int offset) throws ZipException {
+        if (offset + Short.BYTES > data.length) {
+            throw new ZipException("Truncated gzip header");
+        }
+        return (data[offset] & 0xFF) | ((data[offset + 1] & 0xFF) << 8);
+    }
+
+    private static int readIntLe(byte[] data, int offset) {
+        return (data[offset] & 0xFF) | ((data[offset + 1] & 0xFF) << 8) | ((data[offset + 2] & 0xFF) << 16)
+                | ((data[offset + 3] & 0xFF) << 24);
+    }
+
+    private static void writeIntLe(OutputStream output, int value) throws IOException {
+        output.write(value);
+        output.write(value >>> 8);
+        output.write(value >>> 16);
+        output.write(value >>> 24);
+    }
+
+    private static int initialCapacity(byte[] data) {
+        return Math.max(GZIP_HEADER_SIZE + GZIP_TRAILER_SIZE, data.length / 2);
     }
 }
@@ -182,6 +182,37 @@ public class LabelGroupUtils {
         return finalGroupStr.replace(KieConstants.SEPARATOR, KieConstants.CONNECTOR);
     }
 
+    /**
+     * Parse the label condition as map
+     *
+     * @param labelCondition label condition, such as: 'label=app:sc&label=service:helloService'
+     * @return Tag key-value pairs in the order of the condition
+     */
+    public static Map<String, String> resolveLabelCondition(String labelCondition) {
+        final Map<String, String> result = new LinkedHashMap<>();
+        if (labelCondition == null || labelCondition.isEmpty()) {
+            return result;
+        }
+        try {
+            for (String condition : labelCondition.split(GROUP_SEPARATOR)) {
+                if (!condition.startsWith(LABEL_PREFIX)) {
+                    continue;
+                }
+                final String label = URLDecoder.decode(condition.substring(LABEL_PREFIX.length()),
+                        StandardCharsets.UTF_8.name());
+                final int index = label.indexOf(LABEL_QUERY_SEPARATOR);
+                if (index < 0) {
+                    result.put(label, "");
+                } else {
+                    result.put(label.substring(0, index), label.substring(index + 1));
+                }
+            }
+        } catch (UnsupportedEncodingException e) {
+            LOGGER.warn("UnsupportedEncodingException, msg is {}.", e.getMessage());
+        }
+        return result;
+    }
+
     private static String buildSingleLabel(String key, String value) {
         try {
             return URLEncoder.encode(key + LABEL_QUERY_SEPARATOR + value, StandardCharsets.UTF_8.name());
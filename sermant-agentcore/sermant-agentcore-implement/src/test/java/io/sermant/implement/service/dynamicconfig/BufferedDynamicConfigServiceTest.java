@@ -0,0 +1,276 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.implement.service.dynamicconfig;
+
+import io.sermant.core.service.dynamicconfig.DynamicConfigService;
+import io.sermant.core.service.dynamicconfig.common.DynamicConfigEvent;
+import io.sermant.core.service.dynamicconfig.common.DynamicConfigEventType;
+import io.sermant.core.service.dynamicconfig.common.DynamicConfigListener;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test the warm start of the group listeners from the config snapshot
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class BufferedDynamicConfigServiceTest {
+    private static final String GROUP = "app=demo&environment=";
+
+    private static final long TIMEOUT_MS = 5000L;
+
+    @Rule
+    public TemporaryFolder snapshotDir = new TemporaryFolder();
+
+    @Test
+    public void testWarmStartFromSnapshot() throws InterruptedException {
+        // First startup, the configurations are recorded into the snapshot
+        StubDynamicConfigService firstStub = new StubDynamicConfigService(createConfigs("a", "1", "b", "2", "c", "3"));
+        RecordListener firstListener = new RecordListener();
+        BufferedDynamicConfigService firstService = createService(firstStub);
+        Assert.assertTrue(firstService.addGroupListener(GROUP, firstListener, true));
+        Assert.assertEquals(createConfigs("a", "1", "b", "2", "c", "3"), firstListener.configs);
+        firstService.stop();
+        Assert.assertEquals(1L, new ConfigSnapshot(snapshotDir.getRoot()).getRevision(GROUP));
+
+        // Next startup with a stalled configuration center, the snapshot is served at once
+        StubDynamicConfigService stalledStub =
+                new StubDynamicConfigService(createConfigs("a", "1", "b", "4", "d", "5"));
+        stalledStub.stall = new CountDownLatch(1);
+        RecordListener listener = new RecordListener();
+        BufferedDynamicConfigService service = createService(stalledStub);
+        long start = System.nanoTime();
+        Assert.assertTrue(service.addGroupListener(GROUP, listener, true));
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < TIMEOUT_MS);
+        Assert.assertEquals(createConfigs("a", "1", "b", "2", "c", "3"), listener.configs);
+
+        // Reconciled once the configuration center answers, the unchanged configuration is not notified again
+        stalledStub.stall.countDown();
+        Map<String, String> expected = createConfigs("a", "1", "b", "4", "d", "5");
+        Assert.assertTrue(awaitConfigs(listener, expected));
+        Assert.assertEquals(1, listener.countEvents("a"));
+        Assert.assertEquals(DynamicConfigEventType.DELETE, listener.lastEvent("c").getEventType());
+        Assert.assertTrue(awaitRevision(2L));
+        Assert.assertEquals(expected, new ConfigSnapshot(snapshotDir.getRoot()).load(GROUP));
+
+        // The later changes are saved as they come
+        stalledStub.listener.process(DynamicConfigEvent.modifyEvent("a", GROUP, "6"));
+        Assert.assertEquals(3L, new ConfigSnapshot(snapshotDir.getRoot()).getRevision(GROUP));
+        Assert.assertEquals("6", new ConfigSnapshot(snapshotDir.getRoot()).load(GROUP).get("a"));
+        service.stop();
+    }
+
+    @Test
+    public void testSnapshotKeptIfNothingReported() throws InterruptedException {
+        ConfigSnapshot snapshot = new ConfigSnapshot(snapshotDir.getRoot());
+        snapshot.put(GROUP, "a", "1");
+        snapshot.save(GROUP);
+
+        // An empty answer can not be told from an unavailable configuration center
+        RecordListener listener = new RecordListener();
+        BufferedDynamicConfigService service = createService(new StubDynamicConfigService(Collections.emptyMap()));
+        Assert.assertTrue(service.addGroupListener(GROUP, listener, true));
+        Assert.assertTrue(awaitRevision(2L));
+        Assert.assertEquals(Collections.singletonMap("a", "1"), listener.configs);
+        Assert.assertEquals(Collections.singletonMap("a", "1"),
+                new ConfigSnapshot(snapshotDir.getRoot()).load(GROUP));
+        service.stop();
+    }
+
+    @Test
+    public void testFailedSubscriptionRetried() throws InterruptedException {
+        ConfigSnapshot snapshot = new ConfigSnapshot(snapshotDir.getRoot());
+        snapshot.put(GROUP, "a", "1");
+        snapshot.save(GROUP);
+
+        // The snapshot is served at once, the failed subscription in the background is retried until it succeeds
+        StubDynamicConfigService stub = new StubDynamicConfigService(createConfigs("a", "2"));
+        stub.failures.set(1);
+        RecordListener listener = new RecordListener();
+        BufferedDynamicConfigService service = createService(stub);
+        Assert.assertTrue(service.addGroupListener(GROUP, listener, true));
+        Assert.assertEquals(Collections.singletonMap("a", "1"), listener.configs);
+        Assert.assertTrue(awaitConfigs(listener, Collections.singletonMap("a", "2")));
+        Assert.assertEquals(2, stub.subscriptions.get());
+        Assert.assertNotNull(stub.listener);
+        service.stop();
+    }
+
+    private BufferedDynamicConfigService createService(DynamicConfigService stub) {
+        return new BufferedDynamicConfigService(stub, new ConfigSnapshot(snapshotDir.getRoot()));
+    }
+
+    private boolean awaitRevision(long revision) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (new ConfigSnapshot(snapshotDir.getRoot()).getRevision(GROUP) != revision) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(10L);
+        }
+        return true;
+    }
+
+    private static boolean awaitConfigs(RecordListener listener, Map<String, String> expected)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!expected.equals(listener.configs)) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(10L);
+        }
+        return true;
+    }
+
+    private static Map<String, String> createConfigs(String... keyValues) {
+        Map<String, String> configs = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            configs.put(keyValues[i], keyValues[i + 1]);
+        }
+        return configs;
+    }
+
+    /**
+     * Listener applying the events to a map of the configurations
+     *
+     * @since 2026-10-18
+     */
+    private static class RecordListener implements DynamicConfigListener {
+        private final Map<String, String> configs = new ConcurrentHashMap<>();
+
+        private final List<DynamicConfigEvent> events = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void process(DynamicConfigEvent event) {
+            events.add(event);
+            if (event.getEventType() == DynamicConfigEventType.DELETE) {
+                configs.remove(event.getKey());
+            } else {
+                configs.put(event.getKey(), event.getContent());
+            }
+        }
+
+        int countEvents(String key) {
+            synchronized (events) {
+                return (int) events.stream().filter(event -> key.equals(event.getKey())).count();
+            }
+        }
+
+        DynamicConfigEvent lastEvent(String key) {
+            synchronized (events) {
+                DynamicConfigEvent last = null;
+                for (DynamicConfigEvent event : events) {
+                    if (key.equals(event.getKey())) {
+                        last = event;
+                    }
+                }
+                return last;
+            }
+        }
+    }
+
+    /**
+     * Configuration center stub, the subscription waits for the latch if stalled, and fails as many times as required
+     *
+     * @since 2026-10-18
+     */
+    private static class StubDynamicConfigService extends DynamicConfigService {
+        private final Map<String, String> configs;
+
+        private volatile CountDownLatch stall;
+
+        private volatile DynamicConfigListener listener;
+
+        private final AtomicInteger failures = new AtomicInteger();
+
+        private final AtomicInteger subscriptions = new AtomicInteger();
+
+        StubDynamicConfigService(Map<String, String> configs) {
+            this.configs = configs;
+        }
+
+        @Override
+        public Optional<String> doGetConfig(String key, String group) {
+            return Optional.ofNullable(configs.get(key));
+        }
+
+        @Override
+        public boolean doPublishConfig(String key, String group, String content) {
+            return false;
+        }
+
+        @Override
+        public boolean doRemoveConfig(String key, String group) {
+            return false;
+        }
+
+        @Override
+        public boolean doAddConfigListener(String key, String group, DynamicConfigListener configListener) {
+            return false;
+        }
+
+        @Override
+        public boolean doRemoveGroupListener(String group) {
+            return false;
+        }
+
+        @Override
+        public boolean doRemoveConfigListener(String key, String group) {
+            return false;
+        }
+
+        @Override
+        public List<String> doListKeysFromGroup(String group) {
+            return new ArrayList<>(configs.keySet());
+        }
+
+        @Override
+        public boolean doAddGroupListener(String group, DynamicConfigListener groupListener) {
+            subscriptions.incrementAndGet();
+            if (failures.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+                return false;
+            }
+            if (stall != null) {
+                try {
+                    stall.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            this.listener = groupListener;
+            return true;
+        }
+    }
+}
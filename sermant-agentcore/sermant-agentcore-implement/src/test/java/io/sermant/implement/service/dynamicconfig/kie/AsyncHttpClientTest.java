@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.implement.service.dynamicconfig.kie;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.management.UnixOperatingSystemMXBean;
+import com.sun.net.httpserver.HttpServer;
+
+import io.sermant.implement.service.dynamicconfig.kie.client.http.AsyncHttpClient;
+import io.sermant.implement.service.dynamicconfig.kie.client.http.HttpResult;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test the non-blocking http client with the concurrent watches against a stub server
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class AsyncHttpClientTest {
+    private static final int WATCH_COUNT = 2000;
+
+    private static final int TIMEOUT = 60000;
+
+    /**
+     * File descriptors kept free for the jars, the logs and the JVM besides the two ends of every watch connection
+     */
+    private static final int RESERVED_FILE_DESCRIPTORS = 512;
+
+    private static final String THREAD_PREFIX = "kie-http-";
+
+    /**
+     * The reactor dispatching thread and the only I/O thread
+     */
+    private static final int MAX_CLIENT_THREADS = 2;
+
+    private final List<HttpExchange> heldExchanges = Collections.synchronizedList(new ArrayList<>());
+
+    private final CountDownLatch allHeld = new CountDownLatch(WATCH_COUNT);
+
+    private Set<Thread> threadsBefore;
+
+    private HttpServer server;
+
+    private AsyncHttpClient httpClient;
+
+    @Before
+    public void setUp() throws IOException {
+        Assume.assumeTrue("Not enough file descriptors for the watch connections",
+                getMaxFileDescriptorCount() >= WATCH_COUNT * 2L + RESERVED_FILE_DESCRIPTORS);
+
+        // The stub holds each watch open without answering until the test releases them
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), WATCH_COUNT);
+        server.createContext("/v1/default/kie/kv", exchange -> {
+            heldExchanges.add(exchange);
+            allHeld.countDown();
+        });
+        server.start();
+        threadsBefore = getClientThreads();
+        httpClient = new AsyncHttpClient(TIMEOUT, WATCH_COUNT);
+    }
+
+    @After
+    public void tearDown() {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void testConcurrentWatches() throws InterruptedException {
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/default/kie/kv?revision=1&wait=20s";
+        List<CompletableFuture<HttpResult>> futures = new ArrayList<>(WATCH_COUNT);
+        for (int i = 0; i < WATCH_COUNT; i++) {
+            futures.add(httpClient.doGetAsync(url, null));
+        }
+
+        // None of the watches is answered before all of them reach the stub, so they are all in flight at once
+        Assert.assertTrue(allHeld.await(TIMEOUT, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(WATCH_COUNT, heldExchanges.size());
+        for (CompletableFuture<HttpResult> future : futures) {
+            Assert.assertFalse(future.isDone());
+        }
+
+        // The waiting watches hold no thread of their own
+        Set<Thread> clientThreads = getClientThreads();
+        clientThreads.removeAll(threadsBefore);
+        Assert.assertTrue(clientThreads.size() <= MAX_CLIENT_THREADS);
+
+        synchronized (heldExchanges) {
+            heldExchanges.forEach(AsyncHttpClientTest::respond);
+        }
+        for (CompletableFuture<HttpResult> future : futures) {
+            HttpResult result = future.join();
+            Assert.assertEquals(200, result.getCode());
+            Assert.assertEquals("{\"data\":[]}", result.getResult());
+        }
+    }
+
+    private static long getMaxFileDescriptorCount() {
+        OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+        if (operatingSystem instanceof UnixOperatingSystemMXBean) {
+            return ((UnixOperatingSystemMXBean) operatingSystem).getMaxFileDescriptorCount();
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private static Set<Thread> getClientThreads() {
+        Set<Thread> threads = new HashSet<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith(THREAD_PREFIX)) {
+                threads.add(thread);
+            }
+        }
+        return threads;
+    }
+
+    private static void respond(HttpExchange exchange) {
+        byte[] body = "{\"data\":[]}".getBytes(StandardCharsets.UTF_8);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            exchange.sendResponseHeaders(200, body.length);
+            outputStream.write(body);
+        } catch (IOException ex) {
+            exchange.close();
+        }
+    }
+}
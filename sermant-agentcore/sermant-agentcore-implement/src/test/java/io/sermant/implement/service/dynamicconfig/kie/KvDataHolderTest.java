@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.implement.service.dynamicconfig.kie;
+
+import io.sermant.implement.service.dynamicconfig.kie.client.kie.KieConfigEntity;
+import io.sermant.implement.service.dynamicconfig.kie.client.kie.KieResponse;
+import io.sermant.implement.service.dynamicconfig.kie.listener.KvDataHolder;
+import io.sermant.implement.service.dynamicconfig.kie.listener.KvDataHolder.EventDataHolder;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test the incremental analysis of the kv data
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class KvDataHolderTest {
+    private final KvDataHolder kvDataHolder = new KvDataHolder();
+
+    @Test
+    public void testAnalyzeLatestData() {
+        EventDataHolder first = kvDataHolder.analyzeLatestData(createResponse("1", "a", "1", "b", "2", "c", "3"),
+                true);
+        Assert.assertEquals(3, first.getAdded().size());
+        Assert.assertEquals(3, first.getLatestData().size());
+        Assert.assertEquals(1L, first.getVersion());
+
+        // Unchanged revision is skipped even if the data differs
+        Assert.assertFalse(kvDataHolder.analyzeLatestData(createResponse("1", "a", "9"), false).isChanged());
+
+        // Only the changed keys are reported
+        Assert.assertFalse(kvDataHolder.analyzeLatestData(createResponse("2", "a", "1", "b", "2", "c", "3"), false)
+                .isChanged());
+        EventDataHolder changed = kvDataHolder.analyzeLatestData(createResponse("3", "a", "1", "b", "4", "d", "5"),
+                false);
+        Assert.assertEquals(Collections.singletonMap("b", "4"), changed.getModified());
+        Assert.assertEquals(Collections.singletonMap("d", "5"), changed.getAdded());
+        Assert.assertEquals(Collections.singletonMap("c", "3"), changed.getDeleted());
+        Assert.assertEquals(3L, changed.getVersion());
+
+        // Duplicated keys do not hide the deleted ones
+        EventDataHolder deleted = kvDataHolder.analyzeLatestData(createResponse("4", "a", "1", "a", "1", "b", "4"),
+                false);
+        Assert.assertEquals(Collections.singletonMap("d", "5"), deleted.getDeleted());
+        Assert.assertEquals(2, kvDataHolder.analyzeLatestData(createResponse("5"), false).getDeleted().size());
+    }
+
+    @Test
+    public void testAbsentRevision() {
+        kvDataHolder.analyzeLatestData(createResponse(null, "a", "1"), true);
+        EventDataHolder changed = kvDataHolder.analyzeLatestData(createResponse(null, "a", "2"), false);
+        Assert.assertEquals(Collections.singletonMap("a", "2"), changed.getModified());
+    }
+
+    @Test
+    public void testModifiedValue() {
+        kvDataHolder.analyzeLatestData(createResponse("1", "a", "1", "b", null), true);
+
+        // Every different value is reported, whatever its length
+        EventDataHolder changed = kvDataHolder.analyzeLatestData(createResponse("2", "a", "2", "b", null), false);
+        Assert.assertEquals(Collections.singletonMap("a", "2"), changed.getModified());
+        changed = kvDataHolder.analyzeLatestData(createResponse("3", "a", null, "b", "1"), false);
+        Assert.assertEquals(2, changed.getModified().size());
+        Assert.assertNull(changed.getModified().get("a"));
+        Assert.assertEquals("1", changed.getModified().get("b"));
+        Assert.assertFalse(kvDataHolder.analyzeLatestData(createResponse("4", "a", null, "b", "1"), false)
+                .isChanged());
+    }
+
+    private static KieResponse createResponse(String revision, String... keyValues) {
+        List<KieConfigEntity> data = new ArrayList<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            KieConfigEntity entity = new KieConfigEntity();
+            entity.setKey(keyValues[i]);
+            entity.setValue(keyValues[i + 1]);
+            data.add(entity);
+        }
+        KieResponse response = new KieResponse();
+        response.setRevision(revision);
+        response.setData(data);
+        return response;
+    }
+}
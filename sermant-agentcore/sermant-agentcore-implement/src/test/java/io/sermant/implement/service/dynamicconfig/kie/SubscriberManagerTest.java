@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.implement.service.dynamicconfig.kie;
+
+import com.alibaba.fastjson.JSONObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.sermant.core.service.dynamicconfig.common.DynamicConfigEvent;
+import io.sermant.core.service.dynamicconfig.common.DynamicConfigEventType;
+import io.sermant.core.service.dynamicconfig.common.DynamicConfigListener;
+import io.sermant.implement.service.dynamicconfig.kie.listener.SubscriberManager;
+import io.sermant.implement.utils.LabelGroupUtils;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test the long poll of the subscriptions against a fake Kie server
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class SubscriberManagerTest {
+    private static final int GROUP_COUNT = 20;
+
+    private static final int TIMEOUT = 30000;
+
+    private static final long EVENT_TIMEOUT_SECONDS = 15L;
+
+    private static final String KEY = "demo.key";
+
+    /**
+     * Threads of the scheduled executor and the I/O reactor of the http client, independent of the groups
+     */
+    private static final int MAX_THREAD_COUNT = 7;
+
+    private final FakeKieServer kieServer = new FakeKieServer();
+
+    private final List<BlockingQueue<DynamicConfigEvent>> events = new ArrayList<>();
+
+    private final List<DynamicConfigListener> listeners = new ArrayList<>();
+
+    private SubscriberManager subscriberManager;
+
+    private Set<Thread> threadsBefore;
+
+    @Before
+    public void setUp() throws IOException {
+        threadsBefore = new HashSet<>(Thread.getAllStackTraces().keySet());
+        kieServer.start();
+        subscriberManager = new SubscriberManager(kieServer.getAddress(), "default", TIMEOUT);
+    }
+
+    @After
+    public void tearDown() {
+        // The loop stops pulling once all the listeners are removed
+        for (int i = 0; i < listeners.size(); i++) {
+            subscriberManager.removeGroupListener(getGroup(i), listeners.get(i));
+        }
+        subscriberManager.close();
+        kieServer.stop();
+    }
+
+    @Test
+    public void testMultiplexedLongPoll() throws InterruptedException {
+        for (int i = 0; i < GROUP_COUNT; i++) {
+            kieServer.put(getGroup(i), "value");
+            BlockingQueue<DynamicConfigEvent> queue = new LinkedBlockingQueue<>();
+            DynamicConfigListener listener = queue::add;
+            events.add(queue);
+            listeners.add(listener);
+            Assert.assertTrue(subscriberManager.addGroupListener(getGroup(i), listener, false));
+        }
+        for (BlockingQueue<DynamicConfigEvent> queue : events) {
+            DynamicConfigEvent event = queue.poll(EVENT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            Assert.assertNotNull(event);
+            Assert.assertEquals(DynamicConfigEventType.CREATE, event.getEventType());
+        }
+        int groupRequests = kieServer.groupRequests.get();
+
+        // The change of one group wakes the shared loop, which fans out to the listeners of the group only
+        kieServer.put(getGroup(3), "newValue");
+        DynamicConfigEvent event = events.get(3).poll(EVENT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Assert.assertNotNull(event);
+        Assert.assertEquals(DynamicConfigEventType.MODIFY, event.getEventType());
+        Assert.assertEquals("newValue", event.getContent());
+
+        // A change outside the subscribed labels notifies no listener
+        kieServer.put("app=other&service=group3", "otherValue");
+
+        // The error responses of the watch request are retried, and no change is missed
+        kieServer.failedWatches.set(1);
+        kieServer.put(getGroup(5), "newValue");
+        event = events.get(5).poll(EVENT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Assert.assertNotNull(event);
+        Assert.assertEquals(DynamicConfigEventType.MODIFY, event.getEventType());
+        Assert.assertEquals(0, kieServer.failedWatches.get());
+        for (BlockingQueue<DynamicConfigEvent> queue : events) {
+            Assert.assertTrue(queue.isEmpty());
+        }
+
+        // One waiting request of the shared labels serves all the groups, no group is pulled again, and it holds no
+        // thread
+        Assert.assertEquals(groupRequests, kieServer.groupRequests.get());
+        Assert.assertEquals("label=app%3Ademo", kieServer.watchCondition);
+        long threadCount = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith("kie-") && !threadsBefore.contains(thread)).count();
+        Assert.assertTrue(threadCount <= MAX_THREAD_COUNT);
+        Assert.assertEquals(1, kieServer.maxWaitingRequests.get());
+    }
+
+    private static String getGroup(int index) {
+        return "app=demo&service=group" + index;
+    }
+
+    /**
+     * Fake Kie server, the requests wait for the changes of the whole project, and return the kv data of the labels
+     *
+     * @since 2026-10-18
+     */
+    private static class FakeKieServer {
+        private final Map<Map<String, String>, String> values = new ConcurrentHashMap<>();
+
+        private volatile String watchCondition;
+
+        private final AtomicInteger groupRequests = new AtomicInteger();
+
+        private final AtomicInteger failedWatches = new AtomicInteger();
+
+        private final AtomicInteger waitingRequests = new AtomicInteger();
+
+        private final AtomicInteger maxWaitingRequests = new AtomicInteger();
+
+        private HttpServer server;
+
+        private long revision = 1L;
+
+        void start() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/v1/default/kie/kv", this::handle);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+
+        String getAddress() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        synchronized void put(String group, String value) {
+            values.put(LabelGroupUtils.resolveGroupLabels(group), value);
+            revision++;
+            notifyAll();
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            String labelCondition = "";
+            String requestRevision = "";
+            boolean isWait = false;
+            boolean isExact = false;
+            for (String param : exchange.getRequestURI().getRawQuery().split("&")) {
+                if (param.startsWith("label=")) {
+                    labelCondition = labelCondition.isEmpty() ? param : labelCondition + "&" + param;
+                } else if (param.startsWith("revision=")) {
+                    requestRevision = param.substring("revision=".length());
+                } else if (param.startsWith("wait=")) {
+                    isWait = true;
+                } else if ("match=exact".equals(param)) {
+                    isExact = true;
+                }
+            }
+            if (isWait) {
+                watchCondition = labelCondition;
+            } else {
+                groupRequests.incrementAndGet();
+            }
+            long currentRevision = isWait ? await(requestRevision) : getRevision();
+            if (isWait && failedWatches.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+                exchange.sendResponseHeaders(503, -1);
+                exchange.close();
+                return;
+            }
+            if (String.valueOf(currentRevision).equals(requestRevision)) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            Map<String, String> labels = LabelGroupUtils.resolveLabelCondition(labelCondition);
+            List<String> data = new ArrayList<>();
+            for (Map.Entry<Map<String, String>, String> entry : values.entrySet()) {
+                Map<String, String> kvLabels = entry.getKey();
+                if (isExact ? kvLabels.equals(labels) : kvLabels.entrySet().containsAll(labels.entrySet())) {
+                    data.add(String.format("{\"id\":\"%s\",\"key\":\"%s\",\"value\":\"%s\",\"labels\":%s,"
+                            + "\"status\":\"enabled\"}", data.size(), KEY, entry.getValue(),
+                            JSONObject.toJSONString(kvLabels)));
+                }
+            }
+            byte[] body = ("{\"data\":[" + String.join(",", data) + "]}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("X-Kie-Revision", String.valueOf(currentRevision));
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        }
+
+        private synchronized long getRevision() {
+            return revision;
+        }
+
+        private synchronized long await(String requestRevision) {
+            maxWaitingRequests.accumulateAndGet(waitingRequests.incrementAndGet(), Math::max);
+            try {
+                long deadline = System.currentTimeMillis() + TIMEOUT;
+                while (String.valueOf(revision).equals(requestRevision) && System.currentTimeMillis() < deadline) {
+                    wait(deadline - System.currentTimeMillis());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                waitingRequests.decrementAndGet();
+            }
+            return revision;
+        }
+    }
+}
@@ -0,0 +1,386 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.implement.service.dynamicconfig.zookeeper;
+
+import io.sermant.core.config.ConfigManager;
+import io.sermant.core.service.dynamicconfig.common.DynamicConfigEvent;
+import io.sermant.core.service.dynamicconfig.common.DynamicConfigEventType;
+import io.sermant.core.service.dynamicconfig.config.DynamicConfig;
+
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.WatchedEvent;
+import org.apache.zookeeper.Watcher;
+import org.apache.zookeeper.Watcher.Event.EventType;
+import org.apache.zookeeper.Watcher.Event.KeeperState;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test the group mirror on both the persistent recursive watch and the one-shot watches
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class ZooKeeperGroupMirrorTest {
+    private static final String GROUP = "app";
+
+    private static final String GROUP_PATH = "/app";
+
+    private final List<DynamicConfigEvent> events = new ArrayList<>();
+
+    private final ScheduledExecutorService retryExecutor = Mockito.mock(ScheduledExecutorService.class);
+
+    private MockedStatic<ConfigManager> configManagerMockedStatic;
+
+    @Before
+    public void setUp() {
+        configManagerMockedStatic = Mockito.mockStatic(ConfigManager.class);
+        configManagerMockedStatic.when(() -> ConfigManager.getConfig(DynamicConfig.class))
+                .thenReturn(new DynamicConfig());
+    }
+
+    @After
+    public void tearDown() {
+        configManagerMockedStatic.close();
+    }
+
+    @Test
+    public void testPersistentRecursiveWatch() throws Exception {
+        FakeZooKeeper zooKeeper = new FakeZooKeeper(true);
+        ZooKeeperGroupMirror mirror = startMirror(zooKeeper);
+        Assert.assertTrue(mirror.isPersistent());
+
+        // Each change costs one read of the changed node, and the deletion costs no read
+        zooKeeper.reads.set(0);
+        zooKeeper.setData("/app/a", "3");
+        Assert.assertEquals(1, zooKeeper.reads.get());
+        zooKeeper.delete("/app/b");
+        Assert.assertEquals(1, zooKeeper.reads.get());
+        assertEvent(DynamicConfigEventType.MODIFY, "a", "3");
+        assertEvent(DynamicConfigEventType.DELETE, "b", "2");
+        verifyChanges(zooKeeper, mirror);
+    }
+
+    @Test
+    public void testFallbackToOneShotWatches() throws Exception {
+        FakeZooKeeper zooKeeper = new FakeZooKeeper(false);
+        ZooKeeperGroupMirror mirror = startMirror(zooKeeper);
+        Assert.assertFalse(mirror.isPersistent());
+        zooKeeper.setData("/app/a", "3");
+        zooKeeper.delete("/app/b");
+        assertEvent(DynamicConfigEventType.MODIFY, "a", "3");
+        assertEvent(DynamicConfigEventType.DELETE, "b", "2");
+        verifyChanges(zooKeeper, mirror);
+    }
+
+    @Test
+    public void testResyncAfterReconnected() throws Exception {
+        FakeZooKeeper zooKeeper = new FakeZooKeeper(true);
+        ZooKeeperGroupMirror mirror = startMirror(zooKeeper);
+
+        // The changes during the disconnection are not watched
+        zooKeeper.silent = true;
+        zooKeeper.setData("/app/a", "3");
+        zooKeeper.delete("/app/b");
+        zooKeeper.create("/app/c", "4");
+        Assert.assertTrue(events.isEmpty());
+        mirror.process(new WatchedEvent(EventType.None, KeeperState.SyncConnected, null));
+        assertEvent(DynamicConfigEventType.DELETE, "b", "2");
+        assertEvent(DynamicConfigEventType.MODIFY, "a", "3");
+        assertEvent(DynamicConfigEventType.CREATE, "c", "4");
+    }
+
+    @Test
+    public void testInitEventsBeforeWatchedEvents() throws Exception {
+        FakeZooKeeper zooKeeper = new FakeZooKeeper(true);
+        createGroup(zooKeeper);
+        ZooKeeperGroupMirror mirror = newMirror(zooKeeper);
+
+        // A change made while the group is being loaded is dispatched by another thread
+        Thread changer = new Thread(() -> zooKeeper.setData("/app/a", "3"));
+        zooKeeper.onRead("/app/b", () -> {
+            changer.start();
+            while (changer.getState() != Thread.State.BLOCKED) {
+                Thread.yield();
+            }
+        });
+        Assert.assertTrue(mirror.start(true));
+        changer.join();
+        assertEvent(DynamicConfigEventType.INIT, "a", "1");
+        assertEvent(DynamicConfigEventType.INIT, "b", "2");
+        assertEvent(DynamicConfigEventType.MODIFY, "a", "3");
+        Assert.assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void testRetryFailedLoad() throws Exception {
+        FakeZooKeeper zooKeeper = new FakeZooKeeper(true);
+        createGroup(zooKeeper);
+        ZooKeeperGroupMirror mirror = newMirror(zooKeeper);
+        zooKeeper.failing = true;
+        Assert.assertTrue(mirror.start(true));
+        Assert.assertTrue(mirror.getConfigs().isEmpty());
+
+        // The events are not applied before the group is loaded
+        zooKeeper.setData("/app/a", "3");
+        Assert.assertTrue(events.isEmpty());
+
+        // The load is retried while the session stays connected
+        runRetry(1000L);
+        Assert.assertTrue(events.isEmpty());
+        zooKeeper.failing = false;
+        runRetry(2000L);
+        assertEvent(DynamicConfigEventType.INIT, "a", "3");
+        assertEvent(DynamicConfigEventType.INIT, "b", "2");
+        Mockito.verifyNoMoreInteractions(retryExecutor);
+        zooKeeper.delete("/app/b");
+        assertEvent(DynamicConfigEventType.DELETE, "b", "2");
+        verifyChanges(zooKeeper, mirror);
+    }
+
+    private void runRetry(long delayMs) {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(retryExecutor).schedule(task.capture(), ArgumentMatchers.eq(delayMs),
+                ArgumentMatchers.eq(TimeUnit.MILLISECONDS));
+        Mockito.clearInvocations(retryExecutor);
+        task.getValue().run();
+    }
+
+    private void createGroup(FakeZooKeeper zooKeeper) {
+        zooKeeper.create(GROUP_PATH, "");
+        zooKeeper.create("/app/a", "1");
+        zooKeeper.create("/app/b", "2");
+    }
+
+    private ZooKeeperGroupMirror newMirror(FakeZooKeeper zooKeeper) throws Exception {
+        return new ZooKeeperGroupMirror(zooKeeper.mockClient(), GROUP, GROUP_PATH, events::add, retryExecutor);
+    }
+
+    private ZooKeeperGroupMirror startMirror(FakeZooKeeper zooKeeper) throws Exception {
+        createGroup(zooKeeper);
+        ZooKeeperGroupMirror mirror = newMirror(zooKeeper);
+        Assert.assertTrue(mirror.start(false));
+        Map<String, String> expected = new HashMap<>();
+        expected.put("a", "1");
+        expected.put("b", "2");
+        Assert.assertEquals(expected, mirror.getConfigs());
+
+        // The existing nodes are loaded silently
+        Assert.assertTrue(events.isEmpty());
+        return mirror;
+    }
+
+    private void verifyChanges(FakeZooKeeper zooKeeper, ZooKeeperGroupMirror mirror) {
+        // The same content is not notified again
+        zooKeeper.setData("/app/a", "3");
+        Assert.assertTrue(events.isEmpty());
+
+        zooKeeper.create("/app/c", "4");
+        assertEvent(DynamicConfigEventType.CREATE, "c", "4");
+        zooKeeper.create("/app/d", "");
+        zooKeeper.create("/app/d/e", "5");
+        assertEvent(DynamicConfigEventType.CREATE, "d", "");
+        assertEvent(DynamicConfigEventType.CREATE, "d/e", "5");
+        zooKeeper.setData("/app/d/e", "6");
+        assertEvent(DynamicConfigEventType.MODIFY, "d/e", "6");
+        zooKeeper.setData("/app/d/e", "7");
+        assertEvent(DynamicConfigEventType.MODIFY, "d/e", "7");
+
+        Map<String, String> expected = new HashMap<>();
+        expected.put("a", "3");
+        expected.put("c", "4");
+        expected.put("d", "");
+        expected.put("d/e", "7");
+        Assert.assertEquals(expected, mirror.getConfigs());
+
+        mirror.close();
+        zooKeeper.setData("/app/a", "8");
+        Assert.assertTrue(events.isEmpty());
+    }
+
+    private void assertEvent(DynamicConfigEventType type, String key, String content) {
+        Assert.assertFalse(events.isEmpty());
+        DynamicConfigEvent event = events.remove(0);
+        Assert.assertEquals(type, event.getEventType());
+        Assert.assertEquals(key, event.getKey());
+        Assert.assertEquals(GROUP, event.getGroup());
+        Assert.assertEquals(content, event.getContent());
+    }
+
+    /**
+     * In-memory ZooKeeper tree following the watch semantics of the server, the events are delivered in the thread
+     * changing the tree
+     *
+     * @since 2026-10-18
+     */
+    private static class FakeZooKeeper {
+        private final boolean persistentWatchSupported;
+
+        private final Map<String, String> nodes = new TreeMap<>();
+
+        private final Map<String, Set<Watcher>> dataWatches = new HashMap<>();
+
+        private final Map<String, Set<Watcher>> childWatches = new HashMap<>();
+
+        private final Map<String, Set<Watcher>> persistentRecursiveWatches = new HashMap<>();
+
+        private final AtomicInteger reads = new AtomicInteger();
+
+        private final Map<String, Runnable> readHooks = new HashMap<>();
+
+        private boolean silent;
+
+        private volatile boolean failing;
+
+        FakeZooKeeper(boolean persistentWatchSupported) {
+            this.persistentWatchSupported = persistentWatchSupported;
+        }
+
+        ZooKeeperBufferedClient mockClient() throws KeeperException, InterruptedException {
+            ZooKeeperBufferedClient client = Mockito.mock(ZooKeeperBufferedClient.class);
+            Mockito.when(client.isPersistentWatchSupported()).thenReturn(persistentWatchSupported);
+            Mockito.when(client.addPersistentRecursiveWatches(ArgumentMatchers.anyString(), ArgumentMatchers.any()))
+                    .thenAnswer(invocation -> persistentWatchSupported && addWatch(persistentRecursiveWatches,
+                            invocation.getArgument(0), invocation.getArgument(1)));
+            Mockito.when(client.exists(ArgumentMatchers.anyString(), ArgumentMatchers.any()))
+                    .thenAnswer(invocation -> addWatch(dataWatches, invocation.getArgument(0),
+                            invocation.getArgument(1)) && nodes.containsKey(invocation.<String>getArgument(0)));
+            Mockito.when(client.getData(ArgumentMatchers.anyString(), ArgumentMatchers.any()))
+                    .thenAnswer(invocation -> getData(invocation.getArgument(0), invocation.getArgument(1)));
+            Mockito.when(client.getChildren(ArgumentMatchers.anyString(), ArgumentMatchers.any()))
+                    .thenAnswer(invocation -> getChildren(invocation.getArgument(0), invocation.getArgument(1)));
+            return client;
+        }
+
+        void onRead(String path, Runnable hook) {
+            readHooks.put(path, hook);
+        }
+
+        void create(String path, String data) {
+            nodes.put(path, data);
+            Set<Watcher> watchers = new LinkedHashSet<>();
+            watchers.addAll(trigger(dataWatches, path));
+            watchers.addAll(triggerPersistent(path));
+            notify(watchers, EventType.NodeCreated, path);
+            notify(trigger(childWatches, parent(path)), EventType.NodeChildrenChanged, parent(path));
+        }
+
+        void setData(String path, String data) {
+            nodes.put(path, data);
+            Set<Watcher> watchers = new LinkedHashSet<>();
+            watchers.addAll(trigger(dataWatches, path));
+            watchers.addAll(triggerPersistent(path));
+            notify(watchers, EventType.NodeDataChanged, path);
+        }
+
+        void delete(String path) {
+            nodes.remove(path);
+            Set<Watcher> watchers = new LinkedHashSet<>();
+            watchers.addAll(trigger(dataWatches, path));
+            watchers.addAll(trigger(childWatches, path));
+            watchers.addAll(triggerPersistent(path));
+            notify(watchers, EventType.NodeDeleted, path);
+            notify(trigger(childWatches, parent(path)), EventType.NodeChildrenChanged, parent(path));
+        }
+
+        private String getData(String path, Watcher watcher) throws KeeperException {
+            reads.incrementAndGet();
+            String data = nodes.get(path);
+            if (data == null) {
+                throw new KeeperException.NoNodeException(path);
+            }
+            addWatch(dataWatches, path, watcher);
+            Runnable hook = readHooks.remove(path);
+            if (hook != null) {
+                hook.run();
+            }
+            return data;
+        }
+
+        private List<String> getChildren(String path, Watcher watcher) throws KeeperException {
+            reads.incrementAndGet();
+            if (failing) {
+                throw new KeeperException.ConnectionLossException();
+            }
+            if (!nodes.containsKey(path)) {
+                throw new KeeperException.NoNodeException(path);
+            }
+            addWatch(childWatches, path, watcher);
+            List<String> children = new ArrayList<>();
+            for (String nodePath : nodes.keySet()) {
+                if (parent(nodePath).equals(path) && !nodePath.equals(path)) {
+                    children.add(nodePath.substring(path.length() + 1));
+                }
+            }
+            return children;
+        }
+
+        private static boolean addWatch(Map<String, Set<Watcher>> watches, String path, Watcher watcher) {
+            if (watcher != null) {
+                watches.computeIfAbsent(path, key -> new LinkedHashSet<>()).add(watcher);
+            }
+            return true;
+        }
+
+        private Set<Watcher> trigger(Map<String, Set<Watcher>> watches, String path) {
+            Set<Watcher> watchers = watches.remove(path);
+            return watchers == null ? new LinkedHashSet<>() : watchers;
+        }
+
+        private Set<Watcher> triggerPersistent(String path) {
+            Set<Watcher> watchers = new LinkedHashSet<>();
+            for (Map.Entry<String, Set<Watcher>> entry : persistentRecursiveWatches.entrySet()) {
+                if (path.equals(entry.getKey()) || path.startsWith(entry.getKey() + "/")) {
+                    watchers.addAll(entry.getValue());
+                }
+            }
+            return watchers;
+        }
+
+        private void notify(Set<Watcher> watchers, EventType type, String path) {
+            if (silent) {
+                return;
+            }
+            for (Watcher watcher : watchers) {
+                watcher.process(new WatchedEvent(type, KeeperState.SyncConnected, path));
+            }
+        }
+
+        private static String parent(String path) {
+            int index = path.lastIndexOf('/');
+            return index <= 0 ? "/" : path.substring(0, index);
+        }
+    }
+}
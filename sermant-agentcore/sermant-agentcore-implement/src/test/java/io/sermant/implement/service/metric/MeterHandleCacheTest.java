@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.implement.service.metric;
+
+import io.sermant.core.service.metric.api.Tags;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the cache of the meter handles
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class MeterHandleCacheTest {
+    @Test
+    public void testGetAndPut() {
+        MeterHandleCache<Object> cache = new MeterHandleCache<>(10);
+        Assert.assertNull(cache.get("request.count", Tags.of("service", "demo")));
+
+        Object handle = new Object();
+        Assert.assertSame(handle, cache.putIfAbsent("request.count", Tags.of("service", "demo"), handle));
+        Assert.assertSame(handle, cache.putIfAbsent("request.count", Tags.of("service", "demo"), new Object()));
+        Assert.assertSame(handle, cache.get("request.count", Tags.of("service", "demo")));
+        Assert.assertNull(cache.get("request.count", Tags.of("service", "other")));
+        Assert.assertNull(cache.get("error.count", Tags.of("service", "demo")));
+
+        Object emptyTagsHandle = new Object();
+        cache.putIfAbsent("request.count", null, emptyTagsHandle);
+        Assert.assertSame(emptyTagsHandle, cache.get("request.count", Tags.of()));
+        Assert.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testTagsCopied() {
+        MeterHandleCache<Object> cache = new MeterHandleCache<>(10);
+        Tags tags = Tags.of("service", "demo");
+        Object handle = new Object();
+        cache.putIfAbsent("request.count", tags, handle);
+
+        // Modifying the tags of the caller does not change the cached key
+        tags.add("method", "get");
+        Assert.assertNull(cache.get("request.count", tags));
+        Assert.assertSame(handle, cache.get("request.count", Tags.of("service", "demo")));
+    }
+
+    @Test
+    public void testMaxSize() {
+        MeterHandleCache<Object> cache = new MeterHandleCache<>(1);
+        cache.putIfAbsent("request.count", null, new Object());
+        Object handle = new Object();
+        Assert.assertSame(handle, cache.putIfAbsent("error.count", null, handle));
+        Assert.assertNull(cache.get("error.count", null));
+        Assert.assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.implement.service.metric.handler;
+
+import io.prometheus.client.exporter.common.TextFormat;
+import io.sermant.core.service.httpserver.api.HttpRequest;
+import io.sermant.core.service.httpserver.api.HttpResponse;
+import io.sermant.implement.service.metric.MeterMetricServiceImpl;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Test the streaming, the content negotiation and the compression of the metric handler
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class MetricHttpRouteHandlerTest {
+    private static final String SCRAPE = "# TYPE request_count counter\nrequest_count 1.0\n";
+
+    private final MetricHttpRouteHandler handler = new MetricHttpRouteHandler();
+
+    private MockedStatic<MeterMetricServiceImpl> metricServiceMock;
+
+    private String scrapedContentType;
+
+    @Before
+    public void setUp() {
+        metricServiceMock = Mockito.mockStatic(MeterMetricServiceImpl.class);
+        metricServiceMock.when(() -> MeterMetricServiceImpl.getContentType(ArgumentMatchers.anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        metricServiceMock.when(() -> MeterMetricServiceImpl.scrape(ArgumentMatchers.any(Writer.class),
+                ArgumentMatchers.anyString())).thenAnswer(invocation -> {
+                    scrapedContentType = invocation.getArgument(1);
+                    invocation.getArgument(0, Writer.class).write(SCRAPE);
+                    return null;
+                });
+    }
+
+    @After
+    public void tearDown() {
+        metricServiceMock.close();
+    }
+
+    @Test
+    public void testStreaming() throws Exception {
+        StubHttpResponse response = new StubHttpResponse();
+        handler.handle(mockRequest(null, null), response);
+        Assert.assertEquals(200, response.getStatus());
+        Assert.assertEquals(TextFormat.CONTENT_TYPE_004, response.headers.get("Content-Type"));
+        Assert.assertNull(response.headers.get("Content-Encoding"));
+        Assert.assertTrue(response.body.closed);
+        Assert.assertEquals(SCRAPE, new String(response.body.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testOpenMetrics() throws Exception {
+        StubHttpResponse response = new StubHttpResponse();
+        handler.handle(mockRequest("application/openmetrics-text; version=1.0.0; charset=utf-8", null), response);
+        Assert.assertEquals(TextFormat.CONTENT_TYPE_OPENMETRICS_100, response.headers.get("Content-Type"));
+        Assert.assertEquals(TextFormat.CONTENT_TYPE_OPENMETRICS_100, scrapedContentType);
+    }
+
+    @Test
+    public void testOpenMetricsNotSupported() throws Exception {
+        metricServiceMock.when(() -> MeterMetricServiceImpl.getContentType(ArgumentMatchers.anyString()))
+                .thenReturn(TextFormat.CONTENT_TYPE_004);
+        StubHttpResponse response = new StubHttpResponse();
+        handler.handle(mockRequest("application/openmetrics-text; version=1.0.0; charset=utf-8", null), response);
+
+        // The content type falls back to the text format written by the metric manager
+        Assert.assertEquals(TextFormat.CONTENT_TYPE_004, response.headers.get("Content-Type"));
+        Assert.assertEquals(TextFormat.CONTENT_TYPE_004, scrapedContentType);
+    }
+
+    @Test
+    public void testGzip() throws Exception {
+        StubHttpResponse response = new StubHttpResponse();
+        handler.handle(mockRequest(null, "deflate, gzip;q=0.8"), response);
+        Assert.assertEquals("gzip", response.headers.get("Content-Encoding"));
+        Assert.assertTrue(response.body.closed);
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(response.body.toByteArray()))) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int length;
+            while ((length = inputStream.read(buffer)) > 0) {
+                outputStream.write(buffer, 0, length);
+            }
+            Assert.assertEquals(SCRAPE, new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testGzipAccepted() {
+        Assert.assertTrue(MetricHttpRouteHandler.isGzipAccepted("gzip"));
+        Assert.assertTrue(MetricHttpRouteHandler.isGzipAccepted("GZIP;Q=0.5, br"));
+        Assert.assertTrue(MetricHttpRouteHandler.isGzipAccepted("x-gzip"));
+        Assert.assertTrue(MetricHttpRouteHandler.isGzipAccepted("br, *"));
+        Assert.assertFalse(MetricHttpRouteHandler.isGzipAccepted(null));
+        Assert.assertFalse(MetricHttpRouteHandler.isGzipAccepted("identity"));
+        Assert.assertFalse(MetricHttpRouteHandler.isGzipAccepted("gzip;q=0"));
+        Assert.assertFalse(MetricHttpRouteHandler.isGzipAccepted("gzip; q=0.000, deflate"));
+        Assert.assertFalse(MetricHttpRouteHandler.isGzipAccepted("*, gzip;q=0"));
+        Assert.assertFalse(MetricHttpRouteHandler.isGzipAccepted("*;q=0"));
+    }
+
+    @Test
+    public void testScrapeFailed() throws Exception {
+        metricServiceMock.when(() -> MeterMetricServiceImpl.scrape(ArgumentMatchers.any(Writer.class),
+                ArgumentMatchers.anyString())).thenThrow(new IOException("scrape failed"));
+        StubHttpResponse response = new StubHttpResponse();
+        try {
+            handler.handle(mockRequest(null, "gzip"), response);
+            Assert.fail("The scrape failure is expected to abort the exchange");
+        } catch (IOException e) {
+            Assert.assertEquals("scrape failed", e.getMessage());
+        }
+        Assert.assertTrue(response.isCommitted());
+
+        // The body is left incomplete, so that the scraper does not take it as a complete scrape
+        Assert.assertFalse(response.body.closed);
+    }
+
+    private static HttpRequest mockRequest(String accept, String acceptEncoding) {
+        HttpRequest request = Mockito.mock(HttpRequest.class);
+        Mockito.when(request.getFirstHeader("Accept")).thenReturn(accept);
+        Mockito.when(request.getFirstHeader("Accept-Encoding")).thenReturn(acceptEncoding);
+        return request;
+    }
+
+    /**
+     * Response recording the status, the headers and the body
+     *
+     * @since 2026-10-18
+     */
+    private static class StubHttpResponse implements HttpResponse {
+        private final Map<String, String> headers = new HashMap<>();
+
+        private final RecordOutputStream body = new RecordOutputStream();
+
+        private int status;
+
+        private boolean committed;
+
+        @Override
+        public int getStatus() {
+            return status;
+        }
+
+        @Override
+        public HttpResponse setStatus(int status) {
+            checkNotCommitted();
+            this.status = status;
+            return this;
+        }
+
+        @Override
+        public HttpResponse addHeader(String name, String value) {
+            return setHeader(name, value);
+        }
+
+        @Override
+        public HttpResponse setHeader(String name, String value) {
+            checkNotCommitted();
+            headers.put(name, value);
+            return this;
+        }
+
+        @Override
+        public HttpResponse setHeaders(Map<String, String> headers) {
+            headers.forEach(this::setHeader);
+            return this;
+        }
+
+        @Override
+        public HttpResponse setContentType(String contentType) {
+            return setHeader("Content-Type", contentType);
+        }
+
+        @Override
+        public HttpResponse setContentLength(long size) {
+            return setHeader("Content-Length", String.valueOf(size));
+        }
+
+        @Override
+        public boolean isCommitted() {
+            return committed;
+        }
+
+        @Override
+        public OutputStream getBodyAsStream() {
+            checkNotCommitted();
+            committed = true;
+            return body;
+        }
+
+        @Override
+        public void writeBody(byte[] bytes) {
+            checkNotCommitted();
+            committed = true;
+            body.write(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public void writeBody(String str) {
+            writeBody(str.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void writeBody(Throwable ex) {
+            writeBody(ex.getMessage());
+        }
+
+        @Override
+        public void writeBodyAsJson(String json) {
+            writeBody(json);
+        }
+
+        @Override
+        public void writeBodyAsJson(Object obj) {
+            writeBody(String.valueOf(obj));
+        }
+
+        private void checkNotCommitted() {
+            Assert.assertFalse("The response has been committed", committed);
+        }
+    }
+
+    /**
+     * Output stream recording whether it is closed
+     *
+     * @since 2026-10-18
+     */
+    private static class RecordOutputStream extends ByteArrayOutputStream {
+        private boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.implement.service.send;
+
+import com.google.protobuf.ByteString;
+
+import io.sermant.implement.service.send.netty.SendBuffer;
+import io.sermant.implement.service.send.netty.SendBuffer.LaneType;
+import io.sermant.implement.service.send.netty.pojo.Message.ServiceData;
+import io.sermant.implement.service.send.netty.pojo.Message.ServiceData.DataType;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * Test the buffer of the messages to be sent
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class SendBufferTest {
+    private static final int DATA_SIZE = 100;
+
+    private final int messageBytes = createMessage(DataType.EVENT_DATA).getSerializedSize();
+
+    @Test
+    public void testDrainByPriority() {
+        SendBuffer buffer = new SendBuffer(messageBytes * 10L, messageBytes * 10L);
+        buffer.offer(createMessage(DataType.TRACING_BATCH_DATA));
+        buffer.offer(createMessage(DataType.EVENT_DATA));
+        buffer.offer(createMessage(DataType.HEARTBEAT_DATA));
+        Assert.assertEquals(1, buffer.getSize(LaneType.TRACING));
+        Assert.assertEquals(messageBytes, buffer.getBytes(LaneType.EVENT));
+
+        List<ServiceData> batch = buffer.drain(messageBytes * 2L);
+        Assert.assertEquals(2, batch.size());
+        Assert.assertEquals(DataType.HEARTBEAT_DATA, batch.get(0).getDataType());
+        Assert.assertEquals(DataType.EVENT_DATA, batch.get(1).getDataType());
+
+        // At least one message is drained
+        batch = buffer.drain(1L);
+        Assert.assertEquals(1, batch.size());
+        Assert.assertEquals(DataType.TRACING_BATCH_DATA, batch.get(0).getDataType());
+        Assert.assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void testDropLowerPriority() {
+        SendBuffer buffer = new SendBuffer(messageBytes * 2L, messageBytes * 2L);
+        Assert.assertTrue(buffer.offer(createMessage(DataType.TRACING_BATCH_DATA)));
+        Assert.assertTrue(buffer.offer(createMessage(DataType.EVENT_DATA)));
+
+        // The tracing message is dropped for the heartbeat
+        Assert.assertTrue(buffer.offer(createMessage(DataType.HEARTBEAT_DATA)));
+        Assert.assertEquals(0, buffer.getSize(LaneType.TRACING));
+        Assert.assertEquals(1L, buffer.getDroppedCount(LaneType.TRACING));
+
+        // There is no lower priority message to drop
+        Assert.assertFalse(buffer.offer(createMessage(DataType.EVENT_DATA)));
+        Assert.assertEquals(1L, buffer.getDroppedCount(LaneType.EVENT));
+        Assert.assertFalse(buffer.offer(createMessage(DataType.TRACING_BATCH_DATA)));
+        Assert.assertEquals(2L, buffer.getDroppedCount(LaneType.TRACING));
+    }
+
+    @Test
+    public void testAwait() throws InterruptedException {
+        SendBuffer buffer = new SendBuffer(messageBytes * 10L, messageBytes);
+        buffer.offer(createMessage(DataType.EVENT_DATA));
+
+        // The flush bytes are reached
+        long start = System.currentTimeMillis();
+        buffer.await(10000L, true);
+        Assert.assertTrue(System.currentTimeMillis() - start < 10000L);
+
+        // Not writable, wait until signalled
+        new Thread(buffer::signal).start();
+        buffer.await(10000L, false);
+        Assert.assertTrue(System.currentTimeMillis() - start < 10000L);
+    }
+
+    private static ServiceData createMessage(DataType dataType) {
+        return ServiceData.newBuilder().setDataType(dataType).setData(ByteString.copyFrom(new byte[DATA_SIZE]))
+                .build();
+    }
+}
@@ -16,12 +16,14 @@
 
 package io.sermant.implement.service.tracing;
 
+import io.sermant.core.config.ConfigManager;
 import io.sermant.core.service.ServiceManager;
 import io.sermant.core.service.send.api.GatewayClient;
 import io.sermant.core.service.tracing.api.ExtractService;
 import io.sermant.core.service.tracing.api.InjectService;
 import io.sermant.core.service.tracing.common.SpanEvent;
 import io.sermant.core.service.tracing.common.TracingRequest;
+import io.sermant.core.service.tracing.config.TracingConfig;
 import io.sermant.core.utils.TracingUtils;
 import io.sermant.implement.service.send.netty.NettyGatewayClient;
 
@@ -34,6 +36,7 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -52,6 +55,8 @@ public class TracingServiceImplTest {
 
     private static final String SPAN_ID_PREFIX = "SPAN_ID_PREFIX";
 
+    private static final String SAMPLED = "SAMPLED";
+
     private static final String INIT_PARENT_SPAN_ID = "0";
 
     private static final String INIT_SPAN_ID_PREFIX = "0-0";
@@ -82,13 +87,23 @@ public class TracingServiceImplTest {
             tracingRequest.setTraceId(carrier.get(TRACE_ID));
             tracingRequest.setParentSpanId(carrier.get(PARENT_SPAN_ID));
             tracingRequest.setSpanIdPrefix(carrier.get(SPAN_ID_PREFIX));
+            tracingRequest.setSampled(TracingUtils.parseSampled(carrier.get(SAMPLED)));
         };
 
         // implement injection interface
-        injectService = (spanEvent, carrier) -> {
-            carrier.put(TRACE_ID, spanEvent.getTraceId());
-            carrier.put(PARENT_SPAN_ID, spanEvent.getSpanId());
-            carrier.put(SPAN_ID_PREFIX, spanEvent.getNextSpanIdPrefix());
+        injectService = new InjectService<Map<String, String>>() {
+            @Override
+            public void addToCarrier(SpanEvent spanEvent, Map<String, String> carrier) {
+                carrier.put(TRACE_ID, spanEvent.getTraceId());
+                carrier.put(PARENT_SPAN_ID, spanEvent.getSpanId());
+                carrier.put(SPAN_ID_PREFIX, spanEvent.getNextSpanIdPrefix());
+                carrier.put(SAMPLED, TracingUtils.SAMPLED);
+            }
+
+            @Override
+            public void addUnsampledToCarrier(Map<String, String> carrier) {
+                carrier.put(SAMPLED, TracingUtils.UNSAMPLED);
+            }
         };
     }
 
@@ -217,6 +232,7 @@ public class TracingServiceImplTest {
             Assert.assertEquals(INIT_SPAN_ID, spanEventOptional.get().getParentSpanId());
             Assert.assertEquals(traceId, header.get(TRACE_ID));
             Assert.assertEquals("0-0-1-0", header.get(SPAN_ID_PREFIX));
+            Assert.assertEquals(TracingUtils.SAMPLED, header.get(SAMPLED));
             tracingService.onSpanFinally();
             tracingService.stop();
         }
@@ -255,4 +271,113 @@ public class TracingServiceImplTest {
             tracingService.stop();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Unsampled request scenario test
+     */
+    @Test
+    public void onUnsampledSpan() {
+        try (MockedStatic<ServiceManager> mockedStatic = Mockito.mockStatic(ServiceManager.class)) {
+            mockedStatic.when(() -> ServiceManager.getService(GatewayClient.class))
+                    .thenReturn(new NettyGatewayClient());
+            TracingServiceImpl tracingService = new TracingServiceImpl();
+            tracingService.start();
+            ExtractService<Map<String, String>> unsampledExtractService = (tracingRequest, carrier) -> {
+                extractService.getFromCarrier(tracingRequest, carrier);
+                tracingRequest.setSampled(false);
+            };
+
+            // The unsampled request creates no span.
+            TracingRequest tracingRequest = new TracingRequest("", "", "", "", "");
+            Assert.assertFalse(tracingService.onProviderSpanStart(tracingRequest, unsampledExtractService, header)
+                    .isPresent());
+            Assert.assertFalse(tracingService.getContext().isPresent());
+            Assert.assertFalse(tracingService.onConsumerSpanStart(tracingRequest, injectService, header).isPresent());
+
+            // The error of the child span does not sample the request.
+            Assert.assertFalse(tracingService.onSpanError(new Throwable(SPAN_ERROR_MESSAGE)).isPresent());
+            tracingService.onSpanFinally();
+
+            // The error of the entry span samples the request.
+            Optional<SpanEvent> spanEventOptional = tracingService.onSpanError(new Throwable(SPAN_ERROR_MESSAGE));
+            Assert.assertTrue(spanEventOptional.isPresent());
+            Assert.assertTrue(spanEventOptional.get().isError());
+            Assert.assertTrue(spanEventOptional.get().getStartTime() > 0);
+            Assert.assertTrue(tracingService.getContext().isPresent());
+            tracingService.onSpanFinally();
+
+            // The unsampled request finished without error.
+            Assert.assertFalse(tracingService.onProviderSpanStart(tracingRequest, unsampledExtractService, header)
+                    .isPresent());
+            tracingService.onSpanFinally();
+            Assert.assertFalse(tracingService.onSpanError(new Throwable(SPAN_ERROR_MESSAGE)).isPresent());
+            tracingService.stop();
+        }
+    }
+
+    /**
+     * The sampling decision is propagated to the downstream processes
+     */
+    @Test
+    public void propagateSamplingDecision() {
+        try (MockedStatic<ServiceManager> mockedStatic = Mockito.mockStatic(ServiceManager.class);
+                MockedStatic<ConfigManager> configManagerMockedStatic = Mockito.mockStatic(ConfigManager.class)) {
+            mockedStatic.when(() -> ServiceManager.getService(GatewayClient.class))
+                    .thenReturn(new NettyGatewayClient());
+            TracingConfig unsampledConfig = new TracingConfig();
+            unsampledConfig.setSampleRatio(0.0D);
+            configManagerMockedStatic.when(() -> ConfigManager.getConfig(TracingConfig.class))
+                    .thenReturn(unsampledConfig);
+            TracingServiceImpl upstream = new TracingServiceImpl();
+            upstream.start();
+            configManagerMockedStatic.when(() -> ConfigManager.getConfig(TracingConfig.class))
+                    .thenReturn(new TracingConfig());
+            TracingServiceImpl downstream = new TracingServiceImpl();
+            downstream.start();
+
+            // The upstream decides not to sample the request, and injects the decision only.
+            Assert.assertFalse(upstream.onProviderSpanStart(new TracingRequest("", ""), extractService,
+                    new HashMap<>()).isPresent());
+            Map<String, String> carrier = new HashMap<>();
+            Assert.assertFalse(upstream.onConsumerSpanStart(new TracingRequest("", ""), injectService, carrier)
+                    .isPresent());
+            Assert.assertEquals(Collections.singletonMap(SAMPLED, TracingUtils.UNSAMPLED), carrier);
+            upstream.onSpanFinally();
+            upstream.onSpanFinally();
+
+            // Nothing is injected out of the request.
+            Map<String, String> emptyCarrier = new HashMap<>();
+            upstream.onConsumerSpanStart(new TracingRequest("", ""), injectService, emptyCarrier);
+            Assert.assertTrue(emptyCarrier.isEmpty());
+            upstream.onSpanFinally();
+
+            // The downstream follows the decision instead of sampling the request, and passes it on.
+            Assert.assertFalse(downstream.onProviderSpanStart(new TracingRequest("", ""), extractService, carrier)
+                    .isPresent());
+            Map<String, String> nextCarrier = new HashMap<>();
+            Assert.assertFalse(downstream.onConsumerSpanStart(new TracingRequest("", ""), injectService, nextCarrier)
+                    .isPresent());
+            Assert.assertEquals(TracingUtils.UNSAMPLED, nextCarrier.get(SAMPLED));
+            downstream.onSpanFinally();
+            downstream.onSpanFinally();
+
+            // The sampled request is traced by the process which samples nothing by itself.
+            Optional<SpanEvent> entrySpan = downstream.onProviderSpanStart(new TracingRequest("", ""),
+                    extractService, new HashMap<>());
+            Assert.assertTrue(entrySpan.isPresent());
+            carrier.clear();
+            Assert.assertTrue(downstream.onConsumerSpanStart(new TracingRequest("", ""), injectService, carrier)
+                    .isPresent());
+            Assert.assertEquals(TracingUtils.SAMPLED, carrier.get(SAMPLED));
+            downstream.onSpanFinally();
+            downstream.onSpanFinally();
+            Optional<SpanEvent> childEntrySpan = upstream.onProviderSpanStart(new TracingRequest("", ""),
+                    extractService, carrier);
+            Assert.assertTrue(childEntrySpan.isPresent());
+            Assert.assertEquals(entrySpan.get().getTraceId(), childEntrySpan.get().getTraceId());
+            upstream.onSpanFinally();
+            upstream.stop();
+            downstream.stop();
+        }
+    }
+}
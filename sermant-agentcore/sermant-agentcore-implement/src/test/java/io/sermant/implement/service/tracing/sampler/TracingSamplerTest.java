@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.implement.service.tracing.sampler;
+
+import io.sermant.core.service.tracing.common.TracingRequest;
+import io.sermant.core.service.tracing.config.TracingConfig;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the head-based sampler
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class TracingSamplerTest {
+    private static final int MAX_TRACES_PER_SECOND = 3;
+
+    @Test
+    public void testUpstreamDecision() {
+        TracingConfig config = new TracingConfig();
+        config.setSampleRatio(0.0D);
+        TracingSampler sampler = new TracingSampler(config);
+        TracingRequest tracingRequest = new TracingRequest("", "", "", "", "");
+        Assert.assertFalse(sampler.isSampled(tracingRequest));
+
+        // The upstream without sampling carries the trace id only
+        tracingRequest.setTraceId("TRACE_ID");
+        Assert.assertTrue(sampler.isSampled(tracingRequest));
+
+        tracingRequest.setSampled(false);
+        Assert.assertFalse(sampler.isSampled(tracingRequest));
+        config.setSampleRatio(1.0D);
+        Assert.assertFalse(new TracingSampler(config).isSampled(tracingRequest));
+    }
+
+    @Test
+    public void testRateLimit() {
+        TracingConfig config = new TracingConfig();
+        config.setMaxTracesPerSecond(MAX_TRACES_PER_SECOND);
+        TracingSampler sampler = new TracingSampler(config);
+        for (int i = 0; i < MAX_TRACES_PER_SECOND; i++) {
+            Assert.assertTrue(sampler.tryAcquire(-1L));
+        }
+        Assert.assertFalse(sampler.tryAcquire(-1L));
+
+        // The limit is reset in the next second
+        Assert.assertTrue(sampler.tryAcquire(0L));
+        Assert.assertTrue(sampler.tryAcquire(0L));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.implement.service.tracing.sender;
+
+import io.sermant.core.service.tracing.common.SourceInfo;
+import io.sermant.core.service.tracing.common.SpanEvent;
+import io.sermant.implement.service.send.netty.pojo.Message;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/**
+ * Test the encoding of the span batch
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class TracingBatchEncoderTest {
+    private static final long START_TIME = 1000L;
+
+    private static final long END_TIME = 2000L;
+
+    @Test
+    public void testEncode() throws Exception {
+        SpanEvent spanEvent = new SpanEvent();
+        spanEvent.setTraceId("TRACE_ID");
+        spanEvent.setSpanId("0-1");
+        spanEvent.setStartTime(START_TIME);
+        spanEvent.setEndTime(END_TIME);
+        spanEvent.setError(true);
+        spanEvent.setErrorInfo("error");
+        spanEvent.getTags().put("key", "value");
+        spanEvent.getTags().put("nullValue", null);
+        SourceInfo sourceInfo = new SourceInfo();
+        sourceInfo.setAddress("127.0.0.1");
+        spanEvent.setSourceInfo(sourceInfo);
+
+        // The null fields are left unset
+        SpanEvent emptySpanEvent = new SpanEvent();
+
+        Message.TracingSpanBatch batch = Message.TracingSpanBatch.parseFrom(
+                TracingBatchEncoder.encode(Arrays.asList(spanEvent, emptySpanEvent)));
+        Assert.assertEquals(2, batch.getSpansCount());
+        Message.TracingSpan span = batch.getSpans(0);
+        Assert.assertEquals("TRACE_ID", span.getTraceId());
+        Assert.assertEquals("0-1", span.getSpanId());
+        Assert.assertEquals("", span.getParentSpanId());
+        Assert.assertEquals(START_TIME, span.getStartTime());
+        Assert.assertEquals(END_TIME, span.getEndTime());
+        Assert.assertTrue(span.getIsError());
+        Assert.assertEquals("error", span.getErrorInfo());
+        Assert.assertEquals(1, span.getTagsCount());
+        Assert.assertEquals("value", span.getTagsOrThrow("key"));
+        Assert.assertEquals("127.0.0.1", span.getSourceInfo().getAddress());
+        Assert.assertFalse(span.hasTargetInfo());
+        Assert.assertEquals("", batch.getSpans(1).getTraceId());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2026-2026 Sermant Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.sermant.implement.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Test the compression and decompression tools
+ *
+ * @author Sermant Authors
+ * @since 2026-10-18
+ */
+public class GzipUtilsTest {
+    private static final int REPEAT_COUNT = 2000;
+
+    private final byte[] data = createData();
+
+    @Test
+    public void testGzipCompatible() throws IOException {
+        // The pooled compression is readable by GZIPInputStream
+        byte[] compressed = GzipUtils.compress(data);
+        Assert.assertTrue(compressed.length < data.length);
+        Assert.assertArrayEquals(compressed, GzipUtils.compressToByteString(data).toByteArray());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        GzipUtils.decompress(new ByteArrayInputStream(compressed), output);
+        Assert.assertArrayEquals(data, output.toByteArray());
+
+        // The pooled decompression reads GZIPOutputStream, whose header is different
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(gzip)) {
+            gzipOutput.write(data);
+        }
+        Assert.assertArrayEquals(data, GzipUtils.decompress(gzip.toByteArray()));
+        try (GZIPInputStream gzipInput = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            Assert.assertEquals(data[0], gzipInput.read());
+        }
+    }
+
+    @Test
+    public void testDeflate() {
+        byte[] deflated = GzipUtils.deflateToByteString(data).toByteArray();
+        Assert.assertTrue(deflated.length < data.length);
+        Assert.assertArrayEquals(data, GzipUtils.inflate(deflated));
+
+        // The reused deflater and inflater keep no state of the previous data
+        byte[] empty = new byte[0];
+        Assert.assertArrayEquals(empty, GzipUtils.decompress(GzipUtils.compress(empty)));
+        Assert.assertArrayEquals(empty, GzipUtils.inflate(GzipUtils.deflateToByteString(empty).toByteArray()));
+        Assert.assertArrayEquals(data, GzipUtils.decompress(GzipUtils.compress(data)));
+    }
+
+    @Test
+    public void testCorruptData() {
+        byte[] compressed = GzipUtils.compress(data);
+        compressed[compressed.length - 1]++;
+        Assert.assertEquals(0, GzipUtils.decompress(compressed).length);
+        Assert.assertEquals(0, GzipUtils.decompress(Arrays.copyOf(compressed, compressed.length / 2)).length);
+        Assert.assertEquals(0, GzipUtils.decompress(data).length);
+    }
+
+    private static byte[] createData() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < REPEAT_COUNT; i++) {
+            builder.append("{\"service\":\"demo\",\"index\":").append(i).append('}');
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
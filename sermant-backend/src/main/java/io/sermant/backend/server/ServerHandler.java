@@ -86,7 +86,8 @@ public class ServerHandler extends BaseHandler {
         List<ServiceData> serviceDataList = msg.getServiceDataList();
         for (ServiceData serviceData : serviceDataList) {
             ByteString data = serviceData.getData();
-            byte[] message = GzipUtils.decompress(data.toByteArray());
+            byte[] message = serviceData.getCompression() == ServiceData.Compression.DEFLATE
+                    ? GzipUtils.inflate(data.toByteArray()) : GzipUtils.decompress(data.toByteArray());
             int dataType = serviceData.getDataTypeValue();
             switch (dataType) {
                 case Message.ServiceData.DataType.HEARTBEAT_DATA_VALUE:
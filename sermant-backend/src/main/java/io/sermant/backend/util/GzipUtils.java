@@ -24,11 +24,18 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
 
 /**
  * Compression and decompression tools
+ * <p>The byte array decompression methods reuse an {@link Inflater} per thread instead of creating the native one per
+ * message, and check the gzip header and trailer themselves
  *
  * @author lilai
  * @version 0.0.1
@@ -40,6 +47,25 @@ public class GzipUtils {
     // Buffer size
     private static final int BUFFER = 1024;
 
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    private static final int GZIP_HEADER_SIZE = 10;
+
+    private static final int GZIP_TRAILER_SIZE = 8;
+
+    private static final int FHCRC = 2;
+
+    private static final int FEXTRA = 4;
+
+    private static final int FNAME = 8;
+
+    private static final int FCOMMENT = 16;
+
+    private static final byte[] EMPTY_BYTES = new byte[0];
+
+    // Inflater reused by the thread, the raw deflate format has neither the gzip header nor the checksum
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
     private GzipUtils() {
     }
 
@@ -100,25 +126,24 @@ public class GzipUtils {
      * @return Decompressed data
      */
     public static byte[] decompress(byte[] data) {
-        ByteArrayInputStream bais = new ByteArrayInputStream(data);
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-
-        // decompress
-        decompress(bais, baos);
-        byte[] newData = baos.toByteArray();
         try {
-            baos.flush();
-        } catch (IOException e) {
-            LOGGER.error("Exception occurs when decompress. Exception info: {}", e.getMessage());
-        } finally {
-            try {
-                baos.close();
-                bais.close();
-            } catch (IOException e) {
-                LOGGER.error("Exception occurs when close IOStream. Exception info: {}", e.getMessage());
+            int offset = skipGzipHeader(data);
+            int length = data.length - offset - GZIP_TRAILER_SIZE;
+            if (length < 0) {
+                throw new ZipException("Truncated gzip data");
             }
+            byte[] output = inflate(data, offset, length);
+            CRC32 crc = new CRC32();
+            crc.update(output, 0, output.length);
+            if (readIntLe(data, offset + length) != (int) crc.getValue()
+                    || readIntLe(data, offset + length + Integer.BYTES) != output.length) {
+                throw new ZipException("Corrupt gzip trailer");
+            }
+            return output;
+        } catch (IOException | DataFormatException e) {
+            LOGGER.error("Exception occurs when decompress. Exception info: {}", e.getMessage());
+            return EMPTY_BYTES;
         }
-        return newData;
     }
 
     /**
@@ -148,4 +173,82 @@ public class GzipUtils {
             }
         }
     }
+
+    /**
+     * Data decompression of the raw deflate format
+     *
+     * @param data Data to be decompressed
+     * @return Decompressed data
+     */
+    public static byte[] inflate(byte[] data) {
+        try {
+            return inflate(data, 0, data.length);
+        } catch (IOException | DataFormatException e) {
+            LOGGER.error("Exception occurs when inflate. Exception info: {}", e.getMessage());
+            return EMPTY_BYTES;
+        }
+    }
+
+    private static byte[] inflate(byte[] data, int offset, int length) throws DataFormatException, ZipException {
+        Inflater inflater = INFLATER.get();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(length * 2);
+        byte[] buffer = new byte[BUFFER];
+        inflater.reset();
+        inflater.setInput(data, offset, length);
+        try {
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new ZipException("Truncated deflate data");
+                }
+                baos.write(buffer, 0, count);
+            }
+        } finally {
+            // Release the reference to the data held by the reused inflater
+            inflater.setInput(EMPTY_BYTES);
+        }
+        return baos.toByteArray();
+    }
+
+    private static int skipGzipHeader(byte[] data) throws ZipException {
+        if (data.length < GZIP_HEADER_SIZE || readShortLe(data, 0) != GZIP_MAGIC || data[2] != Deflater.DEFLATED) {
+            throw new ZipException("Not in gzip format");
+        }
+        int flags = data[3] & 0xFF;
+        int offset = GZIP_HEADER_SIZE;
+        if ((flags & FEXTRA) != 0) {
+            offset += Short.BYTES + readShortLe(data, offset);
+        }
+        if ((flags & FNAME) != 0) {
+            offset = skipZeroTerminated(data, offset);
+        }
+        if ((flags & FCOMMENT) != 0) {
+            offset = skipZeroTerminated(data, offset);
+        }
+        if ((flags & FHCRC) != 0) {
+            offset += Short.BYTES;
+        }
+        return offset;
+    }
+
+    private static int skipZeroTerminated(byte[] data, int offset) throws ZipException {
+        for (int i = offset; i < data.length; i++) {
+            if (data[i] == 0) {
+                return i + 1;
+            }
+        }
+        throw new ZipException("Truncated gzip header");
+    }
+
+    private static int readShortLe(byte[] data, int offset) throws ZipException {
+        if (offset + Short.BYTES > data.length) {
+            throw new ZipException("Truncated gzip header");
+        }
+        return (data[offset] & 0xFF) | ((data[offset + 1] & 0xFF) << 8);
+    }
+
+    private static int readIntLe(byte[] data, int offset) {
+        return (data[offset] & 0xFF) | ((data[offset + 1] & 0xFF) << 8) | ((data[offset + 2] & 0xFF) << 16)
+                | ((data[offset + 3] & 0xFF) << 24);
+    }
 }
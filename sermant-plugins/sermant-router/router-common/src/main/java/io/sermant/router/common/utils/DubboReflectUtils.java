@@ -146,7 +146,7 @@ public class DubboReflectUtils {
      * @see org.apache.dubbo.rpc.Invocation
      */
     public static String getMethodName(Object obj) {
-        return ReflectUtils.invokeWithNoneParameterAndReturnString(obj, GET_METHOD_NAME_METHOD_NAME);
+        return invokeAccessor(obj, GET_METHOD_NAME_METHOD_NAME, String.class);
     }
 
     /**
@@ -158,7 +158,7 @@ public class DubboReflectUtils {
      * @see org.apache.dubbo.rpc.Invocation
      */
     public static Object[] getArguments(Object obj) {
-        return (Object[]) ReflectUtils.invokeWithNoneParameter(obj, GET_ARGUMENTS_METHOD_NAME);
+        return invokeAccessor(obj, GET_ARGUMENTS_METHOD_NAME, Object[].class);
     }
 
     /**
@@ -210,6 +210,20 @@ public class DubboReflectUtils {
                 .orElse(Collections.emptyMap());
     }
 
+    /**
+     * The invocation methods are called on every dubbo request, so that they are called by the cached accessors
+     *
+     * @param obj invocation
+     * @param methodName method name
+     * @param returnType return type
+     * @param <T> return type
+     * @return The return value of the method execution
+     */
+    private static <T> T invokeAccessor(Object obj, String methodName, Class<T> returnType) {
+        return io.sermant.core.utils.ReflectUtils.accessor(obj.getClass(), methodName, returnType)
+                .map(accessor -> accessor.invoke(obj)).orElse(null);
+    }
+
     private static Map<String, Object> getAttachmentsFromContext(String contextClazz) {
         Optional<Object> context = io.sermant.core.utils.ReflectUtils
                 .invokeMethod(contextClazz, GET_CONTEXT_METHOD_NAME, null, null);
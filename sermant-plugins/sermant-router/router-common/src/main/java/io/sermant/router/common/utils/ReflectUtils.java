@@ -95,7 +95,8 @@ public class ReflectUtils {
      * @return The return value of the method execution
      */
     public static Object invokeWithNoneParameter(Object obj, String name) {
-        return invoke(obj.getClass(), obj, name, null, null).orElse(null);
+        return io.sermant.core.utils.ReflectUtils.publicAccessor(obj.getClass(), name, Object.class)
+                .map(accessor -> accessor.invoke(obj)).orElse(null);
     }
 
     /**